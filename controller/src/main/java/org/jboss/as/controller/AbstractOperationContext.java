@@ -155,6 +155,8 @@ abstract class AbstractOperationContext implements OperationContext {
      */
     private final Queue<String> missingNotificationDescriptionWarnings;
 
+    private static final int STAGE_COUNT = Stage.values().length;
+
     Stage currentStage = Stage.MODEL;
 
     ResultAction resultAction;
@@ -172,6 +174,12 @@ abstract class AbstractOperationContext implements OperationContext {
 
     /** Operations that were added by the controller, before execution started */
     private final List<ModelNode> controllerOperations = new ArrayList<ModelNode>(2);
+
+    /** Time, in nanoseconds, spent in each stage, indexed by the stage ordinal. Only used by the controlling thread */
+    private final long[] stageTimes = new long[STAGE_COUNT];
+    /** The stage whose time is currently being recorded */
+    private Stage timedStage;
+    private long timedStageStart;
     private boolean auditLogged;
     private final AuditLogger auditLogger;
     private final ModelControllerImpl controller;
@@ -462,6 +470,7 @@ abstract class AbstractOperationContext implements OperationContext {
         try {
             /** Execution has begun */
             executing = true;
+            recordStageTime(currentStage);
 
             processStages();
 
@@ -474,6 +483,7 @@ abstract class AbstractOperationContext implements OperationContext {
             handleUncaughtException(e);
             ControllerLogger.MGMT_OP_LOGGER.unexpectedOperationExecutionException(e, controllerOperations);
         } finally {
+            recordStageTime(null);
             // On failure close any attached response streams
             if (resultAction != ResultAction.KEEP && !isBooting()) {
                 synchronized (this) {
@@ -497,6 +507,47 @@ abstract class AbstractOperationContext implements OperationContext {
         return resultAction;
     }
 
+    /**
+     * Adds the time elapsed since the last call to the stage that was being timed, and starts timing the given stage.
+     *
+     * @param stage the stage being entered, or {@code null} if execution is over
+     */
+    private void recordStageTime(final Stage stage) {
+        final long now = System.nanoTime();
+        if (timedStage != null) {
+            stageTimes[timedStage.ordinal()] += now - timedStageStart;
+        }
+        timedStage = stage;
+        timedStageStart = now;
+    }
+
+    /**
+     * Gets the time spent in each stage by {@link #executeOperation()}.
+     *
+     * @return the time, in nanoseconds, indexed by the ordinal of the stage
+     */
+    long[] getStageTimes() {
+        return stageTimes;
+    }
+
+    /**
+     * Gets the time spent waiting for the controller lock.
+     *
+     * @return the time in nanoseconds
+     */
+    long getLockWaitTime() {
+        return 0;
+    }
+
+    /**
+     * Gets the statistics of the operations executed by the controller that owns this context.
+     *
+     * @return the statistics, or {@code null} if this context's controller does not record them
+     */
+    ManagementOperationStatistics getOperationStatistics() {
+        return null;
+    }
+
     /** Opportunity to do required cleanup after an exception propagated all the way to {@link #executeOperation()}.*/
     void handleUncaughtException(RuntimeException e) {
     }
@@ -741,6 +792,7 @@ abstract class AbstractOperationContext implements OperationContext {
                 // Proceed to the next stage
                 if (currentStage.hasNext()) {
                     currentStage = currentStage.next();
+                    recordStageTime(currentStage);
                     if (currentStage == Stage.VERIFY) {
                         // a change was made to the runtime. Thus, we must wait
                         // for stability before resuming in to verify.
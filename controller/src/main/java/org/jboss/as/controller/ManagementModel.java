@@ -55,4 +55,15 @@ public interface ManagementModel {
      */
     RuntimeCapabilityRegistry getCapabilityRegistry();
 
+    /**
+     * Gets the version of the root resource. The version changes each time a modified resource tree is published,
+     * before the operation that modified it completes, so a view derived from the tree can tell whether it is
+     * still current.
+     *
+     * @return the version, or {@code -1} if this model does not track versions
+     */
+    default long getRootResourceVersion() {
+        return -1L;
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Flight recorder event covering the execution of a management operation by the {@link ModelControllerImpl}.
+ * The event fields are only populated when the event is going to be committed, so a disabled event costs
+ * no more than the time stamps.
+ */
+@Name("org.wildfly.management.Operation")
+@Label("Management Operation")
+@Category({"WildFly", "Management"})
+@Description("The execution of a management operation")
+@StackTrace(false)
+final class ManagementOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operationName;
+
+    @Label("Address")
+    String address;
+
+    @Label("Operation Id")
+    int operationId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Access Mechanism")
+    String accessMechanism;
+
+    /**
+     * Ends the event and commits it if the event is enabled and its duration passed the configured threshold.
+     *
+     * @param operationId the id of the executed operation
+     * @param operation the executed operation
+     * @param response the response of the operation
+     * @param accessMechanism the mechanism used by an external caller, {@code null} for internal callers. The
+     *                        mechanism is passed as an object as the flight recorder reflects on the event methods
+     *                        and the security types are not visible to every user of the controller.
+     */
+    void commit(final int operationId, final ModelNode operation, final ModelNode response, final Object accessMechanism) {
+        end();
+        if (shouldCommit()) {
+            this.operationId = operationId;
+            this.operationName = operation.get(OP).asString();
+            this.address = PathAddress.pathAddress(operation.get(OP_ADDR)).toCLIStyleString();
+            this.outcome = response.hasDefined(OUTCOME) ? response.get(OUTCOME).asString() : null;
+            this.accessMechanism = accessMechanism == null ? null : accessMechanism.toString();
+            commit();
+        }
+    }
+}
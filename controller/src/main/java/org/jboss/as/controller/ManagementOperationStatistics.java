@@ -0,0 +1,347 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.as.controller.access.management.AuthorizedAddress;
+import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+
+/**
+ * Statistics of the management operations executed by a {@link ModelController}, grouped by operation name and by
+ * the address pattern of the target resource, i.e. the address of its resource registration.
+ * <p>
+ * Only the operations submitted to the controller are recorded; the steps of a composite operation are accounted
+ * for in the composite operation.
+ * <p>
+ * Operation names and addresses can be filtered for a caller: an address pattern the caller may not address is
+ * reported with its denied elements {@code <hidden>}, and an operation only executed against such addresses is
+ * reported as {@code <hidden>}, as for active operations.
+ */
+public final class ManagementOperationStatistics {
+
+    public static final String COUNT = "count";
+    public static final String FAILED_COUNT = "failed-count";
+    public static final String TOTAL_TIME = "total-time";
+    public static final String MAX_TIME = "max-time";
+    public static final String LOCK_WAIT_TIME = "lock-wait-time";
+    public static final String LATENCY_HISTOGRAM = "latency-histogram";
+    public static final String STAGE_TIME = "stage-time";
+
+    /** Key under which the operations are grouped once the maximum number of groups is reached. */
+    public static final String OTHER = "other";
+    /** Key under which the operations and addresses a caller may not see are grouped. */
+    public static final String HIDDEN = "<hidden>";
+
+    /** Upper bounds, in milliseconds, of the buckets of the latency histogram. The last bucket is unbounded. */
+    private static final long[] LATENCY_BUCKETS = {1, 5, 10, 50, 100, 500, 1000, 5000};
+    private static final String UNBOUNDED_BUCKET = "+Inf";
+    private static final OperationContext.Stage[] STAGES = OperationContext.Stage.values();
+
+    private static final int MAX_GROUPS = AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("org.jboss.as.controller.operation-statistics.max-groups", 1000));
+
+    private final ConcurrentMap<String, Group> byOperation = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Group> byAddress = new ConcurrentHashMap<>();
+    private final ModelControllerLock controllerLock;
+
+    ManagementOperationStatistics(final ModelControllerLock controllerLock) {
+        this.controllerLock = controllerLock;
+    }
+
+    /**
+     * Gets the statistics of the controller executing the operation of the given context.
+     *
+     * @param context the context of an executing operation
+     * @return the statistics, or {@code null} if the controller does not record them
+     */
+    public static ManagementOperationStatistics forContext(final OperationContext context) {
+        return context instanceof AbstractOperationContext ? ((AbstractOperationContext) context).getOperationStatistics() : null;
+    }
+
+    /**
+     * Records the execution of an operation.
+     *
+     * @param operationName the name of the operation
+     * @param address the address of the operation
+     * @param registration the root resource registration, used to find the address pattern
+     * @param failed whether the operation failed
+     * @param time the execution time, in nanoseconds
+     * @param lockWaitTime the time spent waiting for the controller lock, in nanoseconds
+     * @param stageTimes the time spent in each stage, in nanoseconds, indexed by stage ordinal
+     */
+    void record(final String operationName, final PathAddress address, final ImmutableManagementResourceRegistration registration,
+                final boolean failed, final long time, final long lockWaitTime, final long[] stageTimes) {
+        final PathAddress pattern = getAddressPattern(address, registration);
+        final Group operationGroup = getGroup(byOperation, operationName, null);
+        operationGroup.record(failed, time, lockWaitTime, stageTimes);
+        operationGroup.addAddress(pattern);
+        getGroup(byAddress, pattern.toCLIStyleString(), pattern).record(failed, time, lockWaitTime, stageTimes);
+    }
+
+    /**
+     * Gets the statistics grouped by operation name.
+     *
+     * @return the statistics, keyed by operation name
+     */
+    public ModelNode getOperationStatistics() {
+        return getOperationStatistics(null);
+    }
+
+    /**
+     * Gets the statistics grouped by operation name, as visible to a caller. Operations the caller has not been
+     * able to address any target of are grouped under {@link #HIDDEN}.
+     *
+     * @param authorizer authorizes the caller to address a resource address pattern, or {@code null} to not filter
+     * @return the statistics, keyed by operation name
+     */
+    public ModelNode getOperationStatistics(final Function<PathAddress, AuthorizedAddress> authorizer) {
+        if (authorizer == null) {
+            return toModelNode(byOperation);
+        }
+        final Map<String, Group> visible = new TreeMap<>();
+        for (Map.Entry<String, Group> entry : byOperation.entrySet()) {
+            final Group group = entry.getValue();
+            final String key = OTHER.equals(entry.getKey()) || group.isAddressable(authorizer) ? entry.getKey() : HIDDEN;
+            visible.computeIfAbsent(key, k -> new Group(null)).add(group);
+        }
+        return toModelNode(visible);
+    }
+
+    /**
+     * Gets the statistics grouped by the address pattern of the target resource.
+     *
+     * @return the statistics, keyed by address pattern
+     */
+    public ModelNode getAddressStatistics() {
+        return getAddressStatistics(null);
+    }
+
+    /**
+     * Gets the statistics grouped by the address pattern of the target resource, as visible to a caller. The
+     * elements of an address pattern the caller may not address are replaced by {@link #HIDDEN}.
+     *
+     * @param authorizer authorizes the caller to address a resource address pattern, or {@code null} to not filter
+     * @return the statistics, keyed by address pattern
+     */
+    public ModelNode getAddressStatistics(final Function<PathAddress, AuthorizedAddress> authorizer) {
+        if (authorizer == null) {
+            return toModelNode(byAddress);
+        }
+        final Map<String, Group> visible = new TreeMap<>();
+        for (Map.Entry<String, Group> entry : byAddress.entrySet()) {
+            final Group group = entry.getValue();
+            String key = entry.getKey();
+            if (group.address != null) {
+                final AuthorizedAddress authorized = authorizer.apply(group.address);
+                if (authorized.isElided()) {
+                    key = toCLIStyleString(authorized.getAddress());
+                }
+            }
+            visible.computeIfAbsent(key, k -> new Group(null)).add(group);
+        }
+        return toModelNode(visible);
+    }
+
+    /**
+     * Gets the number of times an operation had to wait for another operation to release the exclusive
+     * controller lock.
+     *
+     * @return the number of waits
+     */
+    public long getExclusiveLockWaitCount() {
+        return controllerLock.getWaitCount();
+    }
+
+    /**
+     * Gets the total time operations spent waiting for another operation to release the exclusive controller lock.
+     *
+     * @return the time in milliseconds
+     */
+    public long getExclusiveLockWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(controllerLock.getWaitTime());
+    }
+
+    /**
+     * Gets the id of the operation currently holding the exclusive controller lock.
+     *
+     * @return the operation id, or {@code null} if no operation holds the exclusive lock
+     */
+    public Integer getExclusiveLockHolder() {
+        return controllerLock.getExclusivePermitHolder();
+    }
+
+    /**
+     * Discards all recorded statistics, except those of the exclusive controller lock.
+     */
+    public void reset() {
+        byOperation.clear();
+        byAddress.clear();
+    }
+
+    private static Group getGroup(final ConcurrentMap<String, Group> groups, final String key, final PathAddress address) {
+        Group group = groups.get(key);
+        if (group == null) {
+            group = groups.size() < MAX_GROUPS ? groups.computeIfAbsent(key, k -> new Group(address))
+                    : groups.computeIfAbsent(OTHER, k -> new Group(null));
+        }
+        return group;
+    }
+
+    private static String toCLIStyleString(final ModelNode address) {
+        // The elided address may hold values, such as <hidden>, which PathElement does not allow
+        final StringBuilder builder = new StringBuilder();
+        for (Property element : address.asPropertyList()) {
+            builder.append('/').append(element.getName()).append('=').append(element.getValue().asString());
+        }
+        return builder.length() == 0 ? "/" : builder.toString();
+    }
+
+    private static PathAddress getAddressPattern(final PathAddress address, final ImmutableManagementResourceRegistration root) {
+        final ImmutableManagementResourceRegistration registration = root == null ? null : root.getSubModel(address);
+        if (registration == null) {
+            // Unknown address; don't let arbitrary values create new groups
+            PathAddress pattern = PathAddress.EMPTY_ADDRESS;
+            for (PathElement element : address) {
+                pattern = pattern.append(element.getKey(), PathElement.WILDCARD_VALUE);
+            }
+            return pattern;
+        }
+        return registration.getPathAddress();
+    }
+
+    private static ModelNode toModelNode(final Map<String, Group> groups) {
+        final ModelNode result = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, Group> entry : new TreeMap<>(groups).entrySet()) {
+            result.get(entry.getKey()).set(entry.getValue().toModelNode());
+        }
+        return result;
+    }
+
+    private static final class Group {
+
+        // The address pattern of an address group, null for other groups
+        private final PathAddress address;
+        // The address patterns an operation group was executed against, bounded like the groups
+        private final Set<PathAddress> addresses = ConcurrentHashMap.newKeySet();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+        private final LongAdder lockWaitTime = new LongAdder();
+        private final LongAdder[] latency = newAdders(LATENCY_BUCKETS.length + 1);
+        private final LongAdder[] stageTime = newAdders(STAGES.length);
+
+        Group(final PathAddress address) {
+            this.address = address;
+        }
+
+        void addAddress(final PathAddress pattern) {
+            if (addresses.size() < MAX_GROUPS) {
+                addresses.add(pattern);
+            }
+        }
+
+        boolean isAddressable(final Function<PathAddress, AuthorizedAddress> authorizer) {
+            for (PathAddress pattern : addresses) {
+                if (!authorizer.apply(pattern).isElided()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(final Group other) {
+            count.add(other.count.sum());
+            failedCount.add(other.failedCount.sum());
+            totalTime.add(other.totalTime.sum());
+            maxTime.accumulate(other.maxTime.get());
+            lockWaitTime.add(other.lockWaitTime.sum());
+            for (int i = 0; i < latency.length; i++) {
+                latency[i].add(other.latency[i].sum());
+            }
+            for (int i = 0; i < stageTime.length; i++) {
+                stageTime[i].add(other.stageTime[i].sum());
+            }
+        }
+
+        void record(final boolean failed, final long time, final long lockWait, final long[] stageTimes) {
+            count.increment();
+            if (failed) {
+                failedCount.increment();
+            }
+            totalTime.add(time);
+            maxTime.accumulate(time);
+            lockWaitTime.add(lockWait);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(time);
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS.length && millis > LATENCY_BUCKETS[bucket]) {
+                bucket++;
+            }
+            latency[bucket].increment();
+            if (stageTimes != null) {
+                for (int i = 0; i < stageTimes.length && i < stageTime.length; i++) {
+                    if (stageTimes[i] > 0) {
+                        stageTime[i].add(stageTimes[i]);
+                    }
+                }
+            }
+        }
+
+        ModelNode toModelNode() {
+            final ModelNode result = new ModelNode();
+            result.get(COUNT).set(count.sum());
+            result.get(FAILED_COUNT).set(failedCount.sum());
+            result.get(TOTAL_TIME).set(TimeUnit.NANOSECONDS.toMillis(totalTime.sum()));
+            result.get(MAX_TIME).set(TimeUnit.NANOSECONDS.toMillis(maxTime.get()));
+            result.get(LOCK_WAIT_TIME).set(TimeUnit.NANOSECONDS.toMillis(lockWaitTime.sum()));
+            final ModelNode histogram = result.get(LATENCY_HISTOGRAM);
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                histogram.get(Long.toString(LATENCY_BUCKETS[i])).set(latency[i].sum());
+            }
+            histogram.get(UNBOUNDED_BUCKET).set(latency[LATENCY_BUCKETS.length].sum());
+            final ModelNode stages = result.get(STAGE_TIME);
+            for (OperationContext.Stage stage : STAGES) {
+                stages.get(stage.toString().toLowerCase(Locale.ENGLISH)).set(TimeUnit.NANOSECONDS.toMillis(stageTime[stage.ordinal()].sum()));
+            }
+            return result;
+        }
+
+        private static LongAdder[] newAdders(final int size) {
+            final LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
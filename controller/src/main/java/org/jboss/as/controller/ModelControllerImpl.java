@@ -40,6 +40,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PRO
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.UUID;
 import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
@@ -64,6 +65,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -123,6 +125,7 @@ class ModelControllerImpl implements ModelController {
     private final ModelControllerLock controllerLock = new ModelControllerLock();
     private final ContainerStateMonitor stateMonitor;
     private final AtomicReference<ManagementModelImpl> managementModel = new AtomicReference<>();
+    private final AtomicLong rootResourceVersion = new AtomicLong();
     private final ConfigurationPersister persister;
     private final ProcessType processType;
     private final RunningModeControl runningModeControl;
@@ -136,6 +139,7 @@ class ModelControllerImpl implements ModelController {
     private final Supplier<SecurityIdentity> securityIdentitySupplier;
 
     private final ConcurrentMap<Integer, OperationContextImpl> activeOperations = new ConcurrentHashMap<>();
+    private final ManagementOperationStatistics operationStatistics = new ManagementOperationStatistics(controllerLock);
     private final Random random = new Random();
     private final ManagedAuditLogger auditLogger;
     private final BootErrorCollector bootErrorCollector;
@@ -434,9 +438,15 @@ class ModelControllerImpl implements ModelController {
                 //noinspection deprecation
                 CurrentOperationIdHolder.setCurrentOperationID(operationID);
                 boolean shouldUnlock = false;
+                final ManagementOperationEvent event = new ManagementOperationEvent();
+                event.begin();
+                final long start = System.nanoTime();
+                long lockWaitTime = 0;
                 try {
                     if (attemptLock) {
-                        if (!controllerLock.detectDeadlockAndGetLock(operationID)) {
+                        final boolean locked = controllerLock.detectDeadlockAndGetLock(operationID);
+                        lockWaitTime = System.nanoTime() - start;
+                        if (!locked) {
                             responseNode.get(OUTCOME).set(FAILED);
                             responseNode.get(FAILURE_DESCRIPTION).set(ControllerLogger.ROOT_LOGGER.cannotGetControllerLock());
                             return OperationResponse.Factory.createSimple(responseNode);
@@ -475,6 +485,10 @@ class ModelControllerImpl implements ModelController {
                     activeOperations.remove(operationID);
                     //noinspection deprecation
                     CurrentOperationIdHolder.setCurrentOperationID(null);
+                    event.commit(operationID, operation, responseNode, accessMechanism);
+                    operationStatistics.record(operation.get(OP).asString(), PathAddress.pathAddress(operation.get(OP_ADDR)),
+                            managementModel.get().getRootResourceRegistration(), !SUCCESS.equals(responseNode.get(OUTCOME).asString()),
+                            System.nanoTime() - start, lockWaitTime + context.getLockWaitTime(), context.getStageTimes());
                 }
                 break;
             }
@@ -895,6 +909,10 @@ class ModelControllerImpl implements ModelController {
         controllerUnstable();
     }
 
+    ManagementOperationStatistics getOperationStatistics() {
+        return operationStatistics;
+    }
+
     private void controllerUnstable() {
         processState.setRestartRequired();
         if (instabilityListener != null) {
@@ -1221,6 +1239,11 @@ class ModelControllerImpl implements ModelController {
             return capabilityRegistry;
         }
 
+        @Override
+        public long getRootResourceVersion() {
+            return rootResourceVersion.get();
+        }
+
         /**
          * Creates a new {@code ManagementModelImpl} that uses a clone of this one's root {@link ManagementResourceRegistration}.
          * The caller can safely modify that {@code ManagementResourceRegistration} without changes being exposed
@@ -1305,6 +1328,7 @@ class ModelControllerImpl implements ModelController {
         }
         private void publish() {
             ModelControllerImpl.this.managementModel.set(this);
+            rootResourceVersion.incrementAndGet();
             published = true;
             ControllerLogger.MGMT_OP_LOGGER.tracef("published %s", this);
         }
@@ -25,6 +25,7 @@ package org.jboss.as.controller;
 import static org.wildfly.common.Assert.checkNotNullParam;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 
 /**
@@ -40,6 +41,10 @@ import java.util.concurrent.locks.AbstractQueuedSynchronizer;
  */
 class ModelControllerLock {
     private final Sync sync = new Sync();
+    /** Number of exclusive acquisitions that could not be satisfied immediately */
+    private final LongAdder waitCount = new LongAdder();
+    /** Time, in nanoseconds, spent waiting for the exclusive lock */
+    private final LongAdder waitTime = new LongAdder();
 
     /**
      * Attempts to acquire in exclusive mode. This will allow any other consumers using the same {@code permit} to
@@ -49,7 +54,14 @@ class ModelControllerLock {
      */
     void lock(final Integer permit) {
         checkNotNullParam("permit", permit);
-        sync.acquire(permit);
+        if (!sync.tryAcquire(permit)) {
+            final long start = System.nanoTime();
+            try {
+                sync.acquire(permit);
+            } finally {
+                recordWait(start);
+            }
+        }
     }
 
     /**
@@ -104,7 +116,14 @@ class ModelControllerLock {
      */
     void lockInterruptibly(final Integer permit) throws InterruptedException {
         checkNotNullParam("permit", permit);
-        sync.acquireInterruptibly(permit);
+        if (!sync.tryAcquire(permit)) {
+            final long start = System.nanoTime();
+            try {
+                sync.acquireInterruptibly(permit);
+            } finally {
+                recordWait(start);
+            }
+        }
     }
 
     /**
@@ -130,7 +149,15 @@ class ModelControllerLock {
     boolean lockInterruptibly(final Integer permit, final long timeout, final TimeUnit unit) throws InterruptedException {
         checkNotNullParam("permit", permit);
         checkNotNullParam("unit", unit);
-        return sync.tryAcquireNanos(permit, unit.toNanos(timeout));
+        if (sync.tryAcquire(permit)) {
+            return true;
+        }
+        final long start = System.nanoTime();
+        try {
+            return sync.tryAcquireNanos(permit, unit.toNanos(timeout));
+        } finally {
+            recordWait(start);
+        }
     }
 
     /**
@@ -182,6 +209,36 @@ class ModelControllerLock {
         return sync.tryAcquire(permit);
     }
 
+    /**
+     * Gets the number of exclusive lock acquisitions that had to wait for another permit holder.
+     * @return the number of waits
+     */
+    long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Gets the total time spent waiting to acquire the exclusive lock.
+     * @return the time in nanoseconds
+     */
+    long getWaitTime() {
+        return waitTime.sum();
+    }
+
+    /**
+     * Gets the permit currently holding the exclusive lock. The value is informational, it may already be
+     * stale when returned.
+     * @return the permit, or {@code null} if the lock is not held in exclusive mode
+     */
+    Integer getExclusivePermitHolder() {
+        return sync.getExclusivePermitHolder();
+    }
+
+    private void recordWait(final long start) {
+        waitCount.increment();
+        waitTime.add(System.nanoTime() - start);
+    }
+
     /**
      * Implementation {@link AbstractQueuedSynchronizer} that maintains
      * lock state in a single {@code int}, managed by #getState() and #compareAndSet().
@@ -230,6 +287,10 @@ class ModelControllerLock {
             return permitHolder;
         }
 
+        private Integer getExclusivePermitHolder() {
+            return getLockMode(getState()) == EXCLUSIVE ? permitHolder : null;
+        }
+
         private int getCount(final int value) {
             return (value & COUNT_MASK);
         }
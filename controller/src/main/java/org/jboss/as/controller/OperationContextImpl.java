@@ -164,6 +164,7 @@ final class OperationContextImpl extends AbstractOperationContext {
     private volatile BlockingTimeout blockingTimeout;
     private final long startTime = System.nanoTime();
     private volatile long exclusiveStartTime = -1;
+    private long lockWaitTime;
 
     /** Tracks whether any steps have gotten write access to  the resource tree */
     private volatile boolean affectsResourceTree;
@@ -796,6 +797,16 @@ final class OperationContextImpl extends AbstractOperationContext {
         return activeOperationResource;
     }
 
+    @Override
+    long getLockWaitTime() {
+        return lockWaitTime;
+    }
+
+    @Override
+    ManagementOperationStatistics getOperationStatistics() {
+        return modelController.getOperationStatistics();
+    }
+
     private void takeWriteLock() {
         if (lockStep == null) {
             if (currentStage == Stage.DONE) {
@@ -804,6 +815,7 @@ final class OperationContextImpl extends AbstractOperationContext {
             ExecutionStatus originalStatus = executionStatus;
             try {
                 executionStatus = ExecutionStatus.AWAITING_OTHER_OPERATION;
+                final long waitStart = System.nanoTime();
                 // BES 2014/04/22 Ignore blocking timeout here. We risk some bug causing the
                 // lock to never be released. But we gain multiple ops being able to wait until they get
                 // a chance to run with no need to guess how long op 2 will take so we can
@@ -820,6 +832,7 @@ final class OperationContextImpl extends AbstractOperationContext {
 //                    }
 //                }
                 exclusiveStartTime = System.nanoTime();
+                lockWaitTime += exclusiveStartTime - waitStart;
                 lockStep = activeStep;
             } catch (InterruptedException e) {
                 cancelled = true;
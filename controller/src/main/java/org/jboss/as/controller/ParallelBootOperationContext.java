@@ -128,6 +128,11 @@ class ParallelBootOperationContext extends AbstractOperationContext {
 
     // Methods unimplemented by superclass
 
+    @Override
+    ManagementOperationStatistics getOperationStatistics() {
+        return primaryContext.getOperationStatistics();
+    }
+
     @Override
     ModelControllerImpl.ManagementModelImpl getManagementModel() {
         throw new IllegalStateException(); // Wrong usage, we cannot guarantee thread safety
@@ -90,6 +90,11 @@ class ReadOnlyContext extends AbstractOperationContext {
         }
     }
 
+    @Override
+    ManagementOperationStatistics getOperationStatistics() {
+        return primaryContext.getOperationStatistics();
+    }
+
     @Override
     ModelControllerImpl.ManagementModelImpl getManagementModel() {
         return managementModel;
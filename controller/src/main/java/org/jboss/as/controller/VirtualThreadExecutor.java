@@ -0,0 +1,255 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.common.Assert;
+
+/**
+ * An executor that runs every task in a thread of its own, normally a virtual thread. Such an executor never
+ * queues tasks, so blocking-heavy workloads can have very large numbers of tasks in flight without sizing a pool
+ * for them. The number of tasks that run at the same time can optionally be limited; tasks over the limit wait
+ * in their own thread for a permit to become available.
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final ConcurrencyLimit limit;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+    private volatile boolean stopped;
+
+    private final AtomicInteger currentThreadCount = new AtomicInteger();
+    private final AtomicInteger largestThreadCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param threadFactory the factory of the per-task threads
+     * @param maxConcurrency the maximum number of tasks running at the same time, or {@code 0} for no limit
+     */
+    public VirtualThreadExecutor(final ThreadFactory threadFactory, final int maxConcurrency) {
+        Assert.checkNotNullParam("threadFactory", threadFactory);
+        this.threadFactory = threadFactory;
+        this.limit = new ConcurrencyLimit(maxConcurrency);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        Assert.checkNotNullParam("task", task);
+        final int current = currentThreadCount.incrementAndGet();
+        if (shutdown) {
+            throw reject(task);
+        }
+        final Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> run(task));
+        } catch (RuntimeException | Error e) {
+            exit();
+            throw e;
+        }
+        if (thread == null) {
+            throw reject(task);
+        }
+        taskCount.increment();
+        largestThreadCount.accumulateAndGet(current, Math::max);
+        threads.add(thread);
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            threads.remove(thread);
+            exit();
+            throw e;
+        }
+    }
+
+    private RejectedExecutionException reject(final Runnable task) {
+        exit();
+        rejectedCount.increment();
+        return new RejectedExecutionException(task.toString());
+    }
+
+    private void run(final Runnable task) {
+        try {
+            if (!limit.tryAcquire()) {
+                waitingCount.incrementAndGet();
+                try {
+                    limit.acquire();
+                } finally {
+                    waitingCount.decrementAndGet();
+                }
+            }
+            if (stopped) {
+                limit.release();
+                return;
+            }
+            activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeCount.decrementAndGet();
+                completedTaskCount.increment();
+                limit.release();
+            }
+        } catch (InterruptedException e) {
+            // interrupted by shutdownNow() while waiting for a permit; the task is dropped
+        } finally {
+            threads.remove(Thread.currentThread());
+            exit();
+        }
+    }
+
+    private void exit() {
+        if (currentThreadCount.decrementAndGet() == 0 && shutdown) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (currentThreadCount.get() == 0) {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Shuts the executor down and interrupts all of its threads. Tasks that are waiting for a concurrency permit
+     * are dropped, but as they are not queued they cannot be returned.
+     *
+     * @return an empty list
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        stopped = true;
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        return new ArrayList<>(0);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    public int getMaxConcurrency() {
+        return limit.getMaxConcurrency();
+    }
+
+    public void setMaxConcurrency(final int maxConcurrency) {
+        limit.setMaxConcurrency(maxConcurrency);
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    public int getCurrentThreadCount() {
+        return currentThreadCount.get();
+    }
+
+    public int getLargestThreadCount() {
+        return largestThreadCount.get();
+    }
+
+    public int getRejectedCount() {
+        return (int) rejectedCount.sum();
+    }
+
+    public long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    /**
+     * Gets the number of tasks that have been submitted but are waiting for a concurrency permit.
+     *
+     * @return the number of waiting tasks
+     */
+    public int getQueueSize() {
+        return waitingCount.get();
+    }
+
+    /**
+     * A semaphore whose number of permits can be changed while permits are held. No limit is represented by
+     * {@link Integer#MAX_VALUE} permits, so permits are always acquired and released in matched pairs.
+     */
+    private static final class ConcurrencyLimit extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        private int maxConcurrency;
+
+        ConcurrencyLimit(final int maxConcurrency) {
+            super(toPermits(maxConcurrency));
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        synchronized int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        synchronized void setMaxConcurrency(final int maxConcurrency) {
+            final int delta = toPermits(maxConcurrency) - toPermits(this.maxConcurrency);
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        private static int toPermits(final int maxConcurrency) {
+            return maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE;
+        }
+    }
+}
@@ -79,6 +79,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresAccessPermission(Boolean requiresAccessPermission) {
         this.configuredRequiresAccessPermission = requiresAccessPermission;
+        ConstraintConfigurationVersion.increment();
     }
 
     public boolean getRequiresReadPermission() {
@@ -92,6 +93,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresReadPermission(Boolean requiresReadPermission) {
         this.configuredRequiresReadPermission = requiresReadPermission;
+        ConstraintConfigurationVersion.increment();
     }
 
     public boolean getRequiresWritePermission() {
@@ -116,6 +118,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresWritePermission(Boolean requiresWritePermission) {
         this.configuredRequiresWritePermission = requiresWritePermission;
+        ConstraintConfigurationVersion.increment();
     }
 
     protected boolean isCompatibleWith(AbstractSensitivity other) {
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.access.constraint;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks changes to the runtime-configurable settings that affect how {@link Constraint}s are chosen
+ * and evaluated, i.e. sensitivity classifications, application type classifications and the hosts
+ * or server groups of scoped roles. Callers that cache the outcome of constraint evaluation can
+ * compare the {@link #get() current version} with the one they recorded to detect stale results.
+ */
+public final class ConstraintConfigurationVersion {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private ConstraintConfigurationVersion() {
+    }
+
+    /**
+     * Gets the current version of the constraint configuration.
+     *
+     * @return the version. Increases each time the configuration changes
+     */
+    public static long get() {
+        return VERSION.get();
+    }
+
+    /** Records a change to the constraint configuration */
+    static void increment() {
+        VERSION.incrementAndGet();
+    }
+}
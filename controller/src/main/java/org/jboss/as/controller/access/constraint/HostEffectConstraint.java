@@ -99,6 +99,7 @@ public class HostEffectConstraint extends AbstractConstraint implements Constrai
         assert !global : "constraint is global";
         assert readOnlyConstraint != null : "invalid cast";
         this.hostsHolder.specific = new LinkedHashSet<String>(allowed);
+        ConstraintConfigurationVersion.increment();
     }
 
     @Override
@@ -168,6 +169,24 @@ public class HostEffectConstraint extends AbstractConstraint implements Constrai
     }
 
 
+    /**
+     * Required constraints are equal if they cover the same hosts; user constraints, whose allowed
+     * hosts can change, are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HostEffectConstraint that = (HostEffectConstraint) o;
+        return !user && !that.user && global == that.global && hostsHolder.specific.equals(that.hostsHolder.specific);
+    }
+
+    @Override
+    public int hashCode() {
+        return user ? System.identityHashCode(this) : 31 * hostsHolder.specific.hashCode() + (global ? 1 : 0);
+    }
+
     @Override
     public boolean replaces(Constraint other) {
         return other instanceof HostEffectConstraint && (readOnly || readOnlyConstraint != null);
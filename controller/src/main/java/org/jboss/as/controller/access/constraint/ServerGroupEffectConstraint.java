@@ -135,6 +135,7 @@ public class ServerGroupEffectConstraint extends AbstractConstraint implements C
         assert !global : "constraint is global";
         assert readOnlyConstraint != null : "invalid cast";
         this.groupsHolder.specific = new LinkedHashSet<String>(allowed);
+        ConstraintConfigurationVersion.increment();
     }
 
     @Override
@@ -217,6 +218,35 @@ public class ServerGroupEffectConstraint extends AbstractConstraint implements C
         return matched;
     }
 
+    /**
+     * Required constraints are equal if they describe the same effect on the same server groups; user
+     * constraints, whose allowed groups can change, are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ServerGroupEffectConstraint that = (ServerGroupEffectConstraint) o;
+        return !user && !that.user && global == that.global && nonServerHost == that.nonServerHost
+                && unassigned == that.unassigned && groupAdd == that.groupAdd && groupRemove == that.groupRemove
+                && groupsHolder.specific.equals(that.groupsHolder.specific);
+    }
+
+    @Override
+    public int hashCode() {
+        if (user) {
+            return System.identityHashCode(this);
+        }
+        int result = groupsHolder.specific.hashCode();
+        result = 31 * result + (global ? 1 : 0);
+        result = 31 * result + (nonServerHost ? 1 : 0);
+        result = 31 * result + (unassigned ? 1 : 0);
+        result = 31 * result + (groupAdd ? 1 : 0);
+        result = 31 * result + (groupRemove ? 1 : 0);
+        return result;
+    }
+
     @Override
     public boolean replaces(Constraint other) {
         return other instanceof ServerGroupEffectConstraint && (readOnly || readOnlyConstraint != null);
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.access.permission;
+
+import java.security.AccessController;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.constraint.ConstraintConfigurationVersion;
+
+/**
+ * Memoizes whether a caller's permissions imply a set of required permissions.
+ * <p>
+ * The key is the identity of the caller's {@link PermissionCollection}, which a {@link PermissionFactory} such as
+ * {@link org.jboss.as.controller.access.rbac.DefaultPermissionFactory} hands out once per role set and replaces when
+ * the role configuration changes, plus the {@link org.jboss.as.controller.access.constraint.Constraint constraints}
+ * of each required {@link SimpleManagementPermission}. The required constraints are what captures the action, the
+ * target and its sensitivity classification, so targets that differ in a way that matters never share an entry.
+ * Changes to sensitivity, application type or scoped role settings are detected via the
+ * {@link ConstraintConfigurationVersion} and discard all entries.
+ * </p>
+ *
+ * @see ManagementPermissionAuthorizer
+ */
+final class AuthorizationDecisionCache {
+
+    private static final int MAX_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+            Integer.getInteger("org.jboss.as.controller.access.decision-cache.max-size", 10000));
+
+    private volatile Decisions decisions = new Decisions(ConstraintConfigurationVersion.get());
+
+    /**
+     * Creates the key for a decision.
+     *
+     * @param userPermissions the caller's permissions. Cannot be {@code null}
+     * @param requiredPermissions the permissions required for the action. Cannot be {@code null}
+     * @return the key under which a decision can be {@link #put(Object, boolean) stored}, or {@code null} if the
+     *         required permissions are not cacheable
+     */
+    Object getKey(PermissionCollection userPermissions, PermissionCollection requiredPermissions) {
+        long version = ConstraintConfigurationVersion.get();
+        Object[] constraints = new Object[Action.ActionEffect.values().length + 1];
+        constraints[0] = userPermissions;
+        final Enumeration<Permission> enumeration = requiredPermissions.elements();
+        while (enumeration.hasMoreElements()) {
+            Permission permission = enumeration.nextElement();
+            if (!(permission instanceof SimpleManagementPermission)) {
+                return null;
+            }
+            SimpleManagementPermission smp = (SimpleManagementPermission) permission;
+            constraints[smp.getActionEffect().ordinal() + 1] = smp.getConstraints();
+        }
+        return new Key(version, constraints);
+    }
+
+    /**
+     * Gets the cached decision for a key.
+     *
+     * @param key the key provided by {@link #getKey(PermissionCollection, PermissionCollection)}. Cannot be {@code null}
+     * @return {@code Boolean.TRUE} if permitted, {@code Boolean.FALSE} if denied or {@code null} if no decision is cached
+     */
+    Boolean get(Object key) {
+        return current().map.get(key);
+    }
+
+    /**
+     * Stores a decision, unless the constraint configuration changed since the key was created.
+     *
+     * @param key the key provided by {@link #getKey(PermissionCollection, PermissionCollection)}. Cannot be {@code null}
+     * @param permitted {@code true} if the action was permitted
+     */
+    void put(Object key, boolean permitted) {
+        Decisions current = current();
+        if (current.version == ((Key) key).version) {
+            if (current.map.size() >= MAX_SIZE) {
+                current.map.clear();
+            }
+            current.map.put(key, permitted);
+        }
+    }
+
+    private Decisions current() {
+        Decisions current = decisions;
+        long version = ConstraintConfigurationVersion.get();
+        if (current.version != version) {
+            current = new Decisions(version);
+            decisions = current;
+        }
+        return current;
+    }
+
+    private static final class Decisions {
+        private final long version;
+        private final ConcurrentMap<Object, Boolean> map = new ConcurrentHashMap<>();
+
+        private Decisions(long version) {
+            this.version = version;
+        }
+    }
+
+    private static final class Key {
+        private final long version;
+        private final Object[] elements;
+        private final int hash;
+
+        private Key(long version, Object[] elements) {
+            this.version = version;
+            this.elements = elements;
+            this.hash = Arrays.deepHashCode(elements);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && hash == ((Key) o).hash && Arrays.deepEquals(elements, ((Key) o).elements));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
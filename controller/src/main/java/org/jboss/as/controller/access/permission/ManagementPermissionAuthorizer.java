@@ -50,9 +50,23 @@ import org.wildfly.security.auth.server.SecurityIdentity;
  */
 public class ManagementPermissionAuthorizer implements Authorizer {
     private final PermissionFactory permissionFactory;
+    private final AuthorizationDecisionCache decisionCache;
 
     public ManagementPermissionAuthorizer(PermissionFactory permissionFactory) {
+        this(permissionFactory, false);
+    }
+
+    /**
+     * Creates a new {@code ManagementPermissionAuthorizer}.
+     *
+     * @param permissionFactory the permission factory. Cannot be {@code null}
+     * @param cacheDecisions {@code true} if authorization decisions should be cached. Only valid if the
+     *                       {@code permissionFactory} returns the same user {@link PermissionCollection} instance
+     *                       for as long as the permissions it represents remain unchanged
+     */
+    protected ManagementPermissionAuthorizer(PermissionFactory permissionFactory, boolean cacheDecisions) {
         this.permissionFactory = permissionFactory;
+        this.decisionCache = cacheDecisions ? new AuthorizationDecisionCache() : null;
     }
 
     @Override
@@ -78,6 +92,9 @@ public class ManagementPermissionAuthorizer implements Authorizer {
             return AuthorizationResult.PERMITTED;
         }
         PermissionCollection userPerms = permissionFactory.getUserPermissions(identity, callEnvironment, action, target);
+        if (userPerms == AllPermissionsCollection.INSTANCE) {
+            return AuthorizationResult.PERMITTED;
+        }
         PermissionCollection requiredPerms = permissionFactory.getRequiredPermissions(action, target);
         return authorize(userPerms, requiredPerms);
     }
@@ -103,16 +120,27 @@ public class ManagementPermissionAuthorizer implements Authorizer {
     }
 
     private AuthorizationResult authorize(PermissionCollection userPermissions, PermissionCollection requiredPermissions) {
+        Object key = decisionCache == null ? null : decisionCache.getKey(userPermissions, requiredPermissions);
+        Boolean permitted = key == null ? null : decisionCache.get(key);
+        if (permitted == null) {
+            permitted = implies(userPermissions, requiredPermissions);
+            if (key != null) {
+                decisionCache.put(key, permitted);
+            }
+        }
+        return permitted ? AuthorizationResult.PERMITTED
+                : new AuthorizationResult(AuthorizationResult.Decision.DENY, new ModelNode(ControllerLogger.ROOT_LOGGER.permissionDenied()));
+    }
 
+    private static boolean implies(PermissionCollection userPermissions, PermissionCollection requiredPermissions) {
         final Enumeration<Permission> enumeration = requiredPermissions.elements();
         while (enumeration.hasMoreElements()){
             Permission requiredPermission = enumeration.nextElement();
             if (!userPermissions.implies(requiredPermission)) {
-                return new AuthorizationResult(AuthorizationResult.Decision.DENY,
-                            new ModelNode(ControllerLogger.ROOT_LOGGER.permissionDenied()));
+                return false;
             }
         }
-        return AuthorizationResult.PERMITTED;
+        return true;
     }
 
     @Override
@@ -121,6 +149,9 @@ public class ManagementPermissionAuthorizer implements Authorizer {
             return AuthorizationResult.PERMITTED;
         }
         PermissionCollection userPerms = permissionFactory.getUserPermissions(identity, callEnvironment, action, target);
+        if (userPerms == AllPermissionsCollection.INSTANCE) {
+            return AuthorizationResult.PERMITTED;
+        }
         PermissionCollection requiredPerms = permissionFactory.getRequiredPermissions(action, target);
         return authorize(userPerms, requiredPerms);
     }
@@ -92,6 +92,11 @@ public class SimpleManagementPermission extends ManagementPermission {
         return getActionEffect().toString();
     }
 
+    /** Gets the constraints, for use as part of an {@link AuthorizationDecisionCache} key */
+    Constraint[] getConstraints() {
+        return constraints;
+    }
+
     public ManagementPermission createScopedPermission(Constraint constraint, int constraintIndex) {
         Constraint[] altered;
         if (constraintIndex == constraints.length) {
@@ -319,6 +319,7 @@ public class ModelDescriptionConstants {
     public static final String MAX_LENGTH = "max-length";
     public static final String MAX_OCCURS = "max-occurs";
     public static final String MAX_THREADS = "max-threads";
+    public static final String MAX_VIRTUAL_THREAD_REQUESTS = "max-virtual-thread-requests";
     public static final String MESSAGE_TRANSFER = "message-transfer";
     public static final String MIME_TYPE = "mime-type";
     public static final String MIN = "min";
@@ -617,6 +618,7 @@ public class ModelDescriptionConstants {
     public static final String VAULT_OPTION = "vault-option";
     public static final String VAULT_OPTIONS = "vault-options";
     public static final String VERBOSE = "verbose";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
     public static final String WARNING = "warning";
     public static final String WARNINGS = "warnings";
     public static final String WARNING_LEVEL = "warning-level";
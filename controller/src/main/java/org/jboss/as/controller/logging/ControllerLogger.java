@@ -3704,6 +3704,13 @@ public interface ControllerLogger extends BasicLogger {
     @Message(id = 494, value = "Resolution of extension expression '%s' is not allowed at this point.")
     ExpressionResolver.ExpressionResolutionServerException resolverExtensionExpressionsNotAllowed(String expression);
 
+    @LogMessage(level = WARN)
+    @Message(id = 495, value = "The notification queue is full (%d notifications), notifications will be %s until it is drained")
+    void notificationQueueFull(int capacity, String policy);
+
+    @Message(id = 496, value = "Virtual threads are not supported by this JVM, so management requests cannot be executed in virtual threads")
+    OperationFailedException virtualThreadsNotSupportedForManagementRequests();
+
     @Message(id = NONE, value = "While constructing a mapping; %s; expected a mapping for merging, but found %s")
     String errorConstructingYAMLMapping(Mark mark, NodeId node);
 
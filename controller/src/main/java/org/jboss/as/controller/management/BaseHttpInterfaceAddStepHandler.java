@@ -115,6 +115,8 @@ public abstract class BaseHttpInterfaceAddStepHandler extends ManagementInterfac
             }
         }
 
+        final ManagementRequestExecution requestExecution = ManagementRequestExecution.resolve(context, context.getCurrentAddress().getParent());
+
         List<ServiceName> requiredServices = installServices(context, new HttpInterfaceCommonPolicy() {
 
             @Override
@@ -157,6 +159,11 @@ public abstract class BaseHttpInterfaceAddStepHandler extends ManagementInterfac
                 return constantHeaders;
             }
 
+            @Override
+            public ManagementRequestExecution getRequestExecution() {
+                return requestExecution;
+            }
+
 
         }, model);
         addVerifyInstallationStep(context, requiredServices);
@@ -57,6 +57,8 @@ public abstract class BaseNativeInterfaceAddStepHandler extends ManagementInterf
         }
         final OptionMap options = builder.getMap();
 
+        final ManagementRequestExecution requestExecution = ManagementRequestExecution.resolve(context, context.getCurrentAddress().getParent());
+
         List<ServiceName> requiredServices = installServices(context, new NativeInterfaceCommonPolicy() {
 
             @Override
@@ -73,6 +75,11 @@ public abstract class BaseNativeInterfaceAddStepHandler extends ManagementInterf
             public OptionMap getConnectorOptions() {
                 return options;
             }
+
+            @Override
+            public ManagementRequestExecution getRequestExecution() {
+                return requestExecution;
+            }
         }, model);
         addVerifyInstallationStep(context, requiredServices);
     }
@@ -94,6 +94,15 @@ public interface HttpInterfaceCommonPolicy {
      */
     Map<String, List<Header>> getConstantHeaders();
 
+    /**
+     * Get how the requests received by the management interface are executed.
+     *
+     * @return how the requests received by the management interface are executed.
+     */
+    default ManagementRequestExecution getRequestExecution() {
+        return ManagementRequestExecution.THREAD_POOL;
+    }
+
     static class Header {
         final String name;
         final String value;
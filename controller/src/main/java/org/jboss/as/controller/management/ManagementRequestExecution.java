@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller.management;
+
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.VirtualThreads;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.ModelTypeValidator;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * How the requests received by the HTTP and native management interfaces are executed, as configured by the
+ * attributes of the {@code core-service=management} resource of a standalone server or a host controller.
+ * <p>
+ * By default the requests run in small bounded thread pools, so a few long blocking operations can hold all the
+ * threads and delay every other request. If {@link #VIRTUAL_THREADS} is {@code true}, each request instead runs in a
+ * virtual thread of its own, at most {@link #MAX_VIRTUAL_THREAD_REQUESTS} of them at the same time.
+ */
+public final class ManagementRequestExecution {
+
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+        .setDefaultValue(ModelNode.FALSE)
+        .setValidator(new VirtualThreadsValidator())
+        .setRestartAllServices()
+        .build();
+
+    public static final SimpleAttributeDefinition MAX_VIRTUAL_THREAD_REQUESTS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.MAX_VIRTUAL_THREAD_REQUESTS, ModelType.INT, true)
+        .setAllowExpression(true)
+        .setDefaultValue(new ModelNode(100))
+        .setValidator(new IntRangeValidator(1, true, true))
+        .setRestartAllServices()
+        .build();
+
+    public static final AttributeDefinition[] ATTRIBUTES = { VIRTUAL_THREADS, MAX_VIRTUAL_THREAD_REQUESTS };
+
+    /** The default execution of the requests, in bounded thread pools. */
+    public static final ManagementRequestExecution THREAD_POOL = new ManagementRequestExecution(false, 0);
+
+    private final boolean virtualThreads;
+    private final int maxVirtualThreadRequests;
+
+    private ManagementRequestExecution(final boolean virtualThreads, final int maxVirtualThreadRequests) {
+        this.virtualThreads = virtualThreads;
+        this.maxVirtualThreadRequests = maxVirtualThreadRequests;
+    }
+
+    /**
+     * Resolves the configured execution of the management requests.
+     *
+     * @param context the context of the operation adding a management interface
+     * @param managementAddress the address of the {@code core-service=management} resource
+     * @return the execution of the requests
+     * @throws OperationFailedException if the configuration cannot be resolved
+     */
+    public static ManagementRequestExecution resolve(final OperationContext context, final PathAddress managementAddress) throws OperationFailedException {
+        final ModelNode model = context.readResourceFromRoot(managementAddress, false).getModel();
+        if (!VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean()) {
+            return THREAD_POOL;
+        }
+        return new ManagementRequestExecution(true, MAX_VIRTUAL_THREAD_REQUESTS.resolveModelAttribute(context, model).asInt());
+    }
+
+    /**
+     * Whether each request runs in a virtual thread of its own.
+     *
+     * @return {@code true} if the requests run in virtual threads, {@code false} if they run in a thread pool
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Gets the maximum number of requests executing in virtual threads at the same time.
+     *
+     * @return the maximum number of requests, only meaningful if {@link #isVirtualThreads()} is {@code true}
+     */
+    public int getMaxVirtualThreadRequests() {
+        return maxVirtualThreadRequests;
+    }
+
+    private static class VirtualThreadsValidator extends ModelTypeValidator {
+
+        VirtualThreadsValidator() {
+            super(ModelType.BOOLEAN, true);
+        }
+
+        @Override
+        public void validateParameter(final String parameterName, final ModelNode value) throws OperationFailedException {
+            super.validateParameter(parameterName, value);
+            // Rejected when configured, rather than when the management interfaces are started after a reload
+            if (value.isDefined() && value.asBoolean() && !VirtualThreads.isSupported()) {
+                throw ROOT_LOGGER.virtualThreadsNotSupportedForManagementRequests();
+            }
+        }
+    }
+}
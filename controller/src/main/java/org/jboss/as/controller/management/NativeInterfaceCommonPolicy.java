@@ -52,4 +52,13 @@ public interface NativeInterfaceCommonPolicy {
      */
     OptionMap getConnectorOptions();
 
+    /**
+     * Get how the requests received by the management interface are executed.
+     *
+     * @return how the requests received by the management interface are executed.
+     */
+    default ManagementRequestExecution getRequestExecution() {
+        return ManagementRequestExecution.THREAD_POOL;
+    }
+
 }
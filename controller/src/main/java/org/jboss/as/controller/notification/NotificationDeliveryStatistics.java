@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller.notification;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics of the delivery of the notifications emitted by a {@link NotificationSupport} to the handlers of its registry.
+ */
+public final class NotificationDeliveryStatistics {
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private volatile IntSupplier queueSize = () -> 0;
+
+    NotificationDeliveryStatistics() {
+    }
+
+    /**
+     * @return the number of notifications that have been emitted but not yet delivered to the handlers
+     */
+    public int getQueuedCount() {
+        return queueSize.getAsInt();
+    }
+
+    /**
+     * @return the number of notifications that have been dropped because the notification queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return the number of notifications that have been superseded by a more recent notification
+     * while the notification queue was full
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    void setQueueSize(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    void dropped() {
+        droppedCount.incrementAndGet();
+    }
+
+    void coalesced() {
+        coalescedCount.incrementAndGet();
+    }
+}
@@ -22,6 +22,10 @@
 
 package org.jboss.as.controller.notification;
 
+import java.util.List;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+
 /**
  * A notification handler is used to be notified of events on the server.
  * Its {@code handleNotification} is called every time a notification is emitted by a resource it was registered for.
@@ -30,4 +34,22 @@ package org.jboss.as.controller.notification;
  */
 public interface NotificationHandler {
     void handleNotification(Notification notification);
+
+    /**
+     * Handle a batch of notifications, in the order they were emitted.
+     *
+     * The default implementation calls {@link #handleNotification(Notification)} for each notification.
+     * Handlers that can process several notifications at once more efficiently may override it.
+     *
+     * @param notifications the notifications that passed the handler's filter
+     */
+    default void handleNotifications(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            try {
+                handleNotification(notification);
+            } catch (Throwable t) {
+                ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
+            }
+        }
+    }
 }
@@ -56,11 +56,12 @@ public interface NotificationSupport {
          * @param executorService can be {@code null}.
          */
         public static NotificationSupport create(ExecutorService executorService) {
-            NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create();
+            NotificationDeliveryStatistics statistics = new NotificationDeliveryStatistics();
+            NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create(statistics);
             if (executorService == null) {
                 return new NotificationSupports.BlockingNotificationSupport(registry);
             } else {
-                return new NotificationSupports.NonBlockingNotificationSupport(registry, executorService);
+                return new NotificationSupports.NonBlockingNotificationSupport(registry, statistics, executorService);
             }
         }
     }
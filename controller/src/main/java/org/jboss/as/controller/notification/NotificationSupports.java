@@ -22,15 +22,30 @@
 
 package org.jboss.as.controller.notification;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.dmr.ModelNode;
 
 /**
  * Provides implementation of the {@code NotificationSupport}.
@@ -42,10 +57,37 @@ import org.jboss.as.controller.registry.NotificationHandlerRegistration;
  *  executorService}.
  * Its {@code emit()} method will return immediately and will not block the code execution.
  *
+ * In both cases, the notifications are delivered in batches: each handler receives the list of the notifications
+ * that passed its filter, in the order they were emitted.
+ *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2014 Red Hat inc.
  */
 class NotificationSupports {
 
+    /**
+     * What the {@code NonBlockingNotificationSupport} does with a notification emitted while its queue is full.
+     */
+    enum OverflowPolicy {
+        /**
+         * The notification is dropped.
+         */
+        DROP,
+        /**
+         * An {@code attribute-value-written} notification replaces the queued notification for the same attribute
+         * of the same resource, as only the last written value matters. Any other notification, or one without a
+         * queued notification to replace, is dropped.
+         */
+        COALESCE;
+
+        static OverflowPolicy forName(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                return COALESCE;
+            }
+        }
+    }
+
     static class BlockingNotificationSupport implements NotificationSupport {
 
         private final NotificationHandlerRegistration registry;
@@ -56,7 +98,7 @@ class NotificationSupports {
 
         @Override
         public void emit(Notification... notifications) {
-            fireNotifications(registry, notifications);
+            fireNotifications(registry, Arrays.asList(notifications));
         }
 
         @Override
@@ -67,67 +109,190 @@ class NotificationSupports {
 
     static class NonBlockingNotificationSupport implements  NotificationSupport {
 
+        private static final int QUEUE_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                Integer.getInteger("org.jboss.as.controller.notification.queue-size", 100000));
+
+        private static final int BATCH_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                Integer.getInteger("org.jboss.as.controller.notification.batch-size", 256));
+
+        private static final OverflowPolicy OVERFLOW_POLICY = AccessController.doPrivileged((PrivilegedAction<OverflowPolicy>) () ->
+                OverflowPolicy.forName(System.getProperty("org.jboss.as.controller.notification.overflow-policy", OverflowPolicy.COALESCE.name())));
+
         private final NotificationHandlerRegistration registry;
-        private final ExecutorService executor;
+        private final NotificationDeliveryStatistics statistics;
+        private final Executor executor;
+        private final int queueSize;
+        private final OverflowPolicy overflowPolicy;
 
         /**
-         * Use a concurrent queue to put the notifications in it when {@code emit()} is called.
+         * Use a bounded concurrent queue to put the notifications in it when {@code emit()} is called.
          * The queue will be drained in a separate thread and the notifications effectively delivered to the handlers.
          *
          * This ensures that the notifications will be delivered in the same order they were emitted.
          */
-        private final Queue<Notification> queue = new ConcurrentLinkedQueue<Notification>();
+        private final BlockingQueue<QueuedNotification> queue;
 
         /**
-         * use the lock's exclusive writeLock to ensure only one thread can drain the queue at a given time.
+         * The most recently queued notification for each coalescing key, only maintained with the {@code COALESCE} policy.
          */
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ConcurrentMap<Object, QueuedNotification> coalescing = new ConcurrentHashMap<>();
 
-        public NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor) {
+        /**
+         * Ensures only one task drains the queue at a given time.
+         */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /**
+         * Set when the queue is found full so that it is only logged once until the queue is drained.
+         */
+        private final AtomicBoolean overflowing = new AtomicBoolean();
+
+        public NonBlockingNotificationSupport(NotificationHandlerRegistration registry, NotificationDeliveryStatistics statistics, ExecutorService executor) {
+            this(registry, statistics, executor, QUEUE_SIZE, OVERFLOW_POLICY);
+        }
+
+        NonBlockingNotificationSupport(NotificationHandlerRegistration registry, NotificationDeliveryStatistics statistics, Executor executor,
+                                       int queueSize, OverflowPolicy overflowPolicy) {
             this.registry = registry;
+            this.statistics = statistics;
             this.executor = executor;
+            this.queueSize = queueSize;
+            this.overflowPolicy = overflowPolicy;
+            this.queue = new LinkedBlockingQueue<>(queueSize);
+            statistics.setQueueSize(queue::size);
         }
 
         @Override
-        public synchronized void emit(Notification... notifications) {
-            queue.addAll(Arrays.asList(notifications));
-
-            executor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    lock.writeLock().lock();
-                    try {
-                        while (true) {
-                            Notification notification = queue.poll();
-                            if (notification == null) {
-                                break;
-                            }
-                            fireNotifications(registry, notification);
-                        }
-                    } finally {
-                        lock.writeLock().unlock();
-                    }
+        public void emit(Notification... notifications) {
+            for (Notification notification : notifications) {
+                enqueue(notification);
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    throw e;
                 }
-            });
+            }
         }
 
         @Override
         public NotificationHandlerRegistration getNotificationRegistry() {
             return registry;
         }
+
+        private void enqueue(Notification notification) {
+            final Object key = overflowPolicy == OverflowPolicy.COALESCE ? coalescingKey(notification) : null;
+            final QueuedNotification queued = new QueuedNotification(key, notification);
+            if (queue.offer(queued)) {
+                if (key != null) {
+                    coalescing.put(key, queued);
+                }
+                return;
+            }
+            if (overflowing.compareAndSet(false, true)) {
+                ControllerLogger.ROOT_LOGGER.notificationQueueFull(queueSize, overflowPolicy == OverflowPolicy.COALESCE ? "coalesced or dropped" : "dropped");
+            }
+            final QueuedNotification previous = key == null ? null : coalescing.get(key);
+            if (previous != null && previous.supersede(notification)) {
+                statistics.coalesced();
+            } else {
+                statistics.dropped();
+            }
+        }
+
+        private void drain() {
+            final List<QueuedNotification> queued = new ArrayList<>(BATCH_SIZE);
+            final List<Notification> batch = new ArrayList<>(BATCH_SIZE);
+            for (;;) {
+                queue.drainTo(queued, BATCH_SIZE);
+                if (queued.isEmpty()) {
+                    overflowing.set(false);
+                    draining.set(false);
+                    // a notification may have been queued after the queue was found empty and before the flag was cleared
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                for (QueuedNotification q : queued) {
+                    if (q.key != null) {
+                        coalescing.remove(q.key, q);
+                    }
+                    Notification notification = q.take();
+                    if (notification != null) {
+                        batch.add(notification);
+                    }
+                }
+                queued.clear();
+                fireNotifications(registry, batch);
+                batch.clear();
+            }
+        }
+
+        /**
+         * Only attribute writes are coalesced. The superseding notification takes the place of the queued one, so it
+         * is delivered ahead of notifications emitted in between, which is only harmless when the last value wins.
+         */
+        private static Object coalescingKey(Notification notification) {
+            if (ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION.equals(notification.getType())) {
+                final ModelNode data = notification.getData();
+                final String attribute = data != null && data.hasDefined(NAME) ? data.get(NAME).asString() : null;
+                return Arrays.asList(notification.getSource(), attribute);
+            }
+            return null;
+        }
     }
 
+    /**
+     * A queued notification. Its notification can be superseded by a more recent one until it is taken from the queue.
+     */
+    private static class QueuedNotification extends AtomicReference<Notification> {
 
-    private static void fireNotifications(NotificationHandlerRegistration registry, final Notification... notifications) {
+        private final Object key;
+
+        QueuedNotification(Object key, Notification notification) {
+            super(notification);
+            this.key = key;
+        }
+
+        boolean supersede(Notification notification) {
+            for (;;) {
+                final Notification current = get();
+                if (current == null) {
+                    // already delivered
+                    return false;
+                }
+                if (compareAndSet(current, notification)) {
+                    return true;
+                }
+            }
+        }
+
+        Notification take() {
+            return getAndSet(null);
+        }
+    }
+
+    private static void fireNotifications(NotificationHandlerRegistration registry, final List<Notification> notifications) {
+        // each notification may have a different subset of handlers depending on their filters
+        final Map<NotificationHandler, List<Notification>> batches = new LinkedHashMap<>();
         for (Notification notification : notifications) {
             try {
-                // each notification may have a different subset of handlers depending on their filters
                 for (NotificationHandler handler : registry.findMatchingNotificationHandlers(notification)) {
-                    handler.handleNotification(notification);
+                    batches.computeIfAbsent(handler, h -> new ArrayList<>()).add(notification);
                 }
             } catch (Throwable t) {
                 ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
             }
         }
+        for (Map.Entry<NotificationHandler, List<Notification>> batch : batches.entrySet()) {
+            try {
+                batch.getKey().handleNotifications(batch.getValue());
+            } catch (Throwable t) {
+                ControllerLogger.ROOT_LOGGER.failedToEmitNotification(batch.getValue().get(0), t);
+            }
+        }
     }
 }
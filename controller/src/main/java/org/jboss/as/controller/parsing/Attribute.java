@@ -130,6 +130,7 @@ public enum Attribute {
     MAX_LENGTH("max-length"),
     MAX_SIZE("max-size"),
     MAX_THREADS("max-threads"),
+    MAX_VIRTUAL_THREAD_REQUESTS("max-virtual-thread-requests"),
     MECHANISM("mechanism"),
     MESSAGE_TRANSFER("message-transfer"),
     MICRO_VERSION("micro-version"),
@@ -210,6 +211,7 @@ public enum Attribute {
     USERNAME_ATTRIBUTE("username-attribute"),
     USERNAME_LOAD("username-load"),
     VALUE("value"),
+    VIRTUAL_THREADS("virtual-threads"),
     WILDCARD("wildcard")
     ;
 
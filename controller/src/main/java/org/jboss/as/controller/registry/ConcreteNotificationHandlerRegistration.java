@@ -22,15 +22,23 @@
 
 package org.jboss.as.controller.registry;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationDeliveryStatistics;
 import org.jboss.as.controller.notification.NotificationFilter;
 import org.jboss.as.controller.notification.NotificationHandler;
 
@@ -41,6 +49,12 @@ import org.jboss.as.controller.notification.NotificationHandler;
 */
 class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegistration {
 
+    /**
+     * The maximum number of source addresses whose matching entries are kept in {@link #matchingEntries}.
+     */
+    private static final int MATCHING_ENTRIES_MAX_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+            Integer.getInteger("org.jboss.as.controller.notification.handler-cache.max-size", 1000));
+
     /**
      * The root registry.
      */
@@ -52,6 +66,25 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
      */
     Set<NotificationHandlerEntry> anyAddressEntries = new CopyOnWriteArraySet<NotificationHandlerEntry>();
 
+    /**
+     * The entries registered in the registry tree (either directly or through an address pattern) that match a concrete
+     * source address. They are computed once per address and discarded every time a handler is registered or unregistered.
+     * Their filters are still applied to every notification.
+     */
+    private final ConcurrentMap<PathAddress, List<NotificationHandlerEntry>> matchingEntries = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented every time a handler is registered or unregistered so that entries computed concurrently with a change
+     * are not cached.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    private final NotificationDeliveryStatistics statistics;
+
+    ConcreteNotificationHandlerRegistration(NotificationDeliveryStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     @Override
     public void registerNotificationHandler(PathAddress source, NotificationHandler handler, NotificationFilter filter) {
         NotificationHandlerEntry entry = new NotificationHandlerEntry(handler, filter);
@@ -62,6 +95,7 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
 
         ListIterator<PathElement> iterator = source.iterator();
         rootRegistry.registerEntry(iterator, entry);
+        clearMatchingEntries();
     }
 
     @Override
@@ -74,14 +108,18 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
 
         ListIterator<PathElement> iterator = source.iterator();
         rootRegistry.unregisterEntry(iterator, entry);
+        clearMatchingEntries();
     }
 
     @Override
     public Collection<NotificationHandler> findMatchingNotificationHandlers(Notification notification) {
         Collection<NotificationHandler> handlers = new HashSet<>();
         // collect all the handlers that match the notifications for the registry tree...
-        ListIterator<PathElement> iterator = notification.getSource().iterator();
-        rootRegistry.findEntries(iterator, handlers, notification);
+        for (NotificationHandlerEntry entry : getMatchingEntries(notification.getSource())) {
+            if (entry.getFilter().isNotificationEnabled(notification)) {
+                handlers.add(entry.getHandler());
+            }
+        }
 
         // ... and also the filtered handlers registered against ANY_ADRESS
         for (NotificationHandlerEntry anyAddressEntry : anyAddressEntries) {
@@ -92,6 +130,34 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
         return handlers;
     }
 
+    @Override
+    public NotificationDeliveryStatistics getDeliveryStatistics() {
+        return statistics;
+    }
+
+    private List<NotificationHandlerEntry> getMatchingEntries(PathAddress source) {
+        List<NotificationHandlerEntry> entries = matchingEntries.get(source);
+        if (entries == null) {
+            final long currentVersion = version.get();
+            entries = new ArrayList<>();
+            rootRegistry.collectEntries(source.iterator(), entries);
+            if (matchingEntries.size() >= MATCHING_ENTRIES_MAX_SIZE) {
+                matchingEntries.clear();
+            }
+            matchingEntries.put(source, entries);
+            if (version.get() != currentVersion) {
+                // the registry changed while the entries were collected, they may be stale
+                matchingEntries.remove(source, entries);
+            }
+        }
+        return entries;
+    }
+
+    private void clearMatchingEntries() {
+        version.incrementAndGet();
+        matchingEntries.clear();
+    }
+
     /**
      * A class to represent a single entry for both a notification handler and filter.
      */
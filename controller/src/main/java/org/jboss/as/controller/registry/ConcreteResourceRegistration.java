@@ -89,6 +89,8 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
     private Map<String, RuntimePackageDependency> additionalPackages;
 
+    private final ResourceDescriptionCache descriptionCache;
+
     /** Constructor for a root MRR */
     ConcreteResourceRegistration(final ResourceDefinition definition,
                                  final AccessConstraintUtilizationRegistry constraintUtilizationRegistry,
@@ -101,6 +103,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         this.runtimeOnly = definition.isRuntime(); // TODO can this ever correctly be true?
         this.accessConstraintDefinitions = buildAccessConstraints();
         this.ordered = false;
+        this.descriptionCache = new ResourceDescriptionCache();
         // For a root MRR we expect concurrent reads in critical performance code, i.e. boot
         // So we use a read-write lock
         ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
@@ -120,14 +123,20 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         this.runtimeOnly = parent.isRuntimeOnly() || definition.isRuntime();
         this.accessConstraintDefinitions = buildAccessConstraints();
         this.ordered = ordered;
+        this.descriptionCache = parent.getDescriptionCache();
         // For non-root MRRs we don't expect much in the way of concurrent reads in performance
         // critical situations, so we want lock/unlock to be as simple and fast as possible
         // So we just use a single non-r/w lock for both reads and writes
         this.readLock = this.writeLock = new ReentrantLock();
     }
 
+    ResourceDescriptionCache getDescriptionCache() {
+        return descriptionCache;
+    }
+
     void beginInitialization() {
         writeLock.lock();
+        descriptionCache.invalidate();
     }
 
     void initialized() {
@@ -164,6 +173,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     public void setRuntimeOnly(final boolean runtimeOnly) {
         checkPermission();
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             this.runtimeOnly = runtimeOnly;
         } finally {
@@ -245,6 +255,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         String opName = definition.getName();
         OperationEntry entry = new OperationEntry(definition, handler, inherited);
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (operations == null) {
                 operations = new HashMap<>();
@@ -264,6 +275,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
     public void unregisterSubModel(final PathElement address) throws IllegalArgumentException {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             final NodeSubregistry subregistry = getSubregistry(address.getKey());
 
@@ -401,6 +413,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     public void unregisterOperationHandler(final String operationName) {
         checkPermission();
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (operations == null || operations.remove(operationName) == null) {
                 throw operationNotRegisteredException(operationName, resourceDefinition.getPathElement());
@@ -438,6 +451,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     public void unregisterAttribute(String attributeName) {
         checkPermission();
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             attributes.remove(attributeName);
         } finally {
@@ -451,6 +465,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         String type = notification.getType();
         NotificationEntry entry = new NotificationEntry(notification.getDescriptionProvider(), inherited);
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (notifications == null) {
                 notifications = Collections.singletonMap(type, entry);
@@ -477,6 +492,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     public void unregisterNotification(String notificationType) {
         checkPermission();
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (notifications != null) {
                 notifications.remove(notificationType);
@@ -521,6 +537,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     private void storeAttribute(AttributeDefinition definition, AttributeAccess aa) {
         String attributeName = definition.getName();
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (attributes.containsKey(attributeName)) {
                 throw alreadyRegistered("attribute", attributeName);
@@ -694,6 +711,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     @Override
     public void registerCapability(RuntimeCapability capability) {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (capabilities == null) {
                 capabilities = new HashSet<>();
@@ -726,6 +744,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     @Override
     public void registerIncorporatingCapabilities(Set<RuntimeCapability> capabilities) {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (capabilities == null) {
                 incorporatingCapabilities = null;
@@ -742,6 +761,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     @Override
     public void registerRequirements(Set<CapabilityReferenceRecorder> requirements) {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (requirements == null || requirements.isEmpty()) {
                 this.requirements = Collections.emptySet();
@@ -776,6 +796,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     NodeSubregistry getOrCreateSubregistry(final String key) {
 
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             final NodeSubregistry subregistry = children == null ? null : children.get(key);
             if (subregistry != null) {
@@ -809,7 +830,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             return subregistry.getModelDescription(iterator, next.getValue());
         } else {
             checkPermission();
-            return resourceDefinition.getDescriptionProvider(this);
+            return descriptionCache.getDescriptionProvider(this, resourceDefinition.getDescriptionProvider(this));
         }
     }
 
@@ -1004,6 +1025,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     @Override
     protected void setOrderedChild(String type) {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (orderedChildTypes == null) {
                 orderedChildTypes = Collections.singleton(type);
@@ -1021,6 +1043,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     @Override
     public void registerAdditionalRuntimePackages(RuntimePackageDependency... pkgs) {
         writeLock.lock();
+        descriptionCache.invalidate();
         try {
             if (additionalPackages == null) {
                 additionalPackages = new HashMap<>();
@@ -367,7 +367,7 @@ public class DelegatingManagementResourceRegistration implements ManagementResou
         return getDelegate().getIncorporatingCapabilities();
     }
 
-    private ManagementResourceRegistration getDelegate() {
+    ManagementResourceRegistration getDelegate() {
         return delegateProvider.getDelegateRegistration();
     }
 
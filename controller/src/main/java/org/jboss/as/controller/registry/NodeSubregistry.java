@@ -84,6 +84,10 @@ final class NodeSubregistry {
         return parent;
     }
 
+    ResourceDescriptionCache getDescriptionCache() {
+        return parent.getDescriptionCache();
+    }
+
     Set<String> getChildNames(){
         final Map<String, AbstractResourceRegistration> snapshot = this.childRegistries;
         if (snapshot == null) {
@@ -134,6 +138,7 @@ final class NodeSubregistry {
 
     ProxyControllerRegistration registerProxyController(final String elementValue, final ProxyController proxyController) {
         final ProxyControllerRegistration newRegistry = new ProxyControllerRegistration(elementValue, this, proxyController);
+        parent.getDescriptionCache().invalidate();
         final AbstractResourceRegistration appearingRegistry = childRegistriesUpdater.putIfAbsent(this, elementValue, newRegistry);
         if (appearingRegistry != null) {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(getLocationString(elementValue));
@@ -144,11 +149,13 @@ final class NodeSubregistry {
 
     void unregisterProxyController(final String elementValue) {
         checkPermission();
+        parent.getDescriptionCache().invalidate();
         childRegistriesUpdater.remove(this, elementValue);
     }
 
     public AliasResourceRegistration registerAlias(final String elementValue, AliasEntry aliasEntry, AbstractResourceRegistration target) {
         final AliasResourceRegistration newRegistry = new AliasResourceRegistration(elementValue, this, aliasEntry, target);
+        parent.getDescriptionCache().invalidate();
         final AbstractResourceRegistration existingRegistry = childRegistriesUpdater.putIfAbsent(this, elementValue, newRegistry);
         if (existingRegistry != null) {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(getLocationString(elementValue));
@@ -158,12 +165,14 @@ final class NodeSubregistry {
 
     public void unregisterAlias(final String elementValue) {
         checkPermission();
+        parent.getDescriptionCache().invalidate();
         childRegistriesUpdater.remove(this, elementValue);
     }
 
 
     void unregisterSubModel(final String elementValue) {
         checkPermission();
+        parent.getDescriptionCache().invalidate();
         AbstractResourceRegistration rr = childRegistriesUpdater.remove(this, elementValue);
         if (rr != null) {
             // We want to remove the possible capabilities.
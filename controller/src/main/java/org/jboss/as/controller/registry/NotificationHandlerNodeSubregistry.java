@@ -30,8 +30,6 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.jboss.as.controller.PathElement;
-import org.jboss.as.controller.notification.Notification;
-import org.jboss.as.controller.notification.NotificationHandler;
 
 /**
  * A subregistry of {@code NotificationHandlerNodeRegistry} corresponding to a {@link org.jboss.as.controller.PathElement#getKey()} node and its children.
@@ -88,18 +86,18 @@ public class NotificationHandlerNodeSubregistry {
     }
 
     /**
-     * Get the registry child for the given {@code elementValue} and traverse it to collect the handlers that match the notifications.
+     * Get the registry child for the given {@code elementValue} and traverse it to collect the entries registered for the address.
      * If the subregistry has a children for the {@link org.jboss.as.controller.PathElement#WILDCARD_VALUE}, it is also traversed.
      */
-    void findHandlers(ListIterator<PathElement> iterator, String value, Notification notification, Collection<NotificationHandler> handlers) {
+    void collectEntries(ListIterator<PathElement> iterator, String value, Collection<ConcreteNotificationHandlerRegistration.NotificationHandlerEntry> collected) {
         NotificationHandlerNodeRegistry registry = childRegistries.get(value);
         if (registry != null) {
-            registry.findEntries(iterator, handlers, notification);
+            registry.collectEntries(iterator, collected);
         }
         // if a child registry exists for the wildcard, we traverse it too
         NotificationHandlerNodeRegistry wildCardRegistry = childRegistries.get(WILDCARD_VALUE);
         if (wildCardRegistry != null) {
-            wildCardRegistry.findEntries(iterator, handlers, notification);
+            wildCardRegistry.collectEntries(iterator, collected);
         }
     }
 
@@ -25,6 +25,7 @@ package org.jboss.as.controller.registry;
 import java.util.Collection;
 
 import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationDeliveryStatistics;
 import org.jboss.as.controller.notification.NotificationHandler;
 import org.jboss.as.controller.notification.NotificationHandlerRegistry;
 
@@ -55,6 +56,15 @@ public interface NotificationHandlerRegistration extends NotificationHandlerRegi
      */
     Collection<NotificationHandler> findMatchingNotificationHandlers(Notification notification);
 
+    /**
+     * Return the statistics of the delivery of the notifications to the handlers of this registry.
+     *
+     * @return the delivery statistics or {@code null} if they are not tracked.
+     */
+    default NotificationDeliveryStatistics getDeliveryStatistics() {
+        return null;
+    }
+
     /**
      * Factory to create a new {@code NotificationHandlerRegistration}
      */
@@ -63,7 +73,15 @@ public interface NotificationHandlerRegistration extends NotificationHandlerRegi
          * @return a new instance of {@code NotificationHandlerRegistration}
          */
         public static NotificationHandlerRegistration create() {
-            return new ConcreteNotificationHandlerRegistration();
+            return new ConcreteNotificationHandlerRegistration(null);
+        }
+
+        /**
+         * @param statistics the statistics of the delivery of the notifications to the handlers of the registry (can be {@code null})
+         * @return a new instance of {@code NotificationHandlerRegistration}
+         */
+        public static NotificationHandlerRegistration create(NotificationDeliveryStatistics statistics) {
+            return new ConcreteNotificationHandlerRegistration(statistics);
         }
     }
 }
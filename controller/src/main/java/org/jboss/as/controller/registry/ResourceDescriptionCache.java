@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.registry;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.controller.descriptions.DefaultResourceDescriptionProvider;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Cache of the descriptions of the resources registered in a management resource registration tree, per
+ * registration and locale. Building a description resolves every attribute, capability and child type text from
+ * the resource bundles, which for recursive reads of the whole tree adds up to a lot of work; a cached description
+ * only needs to be copied.
+ * <p>
+ * Only descriptions created by a {@link DefaultResourceDescriptionProvider} are cached, as those only depend on the
+ * registration. Any change to any registration in the tree invalidates the complete cache. Access control does not
+ * need to be part of the key, as it is applied to copies of the cached descriptions.
+ */
+public final class ResourceDescriptionCache {
+
+    private static final int MAX_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+            Integer.getInteger("org.jboss.as.controller.description-cache.max-size", 10000));
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ResourceDescriptionCache() {
+    }
+
+    /**
+     * Gets the cache used by the registration tree the given registration belongs to.
+     *
+     * @param registration the registration. Cannot be {@code null}
+     * @return the cache, or {@code null} if the registration does not support caching descriptions
+     */
+    public static ResourceDescriptionCache forRegistration(final ImmutableManagementResourceRegistration registration) {
+        ImmutableManagementResourceRegistration current = registration;
+        for (;;) {
+            if (current instanceof DelegatingImmutableManagementResourceRegistration) {
+                current = ((DelegatingImmutableManagementResourceRegistration) current).getDelegate();
+            } else if (current instanceof DelegatingManagementResourceRegistration) {
+                current = ((DelegatingManagementResourceRegistration) current).getDelegate();
+            } else if (current instanceof ConcreteResourceRegistration) {
+                return ((ConcreteResourceRegistration) current).getDescriptionCache();
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Gets the generation of the registration tree. The generation changes whenever any registration in the tree
+     * changes, so callers deriving their own data from the registrations can use it to detect stale data.
+     *
+     * @return the generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Gets the number of cached descriptions.
+     *
+     * @return the number of cached descriptions
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of descriptions served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of descriptions that had to be created.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    DescriptionProvider getDescriptionProvider(final ImmutableManagementResourceRegistration registration, final DescriptionProvider provider) {
+        if (MAX_SIZE <= 0 || provider == null || provider.getClass() != DefaultResourceDescriptionProvider.class) {
+            return provider;
+        }
+        return locale -> getModelDescription(registration, provider, locale);
+    }
+
+    void invalidate() {
+        generation.incrementAndGet();
+        if (!entries.isEmpty()) {
+            entries.clear();
+        }
+    }
+
+    private ModelNode getModelDescription(final ImmutableManagementResourceRegistration registration, final DescriptionProvider provider, final Locale locale) {
+        final Key key = new Key(registration, locale);
+        final long current = generation.get();
+        final Entry entry = entries.get(key);
+        if (entry != null && entry.generation == current) {
+            hits.increment();
+            return entry.description.clone();
+        }
+        misses.increment();
+        final ModelNode description = provider.getModelDescription(locale);
+        if (entries.size() < MAX_SIZE) {
+            final ModelNode cached = description.clone();
+            cached.protect();
+            // An entry stored after a concurrent invalidation carries the old generation, so it is never used
+            entries.put(key, new Entry(current, cached));
+        }
+        return description;
+    }
+
+    private static final class Key {
+        private final ImmutableManagementResourceRegistration registration;
+        private final Locale locale;
+
+        private Key(final ImmutableManagementResourceRegistration registration, final Locale locale) {
+            this.registration = registration;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return registration == other.registration && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(registration) + Objects.hashCode(locale);
+        }
+    }
+
+    private static final class Entry {
+        private final long generation;
+        private final ModelNode description;
+
+        private Entry(final long generation, final ModelNode description) {
+            this.generation = generation;
+            this.description = description;
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.protocol.mgmt.support.ManagementChannelInitialization;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
@@ -65,8 +66,11 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
     private final Supplier<ExecutorService> executorSupplier;
     private final Supplier<ScheduledExecutorService> scheduledExecutorSupplier;
 
+    private final ManagementRequestExecutors.Interface managementInterface;
+    private final ManagementRequestExecution requestExecution;
+
     private ResponseAttachmentInputStreamSupport responseAttachmentSupport;
-    private ExecutorService clientRequestExecutor;
+    private volatile ExecutorService clientRequestExecutor;
 
     protected AbstractModelControllerOperationHandlerFactoryService(
             final Consumer<AbstractModelControllerOperationHandlerFactoryService> serviceConsumer,
@@ -74,6 +78,24 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
             final Supplier<ExecutorService> executorSupplier,
             final Supplier<ScheduledExecutorService> scheduledExecutorSupplier
     ) {
+        this(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier, null, ManagementRequestExecution.THREAD_POOL);
+    }
+
+    /**
+     * @param managementInterface the management interface whose requests are handled, or {@code null} if the requests
+     *                            are not counted for any interface
+     * @param requestExecution how the client requests are executed
+     */
+    protected AbstractModelControllerOperationHandlerFactoryService(
+            final Consumer<AbstractModelControllerOperationHandlerFactoryService> serviceConsumer,
+            final Supplier<ModelController> modelControllerSupplier,
+            final Supplier<ExecutorService> executorSupplier,
+            final Supplier<ScheduledExecutorService> scheduledExecutorSupplier,
+            final ManagementRequestExecutors.Interface managementInterface,
+            final ManagementRequestExecution requestExecution
+    ) {
+        this.managementInterface = managementInterface;
+        this.requestExecution = requestExecution;
         this.serviceConsumer = serviceConsumer;
         this.modelControllerSupplier = modelControllerSupplier;
         this.executorSupplier = executorSupplier;
@@ -91,23 +113,25 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
                 return new JBossThreadFactory(new ThreadGroup("management-handler-thread"), Boolean.FALSE, null, "%G - %t", null, null);
             }
         });
-        if (EnhancedQueueExecutor.DISABLE_HINT) {
-            ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_CORE_SIZE, POOL_MAX_SIZE,
-                600L, TimeUnit.SECONDS, new LinkedBlockingDeque<>(WORK_QUEUE_SIZE),
-                threadFactory);
-            // Allow the core threads to time out as well
-            executor.allowCoreThreadTimeOut(true);
-            this.clientRequestExecutor = executor;
-        } else {
-            this.clientRequestExecutor = new EnhancedQueueExecutor.Builder()
-            .setCorePoolSize(POOL_CORE_SIZE)
-            .setMaximumPoolSize(POOL_MAX_SIZE)
-            .setKeepAliveTime(600L, TimeUnit.SECONDS)
-            .setMaximumQueueSize(WORK_QUEUE_SIZE)
-            .setThreadFactory(threadFactory)
-            .allowCoreThreadTimeOut(true)
-            .build();
-        }
+        this.clientRequestExecutor = ManagementRequestExecutors.create(managementInterface, "management-handler-thread-", requestExecution, () -> {
+            if (EnhancedQueueExecutor.DISABLE_HINT) {
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_CORE_SIZE, POOL_MAX_SIZE,
+                    600L, TimeUnit.SECONDS, new LinkedBlockingDeque<>(WORK_QUEUE_SIZE),
+                    threadFactory);
+                // Allow the core threads to time out as well
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
+            } else {
+                return new EnhancedQueueExecutor.Builder()
+                .setCorePoolSize(POOL_CORE_SIZE)
+                .setMaximumPoolSize(POOL_MAX_SIZE)
+                .setKeepAliveTime(600L, TimeUnit.SECONDS)
+                .setMaximumQueueSize(WORK_QUEUE_SIZE)
+                .setThreadFactory(threadFactory)
+                .allowCoreThreadTimeOut(true)
+                .build();
+            }
+        });
         serviceConsumer.accept(this);
     }
 
@@ -0,0 +1,430 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.remote;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jboss.as.protocol.mgmt.ManagementChannelAssociation;
+import org.jboss.as.protocol.mgmt.ManagementProtocolHeader;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * Compact encoding of {@link ModelNode}s exchanged between the domain controller, slave host controllers and servers.
+ * <p>
+ * Attribute and resource names repeat heavily in operations and in the domain model, so every key (and every short
+ * string value) is written only once and referenced by its index in a string table afterwards. The table is built
+ * while writing and rebuilt the same way while reading, so it is never transmitted separately. Payloads above
+ * {@link #COMPRESSION_THRESHOLD} bytes are additionally deflated.
+ * <p>
+ * The encoding is only used when both sides support it. Responses use it if the negotiated version of the response
+ * header {@link ManagementProtocolHeader#isCompactEncodingSupported() supports it}; requests use it if the
+ * {@link TransactionalProtocolClient#COMPACT_ENCODING} attachment was set on the channel during registration.
+ * Otherwise the standard {@link ModelNode#writeExternal(DataOutput)} form is used.
+ */
+public final class CompactModelNodeEncoding {
+
+    /** Payloads of at least this size are compressed. */
+    static final int COMPRESSION_THRESHOLD = 4096;
+    /** String values up to this length are added to the string table. */
+    private static final int MAX_TABLE_VALUE_LENGTH = 64;
+
+    private static final byte FLAG_DEFLATED = 0x01;
+
+    private static final byte BIG_DECIMAL = 1;
+    private static final byte BIG_INTEGER = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte BYTES = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte EXPRESSION = 6;
+    private static final byte INT = 7;
+    private static final byte LIST = 8;
+    private static final byte LONG = 9;
+    private static final byte OBJECT = 10;
+    private static final byte PROPERTY = 11;
+    private static final byte STRING = 12;
+    private static final byte TYPE = 13;
+    private static final byte UNDEFINED = 14;
+
+    private static final ModelType[] MODEL_TYPES = ModelType.values();
+
+    private CompactModelNodeEncoding() {
+    }
+
+    /**
+     * Whether requests sent on the given channel may use the compact encoding.
+     *
+     * @param channelAssociation the channel association
+     * @return {@code true} if the peer announced support for the compact encoding
+     */
+    public static boolean isEnabled(final ManagementChannelAssociation channelAssociation) {
+        final Boolean compact = channelAssociation.getAttachments().getAttachment(TransactionalProtocolClient.COMPACT_ENCODING);
+        return compact != null && compact;
+    }
+
+    /**
+     * Whether a message with the given (negotiated) header may use the compact encoding.
+     *
+     * @param header the response header
+     * @return {@code true} if both sides support the compact encoding
+     */
+    public static boolean isEnabled(final ManagementProtocolHeader header) {
+        return header.isCompactEncodingSupported();
+    }
+
+    /**
+     * Write a model node, either using the compact or the standard DMR encoding.
+     *
+     * @param node the node to write
+     * @param output the output
+     * @param compact {@code true} to use the compact encoding
+     * @throws IOException for any error
+     */
+    public static void write(final ModelNode node, final DataOutput output, final boolean compact) throws IOException {
+        if (!compact) {
+            node.writeExternal(output);
+            return;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        final DataOutputStream raw = new DataOutputStream(bytes);
+        new Writer(raw).write(node);
+        raw.flush();
+        if (bytes.size() >= COMPRESSION_THRESHOLD) {
+            final ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.size() / 4);
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (OutputStream os = new DeflaterOutputStream(deflated, deflater)) {
+                bytes.writeTo(os);
+            } finally {
+                deflater.end();
+            }
+            output.writeByte(FLAG_DEFLATED);
+            output.writeInt(deflated.size());
+            deflated.writeTo(new DataOutputAdapter(output));
+        } else {
+            output.writeByte(0);
+            output.writeInt(bytes.size());
+            bytes.writeTo(new DataOutputAdapter(output));
+        }
+    }
+
+    /**
+     * Read a model node written by {@link #write(ModelNode, DataOutput, boolean)}.
+     *
+     * @param input the input
+     * @param compact {@code true} if the compact encoding was used
+     * @return the model node
+     * @throws IOException for any error
+     */
+    public static ModelNode read(final DataInput input, final boolean compact) throws IOException {
+        final ModelNode node = new ModelNode();
+        if (!compact) {
+            node.readExternal(input);
+            return node;
+        }
+        final byte flags = input.readByte();
+        final int length = input.readInt();
+        final byte[] payload = new byte[length];
+        input.readFully(payload);
+        InputStream is = new ByteArrayInputStream(payload);
+        if ((flags & FLAG_DEFLATED) != 0) {
+            is = new InflaterInputStream(is);
+        }
+        try (DataInputStream in = new DataInputStream(is)) {
+            new Reader(in).read(node);
+        }
+        return node;
+    }
+
+    private static final class Writer {
+
+        private final DataOutput output;
+        private final Map<String, Integer> table = new HashMap<>();
+
+        private Writer(final DataOutput output) {
+            this.output = output;
+        }
+
+        void write(final ModelNode node) throws IOException {
+            final ModelType type = node.getType();
+            switch (type) {
+                case BIG_DECIMAL: {
+                    output.writeByte(BIG_DECIMAL);
+                    final BigDecimal value = node.asBigDecimal();
+                    writeBytes(value.unscaledValue().toByteArray());
+                    writeVarInt(value.scale());
+                    break;
+                }
+                case BIG_INTEGER:
+                    output.writeByte(BIG_INTEGER);
+                    writeBytes(node.asBigInteger().toByteArray());
+                    break;
+                case BOOLEAN:
+                    output.writeByte(BOOLEAN);
+                    output.writeBoolean(node.asBoolean());
+                    break;
+                case BYTES:
+                    output.writeByte(BYTES);
+                    writeBytes(node.asBytes());
+                    break;
+                case DOUBLE:
+                    output.writeByte(DOUBLE);
+                    output.writeDouble(node.asDouble());
+                    break;
+                case EXPRESSION:
+                    output.writeByte(EXPRESSION);
+                    writeString(node.asExpression().getExpressionString(), false);
+                    break;
+                case INT:
+                    output.writeByte(INT);
+                    output.writeInt(node.asInt());
+                    break;
+                case LIST: {
+                    output.writeByte(LIST);
+                    final List<ModelNode> list = node.asList();
+                    writeVarInt(list.size());
+                    for (ModelNode element : list) {
+                        write(element);
+                    }
+                    break;
+                }
+                case LONG:
+                    output.writeByte(LONG);
+                    output.writeLong(node.asLong());
+                    break;
+                case OBJECT: {
+                    output.writeByte(OBJECT);
+                    final List<String> keys = new ArrayList<>(node.keys());
+                    writeVarInt(keys.size());
+                    for (String key : keys) {
+                        writeString(key, true);
+                        write(node.get(key));
+                    }
+                    break;
+                }
+                case PROPERTY: {
+                    output.writeByte(PROPERTY);
+                    final Property property = node.asProperty();
+                    writeString(property.getName(), true);
+                    write(property.getValue());
+                    break;
+                }
+                case STRING: {
+                    output.writeByte(STRING);
+                    final String value = node.asString();
+                    writeString(value, value.length() <= MAX_TABLE_VALUE_LENGTH);
+                    break;
+                }
+                case TYPE:
+                    output.writeByte(TYPE);
+                    writeVarInt(node.asType().ordinal());
+                    break;
+                case UNDEFINED:
+                    output.writeByte(UNDEFINED);
+                    break;
+                default:
+                    throw new IllegalStateException(type.toString());
+            }
+        }
+
+        private void writeString(final String value, final boolean useTable) throws IOException {
+            if (useTable) {
+                final Integer index = table.get(value);
+                if (index != null) {
+                    writeVarInt(index + 1);
+                    return;
+                }
+                table.put(value, table.size());
+            }
+            writeVarInt(0);
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(final byte[] bytes) throws IOException {
+            writeVarInt(bytes.length);
+            output.write(bytes);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                output.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.writeByte(value);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInput input;
+        private final List<String> table = new ArrayList<>();
+
+        private Reader(final DataInput input) {
+            this.input = input;
+        }
+
+        void read(final ModelNode node) throws IOException {
+            final byte type = input.readByte();
+            switch (type) {
+                case BIG_DECIMAL: {
+                    final BigInteger unscaled = new BigInteger(readBytes());
+                    node.set(new BigDecimal(unscaled, readVarInt()));
+                    break;
+                }
+                case BIG_INTEGER:
+                    node.set(new BigInteger(readBytes()));
+                    break;
+                case BOOLEAN:
+                    node.set(input.readBoolean());
+                    break;
+                case BYTES:
+                    node.set(readBytes());
+                    break;
+                case DOUBLE:
+                    node.set(input.readDouble());
+                    break;
+                case EXPRESSION:
+                    node.setExpression(readString(false));
+                    break;
+                case INT:
+                    node.set(input.readInt());
+                    break;
+                case LIST: {
+                    node.setEmptyList();
+                    final int size = readVarInt();
+                    for (int i = 0; i < size; i++) {
+                        read(node.add());
+                    }
+                    break;
+                }
+                case LONG:
+                    node.set(input.readLong());
+                    break;
+                case OBJECT: {
+                    node.setEmptyObject();
+                    final int size = readVarInt();
+                    for (int i = 0; i < size; i++) {
+                        final String key = readString(true);
+                        read(node.get(key));
+                    }
+                    break;
+                }
+                case PROPERTY: {
+                    final String name = readString(true);
+                    final ModelNode value = new ModelNode();
+                    read(value);
+                    node.set(name, value);
+                    break;
+                }
+                case STRING: {
+                    node.set(readTableOrLiteral());
+                    break;
+                }
+                case TYPE:
+                    node.set(MODEL_TYPES[readVarInt()]);
+                    break;
+                case UNDEFINED:
+                    break;
+                default:
+                    throw new IOException("Invalid type " + type);
+            }
+        }
+
+        private String readString(final boolean useTable) throws IOException {
+            final int ref = readVarInt();
+            if (ref != 0) {
+                return table.get(ref - 1);
+            }
+            final String value = new String(readBytes(), StandardCharsets.UTF_8);
+            if (useTable) {
+                table.add(value);
+            }
+            return value;
+        }
+
+        private String readTableOrLiteral() throws IOException {
+            final int ref = readVarInt();
+            if (ref != 0) {
+                return table.get(ref - 1);
+            }
+            final String value = new String(readBytes(), StandardCharsets.UTF_8);
+            // mirror the writer, which only adds short values to the table
+            if (value.length() <= MAX_TABLE_VALUE_LENGTH) {
+                table.add(value);
+            }
+            return value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            final byte[] bytes = new byte[readVarInt()];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = input.readByte();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+
+    /** Adapts a {@link DataOutput} so a buffer can be copied to it in a single write. */
+    private static final class DataOutputAdapter extends OutputStream {
+
+        private final DataOutput output;
+
+        private DataOutputAdapter(final DataOutput output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            output.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller.remote;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.as.controller.VirtualThreads;
+import org.jboss.as.controller.management.ManagementRequestExecution;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Creates the executors that run management requests received over the HTTP and native management interfaces, as
+ * configured by {@link ManagementRequestExecution}. Requests do not rely on state carried by the executing thread:
+ * the request handlers establish the caller's security identity, and the controller its operation context, on
+ * whichever thread runs the request.
+ * <p>
+ * Each executor counts its own requests in flight, and adds them to the count of the management interface it serves,
+ * so the requests in flight over an interface are read without looking up the services owning the executors.
+ */
+public final class ManagementRequestExecutors {
+
+    /** The name of the service providing the executor of the requests received by the HTTP management interface. */
+    public static final ServiceName HTTP_EXECUTOR_SERVICE_NAME = ServiceName.JBOSS.append("as", "external-mgmt-executor");
+
+    /**
+     * The name of the service providing the executor of the requests received by the HTTP management interface, if
+     * they are executed in virtual threads.
+     */
+    public static final ServiceName HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME = HTTP_EXECUTOR_SERVICE_NAME.append("virtual-threads");
+
+    /** The management interfaces whose requests in flight are counted. */
+    public enum Interface {
+        HTTP,
+        NATIVE
+    }
+
+    private static final AtomicInteger[] IN_FLIGHT = { new AtomicInteger(), new AtomicInteger() };
+
+    private ManagementRequestExecutors() {
+    }
+
+    /**
+     * Creates an executor for management requests.
+     *
+     * @param managementInterface the management interface whose requests are executed, or {@code null} if the
+     *                            requests are not counted for any interface
+     * @param threadNamePrefix the name prefix of the virtual threads
+     * @param execution how the requests are executed
+     * @param threadPoolFactory creates the thread pool to use if virtual threads are not used
+     * @return the executor, tracking the number of requests in flight
+     */
+    public static ExecutorService create(final Interface managementInterface, final String threadNamePrefix,
+                                         final ManagementRequestExecution execution, final Supplier<ExecutorService> threadPoolFactory) {
+        final ExecutorService executor = execution.isVirtualThreads()
+                ? new VirtualThreadExecutor(VirtualThreads.newThreadFactory(threadNamePrefix), execution.getMaxVirtualThreadRequests())
+                : threadPoolFactory.get();
+        return new TrackingExecutorService(executor, managementInterface == null ? null : IN_FLIGHT[managementInterface.ordinal()]);
+    }
+
+    /**
+     * Installs the on demand service providing the executor of the requests received by the HTTP management interface
+     * in virtual threads, under {@link #HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME}.
+     *
+     * @param target the service target
+     * @param execution how the requests are executed, in virtual threads
+     */
+    public static void installHttpVirtualThreadExecutor(final ServiceTarget target, final ManagementRequestExecution execution) {
+        assert execution.isVirtualThreads();
+        final ServiceBuilder<?> builder = target.addService(HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME);
+        final Consumer<ExecutorService> executorConsumer = builder.provides(HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME);
+        builder.setInstance(new Service() {
+            private ExecutorService executor;
+
+            @Override
+            public void start(final StartContext context) {
+                executor = create(Interface.HTTP, "External Management Request Threads -- ", execution, null);
+                executorConsumer.accept(executor);
+            }
+
+            @Override
+            public void stop(final StopContext context) {
+                executorConsumer.accept(null);
+                // Virtual threads are not pooled, requests already running complete on their own
+                executor.shutdown();
+            }
+        });
+        builder.setInitialMode(ServiceController.Mode.ON_DEMAND).install();
+    }
+
+    /**
+     * Gets the number of requests that have been submitted to the given executor and not completed yet, including
+     * requests waiting for a thread.
+     *
+     * @param executor an executor created by {@link #create(Interface, String, ManagementRequestExecution, Supplier)},
+     *                 or {@code null}
+     * @return the number of requests in flight, or {@code 0} if the executor does not track them
+     */
+    public static int getInFlightCount(final ExecutorService executor) {
+        return executor instanceof TrackingExecutorService ? ((TrackingExecutorService) executor).inFlight.get() : 0;
+    }
+
+    /**
+     * Gets the number of requests received over the given management interface that have not completed yet, over all
+     * the executors of that interface.
+     *
+     * @param managementInterface the management interface
+     * @return the number of requests in flight
+     */
+    public static int getInFlightCount(final Interface managementInterface) {
+        return IN_FLIGHT[managementInterface.ordinal()].get();
+    }
+
+    private static final class TrackingExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger interfaceInFlight;
+
+        private TrackingExecutorService(final ExecutorService delegate, final AtomicInteger interfaceInFlight) {
+            this.delegate = delegate;
+            this.interfaceInFlight = interfaceInFlight;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            started();
+            try {
+                delegate.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        completed(1);
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                completed(1);
+                throw e;
+            }
+        }
+
+        private void started() {
+            inFlight.incrementAndGet();
+            if (interfaceInFlight != null) {
+                interfaceInFlight.incrementAndGet();
+            }
+        }
+
+        private void completed(final int count) {
+            inFlight.addAndGet(-count);
+            if (interfaceInFlight != null) {
+                interfaceInFlight.addAndGet(-count);
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            final List<Runnable> dropped = delegate.shutdownNow();
+            completed(dropped.size());
+            return dropped;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
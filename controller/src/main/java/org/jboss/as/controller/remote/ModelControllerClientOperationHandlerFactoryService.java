@@ -22,6 +22,7 @@
 package org.jboss.as.controller.remote;
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
 import org.jboss.remoting3.Channel;
@@ -45,7 +46,18 @@ public class ModelControllerClientOperationHandlerFactoryService extends Abstrac
             final Supplier<ExecutorService> executorSupplier,
             final Supplier<ScheduledExecutorService> scheduledExecutorSupplier
     ) {
-        super(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier);
+        this(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier, ManagementRequestExecution.THREAD_POOL);
+    }
+
+    public ModelControllerClientOperationHandlerFactoryService(
+            final Consumer<AbstractModelControllerOperationHandlerFactoryService> serviceConsumer,
+            final Supplier<ModelController> modelControllerSupplier,
+            final Supplier<ExecutorService> executorSupplier,
+            final Supplier<ScheduledExecutorService> scheduledExecutorSupplier,
+            final ManagementRequestExecution requestExecution
+    ) {
+        super(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier,
+                ManagementRequestExecutors.Interface.NATIVE, requestExecution);
     }
 
     @Override
@@ -54,6 +54,15 @@ public interface TransactionalProtocolClient {
      */
     Attachments.Key<Boolean> SEND_IN_VM = new Attachments.Key<>(Boolean.class);
 
+    /**
+     * Attachment whether operation requests are sent using the {@link CompactModelNodeEncoding compact encoding}.
+     * Needs to be set on both sides of the channel.
+     * <p>
+     * DC > HC    : HostControllerRegistrationHandler > RemoteDomainConnection
+     * HC > server: HostControllerConnection > ManagedServer
+     */
+    Attachments.Key<Boolean> COMPACT_ENCODING = new Attachments.Key<>(Boolean.class);
+
     /**
      * Execute an operation. This returns a future for the final result, which will only available after the prepared
      * operation is committed.
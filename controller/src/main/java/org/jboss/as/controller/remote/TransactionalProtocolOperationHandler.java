@@ -235,9 +235,8 @@ public class TransactionalProtocolOperationHandler implements ManagementRequestH
         }
 
         static ExecutableRequest parse(DataInput input, ManagementChannelAssociation channelAssociation) throws IOException {
-            final ModelNode operation = new ModelNode();
             ProtocolUtils.expectHeader(input, ModelControllerProtocol.PARAM_OPERATION);
-            operation.readExternal(input);
+            final ModelNode operation = CompactModelNodeEncoding.read(input, CompactModelNodeEncoding.isEnabled(channelAssociation));
             ProtocolUtils.expectHeader(input, ModelControllerProtocol.PARAM_INPUTSTREAMS_LENGTH);
             final int attachmentsLength = input.readInt();
 
@@ -633,7 +632,7 @@ public class TransactionalProtocolOperationHandler implements ManagementRequestH
                     // response type
                     output.writeByte(responseType);
                     // operation result
-                    response.writeExternal(output);
+                    CompactModelNodeEncoding.write(response, output, CompactModelNodeEncoding.isEnabled(header));
                     // response end
                     output.writeByte(ManagementProtocol.RESPONSE_END);
                     output.close();
@@ -63,13 +63,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import org.jboss.as.controller.access.AuthorizationResult;
+import org.jboss.as.controller.access.management.AuthorizedAddress;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.notification.Notification;
@@ -82,6 +86,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.test.TestUtils;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceBuilder;
@@ -200,6 +205,68 @@ public class ModelControllerImplUnitTestCase {
         notificationHandler.validate(0);
     }
 
+    @Test
+    public void testOperationStatistics() throws Exception {
+        ManagementOperationStatistics statistics = ((ModelControllerImpl) controller).getOperationStatistics();
+        statistics.reset();
+        assertEquals(SUCCESS, controller.execute(getOperation("good", "attr1", 5), null, null, null).get(OUTCOME).asString());
+        assertEquals(SUCCESS, controller.execute(getOperation("good", "attr1", 1), null, null, null).get(OUTCOME).asString());
+        assertEquals(FAILED, controller.execute(getOperation("bad", "attr1", 5), null, null, null).get(OUTCOME).asString());
+
+        ModelNode byOperation = statistics.getOperationStatistics();
+        assertEquals(2, byOperation.get("good", ManagementOperationStatistics.COUNT).asLong());
+        assertEquals(0, byOperation.get("good", ManagementOperationStatistics.FAILED_COUNT).asLong());
+        assertEquals(1, byOperation.get("bad", ManagementOperationStatistics.COUNT).asLong());
+        assertEquals(1, byOperation.get("bad", ManagementOperationStatistics.FAILED_COUNT).asLong());
+        long histogramCount = 0;
+        for (Property bucket : byOperation.get("good", ManagementOperationStatistics.LATENCY_HISTOGRAM).asPropertyList()) {
+            histogramCount += bucket.getValue().asLong();
+        }
+        assertEquals(2, histogramCount);
+        assertTrue(byOperation.get("good", ManagementOperationStatistics.STAGE_TIME).hasDefined("model"));
+
+        ModelNode byAddress = statistics.getAddressStatistics();
+        assertEquals(3, byAddress.get("/", ManagementOperationStatistics.COUNT).asLong());
+
+        statistics.reset();
+        assertEquals(0, statistics.getOperationStatistics().keys().size());
+    }
+
+    @Test
+    public void testOperationStatisticsAuthorization() throws Exception {
+        ManagementOperationStatistics statistics = ((ModelControllerImpl) controller).getOperationStatistics();
+        statistics.reset();
+        assertEquals(SUCCESS, controller.execute(getOperation("good", "attr1", 5), null, null, null).get(OUTCOME).asString());
+        assertEquals(FAILED, controller.execute(getOperation("bad", "attr1", 5), null, null, null).get(OUTCOME).asString());
+
+        Function<PathAddress, AuthorizedAddress> permitted = getAuthorizer(AuthorizationResult.PERMITTED);
+        assertEquals(statistics.getOperationStatistics(), statistics.getOperationStatistics(permitted));
+        assertEquals(statistics.getAddressStatistics(), statistics.getAddressStatistics(permitted));
+
+        // A caller who cannot address the targets sees neither the operation names nor the addresses
+        Function<PathAddress, AuthorizedAddress> denied = getAuthorizer(new AuthorizationResult(AuthorizationResult.Decision.DENY));
+        ModelNode byOperation = statistics.getOperationStatistics(denied);
+        assertEquals(1, byOperation.keys().size());
+        assertEquals(2, byOperation.get(ManagementOperationStatistics.HIDDEN, ManagementOperationStatistics.COUNT).asLong());
+        assertEquals(1, byOperation.get(ManagementOperationStatistics.HIDDEN, ManagementOperationStatistics.FAILED_COUNT).asLong());
+        ModelNode byAddress = statistics.getAddressStatistics(denied);
+        assertEquals(1, byAddress.keys().size());
+        for (String key : byAddress.keys()) {
+            assertTrue(key, key.contains(ManagementOperationStatistics.HIDDEN));
+        }
+    }
+
+    private static Function<PathAddress, AuthorizedAddress> getAuthorizer(final AuthorizationResult result) {
+        final OperationContext context = (OperationContext) Proxy.newProxyInstance(OperationContext.class.getClassLoader(),
+                new Class<?>[] {OperationContext.class}, (proxy, method, args) -> {
+                    if ("authorize".equals(method.getName())) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return address -> AuthorizedAddress.authorizeAddress(context, Util.createEmptyOperation(READ_RESOURCE_OPERATION, address));
+    }
+
     @Test
     public void testModelStageUnhandledFailureExecution() throws Exception {
         ModelNode result = controller.execute(getOperation("evil", "attr1", 5), null, null, null);
@@ -1,6 +1,8 @@
 package org.jboss.as.controller;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.TimeUnit;
@@ -50,6 +52,25 @@ public class ModelControllerLockTestCase {
         assertTrue(lock.lockInterruptibly(OP1, DEFAULT_TIMEOUT, DEFAULT_TIMEUNIT));
     }
 
+    @Test
+    public void testWaitStatistics() throws InterruptedException {
+        ModelControllerLock lock = new ModelControllerLock();
+        assertNull(lock.getExclusivePermitHolder());
+        lock.lock(OP1);
+        assertEquals(Integer.valueOf(OP1), lock.getExclusivePermitHolder());
+        // reentrant acquisition doesn't wait
+        lock.lock(OP1);
+        assertEquals(0, lock.getWaitCount());
+        assertFalse(lock.lock(OP2, DEFAULT_TIMEOUT, DEFAULT_TIMEUNIT));
+        assertEquals(1, lock.getWaitCount());
+        assertTrue(lock.getWaitTime() >= DEFAULT_TIMEUNIT.toNanos(DEFAULT_TIMEOUT));
+        lock.unlock(OP1);
+        lock.unlock(OP1);
+        assertNull(lock.getExclusivePermitHolder());
+        lock.lockShared(OP2);
+        assertNull(lock.getExclusivePermitHolder());
+    }
+
     @Test(expected = IllegalMonitorStateException.class)
     public void testUnlockNotLockedExclusive() throws IllegalStateException {
         ModelControllerLock lock = new ModelControllerLock();
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link VirtualThreadExecutor}.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Executors.defaultThreadFactory(), 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        awaitCondition(() -> executor.getActiveCount() == 2 && executor.getQueueSize() == 3);
+        assertEquals(5, executor.getTaskCount());
+        assertEquals(5, executor.getCurrentThreadCount());
+
+        // raising the limit lets one more waiting task run
+        executor.setMaxConcurrency(3);
+        awaitCondition(() -> executor.getActiveCount() == 3 && executor.getQueueSize() == 2);
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(3, maxRunning.get());
+        assertEquals(5, executor.getCompletedTaskCount());
+        assertEquals(5, executor.getLargestThreadCount());
+        assertEquals(0, executor.getCurrentThreadCount());
+    }
+
+    @Test
+    public void testRejectedAfterShutdown() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Executors.defaultThreadFactory(), 0);
+        executor.shutdown();
+        assertTrue(executor.isTerminated());
+        try {
+            executor.execute(() -> { });
+            fail("task accepted after shutdown");
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+        assertEquals(1, executor.getRejectedCount());
+        assertEquals(0, executor.getTaskCount());
+    }
+
+    @Test
+    public void testShutdownNowInterruptsWaitingTasks() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Executors.defaultThreadFactory(), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicInteger ran = new AtomicInteger();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        executor.execute(ran::incrementAndGet);
+        awaitCondition(() -> executor.getQueueSize() == 1);
+
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, ran.get());
+    }
+
+    private static void awaitCondition(final Condition condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.isMet()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private interface Condition {
+        boolean isMet();
+    }
+}
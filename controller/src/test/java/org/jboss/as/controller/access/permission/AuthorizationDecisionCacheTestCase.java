@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.access.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.constraint.AbstractConstraint;
+import org.jboss.as.controller.access.constraint.Constraint;
+import org.jboss.as.controller.access.constraint.VaultExpressionSensitivityConfig;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link AuthorizationDecisionCache}.
+ */
+public class AuthorizationDecisionCacheTestCase {
+
+    private static final Constraint SENSITIVE = new TestConstraint();
+    private static final Constraint NOT_SENSITIVE = new TestConstraint();
+
+    @Test
+    public void testEquivalentRequiredPermissionsShareDecision() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        PermissionCollection user = new ManagementPermissionCollection("user", SimpleManagementPermission.class);
+
+        Object key = cache.getKey(user, required(NOT_SENSITIVE));
+        assertNull(cache.get(key));
+        cache.put(key, true);
+
+        assertEquals(Boolean.TRUE, cache.get(cache.getKey(user, required(NOT_SENSITIVE))));
+        assertNull(cache.get(cache.getKey(user, required(SENSITIVE))));
+    }
+
+    @Test
+    public void testUserPermissionsArePartOfKey() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        PermissionCollection user = new ManagementPermissionCollection("user", SimpleManagementPermission.class);
+        PermissionCollection other = new ManagementPermissionCollection("other", SimpleManagementPermission.class);
+
+        cache.put(cache.getKey(user, required(NOT_SENSITIVE)), false);
+
+        assertEquals(Boolean.FALSE, cache.get(cache.getKey(user, required(NOT_SENSITIVE))));
+        assertNotEquals(cache.getKey(user, required(NOT_SENSITIVE)), cache.getKey(other, required(NOT_SENSITIVE)));
+        assertNull(cache.get(cache.getKey(other, required(NOT_SENSITIVE))));
+    }
+
+    @Test
+    public void testConstraintConfigurationChangeInvalidates() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        PermissionCollection user = new ManagementPermissionCollection("user", SimpleManagementPermission.class);
+
+        Object key = cache.getKey(user, required(NOT_SENSITIVE));
+        cache.put(key, true);
+        assertEquals(Boolean.TRUE, cache.get(key));
+
+        VaultExpressionSensitivityConfig config = VaultExpressionSensitivityConfig.INSTANCE;
+        config.setConfiguredRequiresWritePermission(config.getConfiguredRequiresWritePermission());
+
+        assertNull(cache.get(key));
+        // A decision made against the old configuration is not stored
+        cache.put(key, true);
+        assertNull(cache.get(cache.getKey(user, required(NOT_SENSITIVE))));
+
+        Object current = cache.getKey(user, required(NOT_SENSITIVE));
+        cache.put(current, true);
+        assertEquals(Boolean.TRUE, cache.get(current));
+    }
+
+    @Test
+    public void testOtherPermissionTypesNotCached() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        PermissionCollection user = new ManagementPermissionCollection("user", SimpleManagementPermission.class);
+        ManagementPermissionCollection required = new ManagementPermissionCollection(TestManagementPermission.class);
+        required.add(new TestManagementPermission(Action.ActionEffect.READ_CONFIG));
+
+        assertNull(cache.getKey(user, required));
+        assertNotNull(cache.getKey(user, required(SENSITIVE)));
+    }
+
+    private static PermissionCollection required(Constraint constraint) {
+        ManagementPermissionCollection result = new ManagementPermissionCollection(SimpleManagementPermission.class);
+        result.add(new SimpleManagementPermission(Action.ActionEffect.ADDRESS, NOT_SENSITIVE));
+        result.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, constraint));
+        return result;
+    }
+
+    private static final class TestConstraint extends AbstractConstraint {
+        @Override
+        public boolean violates(Constraint other, Action.ActionEffect actionEffect) {
+            return false;
+        }
+    }
+
+    private static final class TestManagementPermission extends ManagementPermission {
+        private TestManagementPermission(Action.ActionEffect actionEffect) {
+            super("test", actionEffect);
+        }
+
+        @Override
+        public boolean implies(Permission permission) {
+            return equals(permission);
+        }
+    }
+}
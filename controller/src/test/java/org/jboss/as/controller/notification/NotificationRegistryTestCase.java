@@ -228,6 +228,36 @@ public class NotificationRegistryTestCase {
         assertTrue(handlers.contains(handler3));
     }
 
+    @Test
+    public void testRegisterAfterMatchingHandlersWereFound() {
+        NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create();
+
+        NotificationHandler handler1 = new SimpleNotificationHandler();
+        NotificationHandler handler2 = new SimpleNotificationHandler();
+        NotificationFilter filter = ALL;
+
+        PathAddress address = PathAddress.pathAddress("subsystem", "messaging");
+        Notification notification = new Notification("foo", address, "bar");
+
+        registry.registerNotificationHandler(address, handler1, filter);
+        Collection<NotificationHandler> handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.contains(handler1));
+
+        // the handlers matching the address have been computed, they must be recomputed after a registration
+        registry.registerNotificationHandler(PathAddress.pathAddress("subsystem", "*"), handler2, filter);
+        handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(2, handlers.size());
+        assertTrue(handlers.contains(handler1));
+        assertTrue(handlers.contains(handler2));
+
+        // ... and after an unregistration
+        registry.unregisterNotificationHandler(address, handler1, filter);
+        handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.contains(handler2));
+    }
+
     private static class SimpleNotificationHandler implements NotificationHandler {
 
         @Override
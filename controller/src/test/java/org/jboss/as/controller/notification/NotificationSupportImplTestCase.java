@@ -23,6 +23,10 @@
 package org.jboss.as.controller.notification;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
 import static org.jboss.as.controller.PathAddress.pathAddress;
 import static org.jboss.as.controller.notification.NotificationFilter.ALL;
 import static org.junit.Assert.assertEquals;
@@ -30,12 +34,17 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.jboss.as.controller.notification.NotificationSupports.NonBlockingNotificationSupport;
+import org.jboss.as.controller.notification.NotificationSupports.OverflowPolicy;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.dmr.ModelNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -58,6 +67,98 @@ public class NotificationSupportImplTestCase {
         doNotificationOrdering(null);
     }
 
+    @Test
+    public void testBatchedDeliveryWithExecutor() throws Exception {
+        doBatchedDelivery(Executors.newSingleThreadExecutor());
+    }
+
+    @Test
+    public void testBatchedDeliveryWithoutExecutor() throws Exception {
+        doBatchedDelivery(null);
+    }
+
+    @Test
+    public void testOverflowKeepsOrdering() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        final NotificationDeliveryStatistics statistics = new NotificationDeliveryStatistics();
+        final NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create(statistics);
+        // the queue is only drained when the tasks are run
+        final NotificationSupport notificationSupport = new NonBlockingNotificationSupport(registry, statistics, tasks::add, 2, OverflowPolicy.COALESCE);
+        final ListBackedNotificationHandler handler = new ListBackedNotificationHandler();
+        registry.registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, handler, ALL);
+
+        final Notification added = new Notification(RESOURCE_ADDED_NOTIFICATION, pathAddress("resource", "foo"), "added");
+        final Notification removed = new Notification(RESOURCE_REMOVED_NOTIFICATION, pathAddress("resource", "foo"), "removed");
+        final Notification addedAgain = new Notification(RESOURCE_ADDED_NOTIFICATION, pathAddress("resource", "foo"), "added again");
+        notificationSupport.emit(added, removed, addedAgain);
+        runAll(tasks);
+
+        // the notification emitted last must not overtake the ones emitted before it
+        assertEquals(Arrays.asList(added, removed), handler.getNotifications());
+        assertEquals(1, statistics.getDroppedCount());
+        assertEquals(0, statistics.getCoalescedCount());
+        handler.getNotifications().clear();
+
+        final Notification written1 = attributeWritten("foo", "1");
+        final Notification written2 = attributeWritten("bar", "2");
+        final Notification written3 = attributeWritten("foo", "3");
+        notificationSupport.emit(written1, written2, written3);
+        runAll(tasks);
+
+        // the last value written to an attribute supersedes the queued one
+        assertEquals(Arrays.asList(written3, written2), handler.getNotifications());
+        assertEquals(1, statistics.getDroppedCount());
+        assertEquals(1, statistics.getCoalescedCount());
+    }
+
+    private static Notification attributeWritten(String attribute, String value) {
+        final ModelNode data = new ModelNode();
+        data.get(NAME).set(attribute);
+        data.get("value").set(value);
+        return new Notification(ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION, pathAddress("resource", "foo"), "written", data);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private void doBatchedDelivery(ExecutorService executor) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<List<Notification>> batches = new CopyOnWriteArrayList<>();
+        NotificationHandler handler = new NotificationHandler() {
+            @Override
+            public void handleNotification(Notification notification) {
+                throw new IllegalStateException("notifications must be delivered in batches");
+            }
+
+            @Override
+            public void handleNotifications(List<Notification> notifications) {
+                batches.add(new ArrayList<>(notifications));
+                latch.countDown();
+            }
+        };
+
+        NotificationSupport notificationSupport = NotificationSupport.Factory.create(executor);
+        // only the notifications emitted by resource=foo pass the filter
+        notificationSupport.getNotificationRegistry().registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, handler,
+                notification -> notification.getSource().equals(pathAddress("resource", "foo")));
+
+        Notification notification1 = new Notification("foo", pathAddress("resource", "foo"), "foo");
+        Notification notification2 = new Notification("foo", pathAddress("resource", "bar"), "bar");
+        Notification notification3 = new Notification("foo", pathAddress("resource", "foo"), "baz");
+        notificationSupport.emit(notification1, notification2, notification3);
+
+        assertTrue(latch.await(5, SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(notification1, notification3), batches.get(0));
+
+        NotificationDeliveryStatistics statistics = notificationSupport.getNotificationRegistry().getDeliveryStatistics();
+        assertNotNull(statistics);
+        assertEquals(0, statistics.getDroppedCount());
+    }
+
     private void  doNotificationOrdering(ExecutorService executor) throws Exception {
         int numberOfNotificationsEmitted = 12;
         final CountDownLatch latch = new CountDownLatch(numberOfNotificationsEmitted);
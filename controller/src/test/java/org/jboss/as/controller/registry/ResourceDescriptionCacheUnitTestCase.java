@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.registry;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
+
+import java.util.Locale;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ResourceDescriptionCache}.
+ */
+public class ResourceDescriptionCacheUnitTestCase {
+
+    private static final PathElement CHILD = PathElement.pathElement("child");
+
+    private ManagementResourceRegistration rootRegistration;
+    private ResourceDescriptionCache cache;
+
+    @Before
+    public void setup() {
+        rootRegistration = ManagementResourceRegistration.Factory.forProcessType(ProcessType.EMBEDDED_SERVER)
+                .createRegistration(new SimpleResourceDefinition(null, NonResolvingResourceDescriptionResolver.INSTANCE));
+        rootRegistration.registerSubModel(new SimpleResourceDefinition(CHILD, NonResolvingResourceDescriptionResolver.INSTANCE));
+        cache = ResourceDescriptionCache.forRegistration(rootRegistration);
+        Assert.assertNotNull(cache);
+    }
+
+    @Test
+    public void testCachedDescriptionIsCopied() {
+        final DescriptionProvider provider = rootRegistration.getModelDescription(PathAddress.pathAddress(CHILD));
+        final ModelNode first = provider.getModelDescription(Locale.ENGLISH);
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(1, cache.getSize());
+
+        // Callers are allowed to modify the returned description
+        first.get("modified").set(true);
+        final ModelNode second = provider.getModelDescription(Locale.ENGLISH);
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertFalse(second.has("modified"));
+
+        // Other locales are cached separately
+        provider.getModelDescription(Locale.GERMAN);
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testRegistrationChangeInvalidates() {
+        final ManagementResourceRegistration child = rootRegistration.getSubModel(PathAddress.pathAddress(CHILD));
+        Assert.assertFalse(rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH)
+                .get(CHILDREN).has("other"));
+        child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH);
+
+        child.registerReadOnlyAttribute(SimpleAttributeDefinitionBuilder.create("attr", ModelType.STRING).build(), null);
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertTrue(child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH)
+                .get(ATTRIBUTES).has("attr"));
+
+        rootRegistration.registerSubModel(new SimpleResourceDefinition(PathElement.pathElement("other"), NonResolvingResourceDescriptionResolver.INSTANCE));
+        Assert.assertTrue(rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH)
+                .get(CHILDREN).has("other"));
+
+        rootRegistration.unregisterSubModel(PathElement.pathElement("other"));
+        Assert.assertFalse(rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(Locale.ENGLISH)
+                .get(CHILDREN).has("other"));
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+}
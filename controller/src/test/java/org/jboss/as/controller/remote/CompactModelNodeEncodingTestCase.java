@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.controller.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+/**
+ * Tests of {@link CompactModelNodeEncoding}.
+ */
+public class CompactModelNodeEncodingTestCase {
+
+    @Test
+    public void testAllTypes() throws Exception {
+        final ModelNode node = new ModelNode();
+        node.get("big-decimal").set(new BigDecimal("1234.5678"));
+        node.get("big-integer").set(new BigInteger("-123456789012345678901234567890"));
+        node.get("boolean").set(true);
+        node.get("bytes").set(new byte[] {1, 2, 3});
+        node.get("double").set(1.5d);
+        node.get("expression").setExpression("${foo:bar}");
+        node.get("int").set(42);
+        node.get("list").add("a").add(1).add(new ModelNode());
+        node.get("long").set(Long.MAX_VALUE);
+        node.get("property").set("name", new ModelNode("value"));
+        node.get("string").set("some value");
+        node.get("type").set(ModelType.OBJECT);
+        node.get("undefined");
+        node.get("object", "nested", "string").set("some value");
+
+        assertEquals(node, roundTrip(node, true));
+        assertEquals(node, roundTrip(node, false));
+    }
+
+    @Test
+    public void testRepeatedKeysAndCompression() throws Exception {
+        final ModelNode node = new ModelNode();
+        for (int i = 0; i < 1000; i++) {
+            final ModelNode server = node.get("server", "server-" + i);
+            server.get("group").set("main-server-group");
+            server.get("socket-binding-group").set("standard-sockets");
+            server.get("auto-start").set(true);
+            server.get("description").set(longString(i));
+        }
+        final ByteArrayOutputStream standard = new ByteArrayOutputStream();
+        node.writeExternal(new DataOutputStream(standard));
+        final byte[] compact = write(node, true);
+        assertTrue(compact.length < standard.size() / 4);
+        assertEquals(node, read(compact, true));
+    }
+
+    private static String longString(int i) {
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < 100) {
+            builder.append("description of server ").append(i).append(' ');
+        }
+        return builder.toString();
+    }
+
+    private static ModelNode roundTrip(final ModelNode node, final boolean compact) throws IOException {
+        return read(write(node, compact), compact);
+    }
+
+    private static byte[] write(final ModelNode node, final boolean compact) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        CompactModelNodeEncoding.write(node, output, compact);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ModelNode read(final byte[] bytes, final boolean compact) throws IOException {
+        return CompactModelNodeEncoding.read(new DataInputStream(new ByteArrayInputStream(bytes)), compact);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.controller.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.management.ManagementRequestExecution;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ManagementRequestExecutors}.
+ */
+public class ManagementRequestExecutorsTestCase {
+
+    @Test
+    public void testInFlightCount() throws Exception {
+        final int httpInFlight = ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.HTTP);
+        final ExecutorService executor = ManagementRequestExecutors.create(ManagementRequestExecutors.Interface.NATIVE, "test-",
+                ManagementRequestExecution.THREAD_POOL, () -> Executors.newFixedThreadPool(1));
+        // the requests of other executors are not counted, but requests over the same interface are
+        final ExecutorService other = ManagementRequestExecutors.create(ManagementRequestExecutors.Interface.NATIVE, "other-",
+                ManagementRequestExecution.THREAD_POOL, () -> Executors.newFixedThreadPool(1));
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // one request running and one waiting for the single thread
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            other.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertEquals(2, ManagementRequestExecutors.getInFlightCount(executor));
+            assertEquals(1, ManagementRequestExecutors.getInFlightCount(other));
+            assertEquals(3, ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.NATIVE));
+            assertEquals(httpInFlight, ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.HTTP));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            other.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(other.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, ManagementRequestExecutors.getInFlightCount(executor));
+        assertEquals(0, ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.NATIVE));
+        assertEquals(0, ManagementRequestExecutors.getInFlightCount((ExecutorService) null));
+    }
+}
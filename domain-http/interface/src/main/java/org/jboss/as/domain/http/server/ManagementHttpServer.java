@@ -114,6 +114,7 @@ public class ManagementHttpServer {
         set.add(DomainApiCheckHandler.PATH);
         set.add(DomainApiCheckHandler.GENERIC_CONTENT_REQUEST);
         set.add(LogoutHandler.PATH);
+        set.add(OpenMetricsHandler.PATH);
         set.add(ErrorContextHandler.ERROR_CONTEXT);
         RESERVED_CONTEXTS = Collections.unmodifiableSet(set);
     }
@@ -290,6 +291,12 @@ public class ManagementHttpServer {
                 new LogoutHandler(DEFAULT_SECURITY_REALM)));
     }
 
+    private static void addOpenMetricsHandler(PathHandler pathHandler, Builder builder) {
+        HttpHandler metricsHandler = InExecutorHandler.wrap(builder.executor,
+                associateIdentity(new OpenMetricsHandler(builder.modelController, builder.consoleAvailability)));
+        pathHandler.addExactPath(OpenMetricsHandler.PATH, wrapXFrameOptions(secureDomainAccess(metricsHandler, builder)));
+    }
+
     private static void addErrorContextHandler(PathHandler pathHandler, Builder builder) throws ModuleLoadException {
         HttpHandler errorContextHandler = wrapXFrameOptions(ErrorContextHandler.createErrorContext(builder.consoleSlot));
         pathHandler.addPrefixPath(ErrorContextHandler.ERROR_CONTEXT, errorContextHandler);
@@ -387,6 +394,7 @@ public class ManagementHttpServer {
         domainApiHandler = secureDomainAccess(domainApiHandler, builder);
         HttpHandler readinessHandler = addDmrRedinessHandler(pathHandler, domainApiHandler, readyFunction);
         addLogoutHandler(pathHandler, builder);
+        addOpenMetricsHandler(pathHandler, builder);
 
         return new ExtensionHandlers(pathHandler, readinessHandler, readyFunction, consoleHandler);
     }
@@ -0,0 +1,499 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MODEL_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VERBOSE;
+import static org.jboss.as.domain.http.server.logging.HttpServerLogger.ROOT_LOGGER;
+import static org.jboss.as.domain.management.ModelDescriptionConstants.MAPPED_ROLES;
+import static org.jboss.as.domain.management.ModelDescriptionConstants.WHOAMI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.core.security.AccessMechanism;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Exposes the metric attributes of the management model in the OpenMetrics text format.
+ *
+ * The metrics are found once with a recursive {@code read-resource-description} and kept as a list of
+ * (address pattern, attribute) handles, refreshed at most every {@link #REFRESH_INTERVAL} milliseconds.
+ * The description is filtered by the access control of the caller, so the handles are only shared between
+ * callers with the same mapped roles. The roles mapped from a security identity are kept for the same interval.
+ * Each scrape then reads all of them with a single read-only composite operation, instead of one operation per
+ * metric. The composite has a {@code read-resource} step per registration address, with its first element turned
+ * into a wildcard: a resource that is registered but does not exist is then skipped instead of failing the whole
+ * composite.
+ */
+class OpenMetricsHandler implements HttpHandler {
+
+    static final String PATH = "/openmetrics";
+
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=" + Common.UTF_8;
+
+    private static final String PREFIX = "wildfly";
+
+    private static final long REFRESH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(
+            WildFlySecurityManager.getPropertyPrivileged("org.wildfly.management.http.openmetrics.refresh-interval", "60000")));
+
+    private final ModelController modelController;
+    private final ConsoleAvailability consoleAvailability;
+
+    // the number of distinct role combinations is small, this only guards against unbounded growth
+    private static final int MAX_CACHED_ROLES = 32;
+    private static final int MAX_CACHED_CALLERS = 256;
+
+    private final ConcurrentMap<Set<String>, Handles> handles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<Object>, CallerRoles> callerRoles = new ConcurrentHashMap<>();
+
+    OpenMetricsHandler(final ModelController modelController, final ConsoleAvailability consoleAvailability) {
+        this.modelController = modelController;
+        this.consoleAvailability = consoleAvailability;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (!consoleAvailability.isAvailable()) {
+            exchange.getResponseHeaders().add(Headers.RETRY_AFTER, "2");
+            Common.SERVICE_UNAVAIABLE.handleRequest(exchange);
+            return;
+        }
+        if (!Methods.GET.equals(exchange.getRequestMethod())) {
+            Common.METHOD_NOT_ALLOWED_HANDLER.handleRequest(exchange);
+            return;
+        }
+
+        final String body;
+        try {
+            body = scrape(exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY));
+        } catch (Throwable t) {
+            ROOT_LOGGER.modelRequestError(t);
+            Common.sendPlainTextError(exchange, t.getLocalizedMessage(), 500);
+            return;
+        }
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, CONTENT_TYPE);
+        exchange.getResponseSender().send(body);
+    }
+
+    /**
+     * Reads the metrics the caller can access and formats them.
+     *
+     * @param identity the security identity of the caller, or {@code null} if the caller is not authenticated
+     * @return the metrics in the OpenMetrics text format
+     */
+    String scrape(final SecurityIdentity identity) {
+        final Handles current = getHandles(identity);
+        return current.format(execute(current.operation).get(RESULT));
+    }
+
+    Handles getHandles(final SecurityIdentity identity) {
+        final Set<String> roles = getCallerRoles(identity);
+        Handles current = roles == null ? null : handles.get(roles);
+        if (current == null || System.nanoTime() - current.created > REFRESH_INTERVAL) {
+            final ModelNode op = new ModelNode();
+            op.get(OP).set(READ_RESOURCE_DESCRIPTION_OPERATION);
+            op.get(OP_ADDR).setEmptyList();
+            op.get(RECURSIVE).set(true);
+            final ModelNode response = execute(op);
+            if (!SUCCESS.equals(response.get(OUTCOME).asString())) {
+                throw new IllegalStateException(response.get(FAILURE_DESCRIPTION).asString());
+            }
+            current = new Handles();
+            current.collect(PathAddress.EMPTY_ADDRESS, response.get(RESULT));
+            current.buildOperation();
+            if (roles != null) {
+                if (handles.size() >= MAX_CACHED_ROLES && !handles.containsKey(roles)) {
+                    handles.clear();
+                }
+                handles.put(roles, current);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return the roles the caller is mapped to, empty if roles are not used, or {@code null} if they are unknown
+     */
+    private Set<String> getCallerRoles(final SecurityIdentity identity) {
+        final List<Object> key = callerKey(identity);
+        final CallerRoles cached = callerRoles.get(key);
+        if (cached != null && System.nanoTime() - cached.created <= REFRESH_INTERVAL) {
+            return cached.roles;
+        }
+        final ModelNode op = new ModelNode();
+        op.get(OP).set(WHOAMI);
+        op.get(OP_ADDR).setEmptyList();
+        op.get(VERBOSE).set(true);
+        final ModelNode response = execute(op);
+        if (!SUCCESS.equals(response.get(OUTCOME).asString())) {
+            return null;
+        }
+        final Set<String> roles = new TreeSet<>();
+        final ModelNode mappedRoles = response.get(RESULT, MAPPED_ROLES);
+        if (mappedRoles.isDefined()) {
+            for (ModelNode role : mappedRoles.asList()) {
+                roles.add(role.asString());
+            }
+        }
+        if (callerRoles.size() >= MAX_CACHED_CALLERS && !callerRoles.containsKey(key)) {
+            callerRoles.clear();
+        }
+        callerRoles.put(key, new CallerRoles(roles));
+        return roles;
+    }
+
+    /**
+     * The roles are mapped from the name and the roles of the identity, as a new identity is created per request.
+     */
+    private static List<Object> callerKey(final SecurityIdentity identity) {
+        if (identity == null) {
+            return Collections.emptyList();
+        }
+        final Set<String> roles = new TreeSet<>();
+        identity.getRoles().forEach(roles::add);
+        return Arrays.asList(identity.getPrincipal().getName(), roles);
+    }
+
+    private ModelNode execute(final ModelNode operation) {
+        final ModelNode op = operation.clone();
+        final ModelNode headers = op.get(OPERATION_HEADERS);
+        headers.get(ACCESS_MECHANISM).set(AccessMechanism.HTTP.toString());
+        headers.get(CALLER_TYPE).set(USER);
+        return modelController.execute(op, OperationMessageHandler.DISCARD, ModelController.OperationTransactionControl.COMMIT, null);
+    }
+
+    /**
+     * The metric attributes of the management model and the composite operation reading them.
+     */
+    static final class Handles {
+
+        private final long created = System.nanoTime();
+        private final List<Handle> handles = new ArrayList<>();
+        private final Map<PathAddress, List<Handle>> reads = new LinkedHashMap<>();
+        private ModelNode operation;
+
+        int size() {
+            return handles.size();
+        }
+
+        private void collect(final PathAddress address, final ModelNode description) {
+            if (description.hasDefined(ATTRIBUTES)) {
+                for (String attribute : description.get(ATTRIBUTES).keys()) {
+                    final ModelNode attributeDescription = description.get(ATTRIBUTES, attribute);
+                    if (AttributeAccess.AccessType.METRIC.toString().equals(attributeDescription.get(ACCESS_TYPE).asString())
+                            && isNumeric(attributeDescription.get(TYPE))) {
+                        handles.add(new Handle(address, attribute, attributeDescription.get(DESCRIPTION).asString("")));
+                    }
+                }
+            }
+            if (description.hasDefined(CHILDREN)) {
+                for (String childType : description.get(CHILDREN).keys()) {
+                    final ModelNode models = description.get(CHILDREN, childType, MODEL_DESCRIPTION);
+                    if (models.isDefined()) {
+                        for (String value : models.keys()) {
+                            collect(address.append(childType, value), models.get(value));
+                        }
+                    }
+                }
+            }
+        }
+
+        private void buildOperation() {
+            // the handles of the registrations sharing the first address element are read by the same step
+            for (Handle handle : handles) {
+                reads.computeIfAbsent(readAddress(handle.address), a -> new ArrayList<>()).add(handle);
+            }
+            final ModelNode op = new ModelNode();
+            op.get(OP).set(COMPOSITE);
+            op.get(OP_ADDR).setEmptyList();
+            final ModelNode steps = op.get(STEPS).setEmptyList();
+            for (PathAddress address : reads.keySet()) {
+                final ModelNode step = steps.add();
+                step.get(OP).set(READ_RESOURCE_OPERATION);
+                step.get(OP_ADDR).set(address.toModelNode());
+                step.get(INCLUDE_RUNTIME).set(true);
+                step.get(ATTRIBUTES_ONLY).set(true);
+            }
+            // a metric that can not be read must not prevent the others from being read
+            op.get(OPERATION_HEADERS, ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+            op.protect();
+            operation = op;
+        }
+
+        /**
+         * A resource that does not exist fails a {@code read-resource} of its address, but not of a wildcard address,
+         * which also skips the missing resources below the wildcard.
+         */
+        private static PathAddress readAddress(final PathAddress address) {
+            if (address.size() == 0 || address.getElement(0).isWildcard()) {
+                return address;
+            }
+            return PathAddress.pathAddress(PathElement.pathElement(address.getElement(0).getKey()))
+                    .append(address.subAddress(1));
+        }
+
+        String format(final ModelNode result) {
+            // OpenMetrics requires all the samples of a metric family to be grouped together
+            final Map<String, MetricFamily> families = new LinkedHashMap<>();
+            final Set<String> series = new HashSet<>();
+            int step = 0;
+            for (Map.Entry<PathAddress, List<Handle>> read : reads.entrySet()) {
+                final ModelNode value = result.get("step-" + (++step), RESULT);
+                if (read.getKey().isMultiTarget()) {
+                    if (value.getType() != ModelType.LIST) {
+                        continue;
+                    }
+                    for (ModelNode target : value.asList()) {
+                        if (SUCCESS.equals(target.get(OUTCOME).asString())) {
+                            addSamples(families, series, read.getValue(), PathAddress.pathAddress(target.get(ADDRESS)), target.get(RESULT));
+                        }
+                    }
+                } else {
+                    addSamples(families, series, read.getValue(), read.getKey(), value);
+                }
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (MetricFamily family : families.values()) {
+                family.write(sb);
+            }
+            sb.append("# EOF\n");
+            return sb.toString();
+        }
+
+        private static void addSamples(Map<String, MetricFamily> families, Set<String> series, List<Handle> handles, PathAddress address, ModelNode resource) {
+            if (!resource.isDefined()) {
+                return;
+            }
+            for (Handle handle : handles) {
+                // the first element of the read address is a wildcard, so the resource may belong to another registration
+                if (matches(handle.address, address)) {
+                    addSample(families, series, handle, address, resource.get(handle.attribute));
+                }
+            }
+        }
+
+        private static boolean matches(final PathAddress pattern, final PathAddress address) {
+            if (pattern.size() != address.size()) {
+                return false;
+            }
+            for (int i = 0; i < pattern.size(); i++) {
+                final PathElement element = pattern.getElement(i);
+                final PathElement other = address.getElement(i);
+                if (!element.getKey().equals(other.getKey()) || !(element.isWildcard() || element.getValue().equals(other.getValue()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void addSample(Map<String, MetricFamily> families, Set<String> series, Handle handle, PathAddress address, ModelNode value) {
+            if (!value.isDefined()) {
+                return;
+            }
+            final StringBuilder labels = new StringBuilder();
+            final String name = metricName(handle.attribute, address, labels);
+            // wildcard and specific registrations may resolve to the same resource
+            if (!series.add(name + labels)) {
+                return;
+            }
+            families.computeIfAbsent(name, n -> new MetricFamily(n, handle.description))
+                    .samples.add(labels + " " + formatValue(value));
+        }
+    }
+
+    private static final class CallerRoles {
+        private final long created = System.nanoTime();
+        private final Set<String> roles;
+
+        private CallerRoles(Set<String> roles) {
+            this.roles = roles;
+        }
+    }
+
+    private static final class Handle {
+        private final PathAddress address;
+        private final String attribute;
+        private final String description;
+
+        private Handle(PathAddress address, String attribute, String description) {
+            this.address = address;
+            this.attribute = attribute;
+            this.description = description;
+        }
+    }
+
+    private static final class MetricFamily {
+        private final String name;
+        private final String help;
+        private final List<String> samples = new ArrayList<>();
+
+        private MetricFamily(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        private void write(StringBuilder sb) {
+            sb.append("# TYPE ").append(name).append(" unknown\n");
+            if (!help.isEmpty()) {
+                sb.append("# HELP ").append(name).append(' ').append(escape(help, false)).append('\n');
+            }
+            for (String sample : samples) {
+                sb.append(name).append(sample).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Computes the name of the metric for the attribute of a resource and its labels.
+     * The name of the subsystem (if any) is part of the metric name, every other element of the address is a label.
+     */
+    static String metricName(final String attribute, final PathAddress address, final StringBuilder labels) {
+        final StringBuilder name = new StringBuilder(PREFIX);
+        int first = 0;
+        if (address.size() > 0 && SUBSYSTEM.equals(address.getElement(0).getKey())) {
+            name.append('_').append(sanitize(address.getElement(0).getValue()));
+            first = 1;
+        }
+        name.append('_').append(sanitize(attribute));
+
+        if (address.size() > first) {
+            labels.append('{');
+            for (int i = first; i < address.size(); i++) {
+                if (i > first) {
+                    labels.append(',');
+                }
+                final PathElement element = address.getElement(i);
+                labels.append(sanitize(element.getKey())).append("=\"").append(escape(element.getValue(), true)).append('"');
+            }
+            labels.append('}');
+        }
+        return name.toString();
+    }
+
+    private static String sanitize(final String name) {
+        final StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_') {
+                sb.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                // camelCase attribute names are converted to snake_case
+                if (i > 0 && sb.length() > 0 && sb.charAt(sb.length() - 1) != '_') {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append('_');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escape(final String value, final boolean label) {
+        final StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '\\') {
+                sb.append("\\\\");
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else if (c == '"' && label) {
+                sb.append("\\\"");
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String formatValue(final ModelNode value) {
+        switch (value.getType()) {
+            case DOUBLE:
+                return Double.toString(value.asDouble());
+            default:
+                return value.asString();
+        }
+    }
+
+    private static boolean isNumeric(final ModelNode type) {
+        if (!type.isDefined()) {
+            return false;
+        }
+        switch (type.asType()) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
+import static org.jboss.as.domain.management.ModelDescriptionConstants.MAPPED_ROLES;
+import static org.jboss.as.domain.management.ModelDescriptionConstants.WHOAMI;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.CompositeOperationHandler;
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.persistence.NullConfigurationPersister;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+import org.junit.Test;
+import org.wildfly.security.auth.server.SecurityDomain;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.auth.server.SecurityRealm;
+
+public class OpenMetricsHandlerTestCase {
+
+    @Test
+    public void testSubsystemMetricName() {
+        StringBuilder labels = new StringBuilder();
+        String name = OpenMetricsHandler.metricName("busy-task-thread-count",
+                PathAddress.pathAddress("subsystem", "io").append("worker", "default"), labels);
+        assertEquals("wildfly_io_busy_task_thread_count", name);
+        assertEquals("{worker=\"default\"}", labels.toString());
+    }
+
+    @Test
+    public void testCoreMetricName() {
+        StringBuilder labels = new StringBuilder();
+        String name = OpenMetricsHandler.metricName("threadCount",
+                PathAddress.pathAddress("core-service", "platform-mbean").append("type", "threading"), labels);
+        assertEquals("wildfly_thread_count", name);
+        assertEquals("{core_service=\"platform-mbean\",type=\"threading\"}", labels.toString());
+    }
+
+    @Test
+    public void testLabelValueEscaping() {
+        StringBuilder labels = new StringBuilder();
+        OpenMetricsHandler.metricName("count", PathAddress.pathAddress("subsystem", "foo").append("bar", "a\"b\\c"), labels);
+        assertEquals("{bar=\"a\\\"b\\\\c\"}", labels.toString());
+    }
+
+    @Test
+    public void testHandlesPerCallerRoles() {
+        final RoleFilteringController controller = new RoleFilteringController();
+        final OpenMetricsHandler handler = new OpenMetricsHandler(controller, null);
+        final SecurityDomain domain = SecurityDomain.builder()
+                .addRealm("default", SecurityRealm.EMPTY_REALM).build()
+                .setDefaultRealmName("default")
+                .build();
+        final SecurityIdentity monitor = domain.createAdHocIdentity("monitor");
+        final SecurityIdentity admin = domain.createAdHocIdentity("admin");
+
+        controller.role = "Monitor";
+        final OpenMetricsHandler.Handles monitorHandles = handler.getHandles(monitor);
+        assertEquals(1, monitorHandles.size());
+
+        // a caller with other roles must not reuse the handles built from the description the first caller could read
+        controller.role = "SuperUser";
+        final OpenMetricsHandler.Handles superUserHandles = handler.getHandles(admin);
+        assertEquals(2, superUserHandles.size());
+
+        // the roles of a known identity are not read again
+        assertSame(monitorHandles, handler.getHandles(domain.createAdHocIdentity("monitor")));
+        assertEquals(2, controller.descriptionReads.get());
+        assertEquals(2, controller.whoamiReads.get());
+    }
+
+    @Test
+    public void testScrapeSkipsMissingResources() throws Exception {
+        final ServiceContainer container = ServiceContainer.Factory.create("test");
+        try {
+            final MetricsControllerService service = new MetricsControllerService();
+            container.subTarget().addService(ServiceName.of("ModelController")).setInstance(service).install();
+            service.awaitStartup(30, TimeUnit.SECONDS);
+
+            final String body = new OpenMetricsHandler(service.getValue(), null).scrape(null);
+            assertTrue(body, body.contains("\nwildfly_test_count 42\n"));
+            assertTrue(body, body.contains("\nwildfly_test_busy{worker=\"a\"} 1\n"));
+            assertTrue(body, body.contains("\nwildfly_test_busy{worker=\"b\"} 1\n"));
+            // the registrations of resources that do not exist, and a metric that can not be read, are skipped
+            assertFalse(body, body.contains("wildfly_test_size"));
+            assertFalse(body, body.contains("wildfly_missing_count"));
+            assertFalse(body, body.contains("wildfly_test_failing"));
+            assertTrue(body, body.endsWith("# EOF\n"));
+        } finally {
+            container.shutdown();
+            container.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Registers metrics on {@code subsystem=test}, {@code subsystem=test/worker=*}, {@code subsystem=test/pool=default}
+     * and {@code subsystem=missing}, with only the resources {@code subsystem=test/worker=a} and
+     * {@code subsystem=test/worker=b} and their parent.
+     */
+    private static final class MetricsControllerService extends TestModelControllerService {
+
+        MetricsControllerService() {
+            super(ProcessType.EMBEDDED_SERVER, new NullConfigurationPersister(), new ControlledProcessState(true));
+        }
+
+        @Override
+        protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+            final ManagementResourceRegistration root = managementModel.getRootResourceRegistration();
+            GlobalOperationHandlers.registerGlobalOperations(root, ProcessType.EMBEDDED_SERVER);
+            root.registerOperationHandler(CompositeOperationHandler.DEFINITION, CompositeOperationHandler.INSTANCE);
+
+            final ManagementResourceRegistration test = root.registerSubModel(resource(PathElement.pathElement(SUBSYSTEM, "test")));
+            test.registerMetric(metric("count"), (context, operation) -> context.getResult().set(42L));
+            final ManagementResourceRegistration worker = test.registerSubModel(resource(PathElement.pathElement("worker")));
+            worker.registerMetric(metric("busy"), (context, operation) -> context.getResult().set(1L));
+            worker.registerMetric(metric("failing"), (context, operation) -> context.addStep((ctx, op) -> {
+                throw new OperationFailedException("unavailable");
+            }, OperationContext.Stage.RUNTIME));
+            test.registerSubModel(resource(PathElement.pathElement("pool", "default")))
+                    .registerMetric(metric("size"), (context, operation) -> context.getResult().set(1L));
+            root.registerSubModel(resource(PathElement.pathElement(SUBSYSTEM, "missing")))
+                    .registerMetric(metric("count"), (context, operation) -> context.getResult().set(1L));
+
+            final Resource subsystem = Resource.Factory.create();
+            subsystem.registerChild(PathElement.pathElement("worker", "a"), Resource.Factory.create());
+            subsystem.registerChild(PathElement.pathElement("worker", "b"), Resource.Factory.create());
+            managementModel.getRootResource().registerChild(PathElement.pathElement(SUBSYSTEM, "test"), subsystem);
+        }
+
+        private static SimpleResourceDefinition resource(PathElement path) {
+            return new SimpleResourceDefinition(new SimpleResourceDefinition.Parameters(path, NonResolvingResourceDescriptionResolver.INSTANCE));
+        }
+
+        private static AttributeDefinition metric(String name) {
+            return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG).setStorageRuntime().build();
+        }
+    }
+
+    /**
+     * Answers whoami with the current role and hides one of the two metrics from the Monitor role.
+     */
+    private static final class RoleFilteringController implements ModelController {
+
+        private final AtomicInteger descriptionReads = new AtomicInteger();
+        private final AtomicInteger whoamiReads = new AtomicInteger();
+        private volatile String role;
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+            final ModelNode response = new ModelNode();
+            response.get(OUTCOME).set(SUCCESS);
+            final String name = operation.get(OP).asString();
+            if (WHOAMI.equals(name)) {
+                whoamiReads.incrementAndGet();
+                response.get(RESULT, MAPPED_ROLES).add(role);
+            } else if (READ_RESOURCE_DESCRIPTION_OPERATION.equals(name)) {
+                descriptionReads.incrementAndGet();
+                final ModelNode attributes = response.get(RESULT, ATTRIBUTES);
+                attributes.get("public-count", ACCESS_TYPE).set("metric");
+                attributes.get("public-count", TYPE).set(ModelType.LONG);
+                if ("SuperUser".equals(role)) {
+                    attributes.get("sensitive-count", ACCESS_TYPE).set("metric");
+                    attributes.get("sensitive-count", TYPE).set(ModelType.LONG);
+                }
+            }
+            return response;
+        }
+
+        @Override
+        public OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ModelControllerClient createClient(Executor executor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NotificationHandlerRegistration getNotificationRegistry() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -25,17 +25,35 @@ package org.jboss.as.domain.management.controller;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_COMPLETE_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_BEGUN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_COMPLETE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ManagementOperationStatistics;
 import org.jboss.as.controller.NotificationDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.notification.NotificationDeliveryStatistics;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.as.controller.registry.ResourceDescriptionCache;
+import org.jboss.as.controller.remote.ManagementRequestExecutors;
 import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
 
 /**
  * {@code ResourceDefinition} for the management of operation execution.
@@ -52,6 +70,51 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
     private static final NotificationDefinition NOTIFICATION_COMPLETE_RUNTIME_MODIFICATION = NotificationDefinition.Builder.create(RUNTIME_MODIFICATION_COMPLETE, RESOLVER).build();
     private static final NotificationDefinition NOTIFICATION_BOOT_COMPLETE = NotificationDefinition.Builder.create(BOOT_COMPLETE_NOTIFICATION, RESOLVER).build();
 
+    private static final AttributeDefinition DESCRIPTION_CACHE_SIZE = SimpleAttributeDefinitionBuilder.create("description-cache-size", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition DESCRIPTION_CACHE_HIT_COUNT = SimpleAttributeDefinitionBuilder.create("description-cache-hit-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition DESCRIPTION_CACHE_MISS_COUNT = SimpleAttributeDefinitionBuilder.create("description-cache-miss-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition QUEUED_NOTIFICATION_COUNT = SimpleAttributeDefinitionBuilder.create("queued-notification-count", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition DROPPED_NOTIFICATION_COUNT = SimpleAttributeDefinitionBuilder.create("dropped-notification-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition COALESCED_NOTIFICATION_COUNT = SimpleAttributeDefinitionBuilder.create("coalesced-notification-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition EXCLUSIVE_LOCK_WAIT_COUNT = SimpleAttributeDefinitionBuilder.create("exclusive-lock-wait-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition EXCLUSIVE_LOCK_WAIT_TIME = SimpleAttributeDefinitionBuilder.create("exclusive-lock-wait-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition EXCLUSIVE_LOCK_HOLDER = SimpleAttributeDefinitionBuilder.create("exclusive-lock-holder", ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition IN_FLIGHT_HTTP_REQUESTS = SimpleAttributeDefinitionBuilder.create("in-flight-http-requests", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition IN_FLIGHT_NATIVE_REQUESTS = SimpleAttributeDefinitionBuilder.create("in-flight-native-requests", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
     public static final ResourceDefinition INSTANCE = new ManagementControllerResourceDefinition();
 
     private ManagementControllerResourceDefinition() {
@@ -60,11 +123,29 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         );
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(DESCRIPTION_CACHE_SIZE, DescriptionCacheMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(DESCRIPTION_CACHE_HIT_COUNT, DescriptionCacheMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(DESCRIPTION_CACHE_MISS_COUNT, DescriptionCacheMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(QUEUED_NOTIFICATION_COUNT, NotificationMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(DROPPED_NOTIFICATION_COUNT, NotificationMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(COALESCED_NOTIFICATION_COUNT, NotificationMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(EXCLUSIVE_LOCK_WAIT_COUNT, ExclusiveLockMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(EXCLUSIVE_LOCK_WAIT_TIME, ExclusiveLockMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(EXCLUSIVE_LOCK_HOLDER, ExclusiveLockMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(IN_FLIGHT_HTTP_REQUESTS, RequestExecutionMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(IN_FLIGHT_NATIVE_REQUESTS, RequestExecutionMetricsHandler.INSTANCE);
+    }
+
     @Override
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(FindNonProgressingOperationHandler.DEFINITION, FindNonProgressingOperationHandler.INSTANCE);
         resourceRegistration.registerOperationHandler(CancelNonProgressingOperationHandler.DEFINITION, CancelNonProgressingOperationHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(ReadOperationStatisticsHandler.DEFINITION, ReadOperationStatisticsHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(ResetOperationStatisticsHandler.DEFINITION, ResetOperationStatisticsHandler.INSTANCE);
     }
 
     @Override
@@ -80,4 +161,109 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         super.registerChildren(resourceRegistration);
         resourceRegistration.registerSubModel(ActiveOperationResourceDefinition.INSTANCE);
     }
+
+    /**
+     * Reads the statistics of the {@link ResourceDescriptionCache} of the process' resource registration tree.
+     */
+    private static class DescriptionCacheMetricsHandler implements OperationStepHandler {
+
+        private static final DescriptionCacheMetricsHandler INSTANCE = new DescriptionCacheMetricsHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ResourceDescriptionCache cache = ResourceDescriptionCache.forRegistration(context.getRootResourceRegistration());
+            if (cache == null) {
+                return;
+            }
+            final String attributeName = operation.require(NAME).asString();
+            final ModelNode result = context.getResult();
+            if (DESCRIPTION_CACHE_SIZE.getName().equals(attributeName)) {
+                result.set(cache.getSize());
+            } else if (DESCRIPTION_CACHE_HIT_COUNT.getName().equals(attributeName)) {
+                result.set(cache.getHitCount());
+            } else if (DESCRIPTION_CACHE_MISS_COUNT.getName().equals(attributeName)) {
+                result.set(cache.getMissCount());
+            }
+        }
+    }
+
+    /**
+     * Reads the statistics of the delivery of the notifications emitted by the process' management resources.
+     */
+    private static class NotificationMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        private static final NotificationMetricsHandler INSTANCE = new NotificationMetricsHandler();
+
+        private static final String NOTIFICATION_REGISTRY_CAPABILITY = "org.wildfly.management.notification-handler-registry";
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ServiceName name = context.getCapabilityServiceName(NOTIFICATION_REGISTRY_CAPABILITY, NotificationHandlerRegistry.class);
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(name);
+            final Object registry = controller == null ? null : controller.getValue();
+            if (!(registry instanceof NotificationHandlerRegistration)) {
+                return;
+            }
+            final NotificationDeliveryStatistics statistics = ((NotificationHandlerRegistration) registry).getDeliveryStatistics();
+            if (statistics == null) {
+                return;
+            }
+            final String attributeName = operation.require(NAME).asString();
+            final ModelNode result = context.getResult();
+            if (QUEUED_NOTIFICATION_COUNT.getName().equals(attributeName)) {
+                result.set(statistics.getQueuedCount());
+            } else if (DROPPED_NOTIFICATION_COUNT.getName().equals(attributeName)) {
+                result.set(statistics.getDroppedCount());
+            } else if (COALESCED_NOTIFICATION_COUNT.getName().equals(attributeName)) {
+                result.set(statistics.getCoalescedCount());
+            }
+        }
+    }
+
+    /**
+     * Reads the contention statistics of the exclusive lock taken by operations that modify the model or the runtime.
+     */
+    private static class ExclusiveLockMetricsHandler implements OperationStepHandler {
+
+        private static final ExclusiveLockMetricsHandler INSTANCE = new ExclusiveLockMetricsHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ManagementOperationStatistics statistics = ManagementOperationStatistics.forContext(context);
+            if (statistics == null) {
+                return;
+            }
+            final String attributeName = operation.require(NAME).asString();
+            final ModelNode result = context.getResult();
+            if (EXCLUSIVE_LOCK_WAIT_COUNT.getName().equals(attributeName)) {
+                result.set(statistics.getExclusiveLockWaitCount());
+            } else if (EXCLUSIVE_LOCK_WAIT_TIME.getName().equals(attributeName)) {
+                result.set(statistics.getExclusiveLockWaitTime());
+            } else if (EXCLUSIVE_LOCK_HOLDER.getName().equals(attributeName)) {
+                final Integer holder = statistics.getExclusiveLockHolder();
+                if (holder != null) {
+                    result.set(holder);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the number of management requests in flight over the HTTP and native management interfaces.
+     */
+    private static class RequestExecutionMetricsHandler implements OperationStepHandler {
+
+        private static final RequestExecutionMetricsHandler INSTANCE = new RequestExecutionMetricsHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(NAME).asString();
+            final ModelNode result = context.getResult();
+            if (IN_FLIGHT_HTTP_REQUESTS.getName().equals(attributeName)) {
+                result.set(ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.HTTP));
+            } else if (IN_FLIGHT_NATIVE_REQUESTS.getName().equals(attributeName)) {
+                result.set(ManagementRequestExecutors.getInFlightCount(ManagementRequestExecutors.Interface.NATIVE));
+            }
+        }
+    }
 }
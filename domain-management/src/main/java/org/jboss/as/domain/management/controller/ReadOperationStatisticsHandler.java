@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.domain.management.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ManagementOperationStatistics;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.management.AuthorizedAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * {@link OperationStepHandler} that returns the count, latency, lock wait time and per-stage time of the management
+ * operations executed by the process, grouped by operation name or by the address pattern of the target resource.
+ * Like the 'operation' and 'address' of an active operation, the operation names and addresses are elided if the
+ * caller does not have rights to address the operation's target.
+ */
+public class ReadOperationStatisticsHandler implements OperationStepHandler {
+
+    private static final String OPERATION = "operation";
+    private static final String ADDRESS = "address";
+
+    private static final AttributeDefinition GROUP_BY = SimpleAttributeDefinitionBuilder.create("group-by", ModelType.STRING)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(OPERATION))
+            .setAllowedValues(OPERATION, ADDRESS)
+            .setValidator(new StringAllowedValuesValidator(OPERATION, ADDRESS))
+            .build();
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder("read-operation-statistics",
+            DomainManagementResolver.getResolver(CORE, MANAGEMENT_OPERATIONS))
+            .setParameters(GROUP_BY)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    static final OperationStepHandler INSTANCE = new ReadOperationStatisticsHandler();
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String groupBy = GROUP_BY.resolveModelAttribute(context, operation).asString();
+        final ManagementOperationStatistics statistics = ManagementOperationStatistics.forContext(context);
+        if (statistics != null) {
+            final Map<PathAddress, AuthorizedAddress> authorized = new HashMap<>();
+            final Function<PathAddress, AuthorizedAddress> authorizer = address -> authorized.computeIfAbsent(address,
+                    a -> AuthorizedAddress.authorizeAddress(context, Util.createEmptyOperation(READ_RESOURCE_OPERATION, a)));
+            context.getResult().set(ADDRESS.equals(groupBy) ? statistics.getAddressStatistics(authorizer) : statistics.getOperationStatistics(authorizer));
+        } else {
+            context.getResult().setEmptyObject();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP_SCOPED_ROLE;
 import static org.jboss.as.controller.parsing.ParseUtils.isNoNamespaceAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.missingRequiredElement;
+import static org.jboss.as.controller.parsing.ParseUtils.parsePossibleExpression;
 import static org.jboss.as.controller.parsing.ParseUtils.requireNamespace;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedElement;
@@ -53,6 +54,7 @@ import javax.xml.stream.XMLStreamException;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.parsing.Attribute;
 import org.jboss.as.controller.parsing.Element;
@@ -92,6 +94,9 @@ final class ManagementXml_18 implements ManagementXml {
         int managementInterfacesCount = 0;
 
         final ModelNode managementAddress = address.clone().add(CORE_SERVICE, MANAGEMENT);
+        if (!domainConfiguration && namespace.getMajorVersion() >= 19) {
+            parseManagementAttributes(reader, managementAddress, list);
+        }
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             requireNamespace(reader, namespace);
             final Element element = Element.forName(reader.getLocalName());
@@ -150,6 +155,32 @@ final class ManagementXml_18 implements ManagementXml {
         }
     }
 
+    private void parseManagementAttributes(final XMLExtendedStreamReader reader, final ModelNode address,
+                                           final List<ModelNode> list) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            final String value = reader.getAttributeValue(i);
+            if (!isNoNamespaceAttribute(reader, i)) {
+                throw unexpectedAttribute(reader, i);
+            } else {
+                final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+                switch (attribute) {
+                    case VIRTUAL_THREADS: {
+                        list.add(Util.getWriteAttributeOperation(address, ManagementRequestExecution.VIRTUAL_THREADS.getName(), value));
+                        break;
+                    }
+                    case MAX_VIRTUAL_THREAD_REQUESTS: {
+                        list.add(Util.getWriteAttributeOperation(address, ManagementRequestExecution.MAX_VIRTUAL_THREAD_REQUESTS.getName(), parsePossibleExpression(value)));
+                        break;
+                    }
+                    default: {
+                        throw unexpectedAttribute(reader, i);
+                    }
+                }
+            }
+        }
+    }
+
     private void parseConfigurationChanges(final XMLExtendedStreamReader reader, final ModelNode address,
                                           final List<ModelNode> list) throws XMLStreamException {
         PathAddress operationAddress = PathAddress.pathAddress(address);
@@ -226,14 +257,18 @@ final class ManagementXml_18 implements ManagementXml {
         boolean hasCombinationPolicy = accessAuthorizationDefined && accessAuthorization.hasDefined(AccessAuthorizationResourceDefinition.PERMISSION_COMBINATION_POLICY.getName());
         ModelNode auditLog = management.hasDefined(ACCESS) ? management.get(ACCESS, AUDIT) : new ModelNode();
         ModelNode identity = management.hasDefined(ACCESS) ? management.get(ACCESS, IDENTITY) : new ModelNode();
+        boolean hasRequestExecution = ManagementRequestExecution.VIRTUAL_THREADS.isMarshallable(management)
+                || ManagementRequestExecution.MAX_VIRTUAL_THREAD_REQUESTS.isMarshallable(management);
 
-        if (!hasInterface && !hasServerGroupRoles
+        if (!hasInterface && !hasRequestExecution && !hasServerGroupRoles
               && !hasHostRoles && !hasRoleMapping && configuredAccessConstraints.size() == 0
                 && !hasProvider && !hasCombinationPolicy && !auditLog.isDefined() && !identity.isDefined()) {
             return;
         }
 
         writer.writeStartElement(Element.MANAGEMENT.getLocalName());
+        ManagementRequestExecution.VIRTUAL_THREADS.marshallAsAttribute(management, writer);
+        ManagementRequestExecution.MAX_VIRTUAL_THREAD_REQUESTS.marshallAsAttribute(management, writer);
 
 
 
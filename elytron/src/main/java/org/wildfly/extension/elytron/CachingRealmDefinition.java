@@ -21,6 +21,10 @@ import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_CAPABILI
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
 import static org.wildfly.extension.elytron.ElytronExtension.getRequiredService;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
@@ -36,6 +40,7 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -48,15 +53,16 @@ import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
 import org.wildfly.extension.elytron._private.ElytronSubsystemMessages;
 import org.wildfly.security.auth.realm.CacheableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingModifiableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingSecurityRealm;
 import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
 import org.wildfly.security.auth.server.SecurityRealm;
-import org.wildfly.security.cache.LRURealmIdentityCache;
-import org.wildfly.security.cache.RealmIdentityCache;
 
 /**
  * A {@link ResourceDefinition} for a {@link SecurityRealm} which enables caching to another realm.
@@ -87,6 +93,25 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE};
 
+    // Runtime Attributes
+
+    static final SimpleAttributeDefinition HIT_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.HIT_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition MISS_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MISS_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition EVICTION_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.EVICTION_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AVERAGE_LOAD_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_LOAD_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -105,6 +130,40 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition current : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(current, null, write);
         }
+
+        if (isServerOrHostController(resourceRegistration)) {
+            resourceRegistration.registerReadOnlyAttribute(HIT_COUNT, new CacheRuntimeOnlyHandler() {
+
+                @Override
+                protected void performRuntime(ModelNode result, ConcurrentRealmIdentityCache cache) {
+                    result.set(cache.getHitCount());
+                }
+            });
+
+            resourceRegistration.registerReadOnlyAttribute(MISS_COUNT, new CacheRuntimeOnlyHandler() {
+
+                @Override
+                protected void performRuntime(ModelNode result, ConcurrentRealmIdentityCache cache) {
+                    result.set(cache.getMissCount());
+                }
+            });
+
+            resourceRegistration.registerReadOnlyAttribute(EVICTION_COUNT, new CacheRuntimeOnlyHandler() {
+
+                @Override
+                protected void performRuntime(ModelNode result, ConcurrentRealmIdentityCache cache) {
+                    result.set(cache.getEvictionCount());
+                }
+            });
+
+            resourceRegistration.registerReadOnlyAttribute(AVERAGE_LOAD_TIME, new CacheRuntimeOnlyHandler() {
+
+                @Override
+                protected void performRuntime(ModelNode result, ConcurrentRealmIdentityCache cache) {
+                    result.set(TimeUnit.NANOSECONDS.toMicros(cache.getAverageLoadTime()));
+                }
+            });
+        }
     }
 
     @Override
@@ -127,7 +186,7 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             ServiceName realmName = runtimeCapability.getCapabilityServiceName(SecurityRealm.class);
             String cacheableRealm = REALM_NAME.resolveModelAttribute(context, model).asString();
             int maxEntries = MAXIMUM_ENTRIES.resolveModelAttribute(context, model).asInt();
-            long maxAge = MAXIMUM_AGE.resolveModelAttribute(context, model).asInt();
+            long maxAge = MAXIMUM_AGE.resolveModelAttribute(context, model).asLong();
             InjectedValue<SecurityRealm> cacheableRealmValue = new InjectedValue<>();
             ServiceBuilder<SecurityRealm> serviceBuilder = serviceTarget.addService(realmName, createService(cacheableRealm, maxEntries, maxAge, cacheableRealmValue));
 
@@ -136,28 +195,44 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
         }
 
         private TrivialService<SecurityRealm> createService(String realmName, int maxEntries, long maxAge, InjectedValue<SecurityRealm> injector) {
-            return new TrivialService<>((TrivialService.ValueSupplier<SecurityRealm>) () -> {
-                SecurityRealm securityRealm = injector.getValue();
+            return new TrivialService<>(new TrivialService.ValueSupplier<SecurityRealm>() {
+
+                private volatile ConcurrentRealmIdentityCache cache;
+
+                @Override
+                public SecurityRealm get() throws StartException {
+                    SecurityRealm securityRealm = injector.getValue();
 
-                if (securityRealm instanceof CacheableSecurityRealm) {
-                    RealmIdentityCache cache = createRealmIdentityCache(maxEntries, maxAge);
-                    CacheableSecurityRealm cacheableRealm = CacheableSecurityRealm.class.cast(securityRealm);
+                    if (securityRealm instanceof CacheableSecurityRealm) {
+                        ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(maxEntries, maxAge);
+                        CacheableSecurityRealm cacheableRealm = CacheableSecurityRealm.class.cast(securityRealm);
+                        CachingSecurityRealm cachingRealm;
 
-                    if (securityRealm instanceof ModifiableSecurityRealm) {
-                        return new CachingModifiableSecurityRealm(cacheableRealm, cache);
+                        if (securityRealm instanceof ModifiableSecurityRealm) {
+                            cachingRealm = new ObservableCachingModifiableSecurityRealm(cacheableRealm, cache);
+                        } else {
+                            cachingRealm = new ObservableCachingSecurityRealm(cacheableRealm, cache);
+                        }
+                        // Reloading through the caching realm puts the reloaded identity in the cache
+                        cache.setLoader(cachingRealm::getRealmIdentity);
+                        this.cache = cache;
+                        return cachingRealm;
                     }
 
-                    return new CachingSecurityRealm(cacheableRealm, cache);
+                    throw ElytronSubsystemMessages.ROOT_LOGGER.realmDoesNotSupportCache(realmName);
                 }
 
-                throw ElytronSubsystemMessages.ROOT_LOGGER.realmDoesNotSupportCache(realmName);
+                @Override
+                public void dispose() {
+                    ConcurrentRealmIdentityCache cache = this.cache;
+                    if (cache != null) {
+                        cache.dispose();
+                        this.cache = null;
+                    }
+                }
             });
         }
 
-        private LRURealmIdentityCache createRealmIdentityCache(int maxEntries, long maxAge) {
-            return new LRURealmIdentityCache(maxEntries, maxAge);
-        }
-
         private void addRealmDependency(OperationContext context, ServiceBuilder<SecurityRealm> serviceBuilder, String realmName, Injector<SecurityRealm> securityRealmInjector) {
             String runtimeCapability = RuntimeCapability.buildDynamicCapabilityName(SECURITY_REALM_CAPABILITY, realmName);
             ServiceName realmServiceName = context.getCapabilityServiceName(runtimeCapability, SecurityRealm.class);
@@ -166,6 +241,79 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     }
 
+    /**
+     * Provides access to the cache of a caching realm for the runtime attributes.
+     */
+    private interface ObservableCache {
+
+        ConcurrentRealmIdentityCache getCache();
+    }
+
+    private static class ObservableCachingSecurityRealm extends CachingSecurityRealm implements ObservableCache {
+
+        private final ConcurrentRealmIdentityCache cache;
+
+        ObservableCachingSecurityRealm(CacheableSecurityRealm realm, ConcurrentRealmIdentityCache cache) {
+            super(realm, cache);
+            this.cache = cache;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return super.getRealmIdentity(principal);
+            } finally {
+                cache.loadCompleted(start);
+            }
+        }
+
+        @Override
+        public ConcurrentRealmIdentityCache getCache() {
+            return cache;
+        }
+    }
+
+    private static class ObservableCachingModifiableSecurityRealm extends CachingModifiableSecurityRealm implements ObservableCache {
+
+        private final ConcurrentRealmIdentityCache cache;
+
+        ObservableCachingModifiableSecurityRealm(CacheableSecurityRealm realm, ConcurrentRealmIdentityCache cache) {
+            super(realm, cache);
+            this.cache = cache;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return super.getRealmIdentity(principal);
+            } finally {
+                cache.loadCompleted(start);
+            }
+        }
+
+        @Override
+        public ConcurrentRealmIdentityCache getCache() {
+            return cache;
+        }
+    }
+
+    private abstract static class CacheRuntimeOnlyHandler extends ElytronRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            ServiceName realmName = SECURITY_REALM_RUNTIME_CAPABILITY.fromBaseCapability(context.getCurrentAddressValue()).getCapabilityServiceName();
+            ServiceController<?> serviceController = context.getServiceRegistry(false).getService(realmName);
+            Object realm = serviceController == null ? null : serviceController.getValue();
+            if (realm instanceof ObservableCache) {
+                performRuntime(context.getResult(), ((ObservableCache) realm).getCache());
+            }
+        }
+
+        protected abstract void performRuntime(ModelNode result, ConcurrentRealmIdentityCache cache);
+    }
+
     private static class ClearCacheHandler extends ElytronRuntimeOnlyHandler {
 
         static void register(ManagementResourceRegistration resourceRegistration, ResourceDescriptionResolver descriptionResolver) {
@@ -0,0 +1,360 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.cache.RealmIdentityCache;
+
+/**
+ * A {@link RealmIdentityCache} split into LRU segments, each guarded by its own lock, so concurrent lookups of
+ * different identities do not contend.
+ * <p>
+ * Like the {@link org.wildfly.security.cache.LRURealmIdentityCache} an identity can also be found by its realm
+ * identity principal and is removed once older than the maximum age. If a {@linkplain #setLoader(Loader) loader} is
+ * set, an identity read after most of its maximum age has passed is reloaded in the background so it is replaced
+ * before it expires.
+ * </p>
+ */
+final class ConcurrentRealmIdentityCache implements RealmIdentityCache {
+
+    // The smallest number of entries in a segment, small caches use fewer segments
+    private static final int MIN_SEGMENT_ENTRIES = 8;
+
+    private final Segment[] segments;
+    private final int mask;
+    private final ConcurrentMap<Principal, Set<Principal>> domainPrincipals = new ConcurrentHashMap<>();
+    private final long maxAge;
+    private final long refreshAge;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    // Set while the caching realm loads an identity the current thread missed, cleared by loadCompleted
+    private final ThreadLocal<Boolean> loading = new ThreadLocal<>();
+    // The principal reloaded by the current thread, the cached identity is ignored while reloading
+    private final ThreadLocal<Principal> reloading = new ThreadLocal<>();
+    private volatile Loader loader;
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries the maximum number of entries
+     * @param maxAge     the time, in milliseconds, an entry stays in the cache, {@code -1} to keep the entries until
+     *                   they are evicted
+     */
+    ConcurrentRealmIdentityCache(final int maxEntries, final long maxAge) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        final int target = Math.min(Runtime.getRuntime().availableProcessors() * 2, maxEntries / MIN_SEGMENT_ENTRIES);
+        int count = 1;
+        while (count * 2 <= target) {
+            count <<= 1;
+        }
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // Spread the remainder so the segments add up to the maximum entries
+            segments[i] = new Segment(maxEntries / count + (i < maxEntries % count ? 1 : 0));
+        }
+        mask = count - 1;
+        this.maxAge = maxAge < 0L ? -1L : TimeUnit.MILLISECONDS.toNanos(maxAge);
+        // Reload once 80% of the maximum age has passed
+        refreshAge = this.maxAge - this.maxAge / 5L;
+    }
+
+    /**
+     * Sets the loader used to reload identities before they expire.
+     *
+     * @param loader the loader or {@code null} to not reload identities
+     */
+    void setLoader(final Loader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public void put(final Principal key, final RealmIdentity newValue) {
+        final Entry entry = new Entry(key, newValue, System.nanoTime());
+        // Map the realm identity principal first so an eviction of the new entry also removes the mapping
+        if (entry.domainPrincipal != null) {
+            domainPrincipals.computeIfAbsent(entry.domainPrincipal, p -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        final Entry previous = segmentFor(key).put(entry);
+        if (previous != null && previous.domainPrincipal != null && !previous.domainPrincipal.equals(entry.domainPrincipal)) {
+            unmapDomainPrincipal(previous);
+        }
+    }
+
+    @Override
+    public RealmIdentity get(final Principal key) {
+        if (key.equals(reloading.get())) {
+            return null;
+        }
+        Entry entry = segmentFor(key).get(key);
+        if (entry == null) {
+            final Set<Principal> keys = domainPrincipals.get(key);
+            if (keys != null) {
+                for (Principal current : keys) {
+                    entry = segmentFor(current).get(current);
+                    if (entry != null) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (entry != null) {
+            final long age = System.nanoTime() - entry.created;
+            if (maxAge < 0L || age <= maxAge) {
+                hits.increment();
+                if (maxAge > 0L && age >= refreshAge) {
+                    reload(entry);
+                }
+                return entry.identity;
+            }
+            removeExpired(entry);
+        }
+        misses.increment();
+        loading.set(Boolean.TRUE);
+        return null;
+    }
+
+    /**
+     * Called by the caching realm once it has looked up an identity, whether it was found in this cache or not. If the
+     * lookup missed, the time since {@code start} is recorded as the time taken to load the identity from the realm.
+     *
+     * @param start the {@link System#nanoTime()} at which the lookup started
+     */
+    void loadCompleted(final long start) {
+        if (loading.get() != null) {
+            loading.remove();
+            loads.increment();
+            loadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void remove(final Principal key) {
+        final Entry entry = segmentFor(key).get(key);
+        final Set<Principal> keys;
+        if (entry != null) {
+            segmentFor(key).remove(key);
+            keys = entry.domainPrincipal == null ? null : domainPrincipals.remove(entry.domainPrincipal);
+        } else {
+            keys = domainPrincipals.remove(key);
+        }
+        if (keys != null) {
+            for (Principal current : keys) {
+                segmentFor(current).remove(current);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        domainPrincipals.clear();
+    }
+
+    /**
+     * Returns the number of lookups which found a cached identity.
+     *
+     * @return the number of hits
+     */
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which did not find a cached identity, including expired identities.
+     *
+     * @return the number of misses
+     */
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of identities removed to keep the cache within its maximum entries.
+     *
+     * @return the number of evictions
+     */
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the average time the caching realm took to load an identity from the realm after a miss.
+     *
+     * @return the average load time in nanoseconds
+     */
+    long getAverageLoadTime() {
+        final long count = loads.sum();
+        return count == 0L ? 0L : loadTime.sum() / count;
+    }
+
+    /**
+     * Stops reloading identities.
+     */
+    void dispose() {
+        loader = null;
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void reload(final Entry entry) {
+        final Loader loader = this.loader;
+        if (loader == null || !entry.reloading.compareAndSet(false, true)) {
+            return;
+        }
+        getExecutor().execute(() -> {
+            reloading.set(entry.key);
+            try {
+                loader.load(entry.key);
+            } catch (RealmUnavailableException | RuntimeException e) {
+                // The identity is loaded again once it has expired
+                ROOT_LOGGER.debugf(e, "Unable to reload the cached identity '%s'", entry.key);
+            } finally {
+                reloading.remove();
+            }
+        });
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                        final Thread thread = new Thread(task, "caching-realm reload");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.allowCoreThreadTimeOut(true);
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private void removeExpired(final Entry entry) {
+        // Another thread may have put a reloaded identity in the meantime, only remove this entry
+        if (segmentFor(entry.key).remove(entry.key, entry) && entry.domainPrincipal != null) {
+            unmapDomainPrincipal(entry);
+        }
+    }
+
+    private Segment segmentFor(final Principal key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private void unmapDomainPrincipal(final Entry entry) {
+        domainPrincipals.computeIfPresent(entry.domainPrincipal, (principal, keys) -> {
+            keys.remove(entry.key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Loads an identity, expected to put it in this cache.
+     */
+    @FunctionalInterface
+    interface Loader {
+        void load(Principal principal) throws RealmUnavailableException;
+    }
+
+    private static class Entry {
+        final Principal key;
+        final RealmIdentity identity;
+        final Principal domainPrincipal;
+        final long created;
+        final AtomicBoolean reloading = new AtomicBoolean();
+
+        Entry(final Principal key, final RealmIdentity identity, final long created) {
+            this.key = key;
+            this.identity = identity;
+            this.domainPrincipal = identity.getRealmIdentityPrincipal();
+            this.created = created;
+        }
+    }
+
+    private class Segment {
+        private final Map<Principal, Entry> entries;
+
+        Segment(final int maxEntries) {
+            entries = new LinkedHashMap<Principal, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Principal, Entry> eldest) {
+                    if (size() > maxEntries) {
+                        evictions.increment();
+                        if (eldest.getValue().domainPrincipal != null) {
+                            unmapDomainPrincipal(eldest.getValue());
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Entry get(final Principal key) {
+            return entries.get(key);
+        }
+
+        synchronized Entry put(final Entry entry) {
+            return entries.put(entry.key, entry);
+        }
+
+        synchronized void remove(final Principal key) {
+            entries.remove(key);
+        }
+
+        synchronized boolean remove(final Principal key, final Entry entry) {
+            return entries.remove(key, entry);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
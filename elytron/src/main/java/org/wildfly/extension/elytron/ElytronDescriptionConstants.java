@@ -80,6 +80,7 @@ interface ElytronDescriptionConstants {
     String AUTOFLUSH = "autoflush";
     String AVAILABLE_MECHANISMS = "available-mechanisms";
 
+    String AVERAGE_LOAD_TIME = "average-load-time";
     String BASE64 = "base64";
     String BCRYPT = "bcrypt";
     String BCRYPT_MAPPER = "bcrypt-mapper";
@@ -192,6 +193,7 @@ interface ElytronDescriptionConstants {
     String ENCRYPTION = "encryption";
     String ENTRY = "entry";
     String ENTRY_TYPE = "entry-type";
+    String EVICTION_COUNT = "eviction-count";
     String EVIDENCE_DECODER = "evidence-decoder";
     String EVIDENCE_DECODERS = "evidence-decoders";
     String EXPIRATION = "expiration";
@@ -236,6 +238,7 @@ interface ElytronDescriptionConstants {
     String GROUPS_ATTRIBUTE = "groups-attribute";
     String GROUPS_PROPERTIES = "groups-properties";
 
+    String HIT_COUNT = "hit-count";
     String HOST = "host";
     String HOST_CONTEXT_MAP = "host-context-map";
     String HOST_NAME = "host-name";
@@ -349,6 +352,7 @@ interface ElytronDescriptionConstants {
     String MECHANISM_REALM_CONFIGURATIONS = "mechanism-realm-configurations";
     String MINIMUM_REMAINING_LIFETIME = "minimum-remaining-lifetime";
     String MINUS = "minus";
+    String MISS_COUNT = "miss-count";
     String MODIFIABLE = "modifiable";
     String MODIFIABLE_KEY_STORE = "modifiable-key-store";
     String MODIFIABLE_SECURITY_REALM = "modifiable-security-realm";
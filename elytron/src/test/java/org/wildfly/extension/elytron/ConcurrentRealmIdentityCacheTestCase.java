@@ -0,0 +1,185 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Tests the {@link ConcurrentRealmIdentityCache}.
+ */
+public class ConcurrentRealmIdentityCacheTestCase {
+
+    @Test
+    public void testHitAndMiss() {
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, -1L);
+        final Principal principal = new NamePrincipal("user");
+        Assert.assertNull(cache.get(principal));
+        final RealmIdentity identity = new TestRealmIdentity(principal);
+        cache.put(principal, identity);
+        Assert.assertSame(identity, cache.get(principal));
+        Assert.assertSame(identity, cache.get(principal));
+        Assert.assertEquals(2L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertTrue(cache.getAverageLoadTime() >= 0L);
+
+        cache.remove(principal);
+        Assert.assertNull(cache.get(principal));
+        Assert.assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void testLoadTime() {
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, -1L);
+        final Principal principal = new NamePrincipal("user");
+        final long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10L);
+        Assert.assertNull(cache.get(principal));
+        cache.loadCompleted(start);
+        Assert.assertTrue(cache.getAverageLoadTime() >= TimeUnit.MILLISECONDS.toNanos(10L));
+
+        // A lookup which found the identity is not a load
+        cache.put(principal, new TestRealmIdentity(principal));
+        final long average = cache.getAverageLoadTime();
+        Assert.assertNotNull(cache.get(principal));
+        cache.loadCompleted(System.nanoTime() - TimeUnit.SECONDS.toNanos(10L));
+        Assert.assertEquals(average, cache.getAverageLoadTime());
+    }
+
+    @Test
+    public void testEviction() {
+        final int maxEntries = 64;
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(maxEntries, -1L);
+        final int total = maxEntries * 16;
+        for (int i = 0; i < total; i++) {
+            final Principal principal = new NamePrincipal("user" + i);
+            cache.put(principal, new TestRealmIdentity(principal));
+        }
+        int cached = 0;
+        for (int i = 0; i < total; i++) {
+            if (cache.get(new NamePrincipal("user" + i)) != null) {
+                cached++;
+            }
+        }
+        Assert.assertEquals(maxEntries, cached);
+        Assert.assertEquals(total - maxEntries, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testRealmIdentityPrincipal() {
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, -1L);
+        final Principal alias = new NamePrincipal("alias");
+        final Principal principal = new NamePrincipal("user");
+        final RealmIdentity identity = new TestRealmIdentity(principal);
+        cache.put(alias, identity);
+        Assert.assertSame(identity, cache.get(principal));
+
+        // Removing by the realm identity principal removes every key mapped to it
+        cache.remove(principal);
+        Assert.assertNull(cache.get(alias));
+
+        cache.put(alias, identity);
+        cache.clear();
+        Assert.assertNull(cache.get(principal));
+        Assert.assertNull(cache.get(alias));
+    }
+
+    @Test
+    public void testMaximumAge() throws Exception {
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, 10L);
+        final Principal principal = new NamePrincipal("user");
+        cache.put(principal, new TestRealmIdentity(principal));
+        Thread.sleep(20L);
+        Assert.assertNull(cache.get(principal));
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        final long maxAge = 2_000L;
+        final ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, maxAge);
+        final Principal principal = new NamePrincipal("user");
+        final RealmIdentity identity = new TestRealmIdentity(principal);
+        final RealmIdentity reloaded = new TestRealmIdentity(principal);
+        final CountDownLatch loaded = new CountDownLatch(1);
+        cache.setLoader(key -> {
+            // The cached identity is ignored while it is reloaded
+            Assert.assertNull(cache.get(key));
+            cache.put(key, reloaded);
+            loaded.countDown();
+        });
+        try {
+            cache.put(principal, identity);
+            Thread.sleep(maxAge * 17 / 20);
+            // The identity is still returned while it is reloaded
+            Assert.assertSame(identity, cache.get(principal));
+            Assert.assertTrue(loaded.await(10L, TimeUnit.SECONDS));
+            Assert.assertSame(reloaded, cache.get(principal));
+        } finally {
+            cache.dispose();
+        }
+    }
+
+    private static class TestRealmIdentity implements RealmIdentity {
+
+        private final Principal principal;
+
+        TestRealmIdentity(final Principal principal) {
+            this.principal = principal;
+        }
+
+        @Override
+        public Principal getRealmIdentityPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(final Class<? extends Credential> credentialType, final String algorithmName, final AlgorithmParameterSpec parameterSpec) {
+            return SupportLevel.UNSUPPORTED;
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(final Class<C> credentialType) {
+            return null;
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(final Class<? extends Evidence> evidenceType, final String algorithmName) {
+            return SupportLevel.UNSUPPORTED;
+        }
+
+        @Override
+        public boolean verifyEvidence(final Evidence evidence) {
+            return false;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+    }
+}
@@ -34,6 +34,7 @@ public interface HostConnectionInfo {
     String ADDRESS = "address";
     String CONNECTED = "connected";
     String EVENTS = "events";
+    String SUSPICION_LEVEL = "suspicion-level";
     String TIMESTAMP = "timestamp";
     String TYPE = "type";
 
@@ -51,6 +52,13 @@ public interface HostConnectionInfo {
      */
     boolean isConnected();
 
+    /**
+     * Get the failure detector's suspicion level for the host.
+     *
+     * @return the suspicion level, or {@code 0} if the host is not connected or its connection is not monitored
+     */
+    double getSuspicionLevel();
+
     /**
      * Get a list of connection events.
      *
@@ -60,6 +60,11 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
             .setRuntimeServiceNotRequired()
             .build();
 
+    private static final AttributeDefinition SUSPICION_LEVEL_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.SUSPICION_LEVEL, ModelType.DOUBLE, true)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
     private static final AttributeDefinition TIMESTAMP_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.TIMESTAMP, ModelType.LONG, false)
             .setStorageRuntime()
             .setRuntimeServiceNotRequired()
@@ -105,6 +110,7 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerReadOnlyAttribute(CONNECTION_DEF, attributeReadHandler);
         resourceRegistration.registerReadOnlyAttribute(EVENT_LIST, attributeReadHandler);
+        resourceRegistration.registerMetric(SUSPICION_LEVEL_DEF, attributeReadHandler);
     }
 
     @Override
@@ -142,6 +148,11 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
                     case HostConnectionInfo.EVENTS:
                         processEvents(info, result.setEmptyList());
                         break;
+                    case HostConnectionInfo.SUSPICION_LEVEL:
+                        if (info.isConnected()) {
+                            result.set(info.getSuspicionLevel());
+                        }
+                        break;
                 }
             }
         }
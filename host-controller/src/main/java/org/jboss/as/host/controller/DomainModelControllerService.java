@@ -1288,6 +1288,16 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().startServer(serverName, domainModel, blocking, suspend);
         }
 
+        @Override
+        public void startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+            getServerInventory().startServers(serverNames, domainModel, blocking, suspend);
+        }
+
+        @Override
+        public long getServerStartDuration(String serverName) {
+            return getServerInventory().getServerStartDuration(serverName);
+        }
+
         @Override
         public void reconnectServer(String serverName, ModelNode domainModel, String authKey, boolean running, boolean stopping) {
             getServerInventory().reconnectServer(serverName, domainModel, authKey, running, stopping);
@@ -1601,6 +1611,15 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public void startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+            }
+
+            @Override
+            public long getServerStartDuration(String serverName) {
+                return -1;
+            }
+
             @Override
             public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
                 return ServerStatus.STOPPED;
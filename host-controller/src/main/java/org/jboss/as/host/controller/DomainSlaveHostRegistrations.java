@@ -198,6 +198,15 @@ public class DomainSlaveHostRegistrations {
             return events;
         }
 
+        @Override
+        public double getSuspicionLevel() {
+            final SlaveHostPinger pinger = this.pinger;
+            if (connected && pinger != null && !pinger.isCancelled()) {
+                return pinger.getSuspicionLevel();
+            }
+            return 0;
+        }
+
         protected String getAddress() {
             return address;
         }
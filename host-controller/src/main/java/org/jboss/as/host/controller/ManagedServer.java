@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.CurrentOperationIdHolder;
 import org.jboss.as.controller.PathAddress;
@@ -137,6 +138,8 @@ class ManagedServer {
     private volatile int operationID = CurrentOperationIdHolder.getCurrentOperationID();
     private volatile ManagedServerBootConfiguration bootConfiguration;
     private volatile boolean unstable;
+    private volatile long startTime;
+    private volatile long startDuration = -1;
 
     private final PathAddress address;
 
@@ -218,6 +221,16 @@ class ManagedServer {
         }
     }
 
+    /**
+     * Get the time the last completed start of this server took, measured from the start request
+     * until the server reported it was started.
+     *
+     * @return the start duration in milliseconds, or {@code -1} if the server has not completed a start yet
+     */
+    long getStartDuration() {
+        return startDuration;
+    }
+
     boolean isRequiresReload() {
         return requiresReload;
     }
@@ -259,6 +272,7 @@ class ManagedServer {
             }
         }
         operationID = CurrentOperationIdHolder.getCurrentOperationID();
+        startTime = System.nanoTime();
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
         ROOT_LOGGER.startingServer(serverName);
@@ -421,6 +435,7 @@ class ManagedServer {
         // Create the remote controller client
         channelAssociation.getAttachments().attach(TransactionalProtocolClient.SEND_IDENTITY, Boolean.TRUE);
         channelAssociation.getAttachments().attach(TransactionalProtocolClient.SEND_IN_VM, Boolean.TRUE);
+        channelAssociation.getAttachments().attach(TransactionalProtocolClient.COMPACT_ENCODING, Boolean.TRUE);
         final TransactionalProtocolClient remoteClient = TransactionalProtocolHandlers.createClient(channelAssociation);
         if      (current == InternalState.RELOADING) {
             internalSetState(new TransitionTask() {
@@ -449,6 +464,10 @@ class ManagedServer {
 
     synchronized void serverStarted(final TransitionTask task) {
         internalSetState(task, InternalState.SERVER_STARTING, InternalState.SERVER_STARTED);
+        if (internalState == InternalState.SERVER_STARTED && startTime != 0) {
+            startDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            startTime = 0;
+        }
     }
 
     synchronized void serverStartFailed() {
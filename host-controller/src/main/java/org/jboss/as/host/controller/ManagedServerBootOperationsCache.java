@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.domain.controller.DomainController;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Cache for the subsystem boot operations of the profiles used by managed servers. Describing a profile is the most
+ * expensive part of creating the boot operations for a server, and all servers using the same profile get the same
+ * result, so it is only done once per profile.
+ * <p>
+ * Each entry records the profile and extension configuration of the domain model it was created from. An entry is
+ * only reused while that configuration is unchanged, which makes any change to a profile, to a profile it includes
+ * or to the extensions invalidate the cached operations.
+ */
+public final class ManagedServerBootOperationsCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Get the subsystem boot operations for a profile.
+     *
+     * @param profileName the name of the profile
+     * @param domainModel the current domain model
+     * @param domainController the domain controller used to describe the profile on a cache miss
+     * @return the boot operations. The returned node is protected and must not be modified
+     */
+    ModelNode getProfileOperations(final String profileName, final ModelNode domainModel, final DomainController domainController) {
+        final ModelNode revision = createRevision(domainModel);
+        final Entry entry = entries.get(profileName);
+        if (entry != null && entry.revision.equals(revision)) {
+            hits.increment();
+            return entry.operations;
+        }
+        misses.increment();
+        ROOT_LOGGER.debugf("Creating boot operations for profile %s", profileName);
+        final ModelNode operations = domainController.getProfileOperations(profileName);
+        operations.protect();
+        // Entries for other profiles created against an older configuration can never be hit again
+        entries.values().removeIf(existing -> !existing.revision.equals(revision));
+        entries.put(profileName, new Entry(revision, operations));
+        return operations;
+    }
+
+    /**
+     * Discard all cached operations.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of requests served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of requests that required describing the profile.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static ModelNode createRevision(final ModelNode domainModel) {
+        final ModelNode revision = new ModelNode();
+        if (domainModel.hasDefined(PROFILE)) {
+            revision.get(PROFILE).set(domainModel.get(PROFILE));
+        }
+        if (domainModel.hasDefined(EXTENSION)) {
+            revision.get(EXTENSION).set(domainModel.get(EXTENSION));
+        }
+        revision.protect();
+        return revision;
+    }
+
+    private static final class Entry {
+        private final ModelNode revision;
+        private final ModelNode operations;
+
+        private Entry(final ModelNode revision, final ModelNode operations) {
+            this.revision = revision;
+            this.operations = operations;
+        }
+    }
+}
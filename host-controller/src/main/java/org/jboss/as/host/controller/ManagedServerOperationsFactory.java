@@ -179,8 +179,25 @@ public final class ManagedServerOperationsFactory {
      */
     public static ModelNode createBootUpdates(final String serverName, final ModelNode domainModel, final ModelNode hostModel,
                                               final DomainController domainController, final ExpressionResolver expressionResolver) {
+        return createBootUpdates(serverName, domainModel, hostModel, domainController, expressionResolver, null);
+    }
+
+    /**
+     * Create a list of operations required to a boot a managed server, reusing the subsystem operations
+     * of the server's profile if they are available in the given cache.
+     *
+     * @param serverName the server name
+     * @param domainModel the complete domain model
+     * @param hostModel the local host model
+     * @param domainController the domain controller
+     * @param bootOperationsCache the cache for profile boot operations. May be {@code null}
+     * @return the list of boot operations
+     */
+    public static ModelNode createBootUpdates(final String serverName, final ModelNode domainModel, final ModelNode hostModel,
+                                              final DomainController domainController, final ExpressionResolver expressionResolver,
+                                              final ManagedServerBootOperationsCache bootOperationsCache) {
         final ManagedServerOperationsFactory factory = new ManagedServerOperationsFactory(serverName, domainModel,
-                hostModel, domainController, expressionResolver);
+                hostModel, domainController, expressionResolver, bootOperationsCache);
 
 
         return factory.getBootUpdates();
@@ -194,10 +211,13 @@ public final class ManagedServerOperationsFactory {
     private final String serverGroupName;
     private final String profileName;
     private final DomainController domainController;
+    private final ManagedServerBootOperationsCache bootOperationsCache;
 
     ManagedServerOperationsFactory(final String serverName, final ModelNode domainModel, final ModelNode hostModel,
-                                   final DomainController domainController, final ExpressionResolver expressionResolver) {
+                                   final DomainController domainController, final ExpressionResolver expressionResolver,
+                                   final ManagedServerBootOperationsCache bootOperationsCache) {
         this.serverName = serverName;
+        this.bootOperationsCache = bootOperationsCache;
         this.domainModel = domainModel;
         this.hostModel = hostModel;
         this.domainController = domainController;
@@ -772,7 +792,9 @@ public final class ManagedServerOperationsFactory {
         }
 
     private void addSubsystems(List<ModelNode> updates) {
-        ModelNode node = domainController.getProfileOperations(profileName);
+        ModelNode node = bootOperationsCache == null
+                ? domainController.getProfileOperations(profileName)
+                : bootOperationsCache.getProfileOperations(profileName, domainModel, domainController);
         updates.addAll(node.asList());
     }
 
@@ -43,6 +43,7 @@ import javax.security.auth.callback.CallbackHandler;
 
 import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.remote.CompactModelNodeEncoding;
 import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.host.controller.discovery.DiscoveryOption;
@@ -247,6 +248,7 @@ class RemoteDomainConnection extends FutureManagementChannel {
     protected Future<Connection> reconnect() {
         // Reset the connection state
         channelHandler.getAttachments().removeAttachment(TransactionalProtocolClient.SEND_IDENTITY);
+        channelHandler.getAttachments().removeAttachment(TransactionalProtocolClient.COMPACT_ENCODING);
         return executorService.submit(new Callable<Connection>() {
             @Override
             public Connection call() throws Exception {
@@ -380,12 +382,16 @@ class RemoteDomainConnection extends FutureManagementChannel {
                  resultHandler.failed(new SlaveRegistrationException(SlaveRegistrationException.ErrorCode.parseCode(errorCode), message));
                  return;
              }
-             final ModelNode extensions = new ModelNode();
-             extensions.readExternal(input);
+             final boolean compact = CompactModelNodeEncoding.isEnabled(context.getRequestHeader());
+             final ModelNode extensions = CompactModelNodeEncoding.read(input, compact);
              // Enable the send subject
              if (context.getRequestHeader().getVersion() != 1) {
                  channelHandler.getAttachments().attach(TransactionalProtocolClient.SEND_IDENTITY, Boolean.TRUE);
              }
+             // The DC supports the compact model encoding for operations
+             if (compact) {
+                 channelHandler.getAttachments().attach(TransactionalProtocolClient.COMPACT_ENCODING, Boolean.TRUE);
+             }
              context.executeAsync(new ManagementRequestContext.AsyncTask<Void>() {
                  @Override
                  public void execute(ManagementRequestContext<Void> voidManagementRequestContext) throws Exception {
@@ -449,8 +455,7 @@ class RemoteDomainConnection extends FutureManagementChannel {
                  resultHandler.failed(new SlaveRegistrationException(SlaveRegistrationException.ErrorCode.parseCode(errorCode), message));
                  return;
              }
-             final ModelNode domainModel = new ModelNode();
-             domainModel.readExternal(input);
+             final ModelNode domainModel = CompactModelNodeEncoding.read(input, CompactModelNodeEncoding.isEnabled(context.getRequestHeader()));
              context.executeAsync(new ManagementRequestContext.AsyncTask<Void>() {
                  @Override
                  public void execute(ManagementRequestContext<Void> voidManagementRequestContext) throws Exception {
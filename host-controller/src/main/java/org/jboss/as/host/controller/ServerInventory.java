@@ -106,6 +106,26 @@ public interface ServerInventory {
      */
     ServerStatus startServer(String serverName, ModelNode domainModel, boolean blocking, boolean suspend);
 
+    /**
+     * Start the servers with the given names. Depending on the configured start concurrency the servers may be
+     * started in parallel. A failure to start one server is logged and does not prevent the other servers from
+     * being started.
+     *
+     * @param serverNames the names of the servers
+     * @param domainModel the configuration model for the domain
+     * @param blocking whether to block until all servers are started
+     * @param suspend If the servers should start suspended
+     */
+    void startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend);
+
+    /**
+     * Get the time the last completed start of the server with the given name took.
+     *
+     * @param serverName the name of the server
+     * @return the start duration in milliseconds, or {@code -1} if unknown
+     */
+    long getServerStartDuration(String serverName);
+
     /**
      * Restart the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
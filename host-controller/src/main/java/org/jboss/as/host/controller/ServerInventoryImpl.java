@@ -31,9 +31,11 @@ import java.net.URI;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,8 +47,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 import javax.security.auth.callback.Callback;
 import javax.security.auth.callback.CallbackHandler;
@@ -86,6 +93,7 @@ import org.wildfly.security.auth.callback.CredentialCallback;
 import org.wildfly.security.auth.callback.EvidenceVerifyCallback;
 import org.wildfly.security.credential.PasswordCredential;
 import org.wildfly.security.evidence.PasswordGuessEvidence;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.security.password.Password;
 import org.wildfly.security.password.PasswordFactory;
 import org.wildfly.security.password.interfaces.DigestPassword;
@@ -100,6 +108,14 @@ import org.wildfly.security.password.spec.EncryptablePasswordSpec;
  */
 public class ServerInventoryImpl implements ServerInventory {
 
+    /**
+     * The maximum number of servers booting at the same time in {@link #startServers}, and the maximum number of
+     * servers stopped in parallel by {@link #stopServers}. A value of {@code 1} or less keeps the existing behaviour.
+     */
+    static final int SERVER_CONCURRENCY = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged("org.jboss.as.host.start.servers.concurrency", "1"));
+    /** The delay in ms between launching two consecutive servers, to avoid all servers competing for CPU at once. */
+    static final long SERVER_START_STAGGER = Long.parseLong(WildFlySecurityManager.getPropertyPrivileged("org.jboss.as.host.start.servers.stagger", "0"));
+
     /** The managed servers. */
     private final ConcurrentMap<String, ManagedServer> servers = new ConcurrentHashMap<String, ManagedServer>();
 
@@ -108,6 +124,7 @@ public class ServerInventoryImpl implements ServerInventory {
     private final URI managementURI;
     private final DomainController domainController;
     private final ExtensionRegistry extensionRegistry;
+    private final Executor executor;
 
     private volatile boolean shutdown;
     private volatile boolean connectionFinished;
@@ -120,11 +137,18 @@ public class ServerInventoryImpl implements ServerInventory {
 
     ServerInventoryImpl(final DomainController domainController, final HostControllerEnvironment environment, final URI managementURI,
                         final ProcessControllerClient processControllerClient, final ExtensionRegistry extensionRegistry) {
+        this(domainController, environment, managementURI, processControllerClient, extensionRegistry, null);
+    }
+
+    ServerInventoryImpl(final DomainController domainController, final HostControllerEnvironment environment, final URI managementURI,
+                        final ProcessControllerClient processControllerClient, final ExtensionRegistry extensionRegistry,
+                        final Executor executor) {
         this.domainController = domainController;
         this.environment = environment;
         this.managementURI = managementURI;
         this.processControllerClient = processControllerClient;
         this.extensionRegistry = extensionRegistry;
+        this.executor = executor;
     }
 
     @Override
@@ -227,6 +251,91 @@ public class ServerInventoryImpl implements ServerInventory {
         return server.getState();
     }
 
+    @Override
+    public void startServers(final Collection<String> serverNames, final ModelNode domainModel, final boolean blocking, final boolean suspend) {
+        if (SERVER_CONCURRENCY <= 1 || serverNames.size() <= 1) {
+            boolean first = true;
+            for (final String serverName : serverNames) {
+                if (!first && !staggerServerStart()) {
+                    return;
+                }
+                first = false;
+                startServerAndLogFailure(serverName, domainModel, blocking, suspend);
+            }
+            return;
+        }
+        // The servers are launched from the calling thread so they keep its operation id, and their registration
+        // can join the controller lock permit the calling operation holds while it waits for a server to start
+        startServersBounded(serverNames, SERVER_CONCURRENCY, blocking, this::staggerServerStart,
+                serverName -> startServerAndLogFailure(serverName, domainModel, false, suspend),
+                serverName -> {
+                    final ManagedServer server = servers.get(serverName);
+                    return server != null && server.awaitState(ManagedServer.InternalState.SERVER_STARTED);
+                });
+    }
+
+    /**
+     * Launches the servers one after the other from the calling thread. Once {@code concurrency} servers are booting,
+     * the next server is only launched after the oldest booting server has started or failed to start.
+     *
+     * @param serverNames the names of the servers to start
+     * @param concurrency the maximum number of servers booting at the same time
+     * @param blocking whether to wait until all servers are started
+     * @param proceed called before launching each server but the first, returns {@code false} to stop launching servers
+     * @param start launches a server without waiting for it to start, returns {@code false} if the launch failed
+     * @param awaitStarted waits until a launched server has started or failed to start
+     */
+    static void startServersBounded(final Collection<String> serverNames, final int concurrency, final boolean blocking,
+                                    final BooleanSupplier proceed, final Predicate<String> start, final Predicate<String> awaitStarted) {
+        final Deque<String> booting = new ArrayDeque<>();
+        boolean first = true;
+        for (final String serverName : serverNames) {
+            if (!first && !proceed.getAsBoolean()) {
+                return;
+            }
+            first = false;
+            if (booting.size() >= concurrency) {
+                awaitStarted.test(booting.removeFirst());
+            }
+            if (start.test(serverName)) {
+                booting.addLast(serverName);
+            }
+        }
+        if (blocking) {
+            for (final String serverName : booting) {
+                awaitStarted.test(serverName);
+            }
+        }
+    }
+
+    private boolean startServerAndLogFailure(final String serverName, final ModelNode domainModel, final boolean blocking, final boolean suspend) {
+        try {
+            startServer(serverName, domainModel, blocking, suspend);
+            return true;
+        } catch (Exception e) {
+            ROOT_LOGGER.failedToStartServer(e, serverName);
+            return false;
+        }
+    }
+
+    private boolean staggerServerStart() {
+        if (SERVER_START_STAGGER > 0) {
+            try {
+                Thread.sleep(SERVER_START_STAGGER);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !(shutdown || connectionFinished);
+    }
+
+    @Override
+    public long getServerStartDuration(final String serverName) {
+        final ManagedServer server = servers.get(serverName);
+        return server == null ? -1 : server.getStartDuration();
+    }
+
     @Override
     public ServerStatus restartServer(final String serverName, final int gracefulTimeout, final ModelNode domainModel) {
         return restartServer(serverName, gracefulTimeout, domainModel, false, false);
@@ -348,9 +457,42 @@ public class ServerInventoryImpl implements ServerInventory {
 
     @Override
     public void stopServers(final int gracefulTimeout, final boolean blockUntilStopped) {
-        for(final ManagedServer server : servers.values()) {
-            Integer currentOperationID = CurrentOperationIdHolder.getCurrentOperationID();
-            server.stop(currentOperationID == null ? null : gracefulTimeout);
+        final Integer currentOperationID = CurrentOperationIdHolder.getCurrentOperationID();
+        final Integer timeout = currentOperationID == null ? null : gracefulTimeout;
+        final Collection<ManagedServer> toStop = servers.values();
+        if (SERVER_CONCURRENCY <= 1 || executor == null || toStop.size() <= 1) {
+            for(final ManagedServer server : toStop) {
+                server.stop(timeout);
+            }
+        } else {
+            // A graceful stop blocks until the server is suspended, so issue the stop requests in parallel
+            final Semaphore permits = new Semaphore(SERVER_CONCURRENCY);
+            final List<ManagedServer> list = new ArrayList<>(toStop);
+            final CountDownLatch latch = new CountDownLatch(list.size());
+            for (final ManagedServer server : list) {
+                permits.acquireUninterruptibly();
+                final Runnable task = new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            server.stop(timeout);
+                        } finally {
+                            permits.release();
+                            latch.countDown();
+                        }
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+            }
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
         if(blockUntilStopped) {
             synchronized (shutdownCondition) {
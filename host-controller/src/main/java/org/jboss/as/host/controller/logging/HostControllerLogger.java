@@ -1464,6 +1464,10 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 217, value = "Security realms are no longer supported, please migrate references to them from the configuration.")
     XMLStreamException securityRealmReferencesUnsupported();
 
+    @LogMessage(level = WARN)
+    @Message(id = 218, value = "Invalid value '%s' for system property %s, using the default value %s")
+    void invalidPingProperty(String value, String propertyName, String defaultValue);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
@@ -55,6 +55,7 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.remote.CompactModelNodeEncoding;
 import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.controller.transform.TransformationTarget;
 import org.jboss.as.controller.transform.TransformationTargetImpl;
@@ -133,6 +134,10 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
             // Send subject
             handler.getAttachments().attach(TransactionalProtocolClient.SEND_IDENTITY, Boolean.TRUE);
         }
+        if (header.isCompactEncodingSupported()) {
+            // Send operations using the compact model encoding
+            handler.getAttachments().attach(TransactionalProtocolClient.COMPACT_ENCODING, Boolean.TRUE);
+        }
         final byte operationId = header.getOperationId();
         switch (operationId) {
             case DomainControllerProtocol.REGISTER_HOST_CONTROLLER_REQUEST: {
@@ -519,7 +524,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
             final ModelNode subsystems = executeBlocking(new IOTask<ModelNode>() {
                 @Override
                 void sendMessage(FlushableDataOutput output) throws IOException {
-                    sendResponse(output, DomainControllerProtocol.PARAM_OK, extensions);
+                    sendResponse(output, DomainControllerProtocol.PARAM_OK, extensions, CompactModelNodeEncoding.isEnabled(handler));
                 }
             });
             if(failed) {
@@ -571,7 +576,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
             final boolean registered = executeBlocking(new IOTask<Boolean>() {
                 @Override
                 void sendMessage(final FlushableDataOutput output) throws IOException {
-                    sendResponse(output, DomainControllerProtocol.PARAM_OK, result);
+                    sendResponse(output, DomainControllerProtocol.PARAM_OK, result, CompactModelNodeEncoding.isEnabled(handler));
                 }
             });
             if (!registered) {
@@ -716,18 +721,18 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
         final ManagementResponseHeader header = ManagementResponseHeader.create(context.getRequestHeader());
         final FlushableDataOutput output = context.writeMessage(header);
         try {
-            sendResponse(output, responseType, response);
+            sendResponse(output, responseType, response, CompactModelNodeEncoding.isEnabled(header));
         } finally {
             StreamUtils.safeClose(output);
         }
     }
 
-    static void sendResponse(final FlushableDataOutput output, final byte responseType, final ModelNode response) throws IOException {
+    static void sendResponse(final FlushableDataOutput output, final byte responseType, final ModelNode response, final boolean compact) throws IOException {
         // response type
         output.writeByte(responseType);
         if(response != null) {
             // operation result
-            response.writeExternal(output);
+            CompactModelNodeEncoding.write(response, output, compact);
         }
         // response end
         output.writeByte(ManagementProtocol.RESPONSE_END);
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+/**
+ * Phi accrual failure detector, as described by Hayashibara et al. Instead of a binary alive/dead decision
+ * based on a fixed timeout, it derives a suspicion level {@code phi} from how late the next heartbeat is compared to
+ * the distribution of previously observed heartbeat intervals. A {@code phi} of 1 means there is roughly a 10% chance
+ * that suspecting the peer is a mistake, 2 roughly 1%, 3 roughly 0.1% and so on.
+ * <p>
+ * The normal distribution is approximated with a logistic function, the same way Cassandra and Akka do.
+ */
+final class PhiAccrualFailureDetector {
+
+    private final long minStdDeviation;
+    private final long[] intervals;
+    private int count;
+    private int next;
+    private long sum;
+    private long squaredSum;
+    private long lastHeartbeat;
+
+    /**
+     * Creates a new detector.
+     *
+     * @param expectedInterval the expected time in ms between heartbeats, used to bootstrap the interval history
+     * @param minStdDeviation the minimum standard deviation in ms, so very regular heartbeats don't make phi
+     *                        overly sensitive to small delays
+     * @param windowSize the number of heartbeat intervals kept to compute the distribution
+     * @param now the time in ms of the initial heartbeat
+     */
+    PhiAccrualFailureDetector(final long expectedInterval, final long minStdDeviation, final int windowSize, final long now) {
+        this.minStdDeviation = minStdDeviation;
+        this.intervals = new long[windowSize];
+        this.lastHeartbeat = now;
+        // Seed the history with a mean of the expected interval and a standard deviation of a quarter of it
+        final long deviation = expectedInterval / 4;
+        addInterval(expectedInterval - deviation);
+        addInterval(expectedInterval + deviation);
+    }
+
+    /**
+     * Records a heartbeat.
+     *
+     * @param timestamp the time in ms the heartbeat was received
+     */
+    synchronized void heartbeat(final long timestamp) {
+        if (timestamp > lastHeartbeat) {
+            addInterval(timestamp - lastHeartbeat);
+            lastHeartbeat = timestamp;
+        }
+    }
+
+    /**
+     * Get the time of the last recorded heartbeat.
+     *
+     * @return the time in ms of the last heartbeat
+     */
+    synchronized long getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    /**
+     * Get the current suspicion level.
+     *
+     * @param now the current time in ms
+     * @return the suspicion level, {@code 0} meaning the peer is not suspected at all
+     */
+    synchronized double phi(final long now) {
+        final long elapsed = Math.max(0, now - lastHeartbeat);
+        final double mean = (double) sum / count;
+        final double variance = Math.max(0d, (double) squaredSum / count - mean * mean);
+        final double stdDeviation = Math.max(Math.sqrt(variance), minStdDeviation);
+        final double y = (elapsed - mean) / stdDeviation;
+        final double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+        final double phi;
+        if (elapsed > mean) {
+            phi = -Math.log10(e / (1.0d + e));
+        } else {
+            phi = -Math.log10(1.0d - 1.0d / (1.0d + e));
+        }
+        // Guard against rounding producing -0.0 or infinity for extreme values
+        return Double.isInfinite(phi) ? Double.MAX_VALUE : Math.max(0d, phi);
+    }
+
+    private void addInterval(final long interval) {
+        if (count == intervals.length) {
+            final long oldest = intervals[next];
+            sum -= oldest;
+            squaredSum -= oldest * oldest;
+        } else {
+            count++;
+        }
+        intervals[next] = interval;
+        next = (next + 1) % intervals.length;
+        sum += interval;
+        squaredSum += interval * interval;
+    }
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.ThreadFactory;
 
 import org.jboss.as.controller.ExpressionResolver;
 import org.jboss.as.domain.controller.DomainController;
+import org.jboss.as.host.controller.ManagedServerBootOperationsCache;
 import org.jboss.as.host.controller.ServerInventory;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
@@ -65,6 +66,7 @@ public class ServerToHostOperationHandlerFactoryService implements ManagementCha
     private final DomainController domainController;
     private final ExpressionResolver expressionResolver;
     private final File tempDir;
+    private final ManagedServerBootOperationsCache bootOperationsCache = new ManagedServerBootOperationsCache();
 
     private final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
         public JBossThreadFactory run() {
@@ -100,6 +102,7 @@ public class ServerToHostOperationHandlerFactoryService implements ManagementCha
     public synchronized void stop(StopContext context) {
         final ExecutorService executorService = this.registrations;
         this.registrations = null;
+        bootOperationsCache.clear();
         if(executorService != null) {
             executorService.shutdown();
         }
@@ -116,7 +119,7 @@ public class ServerToHostOperationHandlerFactoryService implements ManagementCha
         final ManagementClientChannelStrategy strategy = ManagementClientChannelStrategy.create(channel);
         final ManagementChannelHandler channelHandler = new ManagementChannelHandler(strategy, executorService);
         channelHandler.getAttachments().attach(ManagementChannelHandler.TEMP_DIR, tempDir);
-        final ServerToHostProtocolHandler registrationHandler = new ServerToHostProtocolHandler(serverInventory.getValue(), operationExecutor, domainController, channelHandler, registrations, expressionResolver);
+        final ServerToHostProtocolHandler registrationHandler = new ServerToHostProtocolHandler(serverInventory.getValue(), operationExecutor, domainController, channelHandler, registrations, expressionResolver, bootOperationsCache);
         channelHandler.addHandlerFactory(new ManagementPongRequestHandler());
         channelHandler.addHandlerFactory(registrationHandler);
         channel.receiveMessage(channelHandler.getReceiver());
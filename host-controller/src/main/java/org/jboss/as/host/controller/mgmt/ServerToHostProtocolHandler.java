@@ -49,6 +49,7 @@ import org.jboss.as.controller.client.OperationBuilder;
 import org.jboss.as.controller.client.OperationMessageHandler;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.domain.controller.DomainController;
+import org.jboss.as.host.controller.ManagedServerBootOperationsCache;
 import org.jboss.as.host.controller.ManagedServerOperationsFactory;
 import org.jboss.as.host.controller.ServerInventory;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
@@ -97,11 +98,13 @@ public class ServerToHostProtocolHandler implements ManagementRequestHandlerFact
     private final DeploymentFileRepository deploymentFileRepository;
     private final Executor registrations;
     private final ExpressionResolver expressionResolver;
+    private final ManagedServerBootOperationsCache bootOperationsCache;
 
     private volatile String serverProcessName;
 
     ServerToHostProtocolHandler(ServerInventory serverInventory, OperationExecutor operationExecutor, DomainController domainController, ManagementChannelHandler channelHandler, Executor registrations,
-            ExpressionResolver expressionResolver) {
+            ExpressionResolver expressionResolver, ManagedServerBootOperationsCache bootOperationsCache) {
+        this.bootOperationsCache = bootOperationsCache;
         this.serverInventory = serverInventory;
         this.operationExecutor = operationExecutor;
         this.domainController = domainController;
@@ -222,7 +225,7 @@ public class ServerToHostProtocolHandler implements ManagementRequestHandlerFact
             // Create the boot updates
             final String hostControllerName = domainController.getLocalHostInfo().getLocalHostName();
             final ModelNode hostModel = domainModel.require(HOST).require(hostControllerName);
-            final ModelNode updates = ManagedServerOperationsFactory.createBootUpdates(serverName, domainModel, hostModel, domainController, expressionResolver);
+            final ModelNode updates = ManagedServerOperationsFactory.createBootUpdates(serverName, domainModel, hostModel, domainController, expressionResolver, bootOperationsCache);
             // Register the remote communication
             final ProxyController controller = serverInventory.serverCommunicationRegistered(serverProcessName, channelHandler);
             try {
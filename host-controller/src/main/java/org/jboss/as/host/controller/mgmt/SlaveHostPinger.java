@@ -28,6 +28,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
 
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.protocol.StreamUtils;
@@ -38,7 +39,8 @@ import org.jboss.threads.AsyncFuture;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
- * Coordinates periodic pinging of a slave Host Controller to validate its connection
+ * Coordinates periodic pinging of a slave Host Controller to validate its connection. Pings are only sent
+ * when the channel has been idle, and whether a slave failed is decided by a {@link PhiAccrualFailureDetector}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -47,6 +49,15 @@ public class SlaveHostPinger {
     public static final long STD_INTERVAL;
     public static final long STD_TIMEOUT;
     public static final long SHORT_TIMEOUT = 10000;
+    /** The lower bound for ping timeouts derived from the observed round trip times */
+    public static final long MIN_TIMEOUT;
+    /** The suspicion level at which a slave whose ping timed out is considered failed */
+    public static final double PHI_THRESHOLD;
+
+    private static final long MIN_STD_DEVIATION = 500;
+    private static final int HEARTBEAT_WINDOW_SIZE = 100;
+    /** Messages received closer together than this are one heartbeat, so bursts of traffic don't skew the intervals */
+    private static final long MIN_HEARTBEAT_INTERVAL = 1000;
 
     static {
         long interval = -1;
@@ -66,26 +77,95 @@ public class SlaveHostPinger {
         } finally {
             STD_TIMEOUT = timeout > 0 ? timeout : 30000;
         }
+        MIN_TIMEOUT = (long) getPositiveProperty("jboss.as.domain.ping.min-timeout", SHORT_TIMEOUT);
+        PHI_THRESHOLD = getPositiveProperty("jboss.as.domain.ping.phi-threshold", 8);
+    }
+
+    private static double getPositiveProperty(final String name, final long defaultValue) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        if (value != null) {
+            try {
+                final double result = Double.parseDouble(value);
+                if (result > 0) {
+                    return result;
+                }
+            } catch (NumberFormatException ignored) {
+                // logged below
+            }
+            HostControllerLogger.DOMAIN_LOGGER.invalidPingProperty(value, name, String.valueOf(defaultValue));
+        }
+        return defaultValue;
     }
 
     private final String hostName;
     private final ManagementChannelHandler channelHandler;
     private final ScheduledExecutorService scheduler;
 
+    private final PhiAccrualFailureDetector detector;
+    private final LongConsumer messageListener;
+
     private volatile Long remoteConnectionID;
     private volatile boolean cancelled;
 
+    // Smoothed round trip time and its variance, as used for TCP retransmission timeouts (RFC 6298)
+    private double smoothedRtt = -1;
+    private double rttVariance;
+
     public SlaveHostPinger(String hostName, ManagementChannelHandler channelHandler, ScheduledExecutorService scheduler, long remoteConnectionID) {
         this.hostName = hostName;
         this.channelHandler = channelHandler;
         this.scheduler = scheduler;
         this.remoteConnectionID = remoteConnectionID;
+        this.detector = new PhiAccrualFailureDetector(STD_INTERVAL, MIN_STD_DEVIATION, HEARTBEAT_WINDOW_SIZE, System.currentTimeMillis());
+        // Feed the detector the time each message from the slave arrives
+        this.messageListener = this::messageReceived;
+        channelHandler.addMessageReceivedListener(messageListener);
     }
 
     public Long getRemoteConnectionID() {
         return remoteConnectionID;
     }
 
+    /**
+     * Get the current suspicion level for the slave. Any message received from the slave counts as a heartbeat, so
+     * a slave that is busy sending operation results is not suspected just because it does not answer pings.
+     *
+     * @return the phi suspicion level; {@code 0} means the slave is not suspected at all
+     */
+    public double getSuspicionLevel() {
+        return detector.phi(System.currentTimeMillis());
+    }
+
+    private void messageReceived(final long time) {
+        if (time - detector.getLastHeartbeat() >= MIN_HEARTBEAT_INTERVAL) {
+            detector.heartbeat(time);
+        }
+    }
+
+    private synchronized void recordRoundTrip(final long rtt) {
+        if (smoothedRtt < 0) {
+            smoothedRtt = rtt;
+            rttVariance = rtt / 2d;
+        } else {
+            rttVariance = 0.75d * rttVariance + 0.25d * Math.abs(smoothedRtt - rtt);
+            smoothedRtt = 0.875d * smoothedRtt + 0.125d * rtt;
+        }
+    }
+
+    /**
+     * Get the timeout for the next ping, based on the round trip times observed so far.
+     *
+     * @param maxTimeout the configured timeout, which is never exceeded
+     * @return the timeout in ms
+     */
+    synchronized long getPingTimeout(final long maxTimeout) {
+        if (smoothedRtt < 0) {
+            return maxTimeout;
+        }
+        final long timeout = (long) Math.ceil(smoothedRtt + 4 * rttVariance);
+        return Math.min(maxTimeout, Math.max(MIN_TIMEOUT, timeout));
+    }
+
     public void schedulePing(long timeout, long delay) {
         PingTask task = new PingTask(timeout, delay);
         scheduler.schedule(task, delay, TimeUnit.MILLISECONDS);
@@ -97,6 +177,7 @@ public class SlaveHostPinger {
 
     public void cancel() {
         this.cancelled = true;
+        channelHandler.removeMessageReceivedListener(messageListener);
     }
 
     private class PingTask implements Runnable {
@@ -114,10 +195,16 @@ public class SlaveHostPinger {
             if (!cancelled) {
                 boolean fail = false;
                 AsyncFuture<Long> future = null;
+                // One-off pings keep their explicit timeout, periodic ones adapt to the observed round trip times
+                final long pingTimeout = interval < 1 ? timeout : getPingTimeout(timeout);
                 try {
+                    // Only ping if the channel has been idle, recent traffic already shows the slave is alive
                     if (interval < 1 || System.currentTimeMillis() - channelHandler.getLastMessageReceivedTime() > interval) {
+                        final long sent = System.nanoTime();
                         future = channelHandler.executeRequest(ManagementPingRequest.INSTANCE, null).getResult();
-                        Long id = future.get(timeout, TimeUnit.MILLISECONDS);
+                        Long id = future.get(pingTimeout, TimeUnit.MILLISECONDS);
+                        // The response itself has been recorded as a heartbeat when it arrived
+                        recordRoundTrip(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent));
                         if (!cancelled && remoteConnectionID != null && !remoteConnectionID.equals(id)) {
                             HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerChanged(hostName);
                             fail = true;
@@ -133,9 +220,11 @@ public class SlaveHostPinger {
                 } catch (ExecutionException e) {
                     HostControllerLogger.DOMAIN_LOGGER.debug("Caught exception sending ping request", e);
                 } catch (TimeoutException e) {
-                    if (!cancelled) {
+                    // A periodic ping may time out while other messages from the slave still arrive, e.g. because
+                    // the slave is busy; only give up once the slave is suspected beyond the threshold
+                    if (!cancelled && (interval < 1 || getSuspicionLevel() >= PHI_THRESHOLD)) {
                         fail = true;
-                        HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, timeout);
+                        HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, pingTimeout);
                     }
                     safeCancel(future);
                 } finally {
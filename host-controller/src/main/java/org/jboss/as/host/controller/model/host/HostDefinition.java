@@ -117,6 +117,7 @@ public class HostDefinition extends SimpleResourceDefinition {
         // Wire in the platform mbean resources. We're bypassing the context.createResource API here because
         // we want to use our own resource type. But it's ok as the createResource calls above have taken the lock
         rootResource.registerChild(PlatformMBeanConstants.ROOT_PATH, new RootPlatformMBeanResource());
+        rootResource.registerChild(PlatformMBeanConstants.FLIGHT_RECORDER_PATH, PlaceholderResource.INSTANCE);
         // Wire in the ignored-resources resource
         Resource.ResourceEntry ignoredRoot = ignoredDomainResourceRegistry.getRootResource();
         rootResource.registerChild(ignoredRoot.getPathElement(), ignoredRoot);
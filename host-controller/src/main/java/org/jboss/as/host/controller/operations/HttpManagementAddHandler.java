@@ -48,6 +48,7 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.management.BaseHttpInterfaceAddStepHandler;
 import org.jboss.as.controller.management.HttpInterfaceCommonPolicy;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.remote.ManagementRequestExecutors;
 import org.jboss.as.domain.http.server.ConsoleAvailability;
 import org.jboss.as.domain.http.server.ConsoleMode;
 import org.jboss.as.domain.http.server.ManagementHttpRequestProcessor;
@@ -159,7 +160,13 @@ public class HttpManagementAddHandler extends BaseHttpInterfaceAddStepHandler {
         final Supplier<ConsoleAvailability> caSupplier = builder.requiresCapability("org.wildfly.management.console-availability", ConsoleAvailability.class);
         final Supplier<ManagementHttpRequestProcessor> rpSupplier = builder.requires(requestProcessorName);
         final Supplier<XnioWorker> xwSupplier = builder.requires(ManagementWorkerService.SERVICE_NAME);
-        final Supplier<Executor> eSupplier = builder.requires(ExternalManagementRequestExecutor.SERVICE_NAME);
+        final Supplier<Executor> eSupplier;
+        if (commonPolicy.getRequestExecution().isVirtualThreads()) {
+            ManagementRequestExecutors.installHttpVirtualThreadExecutor(serviceTarget, commonPolicy.getRequestExecution());
+            eSupplier = builder.requires(ManagementRequestExecutors.HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME);
+        } else {
+            eSupplier = builder.requires(ExternalManagementRequestExecutor.SERVICE_NAME);
+        }
         final Supplier<HttpAuthenticationFactory> hafSupplier = httpAuthenticationFactory != null ? builder.requiresCapability(HTTP_AUTHENTICATION_FACTORY_CAPABILITY, HttpAuthenticationFactory.class, httpAuthenticationFactory) : null;
         final Supplier<SSLContext> scSupplier = sslContext != null ? builder.requiresCapability(SSL_CONTEXT_CAPABILITY, SSLContext.class, sslContext) : null;
         final UndertowHttpManagementService service = new UndertowHttpManagementService(hmConsumer, lrSupplier, mcSupplier, null, null, null, ibSupplier, sibSupplier,
@@ -179,7 +186,8 @@ public class HttpManagementAddHandler extends BaseHttpInterfaceAddStepHandler {
         sb.install();
 
         if (commonPolicy.isHttpUpgradeEnabled()) {
-            NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostControllerInfo.getLocalHostName(), context.getServiceRegistry(true), onDemand);
+            NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostControllerInfo.getLocalHostName(), context.getServiceRegistry(true), onDemand,
+                    commonPolicy.getRequestExecution());
             final String httpConnectorName;
             if (port > -1 || securePort < 0) {
                 httpConnectorName = ManagementRemotingServices.HTTP_CONNECTOR;
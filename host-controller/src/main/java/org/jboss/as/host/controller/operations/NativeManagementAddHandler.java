@@ -78,7 +78,8 @@ public class NativeManagementAddHandler extends BaseNativeInterfaceAddStepHandle
         final ServiceTarget serviceTarget = context.getServiceTarget();
 
         final boolean onDemand = context.isBooting();
-        NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostControllerInfo.getLocalHostName(), context.getServiceRegistry(false), onDemand);
+        NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostControllerInfo.getLocalHostName(), context.getServiceRegistry(false), onDemand,
+                commonPolicy.getRequestExecution());
 
         OptionMap options = createConnectorOptions(commonPolicy);
 
@@ -1,6 +1,7 @@
 package org.jboss.as.host.controller.operations;
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.controller.remote.AbstractModelControllerOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerClientOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerOperationHandlerFactory;
@@ -48,7 +49,8 @@ public class NativeManagementServices {
     static synchronized void installRemotingServicesIfNotInstalled(final ServiceTarget serviceTarget,
                                                                    final String hostName,
                                                                    final ServiceRegistry serviceContainer,
-                                                                   final boolean onDemand) {
+                                                                   final boolean onDemand,
+                                                                   final ManagementRequestExecution requestExecution) {
 
         if (serviceContainer.getService(ManagementRemotingServices.MANAGEMENT_ENDPOINT) == null) {
 
@@ -70,7 +72,7 @@ public class NativeManagementServices {
                                 final Supplier<ModelController> modelControllerSupplier,
                                 final Supplier<ExecutorService> executorSupplier,
                                 final Supplier<ScheduledExecutorService> scheduledExecutorSupplier) {
-                            return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier);
+                            return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier, requestExecution);
                         }
                     },
                     DomainModelControllerService.SERVICE_NAME, ManagementRemotingServices.MANAGEMENT_CHANNEL,
@@ -555,6 +555,16 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             throw new UnsupportedOperationException("Not supported yet.");
         }
 
+        @Override
+        public void startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
+        @Override
+        public long getServerStartDuration(String serverName) {
+            return -1;
+        }
+
         @Override
         public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
             throw new UnsupportedOperationException("Not supported yet.");
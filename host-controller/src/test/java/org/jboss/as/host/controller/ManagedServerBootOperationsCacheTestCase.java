@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.host.controller;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.domain.controller.DomainController;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ManagedServerBootOperationsCache}.
+ */
+public class ManagedServerBootOperationsCacheTestCase {
+
+    @Test
+    public void testProfileOperationsReusedUntilProfileChanges() {
+        final AtomicInteger describes = new AtomicInteger();
+        final DomainController domainController = (DomainController) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {DomainController.class}, (proxy, method, args) -> {
+                    if ("getProfileOperations".equals(method.getName())) {
+                        final ModelNode result = new ModelNode().setEmptyList();
+                        result.add(new ModelNode().set("describe-" + args[0] + "-" + describes.incrementAndGet()));
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        final ModelNode domainModel = new ModelNode();
+        domainModel.get("extension", "org.jboss.as.logging").setEmptyObject();
+        domainModel.get("profile", "default", "subsystem", "logging").setEmptyObject();
+        domainModel.get("profile", "full", "subsystem", "logging").setEmptyObject();
+
+        final ManagedServerBootOperationsCache cache = new ManagedServerBootOperationsCache();
+        final ModelNode first = cache.getProfileOperations("default", domainModel, domainController);
+        Assert.assertEquals(first, cache.getProfileOperations("default", domainModel.clone(), domainController));
+        Assert.assertEquals(1, describes.get());
+        Assert.assertEquals(1, cache.getHitCount());
+
+        cache.getProfileOperations("full", domainModel, domainController);
+        Assert.assertEquals(2, describes.get());
+
+        // Any profile change invalidates the cached operations, as profiles can include each other
+        domainModel.get("profile", "full", "subsystem", "logging", "add-logging-api-dependencies").set(false);
+        Assert.assertNotEquals(first, cache.getProfileOperations("default", domainModel, domainController));
+        Assert.assertEquals(3, describes.get());
+
+        domainModel.get("extension", "org.jboss.as.jmx").setEmptyObject();
+        cache.getProfileOperations("default", domainModel, domainController);
+        Assert.assertEquals(4, describes.get());
+        Assert.assertEquals(4, cache.getMissCount());
+    }
+}
@@ -23,8 +23,15 @@ package org.jboss.as.host.controller;
 import static org.hamcrest.CoreMatchers.is;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -39,4 +46,49 @@ public class ServerInventoryImplTestCase {
         byte[] expected = new byte[]{0x48, 0x65, 0x6c, 0x6c, 0x6f, 0x20, 0x00, 0x57, 0x6f, 0x72, 0x6c, 0x64};
         Assert.assertThat(Arrays.equals(Base64.getDecoder().decode(Base64.getEncoder().encode(array)), expected), is(true));
     }
+
+    @Test
+    public void testStartServersBounded() throws Exception {
+        final List<String> serverNames = Arrays.asList("server-one", "server-two", "server-three", "server-four", "server-five");
+        final Map<String, CountDownLatch> started = new ConcurrentHashMap<>();
+        final AtomicInteger booting = new AtomicInteger();
+        final AtomicInteger maxBooting = new AtomicInteger();
+        final List<String> launched = new ArrayList<>();
+        final Thread caller = Thread.currentThread();
+        ServerInventoryImpl.startServersBounded(serverNames, 2, true, () -> true,
+                serverName -> {
+                    // Servers must be launched from the thread of the calling operation
+                    Assert.assertSame(caller, Thread.currentThread());
+                    if ("server-three".equals(serverName)) {
+                        return false;
+                    }
+                    launched.add(serverName);
+                    maxBooting.accumulateAndGet(booting.incrementAndGet(), Math::max);
+                    final CountDownLatch latch = new CountDownLatch(1);
+                    started.put(serverName, latch);
+                    // The server boots asynchronously, as a server process would
+                    new Thread(() -> {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        booting.decrementAndGet();
+                        latch.countDown();
+                    }).start();
+                    return true;
+                },
+                serverName -> {
+                    try {
+                        return started.get(serverName).await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                });
+        Assert.assertEquals(Arrays.asList("server-one", "server-two", "server-four", "server-five"), launched);
+        Assert.assertEquals(2, maxBooting.get());
+        // Blocking waits for every launched server
+        Assert.assertEquals(0, booting.get());
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link PhiAccrualFailureDetector}.
+ */
+public class PhiAccrualFailureDetectorTestCase {
+
+    @Test
+    public void testPhiGrowsWithMissedHeartbeats() {
+        final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(1000, 100, 100, 0);
+        long now = 0;
+        for (int i = 0; i < 20; i++) {
+            now += 1000;
+            detector.heartbeat(now);
+        }
+        Assert.assertEquals(now, detector.getLastHeartbeat());
+        // On time heartbeats are not suspected
+        Assert.assertTrue(detector.phi(now + 500) < 1);
+        final double late = detector.phi(now + 1500);
+        final double veryLate = detector.phi(now + 3000);
+        Assert.assertTrue(late > 1);
+        Assert.assertTrue(veryLate > late);
+        Assert.assertTrue(veryLate > 8);
+        // A heartbeat clears the suspicion
+        detector.heartbeat(now + 3000);
+        Assert.assertTrue(detector.phi(now + 3000) < 1);
+    }
+
+    @Test
+    public void testOutOfOrderHeartbeatIgnored() {
+        final PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(1000, 100, 10, 5000);
+        detector.heartbeat(0);
+        detector.heartbeat(5000);
+        Assert.assertEquals(5000, detector.getLastHeartbeat());
+    }
+
+    @Test
+    public void testIrregularHeartbeatsAreLessSensitive() {
+        final PhiAccrualFailureDetector regular = new PhiAccrualFailureDetector(1000, 10, 100, 0);
+        final PhiAccrualFailureDetector irregular = new PhiAccrualFailureDetector(1000, 10, 100, 0);
+        long regularTime = 0;
+        long irregularTime = 0;
+        for (int i = 0; i < 50; i++) {
+            regularTime += 1000;
+            regular.heartbeat(regularTime);
+            irregularTime += (i % 2 == 0) ? 200 : 1800;
+            irregular.heartbeat(irregularTime);
+        }
+        Assert.assertTrue(irregular.phi(irregularTime + 2000) < regular.phi(regularTime + 2000));
+    }
+}
@@ -23,7 +23,9 @@
 
 package org.wildfly.extension.io;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -35,6 +37,7 @@ import java.util.function.Supplier;
 import io.undertow.connector.ByteBufferPool;
 import io.undertow.server.XnioByteBufferPool;
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.ModelVersion;
@@ -47,14 +50,19 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.io.logging.IOLogger;
 import org.xnio.Pool;
 
 /**
@@ -109,14 +117,56 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
             .setAllowExpression(true)
             .build();
+    static final SimpleAttributeDefinition THREAD_CACHE_SIZE = new SimpleAttributeDefinitionBuilder(Constants.THREAD_CACHE_SIZE, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(2, true, true))
+            .build();
+    static final SimpleAttributeDefinition MAX_RETAINED_MEMORY = new SimpleAttributeDefinitionBuilder(Constants.MAX_RETAINED_MEMORY, ModelType.LONG, true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setAllowExpression(true)
+            .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setRequires(Constants.THREAD_CACHE_SIZE)
+            .build();
 
 
+    private static final AttributeDefinition ALLOCATED_BYTES = new SimpleAttributeDefinitionBuilder("allocated-bytes", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition IN_USE_BYTES = new SimpleAttributeDefinitionBuilder("in-use-bytes", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition RETAINED_BYTES = new SimpleAttributeDefinitionBuilder("retained-bytes", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition DIRECT_BYTES = new SimpleAttributeDefinitionBuilder("direct-bytes", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition THREAD_CACHE_HITS = new SimpleAttributeDefinitionBuilder("thread-cache-hits", ModelType.LONG).build();
+    private static final AttributeDefinition THREAD_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("thread-cache-misses", ModelType.LONG).build();
+    private static final AttributeDefinition THREAD_CACHE_HIT_RATIO = new SimpleAttributeDefinitionBuilder("thread-cache-hit-ratio", ModelType.DOUBLE)
+            .setMeasurementUnit(MeasurementUnit.PERCENTAGE)
+            .build();
+
+    private static final List<AttributeDefinition> METRICS = Arrays.asList(
+            ALLOCATED_BYTES,
+            IN_USE_BYTES,
+            RETAINED_BYTES,
+            DIRECT_BYTES,
+            THREAD_CACHE_HITS,
+            THREAD_CACHE_MISSES,
+            THREAD_CACHE_HIT_RATIO
+    );
+
     /*<buffer-pool name="default" buffer-size="1024" buffers-per-slice="1024"/>*/
 
     static List<SimpleAttributeDefinition> ATTRIBUTES = Arrays.asList(
             BUFFER_SIZE,
             BUFFER_PER_SLICE,
-            DIRECT_BUFFERS
+            DIRECT_BUFFERS,
+            THREAD_CACHE_SIZE,
+            MAX_RETAINED_MEMORY
     );
 
 
@@ -140,6 +190,58 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         return (Collection) ATTRIBUTES;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        // Metrics are only available from a running server
+        if (!PROFILE.equals(resourceRegistration.getPathAddress().getElement(0).getKey())) {
+            for (AttributeDefinition metric : METRICS) {
+                resourceRegistration.registerMetric(metric, BufferPoolMetricsHandler.INSTANCE);
+            }
+        }
+    }
+
+    /**
+     * Reads the usage of a buffer pool. Usage is only tracked if the pool caches buffers per thread, see
+     * {@link #THREAD_CACHE_SIZE}; the metrics are undefined otherwise.
+     */
+    private static final class BufferPoolMetricsHandler extends AbstractRuntimeOnlyHandler {
+        static final BufferPoolMetricsHandler INSTANCE = new BufferPoolMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceName serviceName = IO_POOL_RUNTIME_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue(), Pool.class);
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            Object pool = controller != null && controller.getState() == ServiceController.State.UP ? controller.getValue() : null;
+            if (pool instanceof CachingBufferPool) {
+                String name = operation.require(NAME).asString();
+                context.getResult().set(getMetricValue(name, (CachingBufferPool) pool));
+            }
+        }
+
+        private static ModelNode getMetricValue(String attributeName, CachingBufferPool pool) throws OperationFailedException {
+            if (ALLOCATED_BYTES.getName().equals(attributeName)) {
+                return new ModelNode(pool.getAllocatedBytes());
+            } else if (IN_USE_BYTES.getName().equals(attributeName)) {
+                return new ModelNode(pool.getInUseBytes());
+            } else if (RETAINED_BYTES.getName().equals(attributeName)) {
+                return new ModelNode(pool.getRetainedBytes());
+            } else if (DIRECT_BYTES.getName().equals(attributeName)) {
+                return new ModelNode(pool.isDirect() ? pool.getAllocatedBytes() : 0L);
+            } else if (THREAD_CACHE_HITS.getName().equals(attributeName)) {
+                return new ModelNode(pool.getCacheHits());
+            } else if (THREAD_CACHE_MISSES.getName().equals(attributeName)) {
+                return new ModelNode(pool.getCacheMisses());
+            } else if (THREAD_CACHE_HIT_RATIO.getName().equals(attributeName)) {
+                long hits = pool.getCacheHits();
+                long total = hits + pool.getCacheMisses();
+                return new ModelNode(total == 0 ? 0d : 100d * hits / total);
+            } else {
+                throw new OperationFailedException(IOLogger.ROOT_LOGGER.noMetrics());
+            }
+        }
+    }
+
     private static class BufferPoolAdd extends AbstractAddStepHandler {
 
         private BufferPoolAdd() {
@@ -152,14 +254,18 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             final ModelNode bufferSizeModel = BUFFER_SIZE.resolveModelAttribute(context, model);
             final ModelNode bufferPerSliceModel = BUFFER_PER_SLICE.resolveModelAttribute(context, model);
             final ModelNode directModel = DIRECT_BUFFERS.resolveModelAttribute(context, model);
+            final ModelNode threadCacheSizeModel = THREAD_CACHE_SIZE.resolveModelAttribute(context, model);
+            final ModelNode maxRetainedMemoryModel = MAX_RETAINED_MEMORY.resolveModelAttribute(context, model);
 
             final int bufferSize = bufferSizeModel.isDefined() ? bufferSizeModel.asInt() : defaultBufferSize;
             final int bufferPerSlice = bufferPerSliceModel.isDefined() ? bufferPerSliceModel.asInt() : defaultBuffersPerRegion;
             final boolean direct = directModel.isDefined() ? directModel.asBoolean() : defaultDirectBuffers;
+            final int threadCacheSize = threadCacheSizeModel.isDefined() ? threadCacheSizeModel.asInt() : 0;
+            final long maxRetainedMemory = maxRetainedMemoryModel.isDefined() ? maxRetainedMemoryModel.asLong() : Long.MAX_VALUE;
 
             CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(IO_POOL_RUNTIME_CAPABILITY);
             final Consumer<Pool<ByteBuffer>> byteBufferConsumer = builder.provides(IO_POOL_RUNTIME_CAPABILITY);
-            builder.setInstance(new BufferPoolService(byteBufferConsumer, bufferSize, bufferPerSlice, direct));
+            builder.setInstance(new BufferPoolService(byteBufferConsumer, bufferSize, bufferPerSlice, direct, threadCacheSize, maxRetainedMemory));
             builder.setInitialMode(ServiceController.Mode.ON_DEMAND);
             builder.install();
 
@@ -46,24 +46,46 @@ public class BufferPoolService implements Service<Pool<ByteBuffer>> {
     private final int bufferSize;
     private final int buffersPerSlice;
     private final boolean directBuffers;
+    private final int threadCacheSize;
+    private final long maxRetainedMemory;
 
     public BufferPoolService(final Consumer<Pool<ByteBuffer>> byteBufferConsumer, final int bufferSize, final int buffersPerSlice, final boolean directBuffers) {
+        this(byteBufferConsumer, bufferSize, buffersPerSlice, directBuffers, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param threadCacheSize the number of free buffers cached per thread by a {@link CachingBufferPool}, or {@code 0}
+     *                        to pool buffers in a {@link ByteBufferSlicePool}
+     * @param maxRetainedMemory the maximum bytes of free buffers retained by a {@link CachingBufferPool}
+     */
+    public BufferPoolService(final Consumer<Pool<ByteBuffer>> byteBufferConsumer, final int bufferSize, final int buffersPerSlice, final boolean directBuffers,
+                             final int threadCacheSize, final long maxRetainedMemory) {
         this.byteBufferConsumer = byteBufferConsumer;
         this.bufferSize = bufferSize;
         this.buffersPerSlice = buffersPerSlice;
         this.directBuffers = directBuffers;
+        this.threadCacheSize = threadCacheSize;
+        this.maxRetainedMemory = maxRetainedMemory;
     }
 
     @Override
     public void start(final StartContext context) {
-        bufferPool = new ByteBufferSlicePool(directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR, bufferSize, buffersPerSlice * bufferSize);
+        if (threadCacheSize > 0) {
+            bufferPool = new CachingBufferPool(directBuffers, bufferSize, buffersPerSlice, threadCacheSize, maxRetainedMemory);
+        } else {
+            bufferPool = new ByteBufferSlicePool(directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR, bufferSize, buffersPerSlice * bufferSize);
+        }
         byteBufferConsumer.accept(bufferPool);
     }
 
     @Override
     public void stop(final StopContext context) {
         byteBufferConsumer.accept(null);
-        ((ByteBufferSlicePool) bufferPool).clean();
+        if (bufferPool instanceof CachingBufferPool) {
+            ((CachingBufferPool) bufferPool).clean();
+        } else {
+            ((ByteBufferSlicePool) bufferPool).clean();
+        }
         bufferPool = null;
     }
 
@@ -0,0 +1,400 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.xnio.BufferAllocator;
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * A buffer pool that keeps a small cache of free buffers for each thread, backed by a depot shared by all threads.
+ * <p>
+ * A thread allocates from and frees to its own cache without contending with other threads. Only when its cache is
+ * empty, or full, does it move a batch of buffers from, or to, the depot. Buffers are sliced out of regions allocated
+ * as needed. The depot and the thread caches together retain at most {@code maxRetainedBytes}; buffers freed beyond
+ * that are dropped and left to the garbage collector. As a slice keeps its whole region reachable, buffers are
+ * allocated one at a time instead of sliced out of regions if the retained bytes are limited, and a region only stops
+ * counting as allocated once all of its buffers have been dropped.
+ * <p>
+ * The caches only refer weakly to their threads, and the caches of terminated threads are returned to the depot the
+ * next time a thread cache is created or a region is allocated. The caches do not refer to the pool either, so the
+ * thread local entries of the caches, emptied when the pool is cleaned, do not keep the pool reachable.
+ */
+final class CachingBufferPool implements Pool<ByteBuffer> {
+
+    private final BufferAllocator<ByteBuffer> allocator;
+    private final boolean direct;
+    private final int bufferSize;
+    private final int buffersPerRegion;
+    private final int threadCacheSize;
+    private final long maxRetainedBytes;
+    private final ConcurrentLinkedQueue<Slice> depot = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<ThreadCache> threadCaches = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(this::createThreadCache);
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final LongAdder inUseBytes = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private volatile boolean closed;
+
+    CachingBufferPool(final boolean direct, final int bufferSize, final int buffersPerRegion, final int threadCacheSize, final long maxRetainedBytes) {
+        this.allocator = direct ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR;
+        this.direct = direct;
+        this.bufferSize = bufferSize;
+        // a dropped buffer only releases its memory if it does not share a region with retained buffers
+        this.buffersPerRegion = maxRetainedBytes == Long.MAX_VALUE ? buffersPerRegion : 1;
+        this.threadCacheSize = Math.max(2, threadCacheSize);
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    @Override
+    public Pooled<ByteBuffer> allocate() {
+        Slice slice;
+        if (closed) {
+            // do not create a thread cache the pool would no longer clean
+            slice = new Slice(new Region(1, bufferSize), allocator.allocate(bufferSize));
+            allocatedBytes.addAndGet(bufferSize);
+        } else {
+            final ThreadCache cache = threadCache.get();
+            slice = cache.poll(this);
+            if (slice != null) {
+                cacheHits.increment();
+            } else {
+                cacheMisses.increment();
+                slice = cache.refill(this);
+            }
+        }
+        inUseBytes.add(bufferSize);
+        return new PooledBuffer(this, slice);
+    }
+
+    private void free(final Slice slice) {
+        inUseBytes.add(-bufferSize);
+        if (closed) {
+            drop(slice);
+            return;
+        }
+        slice.buffer.clear();
+        threadCache.get().offer(this, slice);
+    }
+
+    private void discard(final Slice slice) {
+        inUseBytes.add(-bufferSize);
+        drop(slice);
+    }
+
+    /**
+     * Drops every retained buffer. Buffers freed afterwards are dropped as well.
+     */
+    void clean() {
+        closed = true;
+        for (ThreadCache cache : threadCaches) {
+            cache.clear(this);
+        }
+        threadCaches.clear();
+        threadCache.remove();
+        Slice slice;
+        while ((slice = depot.poll()) != null) {
+            release();
+            drop(slice);
+        }
+    }
+
+    boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return the bytes of the regions with buffers in use or retained by this pool
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * @return the bytes of the free buffers retained by the depot and the thread caches
+     */
+    long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    /**
+     * @return the bytes of the buffers allocated from this pool and not freed yet
+     */
+    long getInUseBytes() {
+        return inUseBytes.sum();
+    }
+
+    long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    private ThreadCache createThreadCache() {
+        reclaimTerminatedThreadCaches();
+        final ThreadCache cache = new ThreadCache(Thread.currentThread(), threadCacheSize);
+        threadCaches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Drops a buffer, releasing its region once none of the buffers of the region is used or retained any more.
+     */
+    private void drop(final Slice slice) {
+        if (slice.region.drop()) {
+            allocatedBytes.addAndGet(-slice.region.bytes);
+        }
+    }
+
+    /**
+     * Accounts for a buffer about to be retained by the depot or a thread cache.
+     *
+     * @return {@code false} if retaining the buffer would exceed {@code maxRetainedBytes}, so it must be dropped
+     */
+    private boolean retain() {
+        if (closed) {
+            return false;
+        }
+        if (retainedBytes.addAndGet(bufferSize) > maxRetainedBytes) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    private void release() {
+        retainedBytes.addAndGet(-bufferSize);
+    }
+
+    /**
+     * Moves a batch of buffers from the depot into the given cache, allocating a new region if the depot is empty.
+     *
+     * @return a buffer for immediate use
+     */
+    private Slice takeFromDepot(final ArrayDeque<Slice> cache) {
+        Slice slice = depot.poll();
+        if (slice == null) {
+            reclaimTerminatedThreadCaches();
+            slice = depot.poll();
+        }
+        if (slice == null) {
+            return allocateRegion(cache);
+        }
+        release();
+        // the batch stays retained, only moving from the depot to the cache
+        final int batch = threadCacheSize / 2;
+        Slice next;
+        while (cache.size() < batch && (next = depot.poll()) != null) {
+            cache.push(next);
+        }
+        return slice;
+    }
+
+    /**
+     * Moves a retained buffer from a thread cache to the depot.
+     */
+    private void returnToDepot(final Slice slice) {
+        if (closed) {
+            release();
+            drop(slice);
+        } else {
+            depot.add(slice);
+        }
+    }
+
+    private Slice allocateRegion(final ArrayDeque<Slice> cache) {
+        final Region region = new Region(buffersPerRegion, bufferSize);
+        final ByteBuffer buffer = allocator.allocate(bufferSize * buffersPerRegion);
+        allocatedBytes.addAndGet(region.bytes);
+        final int kept = Math.min(buffersPerRegion - 1, threadCacheSize / 2 - cache.size());
+        for (int i = 1; i < buffersPerRegion; i++) {
+            buffer.limit((i + 1) * bufferSize).position(i * bufferSize);
+            final Slice slice = new Slice(region, buffer.slice());
+            if (!retain()) {
+                drop(slice);
+            } else if (i <= kept) {
+                cache.push(slice);
+            } else {
+                depot.add(slice);
+            }
+        }
+        buffer.limit(bufferSize).position(0);
+        return new Slice(region, buffer.slice());
+    }
+
+    private void reclaimTerminatedThreadCaches() {
+        for (Iterator<ThreadCache> i = threadCaches.iterator(); i.hasNext(); ) {
+            final ThreadCache cache = i.next();
+            final Thread owner = cache.owner.get();
+            if (owner == null || !owner.isAlive()) {
+                i.remove();
+                cache.clear(this);
+            }
+        }
+    }
+
+    /**
+     * A region of memory the buffers are sliced out of, counting its buffers not dropped yet.
+     */
+    private static final class Region {
+        private final long bytes;
+        private final AtomicInteger buffers;
+
+        private Region(final int buffers, final int bufferSize) {
+            this.buffers = new AtomicInteger(buffers);
+            this.bytes = (long) buffers * bufferSize;
+        }
+
+        /**
+         * @return {@code true} if the last buffer of the region was dropped
+         */
+        boolean drop() {
+            return buffers.decrementAndGet() == 0;
+        }
+    }
+
+    /**
+     * A buffer with the region it is sliced out of.
+     */
+    private static final class Slice {
+        private final Region region;
+        private final ByteBuffer buffer;
+
+        private Slice(final Region region, final ByteBuffer buffer) {
+            this.region = region;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * The free buffers cached for a single thread. Only the owning thread uses it, except to reclaim it once the
+     * owner has terminated, so its lock is practically never contended.
+     */
+    private static final class ThreadCache {
+        private final WeakReference<Thread> owner;
+        private final int size;
+        private final ArrayDeque<Slice> slices;
+
+        private ThreadCache(final Thread owner, final int size) {
+            this.owner = new WeakReference<>(owner);
+            this.size = size;
+            this.slices = new ArrayDeque<>(size);
+        }
+
+        synchronized Slice poll(final CachingBufferPool pool) {
+            final Slice slice = slices.poll();
+            if (slice != null) {
+                pool.release();
+            }
+            return slice;
+        }
+
+        synchronized Slice refill(final CachingBufferPool pool) {
+            return pool.takeFromDepot(slices);
+        }
+
+        synchronized void offer(final CachingBufferPool pool, final Slice slice) {
+            if (!pool.retain()) {
+                pool.drop(slice);
+                return;
+            }
+            if (slices.size() == size) {
+                // keep half of the cache for this thread and share the rest
+                for (int i = size / 2; i > 0; i--) {
+                    pool.returnToDepot(slices.pollLast());
+                }
+            }
+            slices.push(slice);
+        }
+
+        synchronized void clear(final CachingBufferPool pool) {
+            Slice slice;
+            while ((slice = slices.poll()) != null) {
+                pool.returnToDepot(slice);
+            }
+        }
+    }
+
+    private static final class PooledBuffer implements Pooled<ByteBuffer> {
+        private static final AtomicIntegerFieldUpdater<PooledBuffer> freedUpdater = AtomicIntegerFieldUpdater.newUpdater(PooledBuffer.class, "freed");
+
+        private final CachingBufferPool pool;
+        private volatile Slice slice;
+        @SuppressWarnings("unused")
+        private volatile int freed;
+
+        private PooledBuffer(final CachingBufferPool pool, final Slice slice) {
+            this.pool = pool;
+            this.slice = slice;
+        }
+
+        @Override
+        public void discard() {
+            if (freedUpdater.compareAndSet(this, 0, 1)) {
+                final Slice slice = this.slice;
+                this.slice = null;
+                pool.discard(slice);
+            }
+        }
+
+        @Override
+        public void free() {
+            if (freedUpdater.compareAndSet(this, 0, 1)) {
+                final Slice slice = this.slice;
+                this.slice = null;
+                pool.free(slice);
+            }
+        }
+
+        @Override
+        public ByteBuffer getResource() throws IllegalStateException {
+            final Slice slice = this.slice;
+            if (slice == null) {
+                throw new IllegalStateException();
+            }
+            return slice.buffer;
+        }
+
+        @Override
+        public void close() {
+            free();
+        }
+
+        @Override
+        public String toString() {
+            final Slice slice = this.slice;
+            return "Pooled buffer " + (slice == null ? null : slice.buffer);
+        }
+    }
+}
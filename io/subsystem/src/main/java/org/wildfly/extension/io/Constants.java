@@ -32,7 +32,11 @@ interface Constants {
     String BUFFER_SIZE = "buffer-size";
     String BUFFER_PER_SLICE = "buffers-per-slice";
     String DIRECT_BUFFERS = "direct-buffers";
+    String MAX_RETAINED_MEMORY = "max-retained-memory";
+    String THREAD_CACHE_SIZE = "thread-cache-size";
     String WORKER = "worker";
+    String AUTO_TUNE = "auto-tune";
+    String AUTO_TUNE_TARGET_LATENCY = "auto-tune-target-latency";
     String WORKER_IO_THREADS = "io-threads";
     String WORKER_TASK_CORE_THREADS = "task-core-threads";
     String WORKER_TASK_KEEPALIVE = "task-keepalive";
@@ -37,6 +37,7 @@ import org.jboss.as.controller.transform.description.TransformationDescriptionBu
 public class IOSubsystemTransformers implements ExtensionTransformerRegistration {
     static final ModelVersion VERSION_2_0 = ModelVersion.create(2, 0);
     static final ModelVersion VERSION_3_0 = ModelVersion.create(3, 0);
+    static final ModelVersion VERSION_5_0 = ModelVersion.create(5, 0);
 
 
     @Override
@@ -48,10 +49,20 @@ public class IOSubsystemTransformers implements ExtensionTransformerRegistration
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
-        buildTransformers_3_0(chainedBuilder.createBuilder(CURRENT_MODEL_VERSION, VERSION_3_0));
+        buildTransformers_5_0(chainedBuilder.createBuilder(CURRENT_MODEL_VERSION, VERSION_5_0));
+        buildTransformers_3_0(chainedBuilder.createBuilder(VERSION_5_0, VERSION_3_0));
         buildTransformers_2_0(chainedBuilder.createBuilder(VERSION_3_0, VERSION_2_0));
 
-        chainedBuilder.buildAndRegister(registration, new ModelVersion[]{ VERSION_3_0, VERSION_2_0 });
+        chainedBuilder.buildAndRegister(registration, new ModelVersion[]{ VERSION_5_0, VERSION_3_0, VERSION_2_0 });
+    }
+
+    private void buildTransformers_5_0(ResourceTransformationDescriptionBuilder builder) {
+        builder.addChildResource(WorkerResourceDefinition.INSTANCE.getPathElement()).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, WorkerResourceDefinition.AUTO_TUNE, WorkerResourceDefinition.AUTO_TUNE_TARGET_LATENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WorkerResourceDefinition.AUTO_TUNE, WorkerResourceDefinition.AUTO_TUNE_TARGET_LATENCY);
+        builder.addChildResource(BufferPoolResourceDefinition.INSTANCE.getPathElement()).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, BufferPoolResourceDefinition.THREAD_CACHE_SIZE, BufferPoolResourceDefinition.MAX_RETAINED_MEMORY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, BufferPoolResourceDefinition.THREAD_CACHE_SIZE, BufferPoolResourceDefinition.MAX_RETAINED_MEMORY);
     }
 
     private void buildTransformers_3_0(ResourceTransformationDescriptionBuilder builder) {
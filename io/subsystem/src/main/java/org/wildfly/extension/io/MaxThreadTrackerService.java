@@ -56,12 +56,8 @@ class MaxThreadTrackerService implements Service<Integer> {
 
     void registerWorkerMax(String name, int max) {
         synchronized (workers) {
-            Integer prev = workers.get(name);
-            if (prev != null) {
-                max -= prev.intValue();
-            }
-            workers.put(name, max);
-            total += max;
+            Integer prev = workers.put(name, max);
+            total += prev != null ? max - prev.intValue() : max;
         }
     }
 
@@ -26,7 +26,9 @@ package org.wildfly.extension.io;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
-import static org.wildfly.extension.io.WorkerResourceDefinition.ATTRIBUTES;
+import static org.wildfly.extension.io.WorkerResourceDefinition.ADD_ATTRIBUTES;
+import static org.wildfly.extension.io.WorkerResourceDefinition.AUTO_TUNE;
+import static org.wildfly.extension.io.WorkerResourceDefinition.AUTO_TUNE_TARGET_LATENCY;
 import static org.wildfly.extension.io.WorkerResourceDefinition.IO_WORKER_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.io.WorkerResourceDefinition.WORKER_IO_THREADS;
 import static org.wildfly.extension.io.WorkerResourceDefinition.WORKER_TASK_CORE_THREADS;
@@ -67,10 +69,10 @@ class WorkerAdd extends AbstractAddStepHandler {
     static final WorkerAdd INSTANCE = new WorkerAdd();
 
     private WorkerAdd() {
-        super(ATTRIBUTES);
+        super(ADD_ATTRIBUTES);
     }
 
-    private static int getMaxDescriptorCount() {
+    static int getMaxDescriptorCount() {
         try {
             ObjectName oName = new ObjectName("java.lang:type=OperatingSystem");
             MBeanServerConnection conn = ManagementFactory.getPlatformMBeanServer();
@@ -85,15 +87,15 @@ class WorkerAdd extends AbstractAddStepHandler {
         IOLogger.ROOT_LOGGER.tracef("We cannot get MaxFileDescriptorCount from system, not applying any limits");
         return -1;
     }
-    private static int getCpuCount(){
+    static int getCpuCount(){
         return ProcessorInfo.availableProcessors();
     }
 
-    private static int getMaxPossibleThreadCount(int maxFD) {
+    static int getMaxPossibleThreadCount(int maxFD) {
         return (maxFD - 600) / 3; //each thread uses two FDs + some overhead;
     }
 
-    private static int getSuggestedTaskCount() {
+    static int getSuggestedTaskCount() {
         return getCpuCount() * 16;
     }
 
@@ -222,19 +224,22 @@ class WorkerAdd extends AbstractAddStepHandler {
             }
         }
 
-        registerMax(context, name, workerThreads);
+        final MaxThreadTrackerService maxThreadTracker = registerMax(context, name, workerThreads);
 
         final CapabilityServiceBuilder<?> capBuilder = context.getCapabilityServiceTarget().addCapability(IO_WORKER_RUNTIME_CAPABILITY);
         final Consumer<XnioWorker> workerConsumer = capBuilder.provides(IO_WORKER_RUNTIME_CAPABILITY);
         final Supplier<ExecutorService> executorSupplier = capBuilder.requiresCapability("org.wildfly.management.executor", ExecutorService.class);
-        capBuilder.setInstance(new WorkerService(workerConsumer, executorSupplier, builder));
+        final boolean autoTune = AUTO_TUNE.resolveModelAttribute(context, model).asBoolean();
+        final long autoTuneTargetLatency = AUTO_TUNE_TARGET_LATENCY.resolveModelAttribute(context, model).asLong();
+        capBuilder.setInstance(new WorkerService(workerConsumer, executorSupplier, builder, name, maxThreadTracker, autoTune, autoTuneTargetLatency));
         capBuilder.setInitialMode(ServiceController.Mode.ON_DEMAND);
         capBuilder.install();
     }
 
-    private void registerMax(OperationContext context, String name, int workerThreads) {
+    private MaxThreadTrackerService registerMax(OperationContext context, String name, int workerThreads) {
         ServiceName serviceName = IORootDefinition.IO_MAX_THREADS_RUNTIME_CAPABILITY.getCapabilityServiceName();
         MaxThreadTrackerService service = (MaxThreadTrackerService) context.getServiceRegistry(false).getRequiredService(serviceName).getService();
         service.registerWorkerMax(name, workerThreads);
+        return service;
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.wildfly.extension.io;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.extension.io.logging.IOLogger;
+import org.xnio.Options;
+import org.xnio.XnioExecutor;
+import org.xnio.XnioIoThread;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
+
+/**
+ * Measures how long each IO thread and the task thread pool of a worker take to start running a probe task. A busy IO
+ * thread runs the probe late, so the latency of an IO thread is a measure of its utilization, and the latency of the
+ * task pool is the time tasks spend queued.
+ * <p>
+ * If the worker is auto-tuned, it is probed once per second, and the maximum number of task threads is adjusted to the
+ * measured task pool latency: it grows while the latency exceeds the target latency and tasks are queued, and shrinks
+ * back while the pool is mostly idle. Growth is bounded by the thread budget left by the other workers, as tracked by
+ * the {@link MaxThreadTrackerService}. Otherwise the worker is only probed when its latencies are read, see
+ * {@link #probeIfNotScheduled()}.
+ */
+final class WorkerMonitor implements Runnable {
+
+    private static final long PROBE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    // samples over or under the target latency needed before the pool is grown or shrunk
+    private static final int GROW_SAMPLES = 3;
+    private static final int SHRINK_SAMPLES = 30;
+
+    private final String name;
+    private final XnioWorker worker;
+    private final MaxThreadTrackerService maxThreadTracker;
+    private final boolean autoTune;
+    private final long targetLatency;
+    private final int coreThreads;
+    private final int initialMaxThreads;
+    private final Latency[] ioThreadLatencies;
+    private final Latency taskLatency = new Latency();
+    private XnioExecutor.Key key;
+    private int samplesOverTarget;
+    private int samplesUnderTarget;
+
+    /**
+     * @param autoTune whether the worker is probed periodically and its maximum number of task threads adjusted
+     * @param targetLatency the task pool latency the auto-tuning aims at, in milliseconds
+     */
+    WorkerMonitor(final String name, final XnioWorker worker, final MaxThreadTrackerService maxThreadTracker, final boolean autoTune, final long targetLatency) {
+        this.name = name;
+        this.worker = worker;
+        this.maxThreadTracker = maxThreadTracker;
+        this.autoTune = autoTune;
+        this.targetLatency = TimeUnit.MILLISECONDS.toNanos(targetLatency);
+        final XnioWorkerMXBean metrics = worker.getMXBean();
+        this.coreThreads = metrics.getCoreWorkerPoolSize();
+        this.initialMaxThreads = metrics.getMaxWorkerPoolSize();
+        this.ioThreadLatencies = new Latency[worker.getIoThreadCount()];
+        for (int i = 0; i < ioThreadLatencies.length; i++) {
+            ioThreadLatencies[i] = new Latency();
+        }
+    }
+
+    void start() {
+        if (autoTune) {
+            key = worker.getIoThread(0).executeAtInterval(this, PROBE_INTERVAL, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Probes the worker unless it is already probed periodically. The latencies then read are those measured by the
+     * previous probe, or the age of the previous probe if it has not run yet.
+     */
+    void probeIfNotScheduled() {
+        if (!autoTune) {
+            run();
+        }
+    }
+
+    void stop() {
+        final XnioExecutor.Key key = this.key;
+        if (key != null) {
+            key.remove();
+        }
+    }
+
+    @Override
+    public void run() {
+        for (int i = 0; i < ioThreadLatencies.length; i++) {
+            final Latency latency = ioThreadLatencies[i];
+            final XnioIoThread ioThread = worker.getIoThread(i);
+            final long start = latency.probe();
+            if (start != 0) {
+                ioThread.execute(() -> latency.record(start));
+            }
+        }
+        final long start = taskLatency.probe();
+        if (start != 0) {
+            try {
+                worker.execute(() -> {
+                    final long latency = taskLatency.record(start);
+                    if (autoTune) {
+                        tune(latency);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the pool is saturated, which counts as a probe that waited at least a whole interval
+                final long latency = taskLatency.reject(start);
+                if (autoTune) {
+                    tune(latency);
+                }
+            }
+        }
+    }
+
+    private synchronized void tune(final long latency) {
+        final XnioWorkerMXBean metrics = worker.getMXBean();
+        final int maxThreads = metrics.getMaxWorkerPoolSize();
+        if (latency > targetLatency && metrics.getWorkerQueueSize() > 0) {
+            samplesUnderTarget = 0;
+            if (++samplesOverTarget >= GROW_SAMPLES) {
+                samplesOverTarget = 0;
+                setMaxThreads(maxThreads, Math.min(getMaxThreadsCeiling(maxThreads), maxThreads + Math.max(1, maxThreads / 4)));
+            }
+        } else if (latency < targetLatency / 4 && metrics.getBusyWorkerThreadCount() < maxThreads / 2) {
+            samplesOverTarget = 0;
+            if (++samplesUnderTarget >= SHRINK_SAMPLES) {
+                samplesUnderTarget = 0;
+                setMaxThreads(maxThreads, Math.max(getMaxThreadsFloor(), maxThreads - Math.max(1, maxThreads / 8)));
+            }
+        } else {
+            samplesOverTarget = 0;
+            samplesUnderTarget = 0;
+        }
+    }
+
+    /**
+     * The pool never grows beyond four times the suggested size for the processors currently available, nor beyond
+     * the threads the file descriptor limit still allows once the other workers have their share.
+     */
+    private int getMaxThreadsCeiling(final int maxThreads) {
+        int ceiling = Math.max(initialMaxThreads, WorkerAdd.getSuggestedTaskCount() * 4);
+        final int maxFD = WorkerAdd.getMaxDescriptorCount();
+        if (maxFD > -1) {
+            final int otherWorkersThreads = maxThreadTracker.getValue() - maxThreads;
+            ceiling = Math.min(ceiling, WorkerAdd.getMaxPossibleThreadCount(maxFD) - otherWorkersThreads);
+        }
+        return Math.max(ceiling, maxThreads);
+    }
+
+    /**
+     * The pool never shrinks below its configured size, unless fewer processors are available than when it was
+     * configured.
+     */
+    private int getMaxThreadsFloor() {
+        return Math.max(Math.max(coreThreads, 1), Math.min(initialMaxThreads, WorkerAdd.getSuggestedTaskCount()));
+    }
+
+    private void setMaxThreads(final int current, final int maxThreads) {
+        if (maxThreads == current) {
+            return;
+        }
+        try {
+            worker.setOption(Options.WORKER_TASK_MAX_THREADS, maxThreads);
+        } catch (IOException | IllegalArgumentException e) {
+            IOLogger.ROOT_LOGGER.debugf(e, "Failed to adjust the max task threads of worker %s", name);
+            return;
+        }
+        maxThreadTracker.registerWorkerMax(name, maxThreads);
+        IOLogger.ROOT_LOGGER.autoTunedTaskThreads(name, current, maxThreads, TimeUnit.NANOSECONDS.toMillis(taskLatency.getLatency()));
+    }
+
+    String getIoThreadName(final int index) {
+        return worker.getIoThread(index).getName();
+    }
+
+    Latency[] getIoThreadLatencies() {
+        return ioThreadLatencies;
+    }
+
+    Latency getTaskLatency() {
+        return taskLatency;
+    }
+
+    /**
+     * The latencies of the probes of a single executor. A probe that has not run yet counts as having the latency of
+     * its age, so a stalled executor is reported as such before the probe completes.
+     */
+    static final class Latency {
+        private final AtomicLong pendingSince = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private volatile long last;
+
+        /**
+         * @return the start time of a new probe, or {@code 0} if the previous probe is still pending
+         */
+        private long probe() {
+            final long now = System.nanoTime() | 1;
+            return pendingSince.compareAndSet(0, now) ? now : 0;
+        }
+
+        private long record(final long start) {
+            return addSample(System.nanoTime() - start);
+        }
+
+        /**
+         * Records a probe the executor rejected, so that the next probe can be submitted.
+         */
+        private long reject(final long start) {
+            return addSample(Math.max(PROBE_INTERVAL, System.nanoTime() - start));
+        }
+
+        private long addSample(final long latency) {
+            pendingSince.set(0);
+            last = latency;
+            max.accumulateAndGet(latency, Math::max);
+            total.add(latency);
+            count.increment();
+            return latency;
+        }
+
+        /**
+         * @return the latency of the last probe, in nanoseconds
+         */
+        long getLatency() {
+            final long pending = pendingSince.get();
+            return pending == 0 ? last : Math.max(last, System.nanoTime() - pending);
+        }
+
+        long getMaxLatency() {
+            return Math.max(max.get(), getLatency());
+        }
+
+        long getAverageLatency() {
+            final long count = this.count.sum();
+            return count == 0 ? 0 : total.sum() / count;
+        }
+    }
+}
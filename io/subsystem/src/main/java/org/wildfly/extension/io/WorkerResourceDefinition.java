@@ -27,15 +27,21 @@ package org.wildfly.extension.io;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -43,10 +49,13 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
@@ -110,12 +119,48 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
             STACK_SIZE
     };
 
+    static final SimpleAttributeDefinition AUTO_TUNE = new SimpleAttributeDefinitionBuilder(Constants.AUTO_TUNE, ModelType.BOOLEAN, true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setDefaultValue(ModelNode.FALSE)
+            .setAllowExpression(true)
+            .build();
+    static final SimpleAttributeDefinition AUTO_TUNE_TARGET_LATENCY = new SimpleAttributeDefinitionBuilder(Constants.AUTO_TUNE_TARGET_LATENCY, ModelType.LONG, true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setDefaultValue(new ModelNode(20L))
+            .setValidator(new LongRangeValidator(1L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setAllowExpression(true)
+            .build();
+
+    static final List<AttributeDefinition> ADD_ATTRIBUTES;
+
     private static final AttributeDefinition SHUTDOWN_REQUESTED = new SimpleAttributeDefinitionBuilder("shutdown-requested", ModelType.BOOLEAN).setStorageRuntime().build();
     private static final AttributeDefinition CORE_WORKER_POOL_SIZE = new SimpleAttributeDefinitionBuilder("core-pool-size", ModelType.INT).build();
     private static final AttributeDefinition MAX_WORKER_POOL_SIZE = new SimpleAttributeDefinitionBuilder("max-pool-size", ModelType.INT).build();
     private static final AttributeDefinition IO_THREAD_COUNT = new SimpleAttributeDefinitionBuilder("io-thread-count", ModelType.INT).build();
     private static final AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder("queue-size", ModelType.INT).build();
     private static final AttributeDefinition BUSY_WORKER_THREAD_COUNT = new SimpleAttributeDefinitionBuilder("busy-task-thread-count", ModelType.INT).build();
+    private static final AttributeDefinition EFFECTIVE_TASK_MAX_THREADS = new SimpleAttributeDefinitionBuilder("effective-task-max-threads", ModelType.INT).setStorageRuntime().build();
+    private static final AttributeDefinition TASK_QUEUE_LATENCY = new SimpleAttributeDefinitionBuilder("task-queue-latency", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition MAX_TASK_QUEUE_LATENCY = new SimpleAttributeDefinitionBuilder("max-task-queue-latency", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final SimpleAttributeDefinition IO_THREAD_NAME = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.NAME, ModelType.STRING).build();
+    private static final SimpleAttributeDefinition IO_THREAD_LATENCY = new SimpleAttributeDefinitionBuilder("latency", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final SimpleAttributeDefinition IO_THREAD_MAX_LATENCY = new SimpleAttributeDefinitionBuilder("max-latency", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final SimpleAttributeDefinition IO_THREAD_AVERAGE_LATENCY = new SimpleAttributeDefinitionBuilder("average-latency", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition IO_THREAD_LATENCIES = new ObjectListAttributeDefinition.Builder("io-thread-latencies",
+            new ObjectTypeAttributeDefinition.Builder("io-thread", IO_THREAD_NAME, IO_THREAD_LATENCY, IO_THREAD_MAX_LATENCY, IO_THREAD_AVERAGE_LATENCY).build())
+            .setStorageRuntime()
+            .build();
 
     static final Map<String, OptionAttributeDefinition> ATTRIBUTES_BY_XMLNAME;
 
@@ -125,6 +170,10 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
             attrs.put(attr.getXmlName(), (OptionAttributeDefinition) attr);
         }
         ATTRIBUTES_BY_XMLNAME = Collections.unmodifiableMap(attrs);
+        List<AttributeDefinition> addAttributes = new ArrayList<>(Arrays.asList(ATTRIBUTES));
+        addAttributes.add(AUTO_TUNE);
+        addAttributes.add(AUTO_TUNE_TARGET_LATENCY);
+        ADD_ATTRIBUTES = Collections.unmodifiableList(addAttributes);
     }
 
 
@@ -138,10 +187,9 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
                 .addCapabilities(IO_WORKER_RUNTIME_CAPABILITY));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Collection<AttributeDefinition> getAttributes() {
-        return (Collection) ATTRIBUTES_BY_XMLNAME.values();
+        return ADD_ATTRIBUTES;
     }
 
     @Override
@@ -187,14 +235,24 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
                     }
                 });
 
+        ReloadRequiredWriteAttributeHandler autoTuneWriteHandler = new ReloadRequiredWriteAttributeHandler(AUTO_TUNE, AUTO_TUNE_TARGET_LATENCY);
+        resourceRegistration.registerReadWriteAttribute(AUTO_TUNE, null, autoTuneWriteHandler);
+        resourceRegistration.registerReadWriteAttribute(AUTO_TUNE_TARGET_LATENCY, null, autoTuneWriteHandler);
+
         WorkerMetricsHandler metricsHandler = new WorkerMetricsHandler();
         resourceRegistration.registerReadOnlyAttribute(SHUTDOWN_REQUESTED, metricsHandler);
+        resourceRegistration.registerReadOnlyAttribute(EFFECTIVE_TASK_MAX_THREADS, metricsHandler);
 
         resourceRegistration.registerMetric(CORE_WORKER_POOL_SIZE, metricsHandler);
         resourceRegistration.registerMetric(MAX_WORKER_POOL_SIZE, metricsHandler);
         resourceRegistration.registerMetric(IO_THREAD_COUNT, metricsHandler);
         resourceRegistration.registerMetric(QUEUE_SIZE, metricsHandler);
         resourceRegistration.registerMetric(BUSY_WORKER_THREAD_COUNT, metricsHandler);
+
+        WorkerMonitorHandler monitorHandler = new WorkerMonitorHandler();
+        resourceRegistration.registerMetric(TASK_QUEUE_LATENCY, monitorHandler);
+        resourceRegistration.registerMetric(MAX_TASK_QUEUE_LATENCY, monitorHandler);
+        resourceRegistration.registerMetric(IO_THREAD_LATENCIES, monitorHandler);
     }
 
     @Override
@@ -302,6 +360,21 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         }
     }
 
+    private static class WorkerMonitorHandler extends AbstractWorkerAttributeHandler {
+
+        @Override
+        void executeWithWorker(OperationContext context, ModelNode operation, XnioWorker worker) throws OperationFailedException {
+            ServiceName serviceName = IO_WORKER_RUNTIME_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue(), XnioWorker.class);
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            WorkerMonitor monitor = controller != null ? ((WorkerService) controller.getService()).getMonitor() : null;
+            if (monitor != null) {
+                monitor.probeIfNotScheduled();
+                String name = operation.require(ModelDescriptionConstants.NAME).asString();
+                context.getResult().set(getMonitorValue(name, monitor));
+            }
+        }
+    }
+
     static XnioWorker getXnioWorker(OperationContext context) {
         String name = context.getCurrentAddressValue();
         if (!context.getCurrentAddress().getLastElement().getKey().equals(IOExtension.WORKER_PATH.getKey())) { //we are somewhere deeper, lets find worker name
@@ -336,6 +409,8 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
     private static ModelNode getMetricValue(String attributeName, XnioWorkerMXBean metric) throws OperationFailedException {
         if (SHUTDOWN_REQUESTED.getName().equals(attributeName)) {
             return new ModelNode(metric.isShutdownRequested());
+        } else if (EFFECTIVE_TASK_MAX_THREADS.getName().equals(attributeName)) {
+            return new ModelNode(metric.getMaxWorkerPoolSize());
         } else if (CORE_WORKER_POOL_SIZE.getName().equals(attributeName)) {
             return new ModelNode(metric.getCoreWorkerPoolSize());
         } else if (MAX_WORKER_POOL_SIZE.getName().equals(attributeName)) {
@@ -351,6 +426,31 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         }
     }
 
+    private static ModelNode getMonitorValue(String attributeName, WorkerMonitor monitor) throws OperationFailedException {
+        if (TASK_QUEUE_LATENCY.getName().equals(attributeName)) {
+            return new ModelNode(toMicros(monitor.getTaskLatency().getLatency()));
+        } else if (MAX_TASK_QUEUE_LATENCY.getName().equals(attributeName)) {
+            return new ModelNode(toMicros(monitor.getTaskLatency().getMaxLatency()));
+        } else if (IO_THREAD_LATENCIES.getName().equals(attributeName)) {
+            ModelNode result = new ModelNode().setEmptyList();
+            WorkerMonitor.Latency[] latencies = monitor.getIoThreadLatencies();
+            for (int i = 0; i < latencies.length; i++) {
+                ModelNode ioThread = result.add();
+                ioThread.get(IO_THREAD_NAME.getName()).set(monitor.getIoThreadName(i));
+                ioThread.get(IO_THREAD_LATENCY.getName()).set(toMicros(latencies[i].getLatency()));
+                ioThread.get(IO_THREAD_MAX_LATENCY.getName()).set(toMicros(latencies[i].getMaxLatency()));
+                ioThread.get(IO_THREAD_AVERAGE_LATENCY.getName()).set(toMicros(latencies[i].getAverageLatency()));
+            }
+            return result;
+        } else {
+            throw new OperationFailedException(IOLogger.ROOT_LOGGER.noMetrics());
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
     static class WorkerResource extends DelegatingResource {
         private final ServiceRegistry serviceRegistry;
         private final PathAddress pathAddress;
@@ -48,25 +48,48 @@ public final class WorkerService implements Service<XnioWorker> {
     private final Consumer<XnioWorker> workerConsumer;
     private final Supplier<ExecutorService> executorSupplier;
     private final Object stopLock = new Object();
+    private final String name;
+    private final MaxThreadTrackerService maxThreadTracker;
+    private final boolean autoTune;
+    private final long autoTuneTargetLatency;
     private XnioWorker worker;
+    private volatile WorkerMonitor monitor;
     private volatile StopContext stopContext;
 
     public WorkerService(final Consumer<XnioWorker> workerConsumer, final Supplier<ExecutorService> executorSupplier, final XnioWorker.Builder builder) {
+        this(workerConsumer, executorSupplier, builder, null, null, false, 0);
+    }
+
+    WorkerService(final Consumer<XnioWorker> workerConsumer, final Supplier<ExecutorService> executorSupplier, final XnioWorker.Builder builder,
+                  final String name, final MaxThreadTrackerService maxThreadTracker, final boolean autoTune, final long autoTuneTargetLatency) {
         this.workerConsumer = workerConsumer;
         this.executorSupplier = executorSupplier;
         this.builder = builder;
+        this.name = name;
+        this.maxThreadTracker = maxThreadTracker;
+        this.autoTune = autoTune;
+        this.autoTuneTargetLatency = autoTuneTargetLatency;
     }
 
     @Override
     public void start(final StartContext startContext) {
         builder.setTerminationTask(this::stopDone);
         worker = builder.build();
+        if (maxThreadTracker != null) {
+            monitor = new WorkerMonitor(name, worker, maxThreadTracker, autoTune, autoTuneTargetLatency);
+            monitor.start();
+        }
         workerConsumer.accept(worker);
     }
 
     @Override
     public void stop(final StopContext context) {
         this.stopContext = context;
+        final WorkerMonitor monitor = this.monitor;
+        if (monitor != null) {
+            this.monitor = null;
+            monitor.stop();
+        }
         final ExecutorService executorService = executorSupplier.get();
         Runnable asyncStop = () -> {
             XnioWorker localWorker = worker;
@@ -137,6 +160,13 @@ public final class WorkerService implements Service<XnioWorker> {
         return builder.getBindAddressConfigurations();
     }
 
+    /**
+     * @return the utilization monitor of the worker, or {@code null} if the worker is not running or not monitored
+     */
+    WorkerMonitor getMonitor() {
+        return monitor;
+    }
+
     @Override
     public XnioWorker getValue() throws IllegalStateException, IllegalArgumentException {
         return worker;
@@ -24,6 +24,7 @@
 
 package org.wildfly.extension.io.logging;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
@@ -79,4 +80,8 @@ public interface IOLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 8, value = "The stack-size value of %d bytes for IO worker %s is low and may result in problems. A value of at least 150,000 is recommended.")
     void wrongStackSize(long val, String workerName);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 9, value = "Worker '%s' adjusted its max task threads from %d to %d for a task queue latency of %d ms")
+    void autoTunedTaskThreads(String workerName, int previous, int maxThreads, long latencyMillis);
 }
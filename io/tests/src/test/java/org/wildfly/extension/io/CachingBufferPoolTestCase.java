@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.Pooled;
+
+/**
+ * Tests of {@link CachingBufferPool}.
+ */
+public class CachingBufferPoolTestCase {
+
+    @Test
+    public void testAllocateAndFree() {
+        CachingBufferPool pool = new CachingBufferPool(false, 16, 8, 4, Long.MAX_VALUE);
+        Pooled<ByteBuffer> pooled = pool.allocate();
+        ByteBuffer buffer = pooled.getResource();
+        Assert.assertEquals(16, buffer.capacity());
+        Assert.assertEquals(16, buffer.remaining());
+        Assert.assertEquals(16 * 8, pool.getAllocatedBytes());
+        Assert.assertEquals(16, pool.getInUseBytes());
+        Assert.assertEquals(1, pool.getCacheMisses());
+
+        buffer.put((byte) 1);
+        pooled.free();
+        pooled.free();
+        Assert.assertEquals(0, pool.getInUseBytes());
+        try {
+            pooled.getResource();
+            Assert.fail("Freed buffer still accessible");
+        } catch (IllegalStateException expected) {
+        }
+
+        Pooled<ByteBuffer> reused = pool.allocate();
+        Assert.assertSame(buffer, reused.getResource());
+        Assert.assertEquals(16, reused.getResource().remaining());
+        Assert.assertEquals(1, pool.getCacheHits());
+        reused.close();
+    }
+
+    @Test
+    public void testBuffersDoNotOverlap() {
+        CachingBufferPool pool = new CachingBufferPool(true, 4, 4, 2, Long.MAX_VALUE);
+        List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Pooled<ByteBuffer> pooled = pool.allocate();
+            pooled.getResource().putInt(i);
+            allocated.add(pooled);
+        }
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, allocated.get(i).getResource().getInt(0));
+        }
+        Assert.assertEquals(4 * 12, pool.getAllocatedBytes());
+        Assert.assertEquals(4 * 10, pool.getInUseBytes());
+        allocated.forEach(Pooled::free);
+        Assert.assertEquals(0, pool.getInUseBytes());
+        Assert.assertEquals(4 * 12, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testMaxRetainedMemory() {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 2, 16);
+        List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            allocated.add(pool.allocate());
+        }
+        allocated.forEach(Pooled::free);
+        // at most two buffers in the thread cache and the depot together
+        Assert.assertTrue(String.valueOf(pool.getRetainedBytes()), pool.getRetainedBytes() <= 16);
+        Assert.assertEquals(pool.getRetainedBytes(), pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testMaxRetainedMemoryOfThreadCaches() throws Exception {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 8, 32);
+        CountDownLatch freed = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+                for (int j = 0; j < 8; j++) {
+                    allocated.add(pool.allocate());
+                }
+                allocated.forEach(Pooled::free);
+                freed.countDown();
+                // keep the thread, and so its cache, alive
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        try {
+            Assert.assertTrue(freed.await(10, TimeUnit.SECONDS));
+            // the caches of the live threads count against the limit as well
+            Assert.assertTrue(String.valueOf(pool.getRetainedBytes()), pool.getRetainedBytes() <= 32);
+            Assert.assertEquals(pool.getRetainedBytes(), pool.getAllocatedBytes());
+        } finally {
+            release.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+    }
+
+    @Test
+    public void testTerminatedThreadNotRetained() throws Exception {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 2, Long.MAX_VALUE);
+        Thread thread = new Thread(() -> pool.allocate().free());
+        thread.start();
+        thread.join();
+        WeakReference<Thread> reference = new WeakReference<>(thread);
+        thread = null;
+        long end = System.currentTimeMillis() + 10_000;
+        while (reference.get() != null && System.currentTimeMillis() < end) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+
+        // the cache of the terminated thread is reclaimed when this thread creates its own
+        long allocatedBytes = pool.getAllocatedBytes();
+        for (int i = 0; i < 4; i++) {
+            pool.allocate();
+        }
+        Assert.assertEquals(allocatedBytes, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 2, Long.MAX_VALUE);
+        List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 8; i++) {
+                allocated.add(pool.allocate());
+            }
+        });
+        thread.start();
+        thread.join();
+        allocated.forEach(Pooled::free);
+        long allocatedBytes = pool.getAllocatedBytes();
+        for (int i = 0; i < 8; i++) {
+            pool.allocate();
+        }
+        // the buffers freed by this thread, and those left in the cache of the terminated thread, are reused
+        Assert.assertEquals(allocatedBytes, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testDiscardAndClean() {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 2, Long.MAX_VALUE);
+        Pooled<ByteBuffer> discarded = pool.allocate();
+        Pooled<ByteBuffer> freed = pool.allocate();
+        discarded.discard();
+        Assert.assertEquals(8, pool.getInUseBytes());
+        // the buffers left in use keep their whole region reachable
+        Assert.assertEquals(8 * 4, pool.getAllocatedBytes());
+        pool.clean();
+        Assert.assertEquals(8 * 4, pool.getAllocatedBytes());
+        Assert.assertEquals(0, pool.getRetainedBytes());
+        freed.free();
+        Assert.assertEquals(0, pool.getInUseBytes());
+        Assert.assertEquals(0, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testMaxRetainedMemoryReleasesDroppedBuffers() {
+        CachingBufferPool pool = new CachingBufferPool(false, 8, 4, 2, 8);
+        Pooled<ByteBuffer> first = pool.allocate();
+        Pooled<ByteBuffer> second = pool.allocate();
+        // buffers are not sliced out of shared regions, so each one dropped is released
+        Assert.assertEquals(8 * 2, pool.getAllocatedBytes());
+        first.free();
+        second.discard();
+        Assert.assertEquals(8, pool.getRetainedBytes());
+        Assert.assertEquals(8, pool.getAllocatedBytes());
+        pool.allocate().free();
+        Assert.assertEquals(8, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testCleanedPoolNotRetainedByThreadCaches() throws Exception {
+        AtomicReference<CachingBufferPool> pool = new AtomicReference<>(new CachingBufferPool(false, 8, 4, 2, Long.MAX_VALUE));
+        CountDownLatch freed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            pool.get().allocate().free();
+            freed.countDown();
+            // keep the thread, and so its thread local cache, alive
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        try {
+            Assert.assertTrue(freed.await(10, TimeUnit.SECONDS));
+            pool.get().clean();
+            Assert.assertEquals(0, pool.get().getAllocatedBytes());
+            WeakReference<CachingBufferPool> reference = new WeakReference<>(pool.getAndSet(null));
+            long end = System.currentTimeMillis() + 10_000;
+            while (reference.get() != null && System.currentTimeMillis() < end) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            Assert.assertNull(reference.get());
+        } finally {
+            release.countDown();
+            thread.join();
+        }
+    }
+}
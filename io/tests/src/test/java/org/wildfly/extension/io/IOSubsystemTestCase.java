@@ -28,10 +28,12 @@ import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.util.List;
 
 import org.jboss.as.controller.ExpressionResolver;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
@@ -44,6 +46,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.wildfly.common.cpu.ProcessorInfo;
 import org.xnio.OptionMap;
+import org.xnio.Pool;
 import org.xnio.Options;
 import org.xnio.Sequence;
 import org.xnio.XnioWorker;
@@ -60,7 +63,7 @@ public class IOSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXml() throws IOException {
-        return readResource("io-3.0.xml");
+        return readResource("io-4.0.xml");
     }
 
     @Test
@@ -131,6 +134,48 @@ public class IOSubsystemTestCase extends AbstractSubsystemBaseTest {
         Assert.assertEquals(keepAliveMillis / 1000, (long) mbs.getAttribute(threadPoolName, "KeepAliveTimeSeconds"));
     }
 
+    @Test
+    public void testWorkerLatencyMetrics() throws Exception {
+        KernelServices kernelServices = startKernelServices(getSubsystemXml());
+        XnioWorker worker = startXnioWorker(kernelServices);
+        PathAddress addr = PathAddress.parseCLIStyleAddress("/subsystem=io/worker=default");
+
+        ModelNode result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "io-thread-latencies"));
+        Assert.assertEquals(result.toString(), ModelDescriptionConstants.SUCCESS, result.get(ModelDescriptionConstants.OUTCOME).asString());
+        List<ModelNode> ioThreads = result.get(ModelDescriptionConstants.RESULT).asList();
+        Assert.assertEquals(worker.getIoThreadCount(), ioThreads.size());
+        for (ModelNode ioThread : ioThreads) {
+            Assert.assertTrue(ioThread.toString(), ioThread.hasDefined("name"));
+            Assert.assertTrue(ioThread.toString(), ioThread.get("latency").asLong() >= 0);
+        }
+
+        result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "task-queue-latency"));
+        Assert.assertEquals(result.toString(), ModelDescriptionConstants.SUCCESS, result.get(ModelDescriptionConstants.OUTCOME).asString());
+        Assert.assertTrue(result.toString(), result.get(ModelDescriptionConstants.RESULT).asLong() >= 0);
+
+        result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "auto-tune"));
+        Assert.assertFalse(result.toString(), result.get(ModelDescriptionConstants.RESULT).asBoolean());
+
+        result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "effective-task-max-threads"));
+        Assert.assertEquals(result.toString(), worker.getOption(Options.WORKER_TASK_MAX_THREADS).intValue(), result.get(ModelDescriptionConstants.RESULT).asInt());
+    }
+
+    @Test
+    public void testThreadCachedBufferPool() throws Exception {
+        KernelServices kernelServices = startKernelServices(getSubsystemXml());
+        ServiceController<?> controller = kernelServices.getContainer().getService(BufferPoolResourceDefinition.IO_POOL_RUNTIME_CAPABILITY.getCapabilityServiceName("thread-cached"));
+        controller.setMode(ServiceController.Mode.ACTIVE);
+        Pool<?> pool = (Pool<?>) controller.awaitValue();
+        Assert.assertTrue(String.valueOf(pool), pool instanceof CachingBufferPool);
+        pool.allocate().free();
+
+        PathAddress addr = PathAddress.parseCLIStyleAddress("/subsystem=io/buffer-pool=thread-cached");
+        ModelNode result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "thread-cache-misses"));
+        Assert.assertEquals(result.toString(), 1, result.get(ModelDescriptionConstants.RESULT).asLong());
+        result = kernelServices.executeOperation(Util.getReadAttributeOperation(addr, "allocated-bytes"));
+        Assert.assertEquals(result.toString(), 1024, result.get(ModelDescriptionConstants.RESULT).asLong());
+    }
+
     protected KernelServices startKernelServices(String subsystemXml) throws Exception {
         KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
                 .setSubsystemXml(subsystemXml);
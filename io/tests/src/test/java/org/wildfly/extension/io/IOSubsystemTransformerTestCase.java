@@ -21,8 +21,13 @@ package org.wildfly.extension.io;
 import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_0_0;
 import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_1_0;
 import static org.junit.Assert.assertTrue;
+import static org.wildfly.extension.io.BufferPoolResourceDefinition.MAX_RETAINED_MEMORY;
+import static org.wildfly.extension.io.BufferPoolResourceDefinition.THREAD_CACHE_SIZE;
+import static org.wildfly.extension.io.IOExtension.BUFFER_POOL_PATH;
 import static org.wildfly.extension.io.IOExtension.SUBSYSTEM_PATH;
 import static org.wildfly.extension.io.IOExtension.WORKER_PATH;
+import static org.wildfly.extension.io.WorkerResourceDefinition.AUTO_TUNE;
+import static org.wildfly.extension.io.WorkerResourceDefinition.AUTO_TUNE_TARGET_LATENCY;
 import static org.wildfly.extension.io.WorkerResourceDefinition.STACK_SIZE;
 import static org.wildfly.extension.io.WorkerResourceDefinition.WORKER_IO_THREADS;
 import static org.wildfly.extension.io.WorkerResourceDefinition.WORKER_TASK_CORE_THREADS;
@@ -110,7 +115,7 @@ public class IOSubsystemTransformerTestCase extends AbstractSubsystemBaseTest {
         PathAddress subsystemAddress = PathAddress.pathAddress(SUBSYSTEM_PATH);
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig()
                 .addFailedAttribute(subsystemAddress.append(WORKER_PATH),
-                        ChainedConfig.createBuilder(STACK_SIZE, WORKER_IO_THREADS, WORKER_TASK_KEEPALIVE, WORKER_TASK_MAX_THREADS, WORKER_TASK_CORE_THREADS)
+                        ChainedConfig.createBuilder(STACK_SIZE, WORKER_IO_THREADS, WORKER_TASK_KEEPALIVE, WORKER_TASK_MAX_THREADS, WORKER_TASK_CORE_THREADS, AUTO_TUNE, AUTO_TUNE_TARGET_LATENCY)
                             .addConfig(
                                     new FailedOperationTransformationConfig.RejectExpressionsConfig(
                                             STACK_SIZE,
@@ -119,11 +124,14 @@ public class IOSubsystemTransformerTestCase extends AbstractSubsystemBaseTest {
                                             WORKER_TASK_MAX_THREADS
                                     )
                             )
-                            .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(WORKER_TASK_CORE_THREADS))
+                            .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(WORKER_TASK_CORE_THREADS, AUTO_TUNE, AUTO_TUNE_TARGET_LATENCY))
                             .build()
                 )
                 .addFailedAttribute(subsystemAddress.append(PathElement.pathElement(WORKER_PATH.getKey(), "fourth-worker"), PathElement.pathElement("outbound-bind-address")),
                         FailedOperationTransformationConfig.REJECTED_RESOURCE
+                )
+                .addFailedAttribute(subsystemAddress.append(BUFFER_POOL_PATH),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(THREAD_CACHE_SIZE, MAX_RETAINED_MEMORY)
                 );
         testRejectingTransformers(EAP_7_0_0, config);
     }
@@ -134,8 +142,13 @@ public class IOSubsystemTransformerTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig()
                 .addFailedAttribute(subsystemAddress.append(WORKER_PATH),
                         new FailedOperationTransformationConfig.NewAttributesConfig(
-                                WORKER_TASK_CORE_THREADS
+                                WORKER_TASK_CORE_THREADS,
+                                AUTO_TUNE,
+                                AUTO_TUNE_TARGET_LATENCY
                         )
+                )
+                .addFailedAttribute(subsystemAddress.append(BUFFER_POOL_PATH),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(THREAD_CACHE_SIZE, MAX_RETAINED_MEMORY)
                 );
         testRejectingTransformers(EAP_7_1_0, config);
     }
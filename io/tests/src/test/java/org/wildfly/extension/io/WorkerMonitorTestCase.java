@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wildfly.extension.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.Xnio;
+import org.xnio.XnioWorker;
+
+/**
+ * Tests the {@link WorkerMonitor}.
+ */
+public class WorkerMonitorTestCase {
+
+    @Test
+    public void testSaturatedWorker() throws Exception {
+        // A single task thread with a single queue slot
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        final XnioWorker worker = Xnio.getInstance().createWorkerBuilder()
+                .setWorkerIoThreads(1)
+                .setExternalExecutorService(executor)
+                .build();
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            final WorkerMonitor monitor = new WorkerMonitor("default", worker, new MaxThreadTrackerService(), false, 20);
+            // Block the only task thread and fill the queue until tasks are rejected
+            boolean saturated = false;
+            for (int i = 0; i < 3 && !saturated; i++) {
+                try {
+                    worker.execute(() -> {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    saturated = true;
+                }
+            }
+            Assert.assertTrue(saturated);
+
+            // A rejected probe counts as a whole probe interval
+            monitor.run();
+            final WorkerMonitor.Latency latency = monitor.getTaskLatency();
+            Assert.assertTrue(latency.getLatency() >= TimeUnit.SECONDS.toNanos(1));
+
+            // Once the pool drains the probes are submitted again, so the latency comes back down
+            release.countDown();
+            final long end = System.currentTimeMillis() + 10_000;
+            while (latency.getLatency() >= TimeUnit.SECONDS.toNanos(1) && System.currentTimeMillis() < end) {
+                monitor.run();
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(latency.getLatency() < TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            release.countDown();
+            worker.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -78,6 +78,10 @@ public class ManagementModelIntegration implements ModelControllerServiceInitial
         ImmutableManagementResourceRegistration getRegistration() {
             return managementModel.getRootResourceRegistration();
         }
+
+        long getVersion() {
+            return managementModel.getRootResourceVersion();
+        }
     }
 
     public final class ManagementModelProvider implements Service<ManagementModelProvider> {
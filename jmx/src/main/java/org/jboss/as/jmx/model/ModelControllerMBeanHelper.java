@@ -24,6 +24,7 @@ package org.jboss.as.jmx.model;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
@@ -33,15 +34,19 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REA
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -70,6 +75,7 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
+import org.jboss.as.controller.registry.ResourceDescriptionCache;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.as.jmx.logging.JmxLogger;
 import org.jboss.as.jmx.model.ChildAddOperationFinder.ChildAddOperationEntry;
@@ -78,6 +84,7 @@ import org.jboss.as.jmx.model.RootResourceIterator.ResourceAction;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.common.Assert;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  *
@@ -89,6 +96,8 @@ public class ModelControllerMBeanHelper {
 
     static final String CLASS_NAME = ModelController.class.getName();
     private static final String AUTHORIZED_ERROR = "WFLYCTL0313";
+    private static final int MBEAN_INFO_CACHE_MAX_SIZE = Integer.parseInt(
+            WildFlySecurityManager.getPropertyPrivileged("org.wildfly.jmx.model.mbean-info-cache.max-size", "1000"));
 
     private final MutabilityChecker mutabilityChecker;
     private final ModelController controller;
@@ -100,6 +109,8 @@ public class ModelControllerMBeanHelper {
     private final String domain;
     private final ObjectInstance rootObjectInstance;
     private final ManagementModelIntegration.ManagementModelProvider managementModelProvider;
+    private final ObjectNameIndex objectNameIndex;
+    private final ConcurrentMap<ObjectName, CachedMBeanInfo> mbeanInfos = new ConcurrentHashMap<>();
 
     ModelControllerMBeanHelper(TypeConverters converters, ConfiguredDomains configuredDomains, String domain,
                                ModelController controller, MutabilityChecker mutabilityChecker,
@@ -112,9 +123,13 @@ public class ModelControllerMBeanHelper {
         this.mutabilityChecker = mutabilityChecker;
         this.managementModelProvider = managementModelProvider;
         this.rootObjectInstance = ModelControllerMBeanHelper.createRootObjectInstance(domain);
+        this.objectNameIndex = new ObjectNameIndex(domain, this::isExcludeAddress);
     }
 
     int getMBeanCount() {
+        if (ObjectNameIndex.isEnabled()) {
+            return objectNameIndex.getSnapshot(getRootResourceAndRegistration()).getRegisteredCount();
+        }
         // Here we don't provide the accessControlUtil as we don't want to pay the cost of doing RBAC
         // checks. An mbean exists and can be in the count regardless of whether it can be addressed
         return new RootResourceIterator<Integer>(null, getRootResourceAndRegistration().getResource(), new ResourceAction<Integer>() {
@@ -144,24 +159,32 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectInstance> queryMBeans(final MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectInstance> basic = new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
-                new ObjectNameMatchResourceAction<Set<ObjectInstance>>(name) {
+        Set<ObjectInstance> basic;
+        if (ObjectNameIndex.isEnabled()) {
+            basic = new HashSet<>();
+            for (ObjectName on : findIndexedNames(name)) {
+                basic.add(new ObjectInstance(on, CLASS_NAME));
+            }
+        } else {
+            basic = new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+                    new ObjectNameMatchResourceAction<Set<ObjectInstance>>(name) {
 
-            Set<ObjectInstance> set = new HashSet<ObjectInstance>();
+                Set<ObjectInstance> set = new HashSet<ObjectInstance>();
 
-            @Override
-            public boolean onResource(ObjectName resourceName) {
-                if (name == null || name.apply(resourceName)) {
-                    set.add(new ObjectInstance(resourceName, CLASS_NAME));
+                @Override
+                public boolean onResource(ObjectName resourceName) {
+                    if (name == null || name.apply(resourceName)) {
+                        set.add(new ObjectInstance(resourceName, CLASS_NAME));
+                    }
+                    return true;
                 }
-                return true;
-            }
 
-            @Override
-            public Set<ObjectInstance> getResult() {
-                return set;
-            }
-        }).iterate();
+                @Override
+                public Set<ObjectInstance> getResult() {
+                    return set;
+                }
+            }).iterate();
+        }
 
         // Handle any 'query' outside the RootResourceIterator so if the query calls back
         // into us it's not a recursive kind of thing in the ModelController
@@ -188,24 +211,29 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectName> queryNames(MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectName> basic = new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
-                new ObjectNameMatchResourceAction<Set<ObjectName>>(name) {
+        Set<ObjectName> basic;
+        if (ObjectNameIndex.isEnabled()) {
+            basic = findIndexedNames(name);
+        } else {
+            basic = new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+                    new ObjectNameMatchResourceAction<Set<ObjectName>>(name) {
 
-            Set<ObjectName> set = new HashSet<ObjectName>();
+                Set<ObjectName> set = new HashSet<ObjectName>();
 
-            @Override
-            public boolean onResource(ObjectName resourceName) {
-                if (name == null || name.apply(resourceName)) {
-                    set.add(resourceName);
+                @Override
+                public boolean onResource(ObjectName resourceName) {
+                    if (name == null || name.apply(resourceName)) {
+                        set.add(resourceName);
+                    }
+                    return true;
                 }
-                return true;
-            }
 
-            @Override
-            public Set<ObjectName> getResult() {
-                return set;
-            }
-        }).iterate();
+                @Override
+                public Set<ObjectName> getResult() {
+                    return set;
+                }
+            }).iterate();
+        }
 
         // Handle any 'query' outside the RootResourceIterator so if the query calls back
         // into us it's not a recursive kind of thing in the ModelController
@@ -230,6 +258,46 @@ public class ModelControllerMBeanHelper {
         return result;
     }
 
+    /**
+     * Finds the names of the resources that match {@code name} and that the caller can address,
+     * using the {@link ObjectNameIndex}. As with {@link RootResourceIterator}, a resource is only
+     * visible if all its parents are addressable as well. An exact name is resolved against the model
+     * like {@link #resolvePathAddress(ObjectName)}, so the answer always agrees with {@code isRegistered}.
+     */
+    private Set<ObjectName> findIndexedNames(final ObjectName name) {
+        final Map<PathAddress, Boolean> accessible = new HashMap<>();
+        final Set<ObjectName> result = new HashSet<>();
+        if (name != null && !name.isPattern()) {
+            PathAddress address = resolvePathAddress(name);
+            if (address != null && !isExcludeAddress(address) && isAccessible(address, accessible)) {
+                result.add(name);
+            }
+        } else {
+            final Map<ObjectName, PathAddress> names = objectNameIndex.getSnapshot(getRootResourceAndRegistration()).getNames();
+            for (Map.Entry<ObjectName, PathAddress> entry : names.entrySet()) {
+                if ((name == null || name.apply(entry.getKey())) && isAccessible(entry.getValue(), accessible)) {
+                    result.add(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isAccessible(PathAddress address, Map<PathAddress, Boolean> accessible) {
+        for (int i = 0; i <= address.size(); i++) {
+            PathAddress current = address.subAddress(0, i);
+            Boolean result = accessible.get(current);
+            if (result == null) {
+                result = accessControlUtil.getResourceAccess(current, false).isAccessibleResource();
+                accessible.put(current, result);
+            }
+            if (!result) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**  Set the mbean server on the QueryExp and try and pass back any previously set one */
     private static MBeanServer setQueryExpServer(QueryExp query, MBeanServer toSet) {
         // We assume the QueryExp is a QueryEval subclass or uses the QueryEval thread local
@@ -268,7 +336,24 @@ public class ModelControllerMBeanHelper {
         }
         // Ensure the resource is addressable; fail if not
         accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, true);
-        return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, getMBeanRegistration(address, reg));
+        final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
+        final ResourceDescriptionCache descriptionCache = ResourceDescriptionCache.forRegistration(reg.getRegistration());
+        if (descriptionCache == null || MBEAN_INFO_CACHE_MAX_SIZE <= 0) {
+            return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, registration);
+        }
+        // The MBeanInfo descriptors refer to the mirrored ObjectName, so the info is cached per name, and is
+        // valid for as long as the registration tree is unchanged
+        final long generation = descriptionCache.getGeneration();
+        final CachedMBeanInfo cached = mbeanInfos.get(name);
+        if (cached != null && cached.registration == registration && cached.generation == generation) {
+            return cached.info;
+        }
+        final MBeanInfo info = MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, registration);
+        if (mbeanInfos.size() >= MBEAN_INFO_CACHE_MAX_SIZE) {
+            mbeanInfos.clear();
+        }
+        mbeanInfos.put(name, new CachedMBeanInfo(registration, generation, info));
+        return info;
     }
 
     Object getAttribute(final ObjectName name, final String attribute)  throws AttributeNotFoundException, InstanceNotFoundException, ReflectionException {
@@ -289,16 +374,61 @@ public class ModelControllerMBeanHelper {
         }
         final ResourceAccessControl accessControl = accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, false);
         AttributeList list = new AttributeList();
-        for (String attribute : attributes) {
-            try {
-                list.add(new Attribute(attribute, getAttribute(reg, address, attribute, accessControl)));
-            } catch (AttributeNotFoundException e) {
-                throw new ReflectionException(e);
+        try {
+            if (attributes.length == 1) {
+                list.add(new Attribute(attributes[0], getAttribute(reg, address, attributes[0], accessControl)));
+            } else if (attributes.length > 1) {
+                Object[] values = getAttributes(reg, address, attributes, accessControl);
+                for (int i = 0; i < attributes.length; i++) {
+                    list.add(new Attribute(attributes[i], values[i]));
+                }
             }
+        } catch (AttributeNotFoundException e) {
+            throw new ReflectionException(e);
         }
         return list;
     }
 
+    /**
+     * Reads several attributes using a single composite operation of {@code read-attribute} steps, rather than
+     * executing one operation per attribute.
+     */
+    private Object[] getAttributes(final ManagementModelIntegration.ResourceAndRegistration reg, final PathAddress address, final String[] attributes, final ResourceAccessControl accessControl)  throws AttributeNotFoundException, InstanceNotFoundException {
+        final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
+        final Map<String, AttributeAccess> registered = registration.getAttributes(PathAddress.EMPTY_ADDRESS);
+        final String[] attributeNames = new String[attributes.length];
+        final ModelNode composite = new ModelNode();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(OP_ADDR).setEmptyList();
+        final ModelNode steps = composite.get(STEPS).setEmptyList();
+        for (int i = 0; i < attributes.length; i++) {
+            attributeNames[i] = findAttributeName(registered.keySet(), attributes[i]);
+            if (!accessControl.isReadableAttribute(attributeNames[i])) {
+                throw JmxLogger.ROOT_LOGGER.notAuthorizedToReadAttribute(attributeNames[i]);
+            }
+            ModelNode op = steps.add();
+            op.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            op.get(OP_ADDR).set(address.toModelNode());
+            op.get(NAME).set(attributeNames[i]);
+        }
+
+        final ModelNode result = execute(composite);
+        final Object[] values = new Object[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            ModelNode stepResult = result.get(RESULT, "step-" + (i + 1));
+            String error = getFailureDescription(stepResult);
+            if (error != null || !stepResult.isDefined()) {
+                throw new AttributeNotFoundException(error != null ? error : getFailureDescription(result));
+            }
+            ModelNode attrDesc = getAttributeDescription(attributeNames[i], registration, registered);
+            values[i] = converters.fromModelNode(registered.get(attributeNames[i]).getAttributeDefinition(), attrDesc, stepResult.get(RESULT));
+        }
+        if (getFailureDescription(result) != null) {
+            throw new AttributeNotFoundException(getFailureDescription(result));
+        }
+        return values;
+    }
+
     private Object getAttribute(final ManagementModelIntegration.ResourceAndRegistration reg, final PathAddress address, final String attribute, final ResourceAccessControl accessControl)  throws ReflectionException, AttributeNotFoundException, InstanceNotFoundException {
         final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
         final Map<String, AttributeAccess> attributes = registration.getAttributes(PathAddress.EMPTY_ADDRESS);
@@ -639,6 +769,22 @@ public class ModelControllerMBeanHelper {
         return converters;
     }
 
+    ObjectNameIndex getObjectNameIndex() {
+        return objectNameIndex;
+    }
+
+    private static final class CachedMBeanInfo {
+        private final ImmutableManagementResourceRegistration registration;
+        private final long generation;
+        private final MBeanInfo info;
+
+        private CachedMBeanInfo(ImmutableManagementResourceRegistration registration, long generation, MBeanInfo info) {
+            this.registration = registration;
+            this.generation = generation;
+            this.info = info;
+        }
+    }
+
     private abstract class ObjectNameMatchResourceAction<T> implements ResourceAction<T> {
 
         private final ObjectName baseName;
@@ -97,6 +97,15 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
                 new ModelControllerMBeanHelper(TypeConverters.createExpressionTypeConverters(), configuredDomains,
                         configuredDomains.getExprDomain(), controller, mutabilityChecker, managementModelProvider) : null;
 
+        if (notificationRegistry != null) {
+            for (ModelControllerMBeanHelper helper : new ModelControllerMBeanHelper[] {legacyHelper, exprHelper}) {
+                if (helper != null) {
+                    ObjectNameIndex index = helper.getObjectNameIndex();
+                    notificationRegistry.registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, index, index);
+                }
+            }
+        }
+
         // JMX notifications for MBean registration/unregistration are emitted by the MBeanServerDelegate and not by the
         // MBeans itself. If we have a reference on the delegate, we add a listener for any WildFly resource address
         // that converts the resource-added and resource-removed notifications to MBeanServerNotification and send them
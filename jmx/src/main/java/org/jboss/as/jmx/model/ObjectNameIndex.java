@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.jmx.model;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationFilter;
+import org.jboss.as.controller.notification.NotificationHandler;
+import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+import org.jboss.as.jmx.model.RootResourceIterator.ResourceAction;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Index of the {@link ObjectName}s of the resources in the management model for one JMX domain, so pattern
+ * queries and the MBean count don't need to walk the resource tree and create an {@code ObjectName} per resource.
+ * <p>
+ * The index is rebuilt lazily once the controller has published a modified resource tree, which happens before the
+ * operation that modified it completes, so the index is never behind the model that the other MBean server methods
+ * read. It is also rebuilt after a {@code resource-added} or {@code resource-removed} notification, which some
+ * runtime resources emit for children they register without modifying the published tree. Setting the
+ * {@code org.wildfly.jmx.model.index} system property to {@code false} disables the index.
+ * </p>
+ */
+final class ObjectNameIndex implements NotificationHandler, NotificationFilter {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("org.wildfly.jmx.model.index", "true"));
+
+    private final String domain;
+    private final Predicate<PathAddress> excluded;
+    private volatile Snapshot snapshot;
+
+    ObjectNameIndex(String domain, Predicate<PathAddress> excluded) {
+        this.domain = domain;
+        this.excluded = excluded;
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Gets the current snapshot of the index, building it if needed.
+     *
+     * @param reg the model to index. Cannot be {@code null}
+     * @return the snapshot. Will not be {@code null}
+     */
+    Snapshot getSnapshot(ManagementModelIntegration.ResourceAndRegistration reg) {
+        // Read the version before the tree, so a tree published meanwhile is picked up by the next call
+        final long version = reg.getVersion();
+        Snapshot current = snapshot;
+        if (current == null || version < 0 || current.version != version) {
+            current = build(reg, version);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    void invalidate() {
+        snapshot = null;
+    }
+
+    @Override
+    public void handleNotification(Notification notification) {
+        invalidate();
+    }
+
+    @Override
+    public boolean isNotificationEnabled(Notification notification) {
+        return RESOURCE_ADDED_NOTIFICATION.equals(notification.getType())
+                || RESOURCE_REMOVED_NOTIFICATION.equals(notification.getType());
+    }
+
+    private Snapshot build(ManagementModelIntegration.ResourceAndRegistration reg, long version) {
+        final ImmutableManagementResourceRegistration rootRegistration = reg.getRegistration();
+        return new RootResourceIterator<>(null, reg.getResource(), new ResourceAction<Snapshot>() {
+            final ObjectNameAddressUtil.ObjectNameCreationContext creationContext = ObjectNameAddressUtil.ObjectNameCreationContext.create();
+            final Map<ObjectName, PathAddress> names = new LinkedHashMap<>();
+            PathAddress current;
+            int registered;
+
+            @Override
+            public ObjectName onAddress(PathAddress address) {
+                if (excluded.test(address)) {
+                    return null;
+                }
+                current = address;
+                return ObjectNameAddressUtil.createObjectName(domain, address, creationContext);
+            }
+
+            @Override
+            public boolean onResource(ObjectName resourceObjectName) {
+                names.put(resourceObjectName, current);
+                if (rootRegistration.getSubModel(current) != null) {
+                    registered++;
+                }
+                return true;
+            }
+
+            @Override
+            public Snapshot getResult() {
+                return new Snapshot(version, Collections.unmodifiableMap(names), registered);
+            }
+        }).iterate();
+    }
+
+    static final class Snapshot {
+        private final long version;
+        private final Map<ObjectName, PathAddress> names;
+        private final int registeredCount;
+
+        private Snapshot(long version, Map<ObjectName, PathAddress> names, int registeredCount) {
+            this.version = version;
+            this.names = names;
+            this.registeredCount = registeredCount;
+        }
+
+        /**
+         * Gets the names of all resources, parents before their children.
+         *
+         * @return map of the names to the addresses of the resources. Will not be {@code null}
+         */
+        Map<ObjectName, PathAddress> getNames() {
+            return names;
+        }
+
+        /**
+         * Gets the number of resources with a registration, i.e. the resources that are MBeans.
+         *
+         * @return the count
+         */
+        int getRegisteredCount() {
+            return registeredCount;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.management.Attribute;
 import javax.management.AttributeChangeNotification;
 import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
@@ -61,6 +62,7 @@ import javax.management.ObjectInstance;
 import javax.management.ObjectName;
 import javax.management.Query;
 import javax.management.QueryExp;
+import javax.management.ReflectionException;
 import javax.management.RuntimeOperationsException;
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.CompositeDataSupport;
@@ -847,6 +849,19 @@ public class ModelControllerMBeanTestCase extends AbstractSubsystemTest {
                 Collections.singletonList(109), 110, ModelType.STRING);
     }
 
+    @Test
+    public void testReadAttributeListUnknownAttributeStandalone() throws Exception {
+        MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.STANDALONE_SERVER, new TestExtension()));
+
+        ObjectName name = createObjectName(LEGACY_DOMAIN + ":subsystem=test");
+        try {
+            connection.getAttributes(name, new String[]{"int", "nonExistent", "long"});
+            Assert.fail("Should not have been able to read nonExistent");
+        } catch (ReflectionException expected) {
+            Assert.assertTrue(expected.getCause() instanceof AttributeNotFoundException);
+        }
+    }
+
     @Test
     public void testReadWriteAttributeListDomain() throws Exception {
         MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.DOMAIN_SERVER, new TestExtension()));
@@ -49,6 +49,7 @@ public enum Attribute {
     CLASS(CommonAttributes.CLASS),
     COLOR_MAP(PatternFormatterResourceDefinition.COLOR_MAP),
     ENABLED(CommonAttributes.ENABLED),
+    GROUP_COMMIT(CommonAttributes.GROUP_COMMIT),
     MIN_INCLUSIVE(CommonAttributes.MIN_INCLUSIVE),
     MIN_LEVEL(CommonAttributes.MIN_LEVEL),
     MAX_BACKUP_INDEX(SizeRotatingHandlerResourceDefinition.MAX_BACKUP_INDEX),
@@ -63,6 +64,7 @@ public enum Attribute {
     PATTERN(PatternFormatterResourceDefinition.PATTERN),
     QUEUE_LENGTH(AsyncHandlerResourceDefinition.QUEUE_LENGTH),
     RELATIVE_TO(PathResourceDefinition.RELATIVE_TO),
+    RING_BUFFER(AsyncHandlerResourceDefinition.RING_BUFFER),
     REPLACEMENT(CommonAttributes.REPLACEMENT),
     REPLACE_ALL(CommonAttributes.REPLACE_ALL),
     ROTATE_ON_BOOT(SizeRotatingHandlerResourceDefinition.ROTATE_ON_BOOT),
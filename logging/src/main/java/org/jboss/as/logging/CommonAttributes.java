@@ -36,7 +36,11 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleMapAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.ObjectTypeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.services.path.PathResourceDefinition;
 import org.jboss.as.logging.capabilities.Capabilities;
 import org.jboss.as.logging.correctors.FileCorrector;
@@ -108,6 +112,31 @@ public interface CommonAttributes {
             .setValidator(new FileValidator())
             .build();
 
+    // Selects the GroupCommitFileHandler, which replaces the handler
+    SimpleAttributeDefinition GROUP_COMMIT = SimpleAttributeDefinitionBuilder.create("group-commit", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .build();
+
+    PropertyAttributeDefinition GROUP_COMMIT_INTERVAL = PropertyAttributeDefinition.Builder.of("group-commit-interval", ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setAttributeMarshaller(ElementAttributeMarshaller.VALUE_ATTRIBUTE_MARSHALLER)
+            .setDefaultValue(new ModelNode(10L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setPropertyName("commitInterval")
+            .setValidator(new LongRangeValidator(1L, true))
+            .build();
+
+    PropertyAttributeDefinition GROUP_COMMIT_SIZE = PropertyAttributeDefinition.Builder.of("group-commit-size", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setAttributeMarshaller(ElementAttributeMarshaller.VALUE_ATTRIBUTE_MARSHALLER)
+            .setDefaultValue(new ModelNode(64 * 1024))
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setPropertyName("commitSize")
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
     SimpleAttributeDefinition HANDLER_NAME = SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING, true)
             .setCapabilityReference(Capabilities.HANDLER_REFERENCE_RECORDER)
             .build();
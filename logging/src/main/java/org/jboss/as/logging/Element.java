@@ -72,6 +72,8 @@ enum Element {
     FILTER(CommonAttributes.FILTER),
     FILTER_SPEC("filter-spec"),
     FORMATTER(AbstractHandlerDefinition.FORMATTER),
+    GROUP_COMMIT_INTERVAL(CommonAttributes.GROUP_COMMIT_INTERVAL),
+    GROUP_COMMIT_SIZE(CommonAttributes.GROUP_COMMIT_SIZE),
     HANDLERS(LoggerAttributes.HANDLERS),
     HOSTNAME(SyslogHandlerResourceDefinition.HOSTNAME),
     JSON_FORMATTER(JsonFormatterResourceDefinition.NAME),
@@ -105,6 +107,7 @@ enum Element {
     SYSLOG_HANDLER(SyslogHandlerResourceDefinition.NAME),
     TARGET(ConsoleHandlerResourceDefinition.TARGET),
     USE_DEPLOYMENT_LOGGING_CONFIG(LoggingResourceDefinition.USE_DEPLOYMENT_LOGGING_CONFIG),
+    WAIT_STRATEGY(AsyncHandlerResourceDefinition.WAIT_STRATEGY),
     XML_FORMATTER(XmlFormatterResourceDefinition.NAME),;
 
     private final String name;
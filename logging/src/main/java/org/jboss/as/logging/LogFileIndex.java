@@ -0,0 +1,287 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A sparse index of the line offsets of a log file, used to seek to a line without reading the lines before it.
+ * <p>
+ * The offset of every {@value #INTERVAL}th line is recorded. The index is built lazily, only as far into the file as
+ * the lines requested, and is extended as the file grows. It is discarded if the file is truncated or replaced, for
+ * example when it is rotated.
+ * <p>
+ * Lines are terminated the same way as for {@link BufferedReader#readLine()}: by a line feed, a carriage return or a
+ * carriage return followed by a line feed. Terminators are searched for as bytes, so only character sets that encode
+ * them as single bytes which never occur within other characters, such as UTF-8 or ISO-8859-1, can be indexed; see
+ * {@link #isIndexable(Charset)}.
+ */
+final class LogFileIndex {
+
+    static final int INTERVAL = 1024;
+    // The number of lines, counted from the end, up to which lines are read backwards instead of with the index
+    private static final int TAIL_SCAN_LIMIT = 8 * INTERVAL;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int TAIL_CHUNK_SIZE = 8192;
+    private static final Map<Path, LogFileIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private Object fileKey;
+    private long[] checkpoints = new long[16];
+    private int checkpointCount;
+    // The number of complete lines indexed, the offset of the line following them and how far the file was scanned
+    private long lineCount;
+    private long indexedLength;
+    private long scannedLength;
+    // Whether the last byte scanned is a carriage return, which a line feed completing the terminator may follow
+    private boolean carriageReturn;
+
+    private LogFileIndex(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Reads lines of a log file.
+     *
+     * @param path          the log file
+     * @param charset       the character set of the file, which must be {@linkplain #isIndexable(Charset) indexable}
+     * @param tail          {@code true} to count the lines to skip and read from the end of the file
+     * @param skip          the number of lines to skip
+     * @param numberOfLines the number of lines to read, or {@code -1} to read all the remaining lines
+     *
+     * @return the lines, in the order they appear in the file
+     *
+     * @throws IOException if the file cannot be read
+     */
+    static List<String> readLines(final Path path, final Charset charset, final boolean tail, final int skip, final int numberOfLines) throws IOException {
+        if (numberOfLines == 0) {
+            return Collections.emptyList();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (tail && numberOfLines > 0 && (long) skip + numberOfLines <= TAIL_SCAN_LIMIT) {
+                return readTail(channel, size, charset, skip, numberOfLines);
+            }
+            final LogFileIndex index = getIndex(path);
+            final long first;
+            final long count;
+            final long[] position;
+            synchronized (index) {
+                if (tail) {
+                    final long totalLines = index.countLines(channel, size);
+                    first = numberOfLines < 0 ? 0 : Math.max(0, totalLines - skip - numberOfLines);
+                    count = totalLines - skip - first;
+                } else {
+                    first = skip;
+                    count = numberOfLines < 0 ? Long.MAX_VALUE : numberOfLines;
+                }
+                position = count > 0 ? index.findLine(channel, size, first) : null;
+            }
+            if (position == null) {
+                return Collections.emptyList();
+            }
+            return readForward(channel, position[0], charset, position[1], count);
+        }
+    }
+
+    /**
+     * Indicates whether lines of files in the character set can be found by searching for their terminators as bytes.
+     *
+     * @param charset the character set
+     *
+     * @return {@code true} if the lines can be indexed, otherwise {@code false}
+     */
+    static boolean isIndexable(final Charset charset) {
+        return charset.canEncode() && Arrays.equals("a\r\n".getBytes(charset), new byte[] {'a', '\r', '\n'});
+    }
+
+    private static LogFileIndex getIndex(final Path path) {
+        LogFileIndex index = INDEXES.get(path);
+        if (index == null) {
+            // Discard the indexes of files which have been removed, rotated files for example
+            INDEXES.keySet().removeIf(Files::notExists);
+            index = INDEXES.computeIfAbsent(path, LogFileIndex::new);
+        }
+        return index;
+    }
+
+    private static List<String> readForward(final FileChannel channel, final long offset, final Charset charset, final long skip, final long count) throws IOException {
+        final List<String> lines = new ArrayList<>((int) Math.min(count, INTERVAL));
+        channel.position(offset);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), charset));
+        for (long i = 0; i < skip; i++) {
+            if (reader.readLine() == null) {
+                return lines;
+            }
+        }
+        String line;
+        while (lines.size() < count && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the last lines of a file by searching backwards for the start of the line {@code skip + numberOfLines}
+     * lines from the end, so that only the end of the file is read.
+     */
+    private static List<String> readTail(final FileChannel channel, final long size, final Charset charset, final int skip, final int numberOfLines) throws IOException {
+        final int wanted = skip + numberOfLines;
+        final ByteBuffer buffer = ByteBuffer.allocate(TAIL_CHUNK_SIZE);
+        long position = size;
+        // The terminator of the last line does not start another line
+        boolean trailing = true;
+        int found = 0;
+        long offset = 0;
+        byte next = 0;
+        search:
+        while (position > 0) {
+            final int length = (int) Math.min(TAIL_CHUNK_SIZE, position);
+            position -= length;
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                final byte b = buffer.get(i);
+                if (b == '\n' || (b == '\r' && next != '\n')) {
+                    if (trailing) {
+                        trailing = false;
+                    } else if (++found == wanted) {
+                        offset = position + i + 1;
+                        break search;
+                    }
+                } else if (b != '\r') {
+                    trailing = false;
+                }
+                next = b;
+            }
+        }
+        final List<String> lines = readForward(channel, offset, charset, 0, wanted);
+        return lines.subList(Math.max(0, lines.size() - wanted), Math.max(0, lines.size() - skip));
+    }
+
+    /**
+     * Counts the lines of the file, indexing all of it.
+     */
+    private long countLines(final FileChannel channel, final long size) throws IOException {
+        index(channel, size, Long.MAX_VALUE);
+        // A final line without a terminator is a line
+        return lineCount + (size > indexedLength ? 1 : 0);
+    }
+
+    /**
+     * Finds the nearest indexed line before a line, indexing the file as far as that line.
+     *
+     * @return the offset of the nearest indexed line and the number of lines from it to the line, or {@code null} if
+     * the file has fewer lines
+     */
+    private long[] findLine(final FileChannel channel, final long size, final long line) throws IOException {
+        index(channel, size, line);
+        if (line < lineCount) {
+            final int checkpoint = (int) (line / INTERVAL);
+            return new long[] {checkpoints[checkpoint], line - (long) checkpoint * INTERVAL};
+        }
+        if (line == lineCount && size > indexedLength) {
+            return new long[] {indexedLength, 0};
+        }
+        return null;
+    }
+
+    /**
+     * Indexes the file until more than {@code lines} complete lines are indexed or the end of the file is reached.
+     */
+    private void index(final FileChannel channel, final long size, final long lines) throws IOException {
+        final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        if (size < scannedLength || !Objects.equals(fileKey, this.fileKey)) {
+            // The file was truncated or replaced
+            this.fileKey = fileKey;
+            checkpointCount = 0;
+            lineCount = 0;
+            indexedLength = 0;
+            scannedLength = 0;
+            carriageReturn = false;
+        }
+        // The file is read rather than mapped, a mapping is only released once collected and would keep the file
+        // from being rotated on some platforms
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (lineCount <= lines && scannedLength < size) {
+            final long start = scannedLength;
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, size - start));
+            final int length = channel.read(buffer, start);
+            if (length <= 0) {
+                // The file was truncated while it was indexed
+                break;
+            }
+            int i = 0;
+            while (i < length && lineCount <= lines) {
+                final byte b = buffer.get(i++);
+                if (carriageReturn) {
+                    carriageReturn = false;
+                    if (b == '\n') {
+                        // Completes the terminator of the previous line
+                        indexedLength = start + i;
+                        continue;
+                    }
+                }
+                if (b == '\n' || b == '\r') {
+                    if (lineCount % INTERVAL == 0) {
+                        addCheckpoint(indexedLength);
+                    }
+                    lineCount++;
+                    indexedLength = start + i;
+                    carriageReturn = b == '\r';
+                }
+            }
+            scannedLength = start + i;
+        }
+    }
+
+    private void addCheckpoint(final long offset) {
+        if (checkpointCount == checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+        }
+        checkpoints[checkpointCount++] = offset;
+    }
+}
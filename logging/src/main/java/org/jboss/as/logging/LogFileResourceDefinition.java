@@ -30,6 +30,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -37,12 +39,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -63,6 +69,7 @@ import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.logging.logging.LoggingLogger;
+import org.jboss.as.logging.validators.LogLevelValidator;
 import org.jboss.as.server.ServerEnvironment;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -124,6 +131,31 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
             .setRuntimeOnly()
             .build();
 
+    private static final SimpleAttributeDefinition PATTERN = SimpleAttributeDefinitionBuilder.create("pattern", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    private static final SimpleAttributeDefinition LEVEL = SimpleAttributeDefinitionBuilder.create("level", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setValidator(new LogLevelValidator(true))
+            .build();
+
+    private static final SimpleAttributeDefinition FROM = SimpleAttributeDefinitionBuilder.create("from", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    private static final SimpleAttributeDefinition TO = SimpleAttributeDefinitionBuilder.create("to", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    private static final SimpleOperationDefinition SEARCH_LOG_FILE = new SimpleOperationDefinitionBuilder("search-log-file", LoggingExtension.getResourceDescriptionResolver())
+            .addAccessConstraint(VIEW_SERVER_LOGS)
+            .setParameters(ENCODING, PATTERN, LEVEL, FROM, TO)
+            .setReplyType(ModelType.STRING)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
     private static final PathElement LOG_FILE_PATH = PathElement.pathElement("log-file");
 
     private final PathManager pathManager;
@@ -139,6 +171,7 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
     public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(READ_LOG_FILE, new ReadLogFileOperation(pathManager));
+        resourceRegistration.registerOperationHandler(SEARCH_LOG_FILE, new SearchLogFileOperation(pathManager));
 
     }
 
@@ -261,6 +294,10 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
         }
 
         private List<String> readLines(final File file, final String encoding, final boolean tail, final int skip, final int numberOfLines) throws IOException {
+            final Charset charset = getCharset(encoding);
+            if (LogFileIndex.isIndexable(charset)) {
+                return LogFileIndex.readLines(file.toPath(), charset, tail, skip, numberOfLines);
+            }
             final List<String> lines;
             if (numberOfLines < 0) {
                 lines = new ArrayList<>();
@@ -269,12 +306,7 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
             }
             try (
                     final InputStream in = (tail ? new LifoFileInputStream(file) : Files.newInputStream(file.toPath()));
-                    /* we should stick with the default here and not use UTF-8.
-                    The encoding on the file handler does not default to UTF-8 but the system default.
-                    I think here we should stick with the system default unless explicitly defined.
-                    I could see a UTF-8 default possibly being problematic on IBM bases systems.
-                     */
-                    final InputStreamReader isr = (encoding == null ? new InputStreamReader(in) : new InputStreamReader(in, encoding));
+                    final InputStreamReader isr = new InputStreamReader(in, charset);
                     final BufferedReader reader = new BufferedReader(isr)
             ) {
                 int lineCount = 0;
@@ -292,6 +324,95 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * Searches a log file and returns the matching lines as a result stream attachment.
+     */
+    static class SearchLogFileOperation implements OperationStepHandler {
+
+        private final PathManager pathManager;
+
+        private SearchLogFileOperation(final PathManager pathManager) {
+            this.pathManager = pathManager;
+        }
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final String fileName = context.getCurrentAddressValue();
+            final String logDir = pathManager.getPathEntry(ServerEnvironment.SERVER_LOG_DIR).resolvePath();
+            validateFile(context, logDir, fileName);
+            // Validate the operation
+            for (AttributeDefinition attribute : SEARCH_LOG_FILE.getParameters()) {
+                attribute.validateOperation(operation);
+            }
+            final ModelNode encodingModel = ENCODING.resolveModelAttribute(context, operation);
+            final String encoding = (encodingModel.isDefined() ? encodingModel.asString() : null);
+            final ModelNode patternModel = PATTERN.resolveModelAttribute(context, operation);
+            final ModelNode levelModel = LEVEL.resolveModelAttribute(context, operation);
+            final Pattern pattern;
+            try {
+                pattern = patternModel.isDefined() ? Pattern.compile(patternModel.asString()) : null;
+            } catch (PatternSyntaxException e) {
+                throw LoggingLogger.ROOT_LOGGER.invalidSearchPattern(e, patternModel.asString());
+            }
+            final Level level;
+            if (levelModel.isDefined()) {
+                // The validator accepts levels, such as OFF or custom levels, which records cannot be matched against
+                level = LogFileSearch.getLevel(levelModel.asString());
+                if (level == null) {
+                    throw LoggingLogger.ROOT_LOGGER.searchLevelNotSupported(levelModel.asString());
+                }
+            } else {
+                level = null;
+            }
+            final long from = parseTimestamp(FROM.resolveModelAttribute(context, operation), Long.MIN_VALUE);
+            final long to = parseTimestamp(TO.resolveModelAttribute(context, operation), Long.MAX_VALUE);
+            final Path path = Paths.get(logDir, fileName);
+
+            // The file must exist
+            if (Files.notExists(path)) {
+                throw LoggingLogger.ROOT_LOGGER.logFileNotFound(fileName, ServerEnvironment.SERVER_LOG_DIR);
+            }
+
+            try {
+                final Charset charset = getCharset(encoding);
+                if (!LogFileIndex.isIndexable(charset)) {
+                    throw LoggingLogger.ROOT_LOGGER.searchNotSupported(fileName, charset.name());
+                }
+                final String uuid = context.attachResultStream("text/plain", new LogFileSearch(path, charset, pattern, level, from, to));
+                context.getResult().set(uuid);
+            } catch (IOException e) {
+                throw LoggingLogger.ROOT_LOGGER.failedToReadLogFile(e, fileName);
+            }
+            context.completeStep(ResultHandler.NOOP_RESULT_HANDLER);
+        }
+
+        private static long parseTimestamp(final ModelNode value, final long defaultValue) throws OperationFailedException {
+            if (!value.isDefined()) {
+                return defaultValue;
+            }
+            try {
+                return new SimpleDateFormat(ISO_8601_FORMAT).parse(value.asString()).getTime();
+            } catch (ParseException e) {
+                throw LoggingLogger.ROOT_LOGGER.invalidTimestamp(e, value.asString(), ISO_8601_FORMAT);
+            }
+        }
+    }
+
+    /**
+     * Returns the character set with the name or, as log files are written in it unless an encoding is configured,
+     * the system default if the name is {@code null}.
+     */
+    private static Charset getCharset(final String encoding) throws UnsupportedEncodingException {
+        if (encoding == null) {
+            return Charset.defaultCharset();
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+    }
+
     static final class LifoFileInputStream extends InputStream {
         private final RandomAccessFile raf;
         private final long len;
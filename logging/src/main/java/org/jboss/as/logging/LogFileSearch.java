@@ -0,0 +1,306 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A stream of the lines of a log file which match a search. The file is read, a buffer at a time, only as the stream
+ * is read, so that searching a large file does not require holding the matches in memory. The file is not memory
+ * mapped, a mapping outlives the stream until it is garbage collected and would keep the file from being rotated on
+ * some platforms.
+ * <p>
+ * A line starting with a timestamp in the {@code yyyy-MM-dd HH:mm:ss,SSS} form of the default formatters starts a
+ * record, which includes the following lines without a timestamp, such as the lines of a stack trace. The level and
+ * time range of a search are matched against records, the level being the first level name found after the
+ * timestamp. The pattern of a search is matched against each line. The lines of a file must be
+ * {@linkplain LogFileIndex#isIndexable(Charset) indexable}.
+ */
+final class LogFileSearch extends InputStream {
+
+    private static final Pattern TIMESTAMP = Pattern.compile("^(\\d{4}-\\d{2}-\\d{2})[ T](\\d{2}:\\d{2}:\\d{2})(?:[,.](\\d{1,9}))?");
+    // How far after the timestamp the level is searched for
+    private static final int LEVEL_SEARCH_LENGTH = 100;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Map<String, Level> LEVELS = new HashMap<>();
+    private static final Pattern LEVEL;
+
+    static {
+        for (Level level : new Level[] {
+                org.jboss.logmanager.Level.ALL,
+                org.jboss.logmanager.Level.FINEST,
+                org.jboss.logmanager.Level.TRACE,
+                org.jboss.logmanager.Level.FINER,
+                org.jboss.logmanager.Level.DEBUG,
+                org.jboss.logmanager.Level.FINE,
+                org.jboss.logmanager.Level.CONFIG,
+                org.jboss.logmanager.Level.INFO,
+                org.jboss.logmanager.Level.WARN,
+                org.jboss.logmanager.Level.WARNING,
+                org.jboss.logmanager.Level.ERROR,
+                org.jboss.logmanager.Level.SEVERE,
+                org.jboss.logmanager.Level.FATAL}) {
+            LEVELS.put(level.getName(), level);
+        }
+        LEVEL = Pattern.compile(LEVELS.keySet().stream().collect(Collectors.joining("|", "\\b(", ")\\b")));
+    }
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final Pattern pattern;
+    private final Level level;
+    private final long from;
+    private final long to;
+    private final boolean filterRecords;
+    private final long size;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+    private long bufferEnd;
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private int linePosition;
+    private boolean matching;
+    private boolean lineReady;
+    private boolean eof;
+
+    /**
+     * Creates a search.
+     *
+     * @param path    the log file
+     * @param charset the character set of the file
+     * @param pattern the pattern a line must contain or {@code null} for any line
+     * @param level   the minimum level of a record or {@code null} for any level
+     * @param from    the earliest time, in milliseconds, of a record or {@link Long#MIN_VALUE}
+     * @param to      the latest time, in milliseconds, of a record or {@link Long#MAX_VALUE}
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    LogFileSearch(final Path path, final Charset charset, final Pattern pattern, final Level level, final long from, final long to) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.charset = charset;
+        this.pattern = pattern;
+        this.level = level;
+        this.from = from;
+        this.to = to;
+        this.filterRecords = level != null || from != Long.MIN_VALUE || to != Long.MAX_VALUE;
+        // Lines before the first record only match if records are not filtered
+        this.matching = !filterRecords;
+        this.size = channel.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextMatch()) {
+            return -1;
+        }
+        return linePosition < lineLength ? line[linePosition++] & 0xff : lineEnd();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextMatch()) {
+            return -1;
+        }
+        int read = 0;
+        while (read < len && nextMatch()) {
+            if (linePosition < lineLength) {
+                final int count = Math.min(len - read, lineLength - linePosition);
+                System.arraycopy(line, linePosition, b, off + read, count);
+                linePosition += count;
+                read += count;
+            } else {
+                b[off + read++] = (byte) lineEnd();
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        eof = true;
+        channel.close();
+    }
+
+    /**
+     * Ends the current line, which has been fully read.
+     *
+     * @return the line feed terminating the line
+     */
+    private int lineEnd() {
+        lineReady = false;
+        return '\n';
+    }
+
+    /**
+     * Reads lines until one matches, unless the current match has not been fully read.
+     *
+     * @return {@code true} if a matching line is available, {@code false} at the end of the file
+     */
+    private boolean nextMatch() throws IOException {
+        while (!lineReady) {
+            if (eof || !nextLine()) {
+                return false;
+            }
+            lineReady = matches();
+            linePosition = 0;
+        }
+        return true;
+    }
+
+    private boolean matches() {
+        final String text = new String(line, 0, lineLength, charset);
+        if (filterRecords) {
+            final Matcher timestamp = TIMESTAMP.matcher(text);
+            if (timestamp.find()) {
+                matching = matchesRecord(text, timestamp);
+            }
+        }
+        return matching && (pattern == null || pattern.matcher(text).find());
+    }
+
+    private boolean matchesRecord(final String text, final Matcher timestamp) {
+        if (from != Long.MIN_VALUE || to != Long.MAX_VALUE) {
+            final long time;
+            try {
+                time = parseTime(timestamp);
+            } catch (RuntimeException e) {
+                return false;
+            }
+            if (time < from || time > to) {
+                return false;
+            }
+        }
+        if (level != null) {
+            final Matcher levelMatcher = LEVEL.matcher(text).region(timestamp.end(), Math.min(text.length(), timestamp.end() + LEVEL_SEARCH_LENGTH));
+            if (!levelMatcher.find()) {
+                return false;
+            }
+            final Level recordLevel = LEVELS.get(levelMatcher.group(1));
+            return recordLevel != null && recordLevel.intValue() >= level.intValue();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the level with the name.
+     *
+     * @param name the name of the level, in any case
+     *
+     * @return the level or {@code null} if records cannot be searched for the level
+     */
+    static Level getLevel(final String name) {
+        return LEVELS.get(name.toUpperCase(Locale.ROOT));
+    }
+
+    private static long parseTime(final Matcher timestamp) {
+        final String fraction = timestamp.group(3);
+        final int nanos = fraction == null ? 0 : Integer.parseInt((fraction + "00000000").substring(0, 9));
+        return LocalDate.parse(timestamp.group(1)).atTime(LocalTime.parse(timestamp.group(2)).withNano(nanos))
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Copies the next line, without its terminator, into the line buffer.
+     *
+     * @return {@code false} if the end of the file was reached
+     */
+    private boolean nextLine() throws IOException {
+        lineLength = 0;
+        boolean read = false;
+        int b;
+        while ((b = nextByte()) >= 0) {
+            read = true;
+            if (b == '\n') {
+                return true;
+            }
+            if (b == '\r') {
+                // Skip the line feed of a carriage return and line feed pair
+                if (peekByte() == '\n') {
+                    nextByte();
+                }
+                return true;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, lineLength * 2);
+            }
+            line[lineLength++] = (byte) b;
+        }
+        if (!read) {
+            close();
+        }
+        return read;
+    }
+
+    private int nextByte() throws IOException {
+        if (!ensureRegion()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    private int peekByte() throws IOException {
+        if (!ensureRegion()) {
+            return -1;
+        }
+        return buffer.get(buffer.position()) & 0xff;
+    }
+
+    private boolean ensureRegion() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        if (bufferEnd >= size) {
+            return false;
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, size - bufferEnd));
+        final int read = channel.read(buffer, bufferEnd);
+        buffer.flip();
+        if (read <= 0) {
+            // The file was truncated while it was searched
+            return false;
+        }
+        bufferEnd += read;
+        return true;
+    }
+}
@@ -28,6 +28,8 @@ import java.util.Set;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelNode;
+import org.jboss.logmanager.LogContext;
+import org.jboss.modules.Module;
 
 /**
  * A set of utilities for the logging subsystem.
@@ -111,4 +113,21 @@ public final class Logging {
         return result;
     }
 
+    /**
+     * Returns the name of the module a known handler or formatter type must be loaded from. Types provided by the log
+     * manager are loaded by the log manager itself, other types, such as those shipped with this subsystem, are not
+     * visible to it and need their module.
+     *
+     * @param type the type to be loaded by the log manager
+     *
+     * @return the module name or {@code null} if the log manager can load the type
+     */
+    public static String getModuleName(final Class<?> type) {
+        if (type.getClassLoader() == LogContext.class.getClassLoader()) {
+            return null;
+        }
+        final Module module = Module.forClass(type);
+        return module == null ? null : module.getName();
+    }
+
 }
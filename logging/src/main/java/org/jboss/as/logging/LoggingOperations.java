@@ -100,7 +100,14 @@ public final class LoggingOperations {
         return configurationPersistence;
     }
 
-    private static ConfigurationPersistence getConfigurationPersistence(final OperationContext context) {
+    /**
+     * Gets the configuration persistence for the log context the current address belongs to.
+     *
+     * @param context the operation context
+     *
+     * @return the configuration persistence or {@code null} if the log context has not been configured
+     */
+    public static ConfigurationPersistence getConfigurationPersistence(final OperationContext context) {
         final PathAddress address = context.getCurrentAddress();
         final LogContext logContext;
         if (LoggingProfileOperations.isLoggingProfileAddress(address)) {
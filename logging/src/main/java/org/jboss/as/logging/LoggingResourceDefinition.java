@@ -39,6 +39,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.OperationContext;
@@ -53,6 +54,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
@@ -150,7 +152,29 @@ public class LoggingResourceDefinition extends TransformerResourceDefinition {
             USE_DEPLOYMENT_LOGGING_CONFIG,
     };
 
+    static final SimpleAttributeDefinition LOG_CONTEXT_SELECTIONS = SimpleAttributeDefinitionBuilder.create("log-context-selections", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition LOG_CONTEXT_CACHE_HITS = SimpleAttributeDefinitionBuilder.create("log-context-cache-hits", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition LOG_CONTEXT_CACHE_MISSES = SimpleAttributeDefinitionBuilder.create("log-context-cache-misses", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition[] METRICS = {
+            LOG_CONTEXT_SELECTIONS,
+            LOG_CONTEXT_CACHE_HITS,
+            LOG_CONTEXT_CACHE_MISSES,
+    };
+
     private final PathManager pathManager;
+    private final WildFlyLogContextSelector contextSelector;
 
     protected LoggingResourceDefinition(final PathManager pathManager, final WildFlyLogContextSelector contextSelector) {
         super(
@@ -160,6 +184,7 @@ public class LoggingResourceDefinition extends TransformerResourceDefinition {
                         .setAddRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
         );
         this.pathManager = pathManager;
+        this.contextSelector = contextSelector;
     }
 
     @Override
@@ -170,6 +195,13 @@ public class LoggingResourceDefinition extends TransformerResourceDefinition {
         for (SimpleAttributeDefinition attribute : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attribute, null, writeHandler);
         }
+        // Only register on server
+        if (pathManager != null) {
+            final OperationStepHandler metricsHandler = new LogContextSelectorMetricsHandler();
+            for (SimpleAttributeDefinition metric : METRICS) {
+                resourceRegistration.registerMetric(metric, metricsHandler);
+            }
+        }
     }
 
     @Override
@@ -200,6 +232,22 @@ public class LoggingResourceDefinition extends TransformerResourceDefinition {
         resourceRegistration.registerAdditionalRuntimePackages(LoggingModuleDependency.getRuntimeDependencies());
     }
 
+    private class LogContextSelectorMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ModelNode result = context.getResult();
+            if (LOG_CONTEXT_SELECTIONS.getName().equals(attributeName)) {
+                result.set(contextSelector.getSelectionCount());
+            } else if (LOG_CONTEXT_CACHE_HITS.getName().equals(attributeName)) {
+                result.set(contextSelector.getCacheHitCount());
+            } else if (LOG_CONTEXT_CACHE_MISSES.getName().equals(attributeName)) {
+                result.set(contextSelector.getCacheMissCount());
+            }
+        }
+    }
+
     private class ListLogFilesOperation implements OperationStepHandler {
 
         @Override
@@ -24,12 +24,29 @@ import static org.jboss.as.controller.parsing.ParseUtils.missingRequired;
 import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedElement;
+import static org.jboss.as.logging.CommonAttributes.APPEND;
+import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
+import static org.jboss.as.logging.CommonAttributes.ENABLED;
+import static org.jboss.as.logging.CommonAttributes.ENCODING;
+import static org.jboss.as.logging.CommonAttributes.FILE;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
+import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.LOGGING_PROFILE;
+import static org.jboss.as.logging.handlers.AsyncHandlerResourceDefinition.OVERFLOW_ACTION;
+import static org.jboss.as.logging.handlers.AsyncHandlerResourceDefinition.QUEUE_LENGTH;
+import static org.jboss.as.logging.handlers.AsyncHandlerResourceDefinition.RING_BUFFER;
+import static org.jboss.as.logging.handlers.AsyncHandlerResourceDefinition.WAIT_STRATEGY;
+import static org.jboss.as.logging.handlers.SizeRotatingHandlerResourceDefinition.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.handlers.SizeRotatingHandlerResourceDefinition.ROTATE_ON_BOOT;
+import static org.jboss.as.logging.handlers.SizeRotatingHandlerResourceDefinition.ROTATE_SIZE;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import javax.xml.stream.XMLStreamException;
 
@@ -37,6 +54,13 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.parsing.ParseUtils;
 import org.jboss.as.logging.filters.FilterResourceDefinition;
+import org.jboss.as.logging.formatters.CustomFormatterResourceDefinition;
+import org.jboss.as.logging.formatters.JsonFormatterResourceDefinition;
+import org.jboss.as.logging.formatters.PatternFormatterResourceDefinition;
+import org.jboss.as.logging.formatters.XmlFormatterResourceDefinition;
+import org.jboss.as.logging.handlers.AsyncHandlerResourceDefinition;
+import org.jboss.as.logging.handlers.FileHandlerResourceDefinition;
+import org.jboss.as.logging.handlers.SizeRotatingHandlerResourceDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLExtendedStreamReader;
 
@@ -268,6 +292,368 @@ class LoggingSubsystemParser_8_0 extends LoggingSubsystemParser_7_0 {
         operations.addAll(loggerOperations);
     }
 
+    @Override
+    void parseFormatter(final XMLExtendedStreamReader reader, final PathAddress address, final List<ModelNode> operations, final Set<String> names) throws XMLStreamException {
+        // Attributes
+        String name = null;
+        final EnumSet<Attribute> required = EnumSet.of(Attribute.NAME);
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        if (!names.add(name)) {
+            throw duplicateNamedElement(reader, name);
+        }
+
+        final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
+        while (reader.nextTag() != END_ELEMENT) {
+            final Element element = Element.forName(reader.getLocalName());
+            if (!encountered.add(element)) {
+                throw unexpectedElement(reader);
+            }
+            switch (element) {
+                case PATTERN_FORMATTER: {
+                    final ModelNode operation = Util.createAddOperation();
+                    // Setup the operation address
+                    addOperationAddress(operation, address, PatternFormatterResourceDefinition.NAME, name);
+                    parsePatternFormatterElement(reader, operation);
+                    operations.add(operation);
+                    break;
+                }
+                case CUSTOM_FORMATTER: {
+                    final ModelNode operation = Util.createAddOperation();
+                    // Setup the operation address
+                    addOperationAddress(operation, address, CustomFormatterResourceDefinition.NAME, name);
+                    parseCustomFormatterElement(reader, operation);
+                    operations.add(operation);
+                    break;
+                }
+                case JSON_FORMATTER: {
+                    final ModelNode operation = Util.createAddOperation();
+                    // Setup the operation address
+                    addOperationAddress(operation, address, JsonFormatterResourceDefinition.NAME, name);
+                    parseStructuredFormatter(reader, operation, JsonFormatterResourceDefinition.PRE_ENCODED_KEYS,
+                            JsonFormatterResourceDefinition.LENGTH_PREFIXED);
+                    operations.add(operation);
+                    break;
+                }
+                case XML_FORMATTER: {
+                    final ModelNode operation = Util.createAddOperation();
+                    // Setup the operation address
+                    addOperationAddress(operation, address, XmlFormatterResourceDefinition.NAME, name);
+                    parseStructuredFormatter(reader, operation, XmlFormatterResourceDefinition.NAMESPACE_URI,
+                            XmlFormatterResourceDefinition.PRINT_NAMESPACE);
+                    operations.add(operation);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+    }
+
+    @Override
+    void parseFileHandlerElement(final XMLExtendedStreamReader reader, final PathAddress address, final List<ModelNode> operations, final Set<String> names) throws XMLStreamException {
+        final ModelNode operation = Util.createAddOperation();
+        // Attributes
+        String name = null;
+        final EnumSet<Attribute> required = EnumSet.of(Attribute.NAME);
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                case AUTOFLUSH: {
+                    AUTOFLUSH.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case ENABLED: {
+                    ENABLED.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT: {
+                    GROUP_COMMIT.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        if (!names.add(name)) {
+            throw duplicateNamedElement(reader, name);
+        }
+
+        // Setup the operation address
+        addOperationAddress(operation, address, FileHandlerResourceDefinition.NAME, name);
+
+        // Elements
+        final EnumSet<Element> requiredElem = EnumSet.of(Element.FILE);
+        final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
+        while (reader.nextTag() != END_ELEMENT) {
+            final Element element = Element.forName(reader.getLocalName());
+            if (!encountered.add(element)) {
+                throw unexpectedElement(reader);
+            }
+            requiredElem.remove(element);
+            switch (element) {
+                case LEVEL: {
+                    LEVEL.parseAndSetParameter(readNameAttribute(reader), operation, reader);
+                    break;
+                }
+                case ENCODING: {
+                    ENCODING.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case FILTER_SPEC: {
+                    FileHandlerResourceDefinition.FILTER_SPEC.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case FORMATTER: {
+                    parseHandlerFormatterElement(reader, operation);
+                    break;
+                }
+                case FILE: {
+                    parseFileElement(operation.get(FILE.getName()), reader);
+                    break;
+                }
+                case APPEND: {
+                    APPEND.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT_INTERVAL: {
+                    GROUP_COMMIT_INTERVAL.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT_SIZE: {
+                    GROUP_COMMIT_SIZE.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+        if (!requiredElem.isEmpty()) {
+            throw missingRequired(reader, requiredElem);
+        }
+        operations.add(operation);
+    }
+
+    @Override
+    void parseSizeRotatingHandlerElement(final XMLExtendedStreamReader reader, final PathAddress address, final List<ModelNode> operations, final Set<String> names) throws XMLStreamException {
+        final ModelNode operation = Util.createAddOperation();
+        // Attributes
+        String name = null;
+        final EnumSet<Attribute> required = EnumSet.of(Attribute.NAME);
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                case AUTOFLUSH: {
+                    AUTOFLUSH.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case ENABLED: {
+                    ENABLED.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT: {
+                    GROUP_COMMIT.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case ROTATE_ON_BOOT: {
+                    ROTATE_ON_BOOT.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        if (!names.add(name)) {
+            throw duplicateNamedElement(reader, name);
+        }
+
+        // Setup the operation address
+        addOperationAddress(operation, address, SizeRotatingHandlerResourceDefinition.NAME, name);
+
+        final EnumSet<Element> requiredElem = EnumSet.of(Element.FILE);
+        final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
+        while (reader.nextTag() != END_ELEMENT) {
+            final Element element = Element.forName(reader.getLocalName());
+            if (!encountered.add(element)) {
+                throw unexpectedElement(reader);
+            }
+            requiredElem.remove(element);
+            switch (element) {
+                case LEVEL: {
+                    LEVEL.parseAndSetParameter(readNameAttribute(reader), operation, reader);
+                    break;
+                }
+                case ENCODING: {
+                    ENCODING.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case FILTER_SPEC: {
+                    SizeRotatingHandlerResourceDefinition.FILTER_SPEC.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case FORMATTER: {
+                    parseHandlerFormatterElement(reader, operation);
+                    break;
+                }
+                case FILE: {
+                    parseFileElement(operation.get(FILE.getName()), reader);
+                    break;
+                }
+                case APPEND: {
+                    APPEND.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case ROTATE_SIZE: {
+                    ROTATE_SIZE.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case MAX_BACKUP_INDEX: {
+                    MAX_BACKUP_INDEX.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case SUFFIX: {
+                    SizeRotatingHandlerResourceDefinition.SUFFIX.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT_INTERVAL: {
+                    GROUP_COMMIT_INTERVAL.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case GROUP_COMMIT_SIZE: {
+                    GROUP_COMMIT_SIZE.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+        operations.add(operation);
+    }
+
+    @Override
+    void parseAsyncHandlerElement(final XMLExtendedStreamReader reader, final PathAddress address, final List<ModelNode> operations, final Set<String> names) throws XMLStreamException {
+        final ModelNode operation = Util.createAddOperation();
+        // Attributes
+        String name = null;
+        final EnumSet<Attribute> required = EnumSet.of(Attribute.NAME);
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                case ENABLED: {
+                    ENABLED.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                case RING_BUFFER: {
+                    RING_BUFFER.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        if (!names.add(name)) {
+            throw duplicateNamedElement(reader, name);
+        }
+
+        // Setup the operation address
+        addOperationAddress(operation, address, AsyncHandlerResourceDefinition.NAME, name);
+
+        // Elements
+        final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
+        while (reader.nextTag() != END_ELEMENT) {
+            final Element element = Element.forName(reader.getLocalName());
+            if (!encountered.add(element)) {
+                throw unexpectedElement(reader);
+            }
+            switch (element) {
+                case LEVEL: {
+                    LEVEL.parseAndSetParameter(readNameAttribute(reader), operation, reader);
+                    break;
+                }
+                case SUBHANDLERS: {
+                    parseHandlersElement(element.getDefinition(), operation, reader);
+                    break;
+                }
+                case FILTER_SPEC: {
+                    AsyncHandlerResourceDefinition.FILTER_SPEC.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case FORMATTER: {
+                    parseHandlerFormatterElement(reader, operation);
+                    break;
+                }
+                case QUEUE_LENGTH: {
+                    QUEUE_LENGTH.parseAndSetParameter(readValueAttribute(reader), operation, reader);
+                    break;
+                }
+                case OVERFLOW_ACTION: {
+                    OVERFLOW_ACTION.parseAndSetParameter(readValueAttribute(reader).toUpperCase(Locale.US), operation, reader);
+                    break;
+                }
+                case WAIT_STRATEGY: {
+                    WAIT_STRATEGY.parseAndSetParameter(readValueAttribute(reader).toUpperCase(Locale.US), operation, reader);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+        operations.add(operation);
+    }
+
     @SuppressWarnings("WeakerAccess")
     void parseFilterElement(final XMLExtendedStreamReader reader, final PathAddress address, final List<ModelNode> operations, final Set<String> filterNames) throws XMLStreamException {
         final ModelNode operation = Util.createAddOperation();
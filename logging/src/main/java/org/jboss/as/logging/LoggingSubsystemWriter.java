@@ -28,6 +28,9 @@ import static org.jboss.as.logging.CommonAttributes.CLASS;
 import static org.jboss.as.logging.CommonAttributes.ENABLED;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
 import static org.jboss.as.logging.loggers.LoggerAttributes.HANDLERS;
 import static org.jboss.as.logging.CommonAttributes.HANDLER_NAME;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
@@ -233,7 +236,8 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
 
         writeFormatters(writer, PatternFormatterResourceDefinition.NAME, PatternFormatterResourceDefinition.PATTERN_FORMATTER, model);
         writeFormatters(writer, CustomFormatterResourceDefinition.NAME, CustomFormatterResourceDefinition.CUSTOM_FORMATTER, model);
-        writeStructuredFormatters(writer, JsonFormatterResourceDefinition.NAME, model);
+        writeStructuredFormatters(writer, JsonFormatterResourceDefinition.NAME, model,
+                JsonFormatterResourceDefinition.PRE_ENCODED_KEYS, JsonFormatterResourceDefinition.LENGTH_PREFIXED);
         writeStructuredFormatters(writer, XmlFormatterResourceDefinition.NAME, model,
                 XmlFormatterResourceDefinition.PRINT_NAMESPACE, XmlFormatterResourceDefinition.NAMESPACE_URI);
 
@@ -275,9 +279,12 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
         writer.writeAttribute(Attribute.NAME.getLocalName(), name);
         AUTOFLUSH.marshallAsAttribute(model, writer);
         ENABLED.marshallAsAttribute(model, false, writer);
+        GROUP_COMMIT.marshallAsAttribute(model, false, writer);
         writeCommonHandler(writer, model);
         FILE.marshallAsElement(model, writer);
         APPEND.marshallAsElement(model, writer);
+        GROUP_COMMIT_INTERVAL.marshallAsElement(model, writer);
+        GROUP_COMMIT_SIZE.marshallAsElement(model, writer);
 
         writer.writeEndElement();
     }
@@ -330,12 +337,15 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
         AUTOFLUSH.marshallAsAttribute(model, writer);
         ENABLED.marshallAsAttribute(model, false, writer);
         ROTATE_ON_BOOT.marshallAsAttribute(model, false, writer);
+        GROUP_COMMIT.marshallAsAttribute(model, false, writer);
         writeCommonHandler(writer, model);
         FILE.marshallAsElement(model, writer);
         ROTATE_SIZE.marshallAsElement(model, writer);
         MAX_BACKUP_INDEX.marshallAsElement(model, writer);
         APPEND.marshallAsElement(model, writer);
         SizeRotatingHandlerResourceDefinition.SUFFIX.marshallAsElement(model, writer);
+        GROUP_COMMIT_INTERVAL.marshallAsElement(model, writer);
+        GROUP_COMMIT_SIZE.marshallAsElement(model, writer);
 
         writer.writeEndElement();
     }
@@ -385,11 +395,13 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
         writer.writeStartElement(Element.ASYNC_HANDLER.getLocalName());
         writer.writeAttribute(HANDLER_NAME.getXmlName(), name);
         ENABLED.marshallAsAttribute(model, false, writer);
+        AsyncHandlerResourceDefinition.RING_BUFFER.marshallAsAttribute(model, false, writer);
         LEVEL.marshallAsElement(model, writer);
         AbstractHandlerDefinition.FILTER_SPEC.marshallAsElement(model, writer);
         FORMATTER.marshallAsElement(model, writer);
         QUEUE_LENGTH.marshallAsElement(model, writer);
         OVERFLOW_ACTION.marshallAsElement(model, writer);
+        AsyncHandlerResourceDefinition.WAIT_STRATEGY.marshallAsElement(model, writer);
         SUBHANDLERS.marshallAsElement(model, writer);
 
         writer.writeEndElement();
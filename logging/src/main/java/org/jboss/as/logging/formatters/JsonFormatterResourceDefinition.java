@@ -20,6 +20,17 @@
 package org.jboss.as.logging.formatters;
 
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.logging.KnownModelVersion;
+import org.jboss.as.logging.PropertyAttributeDefinition;
+import org.jboss.as.logging.logmanager.FastJsonFormatter;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.logmanager.formatters.JsonFormatter;
 
 /**
@@ -29,9 +40,47 @@ public class JsonFormatterResourceDefinition extends StructuredFormatterResource
     public static final String NAME = "json-formatter";
     private static final PathElement PATH = PathElement.pathElement(NAME);
 
+    /**
+     * If {@code true} the formatter is backed by a {@link FastJsonFormatter} rather than the log manager's
+     * {@link JsonFormatter}.
+     */
+    public static final SimpleAttributeDefinition PRE_ENCODED_KEYS = SimpleAttributeDefinitionBuilder.create("pre-encoded-keys", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            // The formatter type changes, so the formatter needs to be replaced
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .build();
+
+    public static final PropertyAttributeDefinition LENGTH_PREFIXED = PropertyAttributeDefinition.Builder.of("length-prefixed", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setPropertyName("lengthPrefixed")
+            .build();
+
     public static final JsonFormatterResourceDefinition INSTANCE = new JsonFormatterResourceDefinition();
 
     private JsonFormatterResourceDefinition() {
-        super(PATH, NAME, JsonFormatter.class);
+        super(PATH, NAME, (context, model) -> PRE_ENCODED_KEYS.resolveModelAttribute(context, model).asBoolean() ? FastJsonFormatter.class : JsonFormatter.class,
+                PRE_ENCODED_KEYS, LENGTH_PREFIXED);
+    }
+
+    @Override
+    public void registerTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder rootResourceBuilder, final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
+        super.registerTransformers(modelVersion, rootResourceBuilder, loggingProfileBuilder);
+        switch (modelVersion) {
+            case VERSION_8_0_0: {
+                rootResourceBuilder.addChildResource(getPathElement())
+                        .getAttributeBuilder()
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, PRE_ENCODED_KEYS, LENGTH_PREFIXED)
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, PRE_ENCODED_KEYS, LENGTH_PREFIXED)
+                        .end();
+                loggingProfileBuilder.addChildResource(getPathElement())
+                        .getAttributeBuilder()
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, PRE_ENCODED_KEYS, LENGTH_PREFIXED)
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, PRE_ENCODED_KEYS, LENGTH_PREFIXED)
+                        .end();
+                break;
+            }
+        }
     }
 }
@@ -47,6 +47,7 @@ import org.jboss.as.logging.PropertyAttributeDefinition;
 import org.jboss.as.logging.TransformerResourceDefinition;
 import org.jboss.as.logging.capabilities.Capabilities;
 import org.jboss.as.logging.logging.LoggingLogger;
+import org.jboss.as.logging.logmanager.FastJsonFormatter;
 import org.jboss.as.logging.resolvers.ModelNodeResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -298,6 +299,11 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
 
     StructuredFormatterResourceDefinition(final PathElement pathElement, final String descriptionPrefix,
                                           final Class<? extends StructuredFormatter> type, final AttributeDefinition... additionalAttributes) {
+        this(pathElement, descriptionPrefix, (context, model) -> type, additionalAttributes);
+    }
+
+    StructuredFormatterResourceDefinition(final PathElement pathElement, final String descriptionPrefix,
+                                          final FormatterTypeResolver type, final AttributeDefinition... additionalAttributes) {
         super(
                 new Parameters(pathElement, LoggingExtension.getResourceDescriptionResolver(descriptionPrefix))
                         .setAddHandler(new AddStructuredFormatterStepHandler(type, Logging.join(DEFAULT_ATTRIBUTES, additionalAttributes)))
@@ -330,6 +336,25 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
         }
     }
 
+    /**
+     * Checks whether the attribute is set as a property on formatters of the given type.
+     *
+     * @param attribute the attribute to check
+     * @param className the class name of the formatter
+     *
+     * @return {@code true} if the attribute is a property of the formatter, otherwise {@code false}
+     */
+    private static boolean isFormatterProperty(final AttributeDefinition attribute, final String className) {
+        if (attribute == JsonFormatterResourceDefinition.PRE_ENCODED_KEYS) {
+            // Selects the type of the formatter
+            return false;
+        }
+        if (attribute == JsonFormatterResourceDefinition.LENGTH_PREFIXED) {
+            return FastJsonFormatter.class.getName().equals(className);
+        }
+        return true;
+    }
+
     private static String modelValueToMetaData(final ModelNode metaData) {
         if (metaData.getType() != ModelType.OBJECT) {
             return null;
@@ -352,10 +377,29 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
         return result.toString();
     }
 
+    /**
+     * Resolves the type of the formatter from the model of the resource.
+     */
+    @FunctionalInterface
+    interface FormatterTypeResolver {
+
+        /**
+         * Resolves the type of the formatter.
+         *
+         * @param context the operation context
+         * @param model   the model of the formatter resource
+         *
+         * @return the type of the formatter
+         *
+         * @throws OperationFailedException if an attribute of the model cannot be resolved
+         */
+        Class<? extends StructuredFormatter> resolve(OperationContext context, ModelNode model) throws OperationFailedException;
+    }
+
     private static class AddStructuredFormatterStepHandler extends LoggingOperations.LoggingAddOperationStepHandler {
-        private final Class<? extends StructuredFormatter> type;
+        private final FormatterTypeResolver type;
 
-        private AddStructuredFormatterStepHandler(final Class<? extends StructuredFormatter> type, final AttributeDefinition[] attributes) {
+        private AddStructuredFormatterStepHandler(final FormatterTypeResolver type, final AttributeDefinition[] attributes) {
             super(attributes);
             this.type = type;
         }
@@ -373,20 +417,32 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
                 throw LoggingLogger.ROOT_LOGGER.illegalFormatterName();
             }
             FormatterConfiguration configuration = logContextConfiguration.getFormatterConfiguration(name);
+            final Class<? extends StructuredFormatter> type = this.type.resolve(context, model);
             final String className = type.getName();
+            final String moduleName = Logging.getModuleName(type);
 
             if (configuration == null) {
                 LoggingLogger.ROOT_LOGGER.tracef("Adding formatter '%s' at '%s'", name, context.getCurrentAddress());
                 if (keyOverrides == null) {
-                    configuration = logContextConfiguration.addFormatterConfiguration(null, className, name);
+                    configuration = logContextConfiguration.addFormatterConfiguration(moduleName, className, name);
+                } else {
+                    configuration = logContextConfiguration.addFormatterConfiguration(moduleName, className, name, "keyOverrides");
+                    configuration.setPropertyValueString("keyOverrides", keyOverrides);
+                }
+            } else if (!className.equals(configuration.getClassName())) {
+                // The type differs from a previous configuration if the pre-encoded-keys attribute was changed
+                LoggingLogger.ROOT_LOGGER.tracef("Replacing formatter '%s' at '%s'", name, context.getCurrentAddress());
+                logContextConfiguration.removeFormatterConfiguration(name);
+                if (keyOverrides == null) {
+                    configuration = logContextConfiguration.addFormatterConfiguration(moduleName, className, name);
                 } else {
-                    configuration = logContextConfiguration.addFormatterConfiguration(null, className, name, "keyOverrides");
+                    configuration = logContextConfiguration.addFormatterConfiguration(moduleName, className, name, "keyOverrides");
                     configuration.setPropertyValueString("keyOverrides", keyOverrides);
                 }
             } else if (isSamePropertyValue(configuration, "keyOverrides", keyOverrides)) {
                 LoggingLogger.ROOT_LOGGER.tracef("Removing then adding formatter '%s' at '%s'", name, context.getCurrentAddress());
                 logContextConfiguration.removeFormatterConfiguration(name);
-                configuration = logContextConfiguration.addFormatterConfiguration(null, className, name, "keyOverrides");
+                configuration = logContextConfiguration.addFormatterConfiguration(moduleName, className, name, "keyOverrides");
                 configuration.setPropertyValueString("keyOverrides", keyOverrides);
             }
 
@@ -403,6 +459,8 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
                     }
                 } else if (attribute == KEY_OVERRIDES) {
                     // Ignore the key-overrides as it was already taken care of
+                } else if (!isFormatterProperty(attribute, className)) {
+                    // Ignore attributes which are not properties of this type of formatter
                 } else {
                     if (attribute instanceof PropertyAttributeDefinition) {
                         ((PropertyAttributeDefinition) attribute).setPropertyValue(context, model, configuration);
@@ -431,8 +489,11 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
 
     private static class WriteStructuredFormatterStepHandler extends LoggingOperations.LoggingWriteAttributeHandler {
 
+        private final AttributeDefinition[] attributes;
+
         WriteStructuredFormatterStepHandler(final AttributeDefinition[] attributes) {
             super(attributes);
+            this.attributes = attributes;
         }
 
         @Override
@@ -446,12 +507,15 @@ public abstract class StructuredFormatterResourceDefinition extends TransformerR
                 } else {
                     configuration.removeProperty("metaData");
                 }
-            } else if (attributeName.equals(KEY_OVERRIDES.getName())) {
+            } else if (attributeName.equals(KEY_OVERRIDES.getName()) || attributeName.equals(JsonFormatterResourceDefinition.PRE_ENCODED_KEYS.getName())) {
                 // Require a restart of the resource
                 return true;
             } else {
-                for (AttributeDefinition attribute : DEFAULT_ATTRIBUTES) {
+                for (AttributeDefinition attribute : attributes) {
                     if (attribute.getName().equals(attributeName)) {
+                        if (!isFormatterProperty(attribute, configuration.getClassName())) {
+                            break;
+                        }
                         if (attribute instanceof PropertyAttributeDefinition) {
                             final PropertyAttributeDefinition propertyAttribute = (PropertyAttributeDefinition) attribute;
                             if (value.isDefined()) {
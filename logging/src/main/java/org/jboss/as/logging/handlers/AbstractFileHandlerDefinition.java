@@ -19,16 +19,36 @@
 
 package org.jboss.as.logging.handlers;
 
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
+
 import java.util.logging.Handler;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathInfoHandler;
 import org.jboss.as.controller.services.path.ResolvePathHandler;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.logging.CommonAttributes;
+import org.jboss.as.logging.KnownModelVersion;
+import org.jboss.as.logging.LoggingOperations;
+import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.GroupCommitFileHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logmanager.config.HandlerConfiguration;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
@@ -37,6 +57,28 @@ abstract class AbstractFileHandlerDefinition extends AbstractHandlerDefinition {
 
     private static final String CHANGE_FILE_OPERATION_NAME = "change-file";
 
+    static final SimpleAttributeDefinition BYTES_WRITTEN = SimpleAttributeDefinitionBuilder.create("bytes-written", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition RECORDS_WRITTEN = SimpleAttributeDefinitionBuilder.create("records-written", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition COMMITS = SimpleAttributeDefinitionBuilder.create("commits", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition ROTATIONS = SimpleAttributeDefinitionBuilder.create("rotations", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    private static final AttributeDefinition[] GROUP_COMMIT_METRICS = {BYTES_WRITTEN, RECORDS_WRITTEN, COMMITS, ROTATIONS};
+
     private final ResolvePathHandler resolvePathHandler;
     private final PathInfoHandler diskUsagePathHandler;
     private final boolean registerLegacyOps;
@@ -73,4 +115,61 @@ abstract class AbstractFileHandlerDefinition extends AbstractHandlerDefinition {
         if (diskUsagePathHandler != null)
             PathInfoHandler.registerOperation(registration, diskUsagePathHandler);
     }
+
+    /**
+     * Registers the metrics of {@link GroupCommitFileHandler}. The metrics are undefined if the handler is not group
+     * committed.
+     *
+     * @param registration the resource registration
+     */
+    static void registerGroupCommitMetrics(final ManagementResourceRegistration registration) {
+        for (AttributeDefinition metric : GROUP_COMMIT_METRICS) {
+            registration.registerMetric(metric, GroupCommitMetricsHandler.INSTANCE);
+        }
+    }
+
+    /**
+     * Registers the transformers of the attributes configuring a {@link GroupCommitFileHandler}.
+     *
+     * @param modelVersion    the model version the transformers are registered for
+     * @param resourceBuilder the builder for the resource, or {@code null}
+     */
+    static void registerGroupCommitTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder resourceBuilder) {
+        if (modelVersion == KnownModelVersion.VERSION_8_0_0 && resourceBuilder != null) {
+            resourceBuilder
+                    .getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, GROUP_COMMIT, GROUP_COMMIT_INTERVAL, GROUP_COMMIT_SIZE)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, GROUP_COMMIT, GROUP_COMMIT_INTERVAL, GROUP_COMMIT_SIZE)
+                    .end();
+        }
+    }
+
+    private static class GroupCommitMetricsHandler extends AbstractRuntimeOnlyHandler {
+        static final GroupCommitMetricsHandler INSTANCE = new GroupCommitMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ConfigurationPersistence configurationPersistence = LoggingOperations.getConfigurationPersistence(context);
+            if (configurationPersistence == null) {
+                return;
+            }
+            final HandlerConfiguration configuration = configurationPersistence.getLogContextConfiguration()
+                    .getHandlerConfiguration(context.getCurrentAddressValue());
+            if (configuration == null || !(configuration.getInstance() instanceof GroupCommitFileHandler)) {
+                return;
+            }
+            final GroupCommitFileHandler handler = (GroupCommitFileHandler) configuration.getInstance();
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ModelNode result = context.getResult();
+            if (BYTES_WRITTEN.getName().equals(attributeName)) {
+                result.set(handler.getBytesWritten());
+            } else if (RECORDS_WRITTEN.getName().equals(attributeName)) {
+                result.set(handler.getRecordsWritten());
+            } else if (COMMITS.getName().equals(attributeName)) {
+                result.set(handler.getCommits());
+            } else if (ROTATIONS.getName().equals(attributeName)) {
+                result.set(handler.getRotations());
+            }
+        }
+    }
 }
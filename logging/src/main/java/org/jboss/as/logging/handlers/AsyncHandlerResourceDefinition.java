@@ -25,31 +25,45 @@ import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.REMOVE_HANDLER_OPERATION_NAME;
 
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.AttributeMarshaller;
 import org.jboss.as.controller.DefaultAttributeMarshaller;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.logging.CommonAttributes;
 import org.jboss.as.logging.ElementAttributeMarshaller;
 import org.jboss.as.logging.KnownModelVersion;
 import org.jboss.as.logging.Logging;
+import org.jboss.as.logging.LoggingOperations;
 import org.jboss.as.logging.PropertyAttributeDefinition;
 import org.jboss.as.logging.capabilities.Capabilities;
+import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler.WaitStrategy;
 import org.jboss.as.logging.resolvers.OverflowActionResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.logmanager.config.HandlerConfiguration;
 import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 
@@ -72,19 +86,24 @@ public class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
             .setValidator(new IntRangeValidator(1, false))
             .build();
 
+    /**
+     * Writes the value as an element, in lower case.
+     */
+    private static final AttributeMarshaller LOWER_CASE_VALUE_MARSHALLER = new DefaultAttributeMarshaller() {
+        @Override
+        public void marshallAsElement(final AttributeDefinition attribute, final ModelNode resourceModel, final boolean marshallDefault, final XMLStreamWriter writer) throws XMLStreamException {
+            if (isMarshallable(attribute, resourceModel, marshallDefault)) {
+                writer.writeStartElement(attribute.getXmlName());
+                String content = resourceModel.get(attribute.getName()).asString().toLowerCase(Locale.ENGLISH);
+                writer.writeAttribute("value", content);
+                writer.writeEndElement();
+            }
+        }
+    };
+
     public static final PropertyAttributeDefinition OVERFLOW_ACTION = PropertyAttributeDefinition.Builder.of("overflow-action", ModelType.STRING)
             .setAllowExpression(true)
-            .setAttributeMarshaller(new DefaultAttributeMarshaller() {
-                @Override
-                public void marshallAsElement(final AttributeDefinition attribute, final ModelNode resourceModel, final boolean marshallDefault, final XMLStreamWriter writer) throws XMLStreamException {
-                    if (isMarshallable(attribute, resourceModel, marshallDefault)) {
-                        writer.writeStartElement(attribute.getXmlName());
-                        String content = resourceModel.get(attribute.getName()).asString().toLowerCase(Locale.ENGLISH);
-                        writer.writeAttribute("value", content);
-                        writer.writeEndElement();
-                    }
-                }
-            })
+            .setAttributeMarshaller(LOWER_CASE_VALUE_MARSHALLER)
             .setRequired(false)
             .setDefaultValue(new ModelNode(OverflowAction.BLOCK.name()))
             .setPropertyName("overflowAction")
@@ -92,6 +111,29 @@ public class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
             .setValidator(EnumValidator.create(OverflowAction.class, false, false))
             .build();
 
+    /**
+     * If {@code true} the handler is backed by a {@link RingBufferAsyncHandler} rather than the log manager's
+     * {@link AsyncHandler}. Changing the value replaces the handler once the server is reloaded.
+     */
+    public static final SimpleAttributeDefinition RING_BUFFER = SimpleAttributeDefinitionBuilder.create("ring-buffer", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .build();
+
+    /**
+     * The {@linkplain WaitStrategy wait strategy} of a handler backed by a {@link RingBufferAsyncHandler}, ignored
+     * otherwise.
+     */
+    public static final PropertyAttributeDefinition WAIT_STRATEGY = PropertyAttributeDefinition.Builder.of("wait-strategy", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setAttributeMarshaller(LOWER_CASE_VALUE_MARSHALLER)
+            .setDefaultValue(new ModelNode(WaitStrategy.PARK.name()))
+            .setPropertyName("waitStrategy")
+            .setResolver((context, value) -> WaitStrategy.valueOf(value.asString().toUpperCase(Locale.ENGLISH)).name())
+            .setValidator(EnumValidator.create(WaitStrategy.class, false, false))
+            .build();
+
     static final SimpleAttributeDefinition HANDLER = SimpleAttributeDefinitionBuilder.create("handler", ModelType.STRING)
             .setAllowExpression(false)
             .setAttributeMarshaller(ElementAttributeMarshaller.NAME_ATTRIBUTE_MARSHALLER)
@@ -104,13 +146,44 @@ public class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
             .setRequired(false)
             .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = {ENABLED, LEVEL, FILTER_SPEC, QUEUE_LENGTH, OVERFLOW_ACTION, SUBHANDLERS};
+    private static final AttributeDefinition[] ATTRIBUTES = {ENABLED, LEVEL, FILTER_SPEC, QUEUE_LENGTH, OVERFLOW_ACTION, RING_BUFFER, WAIT_STRATEGY, SUBHANDLERS};
+
+    static final SimpleAttributeDefinition QUEUE_DEPTH = SimpleAttributeDefinitionBuilder.create("queue-depth", ModelType.INT)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition DROPPED_RECORDS = SimpleAttributeDefinitionBuilder.create("dropped-records", ModelType.LONG)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition DRAIN_LATENCY = SimpleAttributeDefinitionBuilder.create("drain-latency", ModelType.LONG)
+            .setRequired(false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition MAX_DRAIN_LATENCY = SimpleAttributeDefinitionBuilder.create("max-drain-latency", ModelType.LONG)
+            .setRequired(false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
 
+    private static final AttributeDefinition[] METRICS = {QUEUE_DEPTH, DROPPED_RECORDS, DRAIN_LATENCY, MAX_DRAIN_LATENCY};
 
     public AsyncHandlerResourceDefinition(final boolean includeLegacyAttributes) {
         super(ASYNC_HANDLER_PATH, AsyncHandler.class, (includeLegacyAttributes ? Logging.join(ATTRIBUTES, LEGACY_ATTRIBUTES) : ATTRIBUTES), QUEUE_LENGTH);
     }
 
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        for (AttributeDefinition metric : METRICS) {
+            resourceRegistration.registerMetric(metric, AsyncHandlerMetricsHandler.INSTANCE);
+        }
+    }
+
     @Override
     public void registerOperations(final ManagementResourceRegistration registration) {
         super.registerOperations(registration);
@@ -136,6 +209,55 @@ public class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
 
     @Override
     protected void registerResourceTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder resourceBuilder, final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
-        // do nothing by default
+        switch (modelVersion) {
+            case VERSION_8_0_0: {
+                resourceBuilder
+                        .getAttributeBuilder()
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, RING_BUFFER, WAIT_STRATEGY)
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, RING_BUFFER, WAIT_STRATEGY)
+                        .end();
+                if (loggingProfileBuilder != null) {
+                    loggingProfileBuilder
+                            .getAttributeBuilder()
+                            .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, RING_BUFFER, WAIT_STRATEGY)
+                            .addRejectCheck(RejectAttributeChecker.DEFINED, RING_BUFFER, WAIT_STRATEGY)
+                            .end();
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads the queue metrics from the running handler. The metrics are only available for handlers backed by a
+     * {@link RingBufferAsyncHandler}, otherwise the result is undefined.
+     */
+    private static class AsyncHandlerMetricsHandler extends AbstractRuntimeOnlyHandler {
+        static final AsyncHandlerMetricsHandler INSTANCE = new AsyncHandlerMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ConfigurationPersistence configurationPersistence = LoggingOperations.getConfigurationPersistence(context);
+            if (configurationPersistence == null) {
+                return;
+            }
+            final HandlerConfiguration configuration = configurationPersistence.getLogContextConfiguration()
+                    .getHandlerConfiguration(context.getCurrentAddressValue());
+            if (configuration == null || !(configuration.getInstance() instanceof RingBufferAsyncHandler)) {
+                return;
+            }
+            final RingBufferAsyncHandler handler = (RingBufferAsyncHandler) configuration.getInstance();
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ModelNode result = context.getResult();
+            if (QUEUE_DEPTH.getName().equals(attributeName)) {
+                result.set(handler.getQueueDepth());
+            } else if (DROPPED_RECORDS.getName().equals(attributeName)) {
+                result.set(handler.getDroppedCount());
+            } else if (DRAIN_LATENCY.getName().equals(attributeName)) {
+                result.set(TimeUnit.NANOSECONDS.toMicros(handler.getAverageDrainLatency()));
+            } else if (MAX_DRAIN_LATENCY.getName().equals(attributeName)) {
+                result.set(TimeUnit.NANOSECONDS.toMicros(handler.getMaxDrainLatency()));
+            }
+        }
     }
 }
@@ -22,11 +22,17 @@ package org.jboss.as.logging.handlers;
 import static org.jboss.as.logging.CommonAttributes.APPEND;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
 import static org.jboss.as.logging.CommonAttributes.FILE;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathInfoHandler;
 import org.jboss.as.controller.services.path.ResolvePathHandler;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.logging.KnownModelVersion;
 import org.jboss.as.logging.Logging;
 import org.jboss.logmanager.handlers.FileHandler;
 
@@ -39,7 +45,8 @@ public class FileHandlerResourceDefinition extends AbstractFileHandlerDefinition
     public static final String NAME = "file-handler";
     private static final PathElement FILE_HANDLER_PATH = PathElement.pathElement(NAME);
 
-    private static final AttributeDefinition[] ATTRIBUTES = Logging.join(DEFAULT_ATTRIBUTES, AUTOFLUSH, APPEND, FILE, NAMED_FORMATTER);
+    private static final AttributeDefinition[] ATTRIBUTES = Logging.join(DEFAULT_ATTRIBUTES, AUTOFLUSH, APPEND, FILE, NAMED_FORMATTER,
+            GROUP_COMMIT, GROUP_COMMIT_INTERVAL, GROUP_COMMIT_SIZE);
 
     public FileHandlerResourceDefinition(final ResolvePathHandler resolvePathHandler, final boolean includeLegacyAttributes) {
         super(FILE_HANDLER_PATH, FileHandler.class, resolvePathHandler, null, (
@@ -50,4 +57,16 @@ public class FileHandlerResourceDefinition extends AbstractFileHandlerDefinition
         super(FILE_HANDLER_PATH, FileHandler.class, resolvePathHandler, diskUsagePathHandler, (
                 includeLegacyAttributes ? Logging.join(ATTRIBUTES, LEGACY_ATTRIBUTES) : ATTRIBUTES));
     }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        registerGroupCommitMetrics(resourceRegistration);
+    }
+
+    @Override
+    protected void registerResourceTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder resourceBuilder, final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
+        registerGroupCommitTransformers(modelVersion, resourceBuilder);
+        registerGroupCommitTransformers(modelVersion, loggingProfileBuilder);
+    }
 }
@@ -24,6 +24,9 @@ import static org.jboss.as.logging.CommonAttributes.ENABLED;
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
 import static org.jboss.as.logging.CommonAttributes.HANDLER_NAME;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.MODULE;
@@ -61,7 +64,9 @@ import org.jboss.as.logging.LoggingOperations;
 import org.jboss.as.logging.filters.Filters;
 import org.jboss.as.logging.loggers.RootLoggerResourceDefinition;
 import org.jboss.as.logging.logging.LoggingLogger;
+import org.jboss.as.logging.logmanager.GroupCommitFileHandler;
 import org.jboss.as.logging.logmanager.Log4jAppenderHandler;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
 import org.jboss.as.logging.resolvers.ModelNodeResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -76,6 +81,8 @@ import org.jboss.logmanager.config.PojoConfiguration;
 import org.jboss.logmanager.config.PropertyConfigurable;
 import org.jboss.logmanager.formatters.PatternFormatter;
 import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.FileHandler;
+import org.jboss.logmanager.handlers.SizeRotatingFileHandler;
 import org.jboss.logmanager.handlers.SyslogHandler;
 import org.jboss.modules.ModuleLoadException;
 import org.jboss.modules.ModuleLoader;
@@ -113,7 +120,9 @@ final class HandlerOperations {
                 for (AttributeDefinition attribute : attributes) {
                     // Only update if the attribute is on the operation
                     if (operation.has(attribute.getName())) {
-                        handleProperty(attribute, context, model, logContextConfiguration, configuration);
+                        if (isHandlerProperty(attribute, configuration.getClassName())) {
+                            handleProperty(attribute, context, model, logContextConfiguration, configuration);
+                        }
                         restartRequired = restartRequired || Logging.requiresRestart(attribute.getFlags());
                         reloadRequired = reloadRequired || Logging.requiresReload(attribute.getFlags());
                     }
@@ -172,8 +181,9 @@ final class HandlerOperations {
                 className = CLASS.resolveModelAttribute(context, model).asString();
                 moduleName = MODULE.resolveModelAttribute(context, model).asString();
             } else {
-                className = type.getName();
-                moduleName = null;
+                final Class<? extends Handler> handlerType = getHandlerType(type, context, model);
+                className = handlerType.getName();
+                moduleName = Logging.getModuleName(handlerType);
             }
 
             final String name = context.getCurrentAddressValue();
@@ -230,6 +240,8 @@ final class HandlerOperations {
                 final boolean skip;
                 if ((attribute.equals(CLASS) || attribute.equals(MODULE)) || attribute.equals(FILTER)) {
                     skip = true;
+                } else if (!isHandlerProperty(attribute, className)) {
+                    skip = true;
                 } else {
                     // No need to change values that are equal, also values like a file name that are equal could result
                     // already logged data being overwritten
@@ -287,10 +299,12 @@ final class HandlerOperations {
                 } else {
                     configuration = logContextConfiguration.addHandlerConfiguration(null, className, name, constructionProperties);
                 }
-                // If this is an AsyncHandler we need to setCloseChildren() to false
-                if (AsyncHandler.class.getName().equals(className)) {
-                    configuration.setPropertyValueString("closeChildren", "false");
-                }
+            }
+            // If this is an AsyncHandler we need to setCloseChildren() to false
+            if (AsyncHandler.class.getName().equals(className)) {
+                configuration.setPropertyValueString("closeChildren", "false");
+            } else if (RingBufferAsyncHandler.class.getName().equals(className)) {
+                configuration.setPropertyValueString("closeChildren", "false");
             }
             return configuration;
         }
@@ -357,7 +371,9 @@ final class HandlerOperations {
                 } else {
                     for (AttributeDefinition attribute : getAttributes()) {
                         if (attribute.getName().equals(attributeName)) {
-                            handleProperty(attribute, context, value, logContextConfiguration, configuration, false);
+                            if (isHandlerProperty(attribute, configuration.getClassName())) {
+                                handleProperty(attribute, context, value, logContextConfiguration, configuration, false);
+                            }
                             restartRequired = Logging.requiresReload(attribute.getFlags());
                             break;
                         }
@@ -564,6 +580,53 @@ final class HandlerOperations {
      *
      * @throws OperationFailedException if an error occurs
      */
+    /**
+     * Returns the type of the handler. Some resources are backed by an alternative implementation of their default
+     * type, which is selected by an attribute of the resource.
+     *
+     * @param type    the default type of the handler
+     * @param context the context of the operation
+     * @param model   the model of the resource
+     *
+     * @return the type of the handler
+     *
+     * @throws OperationFailedException if an error occurs resolving the attribute selecting the type
+     */
+    private static Class<? extends Handler> getHandlerType(final Class<? extends Handler> type, final OperationContext context,
+                                                           final ModelNode model) throws OperationFailedException {
+        if (type == AsyncHandler.class && AsyncHandlerResourceDefinition.RING_BUFFER.resolveModelAttribute(context, model).asBoolean()) {
+            return RingBufferAsyncHandler.class;
+        }
+        // Periodic handlers are not group committed, the group commit handler only rotates on size
+        if ((type == FileHandler.class || type == SizeRotatingFileHandler.class) && GROUP_COMMIT.resolveModelAttribute(context, model).asBoolean()) {
+            return GroupCommitFileHandler.class;
+        }
+        return type;
+    }
+
+    /**
+     * Checks whether the attribute is set on the configuration of a handler of the given type. The attributes which
+     * select the type of the handler are not, and the attributes only supported by an alternative type are not set
+     * on other types.
+     *
+     * @param attribute the attribute definition
+     * @param className the class name of the handler
+     *
+     * @return {@code true} if the attribute is set on the handler configuration, otherwise {@code false}
+     */
+    private static boolean isHandlerProperty(final AttributeDefinition attribute, final String className) {
+        if (attribute.equals(AsyncHandlerResourceDefinition.RING_BUFFER) || attribute.equals(GROUP_COMMIT)) {
+            return false;
+        }
+        if (attribute.equals(AsyncHandlerResourceDefinition.WAIT_STRATEGY)) {
+            return RingBufferAsyncHandler.class.getName().equals(className);
+        }
+        if (attribute.equals(GROUP_COMMIT_INTERVAL) || attribute.equals(GROUP_COMMIT_SIZE)) {
+            return GroupCommitFileHandler.class.getName().equals(className);
+        }
+        return true;
+    }
+
     private static void handleProperty(final AttributeDefinition attribute, final OperationContext context, final ModelNode model,
                                        final LogContextConfiguration logContextConfiguration, final HandlerConfiguration configuration)
             throws OperationFailedException {
@@ -22,9 +22,13 @@ package org.jboss.as.logging.handlers;
 import static org.jboss.as.logging.CommonAttributes.APPEND;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
 import static org.jboss.as.logging.CommonAttributes.FILE;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_INTERVAL;
+import static org.jboss.as.logging.CommonAttributes.GROUP_COMMIT_SIZE;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.services.path.PathInfoHandler;
 import org.jboss.as.controller.services.path.ResolvePathHandler;
@@ -82,7 +86,8 @@ public class SizeRotatingHandlerResourceDefinition extends AbstractFileHandlerDe
             .setValidator(new SuffixValidator(true, false))
             .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = Logging.join(DEFAULT_ATTRIBUTES, AUTOFLUSH, APPEND, MAX_BACKUP_INDEX, ROTATE_SIZE, ROTATE_ON_BOOT, NAMED_FORMATTER, FILE, SUFFIX);
+    private static final AttributeDefinition[] ATTRIBUTES = Logging.join(DEFAULT_ATTRIBUTES, AUTOFLUSH, APPEND, MAX_BACKUP_INDEX, ROTATE_SIZE, ROTATE_ON_BOOT, NAMED_FORMATTER, FILE, SUFFIX,
+            GROUP_COMMIT, GROUP_COMMIT_INTERVAL, GROUP_COMMIT_SIZE);
 
     public SizeRotatingHandlerResourceDefinition(final ResolvePathHandler resolvePathHandler, final boolean includeLegacyAttributes) {
         this(resolvePathHandler, null, includeLegacyAttributes);
@@ -93,6 +98,12 @@ public class SizeRotatingHandlerResourceDefinition extends AbstractFileHandlerDe
                 (includeLegacyAttributes ? Logging.join(ATTRIBUTES, LEGACY_ATTRIBUTES) : ATTRIBUTES));
     }
 
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        registerGroupCommitMetrics(resourceRegistration);
+    }
+
     @Override
     protected void registerResourceTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder resourceBuilder, final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
         switch (modelVersion) {
@@ -112,7 +123,8 @@ public class SizeRotatingHandlerResourceDefinition extends AbstractFileHandlerDe
                 break;
             }
         }
-
+        registerGroupCommitTransformers(modelVersion, resourceBuilder);
+        registerGroupCommitTransformers(modelVersion, loggingProfileBuilder);
     }
 
 }
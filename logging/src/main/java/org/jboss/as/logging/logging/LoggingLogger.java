@@ -1050,4 +1050,48 @@ public interface LoggingLogger extends BasicLogger {
             "configuration files in deployments has been deprecated and will be removed in a future release.")
     @LogMessage(level = WARN)
     void usageOfLog4j1Config(String fileName, String deploymentName);
+
+    /**
+     * Creates an exception indicating the search pattern is not a valid regular expression.
+     *
+     * @param cause   the cause of the error
+     * @param pattern the invalid pattern
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 101, value = "The search pattern '%s' is not a valid regular expression.")
+    OperationFailedException invalidSearchPattern(@Cause Throwable cause, String pattern);
+
+    /**
+     * Creates an exception indicating the timestamp is not in the expected format.
+     *
+     * @param cause     the cause of the error
+     * @param timestamp the invalid timestamp
+     * @param format    the expected format
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 102, value = "The timestamp '%s' does not match the format %s.")
+    OperationFailedException invalidTimestamp(@Cause Throwable cause, String timestamp, String format);
+
+    /**
+     * Creates an exception indicating the log file cannot be searched in the encoding.
+     *
+     * @param name     the name of the file
+     * @param encoding the encoding of the file
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 103, value = "File '%s' cannot be searched as the %s encoding is not supported for searches.")
+    OperationFailedException searchNotSupported(String name, String encoding);
+
+    /**
+     * Creates an exception indicating log files cannot be searched for records of the level.
+     *
+     * @param level the level
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 106, value = "Log files cannot be searched for records of level %s.")
+    OperationFailedException searchLevelNotSupported(String level);
 }
@@ -0,0 +1,474 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+
+/**
+ * A JSON formatter which writes directly to the formatter's reusable buffer rather than going through a generic JSON
+ * generator.
+ * <p>
+ * Keys are escaped and quoted once and reused for every record. The {@linkplain #setMetaData(String) meta-data} is
+ * rendered once each time it changes and copied into each record as a single fragment.
+ * </p>
+ * <p>
+ * Handlers which write bytes can use {@link #encode(ExtLogRecord)} to get the UTF-8 encoded record in a buffer which
+ * is reused by the calling thread. If {@linkplain #setLengthPrefixed(boolean) length prefixed} the record delimiter is
+ * replaced with a four byte, big-endian length written before the record, for log shippers reading the output.
+ * </p>
+ */
+public class FastJsonFormatter extends StructuredFormatter {
+
+    private static final int MAX_CACHED_KEYS = 256;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    private final Map<String, char[]> keys = new HashMap<>();
+    private final Map<String, char[]> prettyKeys = new HashMap<>();
+    private final FastJsonGenerator generator = new FastJsonGenerator();
+    private volatile boolean prettyPrint;
+    private volatile boolean lengthPrefixed;
+
+    /**
+     * Creates a new JSON formatter.
+     */
+    public FastJsonFormatter() {
+    }
+
+    /**
+     * Creates a new JSON formatter.
+     *
+     * @param keyOverrides a string representation of a map to override keys
+     *
+     * @see org.jboss.logmanager.PropertyValues#stringToEnumMap(Class, String)
+     */
+    public FastJsonFormatter(final String keyOverrides) {
+        super(keyOverrides);
+    }
+
+    /**
+     * Indicates whether or not pretty printing is enabled.
+     *
+     * @return {@code true} if pretty printing is enabled, otherwise {@code false}
+     */
+    public boolean isPrettyPrint() {
+        return prettyPrint;
+    }
+
+    /**
+     * Turns on or off pretty printing.
+     *
+     * @param prettyPrint {@code true} to turn on pretty printing or {@code false} to turn it off
+     */
+    public void setPrettyPrint(final boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+    }
+
+    /**
+     * Indicates whether {@link #encode(ExtLogRecord)} writes a length before each record.
+     *
+     * @return {@code true} if encoded records are length prefixed, otherwise {@code false}
+     */
+    public boolean isLengthPrefixed() {
+        return lengthPrefixed;
+    }
+
+    /**
+     * Sets whether {@link #encode(ExtLogRecord)} writes a four byte, big-endian length before each record instead of
+     * ending the record with the record delimiter.
+     *
+     * @param lengthPrefixed {@code true} to length prefix encoded records
+     */
+    public void setLengthPrefixed(final boolean lengthPrefixed) {
+        this.lengthPrefixed = lengthPrefixed;
+    }
+
+    /**
+     * Formats the record and encodes it as UTF-8. The returned buffer is owned by the calling thread and is only valid
+     * until the next time the thread encodes a record.
+     *
+     * @param record the record to encode
+     *
+     * @return a buffer positioned at the start of the encoded record with the limit set to its end
+     */
+    public ByteBuffer encode(final ExtLogRecord record) {
+        final String formatted = format(record);
+        final boolean lengthPrefixed = this.lengthPrefixed;
+        int end = formatted.length();
+        if (lengthPrefixed) {
+            final String delimiter = getRecordDelimiter();
+            if (delimiter != null && formatted.endsWith(delimiter)) {
+                end -= delimiter.length();
+            }
+        }
+        final int offset = lengthPrefixed ? 4 : 0;
+        byte[] buffer = BUFFER.get();
+        // A char never encodes to more than three bytes, surrogate pairs take four bytes for two chars
+        final int required = offset + end * 3;
+        if (buffer.length < required) {
+            buffer = new byte[Math.max(required, buffer.length << 1)];
+            BUFFER.set(buffer);
+        }
+        int position = offset;
+        for (int i = 0; i < end; i++) {
+            final char c = formatted.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(formatted.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, formatted.charAt(++i));
+                buffer[position++] = (byte) (0xf0 | (cp >> 18));
+                buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates cannot be encoded
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xe0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        final ByteBuffer result = ByteBuffer.wrap(buffer, 0, position);
+        if (lengthPrefixed) {
+            result.putInt(0, position - offset);
+        }
+        return result;
+    }
+
+    @Override
+    protected Generator createGenerator(final Writer writer) {
+        // Invoked while holding the lock on this formatter
+        return generator.reset(writer, prettyPrint);
+    }
+
+    private char[] getEncodedKey(final String key, final boolean pretty) {
+        final Map<String, char[]> keys = pretty ? prettyKeys : this.keys;
+        char[] encoded = keys.get(key);
+        if (encoded == null) {
+            final StringBuilder builder = new StringBuilder(key.length() + 4);
+            escape(builder, key);
+            builder.append(pretty ? ": " : ":");
+            encoded = new char[builder.length()];
+            builder.getChars(0, builder.length(), encoded, 0);
+            if (keys.size() < MAX_CACHED_KEYS) {
+                keys.put(key, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    private static void escape(final StringBuilder builder, final String value) {
+        builder.append('"');
+        final int len = value.length();
+        for (int i = 0; i < len; i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                appendControl(builder, c);
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    private static void appendControl(final StringBuilder builder, final char c) {
+        switch (c) {
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            case '\t':
+                builder.append("\\t");
+                break;
+            case '\b':
+                builder.append("\\b");
+                break;
+            case '\f':
+                builder.append("\\f");
+                break;
+            default:
+                builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+        }
+    }
+
+    private class FastJsonGenerator implements Generator {
+        private final StringBuilder scratch = new StringBuilder();
+        private Writer writer;
+        private boolean pretty;
+        private boolean[] hasElements = new boolean[8];
+        private int depth;
+        private Map<String, String> metaData;
+        private char[] encodedMetaData;
+        private boolean encodedMetaDataPretty;
+
+        FastJsonGenerator reset(final Writer writer, final boolean pretty) {
+            this.writer = writer;
+            this.pretty = pretty;
+            depth = 0;
+            hasElements[0] = false;
+            return this;
+        }
+
+        @Override
+        public Generator begin() throws IOException {
+            writer.write('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final int value) throws IOException {
+            writeKey(key);
+            writer.write(Integer.toString(value));
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws IOException {
+            writeKey(key);
+            writer.write(Long.toString(value));
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final Map<String, ?> value) throws IOException {
+            writeKey(key);
+            writer.write('{');
+            push();
+            if (value != null) {
+                for (Map.Entry<String, ?> entry : value.entrySet()) {
+                    // Map keys vary per record and are not cached
+                    separate();
+                    writeString(entry.getKey());
+                    writer.write(pretty ? ": " : ":");
+                    writeValue(entry.getValue());
+                }
+            }
+            pop('}');
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final String value) throws IOException {
+            writeKey(key);
+            if (value == null) {
+                writer.write("null");
+            } else {
+                writeString(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator addMetaData(final Map<String, String> metaData) throws IOException {
+            if (metaData.isEmpty()) {
+                return this;
+            }
+            // The map is replaced, not modified, when the meta-data changes
+            if (metaData != this.metaData || encodedMetaDataPretty != pretty) {
+                final StringBuilder builder = new StringBuilder();
+                final String separator = pretty ? ": " : ":";
+                boolean first = true;
+                for (Map.Entry<String, String> entry : metaData.entrySet()) {
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    first = false;
+                    if (pretty) {
+                        builder.append('\n');
+                        for (int i = 0; i < depth; i++) {
+                            builder.append("    ");
+                        }
+                    }
+                    escape(builder, entry.getKey());
+                    builder.append(separator);
+                    if (entry.getValue() == null) {
+                        builder.append("null");
+                    } else {
+                        escape(builder, entry.getValue());
+                    }
+                }
+                encodedMetaData = new char[builder.length()];
+                builder.getChars(0, builder.length(), encodedMetaData, 0);
+                encodedMetaDataPretty = pretty;
+                this.metaData = metaData;
+            }
+            if (hasElements[depth - 1]) {
+                writer.write(',');
+            }
+            hasElements[depth - 1] = true;
+            writer.write(encodedMetaData);
+            return this;
+        }
+
+        @Override
+        public Generator startObject(final String key) throws IOException {
+            if (key == null) {
+                separate();
+            } else {
+                writeKey(key);
+            }
+            writer.write('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws IOException {
+            pop('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(final String key) throws IOException {
+            if (key == null) {
+                separate();
+            } else {
+                writeKey(key);
+            }
+            writer.write('[');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws IOException {
+            pop(']');
+            return this;
+        }
+
+        @Override
+        public Generator end() throws IOException {
+            pop('}');
+            writer = null;
+            return this;
+        }
+
+        private void writeKey(final String key) throws IOException {
+            separate();
+            writer.write(getEncodedKey(key, pretty));
+        }
+
+        private void separate() throws IOException {
+            final int current = depth - 1;
+            if (current >= 0) {
+                if (hasElements[current]) {
+                    writer.write(',');
+                }
+                hasElements[current] = true;
+            }
+            if (pretty && depth > 0) {
+                newLine(depth);
+            }
+        }
+
+        private void push() {
+            if (depth == hasElements.length) {
+                hasElements = Arrays.copyOf(hasElements, depth << 1);
+            }
+            hasElements[depth++] = false;
+        }
+
+        private void pop(final char c) throws IOException {
+            final boolean empty = !hasElements[--depth];
+            if (pretty && !empty) {
+                newLine(depth);
+            }
+            writer.write(c);
+        }
+
+        private void newLine(final int indent) throws IOException {
+            writer.write('\n');
+            for (int i = 0; i < indent; i++) {
+                writer.write("    ");
+            }
+        }
+
+        private void writeValue(final Object value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                    || value instanceof BigInteger || value instanceof BigDecimal) {
+                writer.write(value.toString());
+            } else if (value instanceof Double && Double.isFinite((Double) value)) {
+                writer.write(value.toString());
+            } else {
+                writeString(String.valueOf(value));
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            writer.write('"');
+            final int len = value.length();
+            int run = 0;
+            for (int i = 0; i < len; i++) {
+                final char c = value.charAt(i);
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    if (i > run) {
+                        // append() takes an end index, and unlike write() the log manager's writer implements it
+                        // without copying
+                        writer.append(value, run, i);
+                    }
+                    final StringBuilder builder = scratch;
+                    builder.setLength(0);
+                    if (c < 0x20) {
+                        appendControl(builder, c);
+                    } else {
+                        builder.append('\\').append(c);
+                    }
+                    for (int j = 0; j < builder.length(); j++) {
+                        writer.write(builder.charAt(j));
+                    }
+                    run = i + 1;
+                }
+            }
+            if (run == 0) {
+                writer.write(value);
+            } else if (run < len) {
+                writer.append(value, run, len);
+            }
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,775 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A file handler which appends records to a direct buffer and writes the buffer to the file in a background thread,
+ * a group commit.
+ * <p>
+ * A commit happens once the buffered records reach the {@linkplain #setCommitSize(int) commit size} or the oldest
+ * buffered record is older than the {@linkplain #setCommitInterval(long) commit interval}. Publishing a record only
+ * copies it into the buffer. Two buffers are used so records are appended to one while the other is written, and a
+ * publishing thread only waits if both are full.
+ * </p>
+ * <p>
+ * If a {@linkplain #setRotateSize(long) rotate size} is set the file is rotated by the committing thread before a
+ * commit which would take the file past it, so rotating, including compressing the rotated file, never stalls a
+ * publishing thread.
+ * </p>
+ * <p>
+ * If {@linkplain #setAutoFlush(boolean) auto-flush} is enabled a publishing thread waits until the commit containing
+ * its record has been written, records published concurrently are still written by a single commit. Otherwise
+ * publishing returns once the record is buffered. {@link #flush()} commits and waits for the buffered records to be
+ * written.
+ * </p>
+ */
+public class GroupCommitFileHandler extends ExtHandler {
+
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+    private static final int DEFAULT_COMMIT_SIZE = 64 * 1024;
+    private static final long DEFAULT_COMMIT_INTERVAL = 10L;
+    // Large enough for any encoded character
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition commitRequested = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final Condition committed = lock.newCondition();
+    // Guards the channel and the file state, only held while writing to the file, never while holding lock
+    private final Object fileLock = new Object();
+
+    // Guarded by lock
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private CharsetEncoder encoder;
+    private int activeRecords;
+    private long activeSince;
+    private long appendedBytes;
+    private long committedBytes;
+    private boolean flushRequested;
+    private boolean spaceRequested;
+    // Set while a record is appended, the lock is released if the record has to wait for space
+    private boolean appending;
+    private int state;
+    private Thread committer;
+
+    // Guarded by fileLock
+    private FileChannel channel;
+    private File file;
+    private long fileSize;
+    private boolean written;
+    private boolean rotatedOnBoot;
+
+    private volatile boolean append;
+    private volatile int bufferSize = DEFAULT_BUFFER_SIZE;
+    private volatile int commitSize = DEFAULT_COMMIT_SIZE;
+    private volatile long commitInterval = TimeUnit.MILLISECONDS.toNanos(DEFAULT_COMMIT_INTERVAL);
+    private volatile long rotateSize;
+    private volatile int maxBackupIndex = 1;
+    private volatile boolean rotateOnBoot;
+    private volatile String suffix;
+
+    private volatile long bytesWritten;
+    private volatile long recordsWritten;
+    private volatile long commits;
+    private volatile long rotations;
+
+    /**
+     * Creates a new handler without a file.
+     */
+    public GroupCommitFileHandler() {
+    }
+
+    /**
+     * Creates a new handler which appends to the file.
+     *
+     * @param fileName the name of the file
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public GroupCommitFileHandler(final String fileName) throws IOException {
+        this(fileName, true);
+    }
+
+    /**
+     * Creates a new handler.
+     *
+     * @param fileName the name of the file
+     * @param append   {@code true} to append to an existing file, {@code false} to truncate it
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public GroupCommitFileHandler(final String fileName, final boolean append) throws IOException {
+        this.append = append;
+        setFileName(fileName);
+    }
+
+    /**
+     * Sets whether an existing file is appended to. Only applies to files opened after this is set.
+     *
+     * @param append {@code true} to append to an existing file, {@code false} to truncate it
+     */
+    public void setAppend(final boolean append) {
+        checkAccess(this);
+        this.append = append;
+    }
+
+    /**
+     * Returns the file records are written to.
+     *
+     * @return the file or {@code null} if not set
+     */
+    public File getFile() {
+        synchronized (fileLock) {
+            return file;
+        }
+    }
+
+    /**
+     * Sets the name of the file records are written to. Records buffered for the previous file are written to it
+     * before it is closed.
+     *
+     * @param fileName the file name or {@code null} to close the current file
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public void setFileName(final String fileName) throws IOException {
+        setFile(fileName == null ? null : new File(fileName));
+    }
+
+    /**
+     * Sets the file records are written to. Records buffered for the previous file are written to it before it is
+     * closed.
+     *
+     * @param file the file or {@code null} to close the current file
+     *
+     * @throws IOException if the file could not be opened
+     */
+    public void setFile(final File file) throws IOException {
+        checkAccess(this);
+        flush();
+        synchronized (fileLock) {
+            closeChannel();
+            this.file = file;
+            if (file != null) {
+                openChannel();
+            }
+        }
+    }
+
+    /**
+     * Sets the size of each of the two buffers records are appended to. Applies once the handler is started.
+     *
+     * @param bufferSize the buffer size in bytes
+     */
+    public void setBufferSize(final int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE);
+        }
+        checkAccess(this);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Sets the number of buffered bytes which trigger a commit.
+     *
+     * @param commitSize the commit size in bytes
+     */
+    public void setCommitSize(final int commitSize) {
+        if (commitSize < 1) {
+            throw new IllegalArgumentException("commitSize must be at least 1");
+        }
+        checkAccess(this);
+        this.commitSize = commitSize;
+    }
+
+    /**
+     * Sets the longest time, in milliseconds, a record stays buffered before being committed.
+     *
+     * @param commitInterval the commit interval in milliseconds
+     */
+    public void setCommitInterval(final long commitInterval) {
+        if (commitInterval < 1L) {
+            throw new IllegalArgumentException("commitInterval must be at least 1");
+        }
+        checkAccess(this);
+        this.commitInterval = TimeUnit.MILLISECONDS.toNanos(commitInterval);
+    }
+
+    /**
+     * Sets the file size after which the file is rotated.
+     *
+     * @param rotateSize the rotate size in bytes, 0 to never rotate
+     */
+    public void setRotateSize(final long rotateSize) {
+        checkAccess(this);
+        this.rotateSize = rotateSize;
+    }
+
+    /**
+     * Sets the number of rotated files to keep.
+     *
+     * @param maxBackupIndex the number of rotated files
+     */
+    public void setMaxBackupIndex(final int maxBackupIndex) {
+        checkAccess(this);
+        this.maxBackupIndex = maxBackupIndex;
+    }
+
+    /**
+     * Indicates whether a non-empty file is rotated when the handler opens it.
+     *
+     * @return {@code true} if the file is rotated on boot
+     */
+    public boolean isRotateOnBoot() {
+        return rotateOnBoot;
+    }
+
+    /**
+     * Sets whether a non-empty file is rotated when the handler opens it. If the file is already open and nothing has
+     * been written to it yet, it is rotated immediately.
+     *
+     * @param rotateOnBoot {@code true} to rotate the file on boot
+     */
+    public void setRotateOnBoot(final boolean rotateOnBoot) {
+        checkAccess(this);
+        this.rotateOnBoot = rotateOnBoot;
+        synchronized (fileLock) {
+            if (channel != null && !written) {
+                rotateOnBoot();
+            }
+        }
+    }
+
+    /**
+     * Returns the suffix appended to rotated files.
+     *
+     * @return the suffix or {@code null}
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Sets the suffix appended to rotated files. The suffix is a {@link SimpleDateFormat} pattern and may end in
+     * {@code .gz} or {@code .zip} to compress the rotated files.
+     *
+     * @param suffix the suffix or {@code null}
+     */
+    public void setSuffix(final String suffix) {
+        checkAccess(this);
+        this.suffix = suffix;
+    }
+
+    /**
+     * Returns the number of bytes written to the file.
+     *
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of records written to the file.
+     *
+     * @return the number of records written
+     */
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    /**
+     * Returns the number of commits, each of which is a single write to the file.
+     *
+     * @return the number of commits
+     */
+    public long getCommits() {
+        return commits;
+    }
+
+    /**
+     * Returns the number of times the file has been rotated.
+     *
+     * @return the number of rotations
+     */
+    public long getRotations() {
+        return rotations;
+    }
+
+    @Override
+    public void setEncoding(final String encoding) throws SecurityException, UnsupportedEncodingException {
+        lock.lock();
+        try {
+            super.setEncoding(encoding);
+            encoder = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        final Formatter formatter = getFormatter();
+        ByteBuffer encoded = null;
+        String formatted = null;
+        try {
+            if (formatter instanceof FastJsonFormatter && StandardCharsets.UTF_8.equals(getCharset())) {
+                encoded = ((FastJsonFormatter) formatter).encode(record);
+            } else {
+                formatted = formatter.format(record);
+            }
+        } catch (Exception e) {
+            reportError("Formatting error", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == STATE_CLOSED) {
+                return;
+            }
+            if (state == STATE_NEW) {
+                start();
+            }
+            while (appending) {
+                spaceAvailable.awaitUninterruptibly();
+                if (state == STATE_CLOSED) {
+                    return;
+                }
+            }
+            final boolean wasEmpty = active.position() == 0;
+            appending = true;
+            try {
+                if (encoded == null) {
+                    append(formatted);
+                } else {
+                    append(encoded);
+                }
+            } finally {
+                appending = false;
+                spaceAvailable.signalAll();
+            }
+            activeRecords++;
+            if (wasEmpty) {
+                activeSince = System.nanoTime();
+            }
+            if (wasEmpty || active.position() >= commitSize) {
+                commitRequested.signal();
+            }
+            if (isAutoFlush()) {
+                awaitCommit(appendedBytes);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            if (state == STATE_RUNNING) {
+                awaitCommit(appendedBytes);
+            }
+        } finally {
+            lock.unlock();
+        }
+        super.flush();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess(this);
+        final Thread committer;
+        lock.lock();
+        try {
+            if (state == STATE_CLOSED) {
+                return;
+            }
+            state = STATE_CLOSED;
+            committer = this.committer;
+            commitRequested.signal();
+            spaceAvailable.signalAll();
+            committed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (committer != null) {
+            boolean interrupted = false;
+            while (committer.isAlive()) {
+                try {
+                    committer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (fileLock) {
+            writeTail();
+            closeChannel();
+        }
+        super.close();
+    }
+
+    private void start() {
+        active = ByteBuffer.allocateDirect(bufferSize);
+        spare = ByteBuffer.allocateDirect(bufferSize);
+        // The first publishing thread may belong to a deployment, so do not let the committer inherit its context
+        committer = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> {
+            final Thread thread = new Thread(this::commitLoop, "Log file group commit");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+        committer.start();
+        state = STATE_RUNNING;
+    }
+
+    private void append(final ByteBuffer encoded) {
+        while (encoded.hasRemaining()) {
+            if (!active.hasRemaining() && !awaitSpace(1)) {
+                return;
+            }
+            final int count = Math.min(encoded.remaining(), active.remaining());
+            final int limit = encoded.limit();
+            encoded.limit(encoded.position() + count);
+            active.put(encoded);
+            encoded.limit(limit);
+            appendedBytes += count;
+        }
+    }
+
+    private void append(final String formatted) {
+        CharsetEncoder encoder = this.encoder;
+        if (encoder == null) {
+            encoder = this.encoder = getCharset().newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        final CharBuffer chars = CharBuffer.wrap(formatted);
+        try {
+            boolean flushing = false;
+            for (;;) {
+                final int start = active.position();
+                final CoderResult result = flushing ? encoder.flush(active) : encoder.encode(chars, active, true);
+                appendedBytes += active.position() - start;
+                if (result.isOverflow()) {
+                    // The remaining space may be too small for the next character
+                    if (!awaitSpace(active.remaining() + 1)) {
+                        return;
+                    }
+                } else if (flushing) {
+                    return;
+                } else {
+                    flushing = true;
+                }
+            }
+        } finally {
+            encoder.reset();
+        }
+    }
+
+    private void awaitCommit(final long target) {
+        while (committedBytes < target && state == STATE_RUNNING) {
+            flushRequested = true;
+            commitRequested.signal();
+            committed.awaitUninterruptibly();
+        }
+    }
+
+    private boolean awaitSpace(final int required) {
+        // The active buffer is full, wait for it to be swapped with an empty one
+        while (active.remaining() < required && active.position() > 0) {
+            if (state == STATE_CLOSED) {
+                return false;
+            }
+            spaceRequested = true;
+            commitRequested.signal();
+            spaceAvailable.awaitUninterruptibly();
+        }
+        return true;
+    }
+
+    private Charset getCharset() {
+        final String encoding = getEncoding();
+        return encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+    }
+
+    private void commitLoop() {
+        for (;;) {
+            final ByteBuffer buffer;
+            final int records;
+            lock.lock();
+            try {
+                while (state == STATE_RUNNING && !isCommitDue()) {
+                    if (active.position() == 0) {
+                        commitRequested.awaitUninterruptibly();
+                    } else {
+                        try {
+                            commitRequested.awaitNanos(commitInterval - (System.nanoTime() - activeSince));
+                        } catch (InterruptedException ignore) {
+                        }
+                    }
+                }
+                if (active.position() == 0) {
+                    if (state == STATE_CLOSED) {
+                        return;
+                    }
+                    continue;
+                }
+                buffer = active;
+                records = activeRecords;
+                active = spare;
+                spare = null;
+                activeRecords = 0;
+                activeSince = System.nanoTime();
+                flushRequested = false;
+                spaceRequested = false;
+                spaceAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            buffer.flip();
+            final int size = buffer.remaining();
+            write(buffer, records);
+            buffer.clear();
+
+            lock.lock();
+            try {
+                spare = buffer;
+                committedBytes += size;
+                committed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean isCommitDue() {
+        final int position = active.position();
+        return position > 0 && (flushRequested || spaceRequested || position >= commitSize
+                || System.nanoTime() - activeSince >= commitInterval);
+    }
+
+    private void write(final ByteBuffer buffer, final int records) {
+        synchronized (fileLock) {
+            if (channel == null) {
+                return;
+            }
+            // Rotate before the commit would take the file past the rotate size, as SizeRotatingFileHandler does
+            final long rotateSize = this.rotateSize;
+            if (rotateSize > 0L && fileSize > 0L && fileSize + buffer.remaining() > rotateSize) {
+                writeTail();
+                rotate();
+                if (channel == null) {
+                    return;
+                }
+            }
+            try {
+                while (buffer.hasRemaining()) {
+                    final int count = channel.write(buffer);
+                    fileSize += count;
+                    bytesWritten += count;
+                }
+                written = true;
+                recordsWritten += records;
+                commits++;
+            } catch (IOException e) {
+                reportError("Failed to write to the log file", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    // The methods below are only called while holding fileLock
+
+    private void openChannel() throws IOException {
+        final Path path = file.toPath();
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Like SizeRotatingFileHandler, every file the handler is pointed at is rotated, not only the first one
+        rotatedOnBoot = rotateOnBoot;
+        if (rotateOnBoot && Files.exists(path) && Files.size(path) > 0L) {
+            rotateFiles(path);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        fileSize = channel.size();
+        written = false;
+        writeHead();
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                reportError("Failed to close the log file", e, ErrorManager.CLOSE_FAILURE);
+            }
+            channel = null;
+        }
+    }
+
+    private void rotateOnBoot() {
+        if (!rotatedOnBoot) {
+            rotatedOnBoot = true;
+            if (fileSize > 0L) {
+                rotate();
+            }
+        }
+    }
+
+    private void rotate() {
+        closeChannel();
+        try {
+            rotateFiles(file.toPath());
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            fileSize = 0L;
+            rotations++;
+            writeHead();
+        } catch (IOException e) {
+            reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
+        }
+    }
+
+    private void rotateFiles(final Path path) throws IOException {
+        String suffix = this.suffix;
+        String compression = "";
+        if (suffix != null && suffix.endsWith(".gz")) {
+            compression = ".gz";
+            suffix = suffix.substring(0, suffix.length() - 3);
+        } else if (suffix != null && suffix.endsWith(".zip")) {
+            compression = ".zip";
+            suffix = suffix.substring(0, suffix.length() - 4);
+        }
+        final String baseName = path.getFileName().toString()
+                + (suffix == null || suffix.isEmpty() ? "" : new SimpleDateFormat(suffix).format(new Date()));
+        final int maxBackupIndex = this.maxBackupIndex;
+        if (maxBackupIndex < 1) {
+            Files.deleteIfExists(path);
+            return;
+        }
+        final Path dir = path.toAbsolutePath().getParent();
+        Files.deleteIfExists(dir.resolve(baseName + "." + maxBackupIndex + compression));
+        for (int i = maxBackupIndex - 1; i >= 1; i--) {
+            final Path source = dir.resolve(baseName + "." + i + compression);
+            if (Files.exists(source)) {
+                Files.move(source, dir.resolve(baseName + "." + (i + 1) + compression), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        final Path target = dir.resolve(baseName + ".1" + compression);
+        if (!Files.exists(path)) {
+            return;
+        }
+        if (compression.isEmpty()) {
+            Files.move(path, target, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            try (InputStream in = Files.newInputStream(path); OutputStream out = Files.newOutputStream(target)) {
+                if (".gz".equals(compression)) {
+                    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                        in.transferTo(gzip);
+                    }
+                } else {
+                    try (ZipOutputStream zip = new ZipOutputStream(out)) {
+                        zip.putNextEntry(new ZipEntry(path.getFileName().toString()));
+                        in.transferTo(zip);
+                        zip.closeEntry();
+                    }
+                }
+            }
+            Files.delete(path);
+        }
+    }
+
+    private void writeHead() {
+        final Formatter formatter = getFormatter();
+        if (formatter != null) {
+            writeDirect(formatter.getHead(this));
+        }
+    }
+
+    private void writeTail() {
+        final Formatter formatter = getFormatter();
+        if (formatter != null && channel != null) {
+            writeDirect(formatter.getTail(this));
+        }
+    }
+
+    private void writeDirect(final String value) {
+        if (value == null || value.isEmpty() || channel == null) {
+            return;
+        }
+        try {
+            final ByteBuffer buffer = getCharset().encode(value);
+            while (buffer.hasRemaining()) {
+                fileSize += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Failed to write to the log file", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+}
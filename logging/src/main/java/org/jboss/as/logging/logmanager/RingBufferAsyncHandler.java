@@ -0,0 +1,488 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler which queues records in a bounded, lock-free multi-producer/single-consumer ring buffer.
+ * <p>
+ * Producers claim a slot with a single CAS and never take a lock. A single drain thread removes records in batches,
+ * releasing the slots before the batch is published to the sub-handlers, so slow sub-handlers do not hold the ring
+ * full any longer than necessary.
+ * </p>
+ * <p>
+ * The queue depth, the number of discarded records and the latency between a record being queued and it being
+ * handed to the sub-handlers are tracked and can be read while the handler is running.
+ * </p>
+ * <p>
+ * Errors thrown by a sub-handler are reported and the drain thread carries on. Should the drain thread still die,
+ * records are published synchronously by the publishing thread rather than left to wait for it. The same applies to
+ * records queued while the handler is being closed, after the drain thread has finished.
+ * </p>
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /**
+     * How the drain thread waits for records to arrive, and how a blocked producer waits for space.
+     */
+    public enum WaitStrategy {
+        /**
+         * Park the waiting thread. Uses the least CPU, at the cost of a wake-up on the producer side.
+         */
+        PARK,
+        /**
+         * Yield the waiting thread.
+         */
+        YIELD,
+        /**
+         * Busy spin. Gives the lowest latency but occupies a core while idle.
+         */
+        SPIN,
+    }
+
+    private static final int DEFAULT_QUEUE_LENGTH = 512;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int SPINS = 64;
+
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private static final AtomicIntegerFieldUpdater<RingBufferAsyncHandler> stateUpdater = AtomicIntegerFieldUpdater.newUpdater(RingBufferAsyncHandler.class, "state");
+
+    private final int mask;
+    private final ExtLogRecord[] records;
+    private final long[] timestamps;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final Thread thread;
+    private final LongAdder dropped = new LongAdder();
+
+    // Written by the drain thread only, or by producers under a lock once it has finished
+    private volatile long head;
+    private volatile long drained;
+    private volatile long totalDrainLatency;
+    private volatile long maxDrainLatency;
+
+    private volatile boolean consumerWaiting;
+    private volatile boolean drainStopped;
+    private volatile int state;
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+    /**
+     * Creates a new handler with a default queue length.
+     */
+    public RingBufferAsyncHandler() {
+        this(DEFAULT_QUEUE_LENGTH);
+    }
+
+    /**
+     * Creates a new handler.
+     *
+     * @param queueLength the minimum number of records the ring can hold, rounded up to the next power of two
+     */
+    public RingBufferAsyncHandler(final int queueLength) {
+        this(queueLength, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates a new handler.
+     *
+     * @param queueLength   the minimum number of records the ring can hold, rounded up to the next power of two
+     * @param threadFactory the factory used to create the drain thread
+     */
+    public RingBufferAsyncHandler(final int queueLength, final ThreadFactory threadFactory) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("queueLength must be at least 1");
+        }
+        final int capacity = queueLength > (1 << 30) ? 1 << 30 : Integer.highestOneBit(Math.max(queueLength, 2) - 1) << 1;
+        mask = capacity - 1;
+        records = new ExtLogRecord[capacity];
+        timestamps = new long[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        thread = threadFactory.newThread(this::drain);
+        if (thread == null) {
+            throw new IllegalArgumentException("Thread factory did not create a thread");
+        }
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Returns the number of records the ring can hold.
+     *
+     * @return the capacity of the ring
+     */
+    public int getQueueLength() {
+        return records.length;
+    }
+
+    /**
+     * Returns the action taken when the ring is full.
+     *
+     * @return the overflow action
+     */
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    /**
+     * Sets the action taken when the ring is full.
+     *
+     * @param overflowAction the overflow action
+     */
+    public void setOverflowAction(final OverflowAction overflowAction) {
+        if (overflowAction == null) {
+            throw new NullPointerException("overflowAction is null");
+        }
+        checkAccess(this);
+        this.overflowAction = overflowAction;
+    }
+
+    /**
+     * Returns the strategy used by waiting threads.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Sets the strategy used by waiting threads.
+     *
+     * @param waitStrategy the wait strategy
+     */
+    public void setWaitStrategy(final WaitStrategy waitStrategy) {
+        if (waitStrategy == null) {
+            throw new NullPointerException("waitStrategy is null");
+        }
+        checkAccess(this);
+        this.waitStrategy = waitStrategy;
+        // The drain thread may be parked under the previous strategy
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns the number of records currently waiting to be drained.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        final long depth = tail.get() - head;
+        return depth < 0 ? 0 : (int) Math.min(depth, records.length);
+    }
+
+    /**
+     * Returns the number of records discarded because the ring was full.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of records handed to the sub-handlers.
+     *
+     * @return the number of drained records
+     */
+    public long getDrainedCount() {
+        return drained;
+    }
+
+    /**
+     * Returns the longest time, in nanoseconds, a record waited in the ring.
+     *
+     * @return the maximum drain latency
+     */
+    public long getMaxDrainLatency() {
+        return maxDrainLatency;
+    }
+
+    /**
+     * Returns the average time, in nanoseconds, a record waited in the ring.
+     *
+     * @return the average drain latency
+     */
+    public long getAverageDrainLatency() {
+        final long count = drained;
+        return count == 0L ? 0L : totalDrainLatency / count;
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        switch (state) {
+            case STATE_NEW: {
+                if (stateUpdater.compareAndSet(this, STATE_NEW, STATE_RUNNING)) {
+                    thread.start();
+                }
+                break;
+            }
+            case STATE_CLOSED: {
+                return;
+            }
+        }
+        final Handler[] handlers = this.handlers;
+        if (handlers.length == 0) {
+            return;
+        }
+        // Snapshot everything which may not be safely read from another thread later
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+            record.getFormattedMessage();
+        }
+        int spins = 0;
+        while (drainStopped || !offer(record)) {
+            if (drainStopped) {
+                // Nothing would ever free a slot, so blocking producers would wait forever
+                publishToHandlers(handlers, record);
+                return;
+            }
+            if (overflowAction == OverflowAction.DISCARD || state == STATE_CLOSED) {
+                dropped.increment();
+                return;
+            }
+            spins = backOff(spins);
+        }
+        if (state == STATE_CLOSED) {
+            // The drain thread may have found the ring empty and finished before the record was queued
+            drainAfterClose();
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess(this);
+        if (stateUpdater.getAndSet(this, STATE_CLOSED) != STATE_CLOSED) {
+            if (thread.isAlive()) {
+                LockSupport.unpark(thread);
+                boolean interrupted = false;
+                while (thread.isAlive()) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.close();
+        }
+    }
+
+    private boolean offer(final ExtLogRecord record) {
+        long pos = tail.get();
+        for (;;) {
+            final int index = (int) pos & mask;
+            final long diff = sequences.get(index) - pos;
+            if (diff == 0L) {
+                if (tail.compareAndSet(pos, pos + 1L)) {
+                    records[index] = record;
+                    timestamps[index] = System.nanoTime();
+                    // A volatile write, ordered before the read of consumerWaiting below
+                    sequences.set(index, pos + 1L);
+                    if (consumerWaiting) {
+                        consumerWaiting = false;
+                        LockSupport.unpark(thread);
+                    }
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0L) {
+                // The slot has not been released by the drain thread yet, the ring is full
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    private int poll(final ExtLogRecord[] batch) {
+        long pos = head;
+        int count = 0;
+        long maxLatency = maxDrainLatency;
+        long totalLatency = 0L;
+        final long now = System.nanoTime();
+        while (count < batch.length) {
+            final int index = (int) pos & mask;
+            if (sequences.get(index) != pos + 1L) {
+                break;
+            }
+            batch[count++] = records[index];
+            final long latency = now - timestamps[index];
+            records[index] = null;
+            sequences.lazySet(index, pos + mask + 1L);
+            pos++;
+            if (latency > 0L) {
+                totalLatency += latency;
+                if (latency > maxLatency) {
+                    maxLatency = latency;
+                }
+            }
+        }
+        if (count > 0) {
+            head = pos;
+            maxDrainLatency = maxLatency;
+            totalDrainLatency += totalLatency;
+            drained += count;
+        }
+        return count;
+    }
+
+    private void drain() {
+        try {
+            drainRecords();
+        } finally {
+            if (state != STATE_CLOSED) {
+                drainStopped = true;
+            }
+        }
+    }
+
+    private void drainAfterClose() {
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        // Producers racing with close() serialize on the ring, the drain thread no longer polls it
+        synchronized (records) {
+            final ExtLogRecord[] batch = new ExtLogRecord[Math.min(MAX_BATCH_SIZE, records.length)];
+            int count;
+            while ((count = poll(batch)) > 0) {
+                final Handler[] handlers = this.handlers;
+                for (int i = 0; i < count; i++) {
+                    final ExtLogRecord record = batch[i];
+                    batch[i] = null;
+                    publishToHandlers(handlers, record);
+                }
+            }
+        }
+    }
+
+    private void drainRecords() {
+        final ExtLogRecord[] batch = new ExtLogRecord[Math.min(MAX_BATCH_SIZE, records.length)];
+        int idle = 0;
+        for (;;) {
+            final int count = poll(batch);
+            if (count == 0) {
+                if (state == STATE_CLOSED) {
+                    // Producers may still have been completing an offer when the state changed
+                    if (tail.get() == head) {
+                        return;
+                    }
+                    Thread.onSpinWait();
+                    continue;
+                }
+                idle = awaitRecords(idle);
+                continue;
+            }
+            idle = 0;
+            final Handler[] handlers = this.handlers;
+            for (int i = 0; i < count; i++) {
+                final ExtLogRecord record = batch[i];
+                batch[i] = null;
+                publishToHandlers(handlers, record);
+            }
+        }
+    }
+
+    private void publishToHandlers(final Handler[] handlers, final ExtLogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (Exception e) {
+                reportError("Failed to publish record", e, ErrorManager.WRITE_FAILURE);
+            } catch (Throwable t) {
+                // An error must not end the drain thread, blocked producers rely on it to free slots
+                reportError("Failed to publish record", new RuntimeException(t), ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private int awaitRecords(final int idle) {
+        switch (waitStrategy) {
+            case SPIN:
+                Thread.onSpinWait();
+                return idle;
+            case YIELD:
+                Thread.yield();
+                return idle;
+            default:
+                if (idle < SPINS) {
+                    Thread.onSpinWait();
+                    return idle + 1;
+                }
+                consumerWaiting = true;
+                // Re-check after publishing the flag, a producer which missed it has already made its record visible
+                if (sequences.get((int) head & mask) == head + 1L || state == STATE_CLOSED) {
+                    consumerWaiting = false;
+                    return 0;
+                }
+                LockSupport.park(this);
+                consumerWaiting = false;
+                return 0;
+        }
+    }
+
+    private int backOff(final int spins) {
+        final WaitStrategy waitStrategy = this.waitStrategy;
+        if (waitStrategy == WaitStrategy.SPIN || spins < SPINS) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || spins < SPINS * 2) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(this, 10_000L);
+        }
+        return spins + 1;
+    }
+}
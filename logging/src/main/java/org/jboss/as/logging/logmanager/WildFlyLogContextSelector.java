@@ -108,6 +108,29 @@ public interface WildFlyLogContextSelector extends LogContextSelector {
      */
     int registeredCount();
 
+    /**
+     * Returns the number of log context selections which searched the calling class loaders for a registered log
+     * context.
+     *
+     * @return the number of selections
+     */
+    long getSelectionCount();
+
+    /**
+     * Returns the number of times the log context for a calling class loader was found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    long getCacheHitCount();
+
+    /**
+     * Returns the number of times the log context for a calling class loader had to be resolved. The cache is
+     * invalidated each time a log context or log API class loader is registered or unregistered.
+     *
+     * @return the number of cache misses
+     */
+    long getCacheMissCount();
+
     class Factory {
         private static final LogContext EMBEDDED_LOG_CONTEXT = LogContext.create();
 
@@ -22,17 +22,48 @@
 
 package org.jboss.as.logging.logmanager;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.PrivilegedAction;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 import org.jboss.logmanager.ClassLoaderLogContextSelector;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.LogContextSelector;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
 
+    private static final StackWalker WALKER = WildFlySecurityManager.doUnchecked((PrivilegedAction<StackWalker>) () ->
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE));
+
     private final LogContextSelector defaultLogContextSelector;
+    // Used to validate the registrations, the lookups are done with the maps below
     private final ClassLoaderLogContextSelector contextSelector;
+    private final ConcurrentMap<ClassLoader, LogContext> contexts = new ConcurrentHashMap<>();
+    private final Set<ClassLoader> logApiClassLoaders = ConcurrentHashMap.newKeySet();
+
+    // The resolved log context for each class loader found on the call stack, a null log context if the class loader
+    // does not have one. Entries from an older generation are stale and resolved again.
+    private final ConcurrentMap<Object, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ClassLoader> collected = new ReferenceQueue<>();
+    private volatile long generation;
+
+    private final LongAdder selections = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final Function<Stream<StackWalker.StackFrame>, LogContext> finder = this::findLogContext;
+    private final PrivilegedAction<LogContext> walkAction = () -> WALKER.walk(finder);
 
     private final ThreadLocal<LogContext> localContext = new ThreadLocal<>();
     private int counter;
@@ -72,7 +103,14 @@ class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
         // If we have no registered contexts we can just use the default selector. This should improve performance
         // in most cases as the call stack will not be walked. This does depend on the on what was used for the
         // default selector, however in most cases it should perform better.
-        return counter > 0 ? contextSelector.getLogContext() : defaultLogContextSelector.getLogContext();
+        if (counter > 0) {
+            selections.increment();
+            final LogContext logContext = WildFlySecurityManager.isChecking() ? WildFlySecurityManager.doUnchecked(walkAction) : walkAction.run();
+            if (logContext != null) {
+                return logContext;
+            }
+        }
+        return defaultLogContextSelector.getLogContext();
     }
 
     @Override
@@ -93,6 +131,8 @@ class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
         // We want to register regardless of the current counter for cases when a different log context is registered
         // later.
         contextSelector.registerLogContext(classLoader, logContext);
+        contexts.put(classLoader, logContext);
+        invalidate();
         synchronized (this) {
             if (counter > 0) {
                 counter++;
@@ -110,6 +150,8 @@ class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
     @Override
     public boolean unregisterLogContext(final ClassLoader classLoader, final LogContext logContext) {
         if (contextSelector.unregisterLogContext(classLoader, logContext)) {
+            contexts.remove(classLoader, logContext);
+            invalidate();
             synchronized (this) {
                 if (counter > 0) {
                     counter--;
@@ -126,12 +168,22 @@ class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
 
     @Override
     public boolean addLogApiClassLoader(final ClassLoader apiClassLoader) {
-        return contextSelector.addLogApiClassLoader(apiClassLoader);
+        if (contextSelector.addLogApiClassLoader(apiClassLoader)) {
+            logApiClassLoaders.add(apiClassLoader);
+            invalidate();
+            return true;
+        }
+        return false;
     }
 
     @Override
     public boolean removeLogApiClassLoader(final ClassLoader apiClassLoader) {
-        return contextSelector.removeLogApiClassLoader(apiClassLoader);
+        if (contextSelector.removeLogApiClassLoader(apiClassLoader)) {
+            logApiClassLoaders.remove(apiClassLoader);
+            invalidate();
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -140,4 +192,143 @@ class WildFlyLogContextSelectorImpl implements WildFlyLogContextSelector {
             return counter;
         }
     }
+
+    @Override
+    public long getSelectionCount() {
+        return selections.sum();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    private LogContext findLogContext(final Stream<StackWalker.StackFrame> frames) {
+        final long generation = this.generation;
+        final Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+        while (iterator.hasNext()) {
+            final ClassLoader classLoader = iterator.next().getDeclaringClass().getClassLoader();
+            if (classLoader != null) {
+                final LogContext logContext = getLogContext(classLoader, generation);
+                if (logContext != null) {
+                    return logContext;
+                }
+            }
+        }
+        return null;
+    }
+
+    private LogContext getLogContext(final ClassLoader classLoader, final long generation) {
+        final CacheEntry entry = cache.get(new LookupKey(classLoader));
+        if (entry != null && entry.generation == generation) {
+            cacheHits.increment();
+            return entry.logContext;
+        }
+        cacheMisses.increment();
+        expungeCollected();
+        final LogContext logContext = resolveLogContext(classLoader);
+        cache.put(new WeakKey(classLoader, collected), new CacheEntry(generation, logContext));
+        return logContext;
+    }
+
+    private LogContext resolveLogContext(final ClassLoader classLoader) {
+        // Same search as the ClassLoaderLogContextSelector, log API class loaders are skipped and the parent class
+        // loaders are checked
+        ClassLoader current = classLoader;
+        while (current != null && !logApiClassLoaders.contains(current)) {
+            final LogContext logContext = contexts.get(current);
+            if (logContext != null) {
+                return logContext;
+            }
+            current = current.getParent();
+        }
+        return null;
+    }
+
+    private void invalidate() {
+        // Bump the generation first so entries resolved concurrently with the clear are not used
+        synchronized (this) {
+            generation++;
+        }
+        cache.clear();
+        expungeCollected();
+    }
+
+    private void expungeCollected() {
+        Reference<? extends ClassLoader> reference;
+        while ((reference = collected.poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    private static class CacheEntry {
+        final long generation;
+        final LogContext logContext;
+
+        CacheEntry(final long generation, final LogContext logContext) {
+            this.generation = generation;
+            this.logContext = logContext;
+        }
+    }
+
+    /**
+     * A weak cache key which compares the class loader by identity.
+     */
+    private static class WeakKey extends WeakReference<ClassLoader> {
+        private final int hash;
+
+        WeakKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            final ClassLoader classLoader = get();
+            if (classLoader == null) {
+                return false;
+            }
+            if (obj instanceof WeakKey) {
+                return classLoader == ((WeakKey) obj).get();
+            }
+            return obj instanceof LookupKey && classLoader == ((LookupKey) obj).classLoader;
+        }
+    }
+
+    /**
+     * A strong key only used to look up a {@link WeakKey}.
+     */
+    private static class LookupKey {
+        private final ClassLoader classLoader;
+        private final int hash;
+
+        LookupKey(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof WeakKey ? classLoader == ((WeakKey) obj).get()
+                    : obj instanceof LookupKey && classLoader == ((LookupKey) obj).classLoader;
+        }
+    }
 }
@@ -64,6 +64,8 @@ import org.jboss.as.logging.loggers.LoggerAttributes;
 import org.jboss.as.logging.loggers.LoggerResourceDefinition;
 import org.jboss.as.logging.loggers.RootLoggerResourceDefinition;
 import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.GroupCommitFileHandler;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
 import org.jboss.as.logging.resolvers.SizeResolver;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
 import org.jboss.as.subsystem.test.AdditionalInitialization;
@@ -362,6 +364,27 @@ public abstract class AbstractLoggingSubsystemTest extends AbstractSubsystemBase
                     } else {
                         continue;
                     }
+                } else if (modelPropertyName.equals(AsyncHandlerResourceDefinition.RING_BUFFER.getName())) {
+                    // The ring buffer selects the handler type rather than setting a property
+                    configValue = String.valueOf(RingBufferAsyncHandler.class.getName().equals(handlerConfig.getClassName()));
+                } else if (modelPropertyName.equals(AsyncHandlerResourceDefinition.WAIT_STRATEGY.getName())) {
+                    final String propertyName = AsyncHandlerResourceDefinition.WAIT_STRATEGY.getPropertyName();
+                    if (configPropertyNames.contains(propertyName)) {
+                        configValue = handlerConfig.getPropertyValueString(propertyName);
+                    } else {
+                        continue;
+                    }
+                } else if (modelPropertyName.equals(CommonAttributes.GROUP_COMMIT.getName())) {
+                    // Group commit selects the handler type rather than setting a property
+                    configValue = String.valueOf(GroupCommitFileHandler.class.getName().equals(handlerConfig.getClassName()));
+                } else if (modelPropertyName.equals(CommonAttributes.GROUP_COMMIT_INTERVAL.getName()) || modelPropertyName.equals(CommonAttributes.GROUP_COMMIT_SIZE.getName())) {
+                    final String propertyName = (modelPropertyName.equals(CommonAttributes.GROUP_COMMIT_INTERVAL.getName())
+                            ? CommonAttributes.GROUP_COMMIT_INTERVAL : CommonAttributes.GROUP_COMMIT_SIZE).getPropertyName();
+                    if (configPropertyNames.contains(propertyName)) {
+                        configValue = handlerConfig.getPropertyValueString(propertyName);
+                    } else {
+                        continue;
+                    }
                 } else if (modelPropertyName.equals(CommonAttributes.ENCODING.getName())) {
                     configValue = handlerConfig.getEncoding();
                 } else if (modelPropertyName.equals(AbstractHandlerDefinition.FORMATTER.getName()) || modelPropertyName.equals(AbstractHandlerDefinition.NAMED_FORMATTER.getName())) {
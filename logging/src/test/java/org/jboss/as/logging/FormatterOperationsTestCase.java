@@ -30,11 +30,17 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.client.helpers.Operations;
 import org.jboss.as.logging.formatters.PatternFormatterResourceDefinition;
 import org.jboss.as.logging.formatters.StructuredFormatterResourceDefinition;
+import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.FastJsonFormatter;
 import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.SubsystemOperations;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.config.FormatterConfiguration;
+import org.jboss.logmanager.config.LogContextConfiguration;
+import org.jboss.logmanager.formatters.JsonFormatter;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -136,6 +142,32 @@ public class FormatterOperationsTestCase extends AbstractOperationsTestCase {
     private void testJsonFormatter(final KernelServices kernelServices, final String profileName) {
         final ModelNode address = createAddress(profileName, "json-formatter", "JSON").toModelNode();
         testStructuredFormatter(kernelServices, address);
+        // Test additional attributes
+        testWrite(kernelServices, address, "pre-encoded-keys", true);
+        testWrite(kernelServices, address, "length-prefixed", true);
+
+        testUndefine(kernelServices, address, "pre-encoded-keys");
+        testUndefine(kernelServices, address, "length-prefixed");
+
+        // The pre-encoded-keys attribute selects the type of the formatter
+        final ModelNode fastAddress = createAddress(profileName, "json-formatter", "FAST_JSON").toModelNode();
+        final ModelNode op = SubsystemOperations.createAddOperation(fastAddress);
+        op.get("pre-encoded-keys").set(true);
+        op.get("length-prefixed").set(true);
+        executeOperation(kernelServices, op);
+
+        final LogContextConfiguration logContextConfiguration = getLogContextConfiguration(profileName);
+        FormatterConfiguration configuration = logContextConfiguration.getFormatterConfiguration("FAST_JSON");
+        Assert.assertEquals(FastJsonFormatter.class.getName(), configuration.getClassName());
+        Assert.assertEquals("true", configuration.getPropertyValueString("lengthPrefixed"));
+
+        // The length-prefixed attribute is not a property of the log manager's JSON formatter
+        configuration = logContextConfiguration.getFormatterConfiguration("JSON");
+        Assert.assertEquals(JsonFormatter.class.getName(), configuration.getClassName());
+        Assert.assertFalse(configuration.getPropertyNames().contains("lengthPrefixed"));
+
+        executeOperation(kernelServices, SubsystemOperations.createRemoveOperation(fastAddress));
+        verifyRemoved(kernelServices, fastAddress);
     }
 
     private void testXmlFormatter(final KernelServices kernelServices, final String profileName) {
@@ -151,6 +183,11 @@ public class FormatterOperationsTestCase extends AbstractOperationsTestCase {
 
 
 
+    private static LogContextConfiguration getLogContextConfiguration(final String profileName) {
+        final LogContext logContext = profileName == null ? LogContext.getLogContext() : LoggingProfileContextSelector.getInstance().get(profileName);
+        return ConfigurationPersistence.getConfigurationPersistence(logContext);
+    }
+
     private void testStructuredFormatter(final KernelServices kernelServices, final ModelNode address) {
 
         final String dateFormat = "yyyy-MM-dd'T'HH:mm:ssSSSZ";
@@ -54,6 +54,7 @@ import org.jboss.as.logging.handlers.Target;
 import org.jboss.as.logging.loggers.LoggerAttributes;
 import org.jboss.as.logging.loggers.LoggerResourceDefinition;
 import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.GroupCommitFileHandler;
 import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.SubsystemOperations;
 import org.jboss.dmr.ModelNode;
@@ -62,6 +63,7 @@ import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.config.HandlerConfiguration;
 import org.jboss.logmanager.config.LogContextConfiguration;
 import org.jboss.logmanager.config.LoggerConfiguration;
+import org.jboss.logmanager.handlers.FileHandler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -309,6 +311,49 @@ public class HandlerOperationsTestCase extends AbstractOperationsTestCase {
         assertTrue("Expected the FILE handler to be assigned", loggerConfiguration.getHandlerNames().contains("ASYNC"));
     }
 
+    @Test
+    public void testGroupCommitFileHandler() throws Exception {
+        final ModelNode address = createSizeRotatingFileHandlerAddress(null, "GROUP_COMMIT").toModelNode();
+        final ModelNode fileHandlerAddress = createFileHandlerAddress("FILE").toModelNode();
+        final String filename = "group-commit.log";
+        final String fileHandlerFilename = "file.log";
+
+        // Add a group committed handler and a file handler which is not
+        executeOperation(kernelServices, OperationBuilder.createAddOperation(address)
+                .addAttribute(CommonAttributes.FILE, createFileValue("jboss.server.log.dir", filename))
+                .addAttribute(CommonAttributes.GROUP_COMMIT, true)
+                .addAttribute(CommonAttributes.GROUP_COMMIT_SIZE, 1024)
+                .build());
+        executeOperation(kernelServices, OperationBuilder.createAddOperation(fileHandlerAddress)
+                .addAttribute(CommonAttributes.FILE, createFileValue("jboss.server.log.dir", fileHandlerFilename))
+                .addAttribute(CommonAttributes.GROUP_COMMIT_SIZE, 1024)
+                .build());
+
+        final LogContextConfiguration configuration = ConfigurationPersistence.getConfigurationPersistence(LogContext.getLogContext());
+        HandlerConfiguration handlerConfiguration = configuration.getHandlerConfiguration("GROUP_COMMIT");
+        assertEquals(GroupCommitFileHandler.class.getName(), handlerConfiguration.getClassName());
+        assertEquals("1024", handlerConfiguration.getPropertyValueString("commitSize"));
+
+        // The commit settings are applied to the running handler
+        testWrite(kernelServices, address, CommonAttributes.GROUP_COMMIT_SIZE, 2048);
+        assertEquals("2048", handlerConfiguration.getPropertyValueString("commitSize"));
+
+        // The commit settings are not properties of other handlers
+        handlerConfiguration = configuration.getHandlerConfiguration("FILE");
+        assertEquals(FileHandler.class.getName(), handlerConfiguration.getClassName());
+        assertFalse(handlerConfiguration.getPropertyNames().contains("commitSize"));
+        testWrite(kernelServices, fileHandlerAddress, CommonAttributes.GROUP_COMMIT_SIZE, 2048);
+        assertFalse(handlerConfiguration.getPropertyNames().contains("commitSize"));
+
+        // Clean-up
+        executeOperation(kernelServices, SubsystemOperations.createRemoveOperation(address));
+        verifyRemoved(kernelServices, address);
+        executeOperation(kernelServices, SubsystemOperations.createRemoveOperation(fileHandlerAddress));
+        verifyRemoved(kernelServices, fileHandlerAddress);
+        removeFile(filename);
+        removeFile(fileHandlerFilename);
+    }
+
     private void testAsyncHandler(final KernelServices kernelServices, final String profileName) {
         final ModelNode address = createAsyncHandlerAddress(profileName, "async").toModelNode();
         final ModelNode subhandlers = new ModelNode().setEmptyList().add("CONSOLE");
@@ -361,7 +406,7 @@ public class HandlerOperationsTestCase extends AbstractOperationsTestCase {
         result = executeOperation(kernelServices, op);
         final ModelNode asyncHandlerResource = SubsystemOperations.readResult(result);
         validateResourceAttributes(asyncHandlerResource, Arrays.asList("enabled", "level", "filter-spec", "queue-length",
-                "overflow-action", "subhandlers", "name", "filter"));
+                "overflow-action", "ring-buffer", "wait-strategy", "subhandlers", "name", "filter"));
         // The name attribute should be the same as the last path element of the address
         assertEquals(asyncHandlerResource.get(CommonAttributes.NAME.getName()).asString(), PathAddress.pathAddress(address).getLastElement().getValue());
 
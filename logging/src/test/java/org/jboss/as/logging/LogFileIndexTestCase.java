@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests reading log files with a {@link LogFileIndex} and searching them with a {@link LogFileSearch}.
+ */
+public class LogFileIndexTestCase {
+
+    private static final Charset UTF_8 = StandardCharsets.UTF_8;
+
+    private Path file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = Files.createTempFile("log-file-index", ".log");
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testReadLines() throws Exception {
+        final int count = LogFileIndex.INTERVAL * 20 + 7;
+        writeLines(0, count, "\n");
+
+        assertLines(0, 10, LogFileIndex.readLines(file, UTF_8, false, 0, 10));
+        assertLines(5000, 25, LogFileIndex.readLines(file, UTF_8, false, 5000, 25));
+        assertLines(count - 3, 3, LogFileIndex.readLines(file, UTF_8, false, count - 3, 10));
+        assertEquals(Collections.emptyList(), LogFileIndex.readLines(file, UTF_8, false, count, 10));
+        assertLines(count - 10, 10, LogFileIndex.readLines(file, UTF_8, true, 0, 10));
+        assertLines(count - 15, 10, LogFileIndex.readLines(file, UTF_8, true, 5, 10));
+        // Beyond the lines read backwards from the end
+        assertLines(count - 10000 - 20, 20, LogFileIndex.readLines(file, UTF_8, true, 10000, 20));
+        assertLines(0, count - 5, LogFileIndex.readLines(file, UTF_8, true, 5, -1));
+        assertLines(5, count - 5, LogFileIndex.readLines(file, UTF_8, false, 5, -1));
+        assertLines(0, 7, LogFileIndex.readLines(file, UTF_8, true, count - 7, 20));
+    }
+
+    @Test
+    public void testLineTerminators() throws Exception {
+        Files.write(file, "a\r\nb\rc\n\nd\r\n".getBytes(UTF_8));
+        final List<String> expected = Arrays.asList("a", "b", "c", "", "d");
+        assertEquals(expected, LogFileIndex.readLines(file, UTF_8, false, 0, -1));
+        assertEquals(expected, LogFileIndex.readLines(file, UTF_8, true, 0, 10));
+        assertEquals(expected, LogFileIndex.readLines(file, UTF_8, true, 0, -1));
+        assertEquals(Arrays.asList("c", ""), LogFileIndex.readLines(file, UTF_8, true, 1, 2));
+        assertEquals(Arrays.asList("c", ""), LogFileIndex.readLines(file, UTF_8, false, 2, 2));
+
+        // A line without a terminator, then completed by a line feed following a carriage return
+        Files.write(file, "e\r".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(Arrays.asList("d", "e"), LogFileIndex.readLines(file, UTF_8, false, 4, -1));
+        Files.write(file, "\nf".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(Arrays.asList("d", "e", "f"), LogFileIndex.readLines(file, UTF_8, false, 4, -1));
+        assertEquals(Arrays.asList("e", "f"), LogFileIndex.readLines(file, UTF_8, true, 0, 2));
+    }
+
+    @Test
+    public void testGrowingAndReplacedFile() throws Exception {
+        writeLines(0, LogFileIndex.INTERVAL * 3, "\n");
+        assertLines(2000, 5, LogFileIndex.readLines(file, UTF_8, false, 2000, 5));
+
+        writeLines(LogFileIndex.INTERVAL * 3, LogFileIndex.INTERVAL * 2, "\r\n");
+        assertLines(4000, 5, LogFileIndex.readLines(file, UTF_8, false, 4000, 5));
+        assertLines(0, LogFileIndex.INTERVAL * 5 - 2000, LogFileIndex.readLines(file, UTF_8, true, 2000, -1));
+
+        // Replace the file with a shorter one
+        Files.write(file, "replaced\n".getBytes(UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+        assertEquals(Collections.singletonList("replaced"), LogFileIndex.readLines(file, UTF_8, false, 0, -1));
+        assertEquals(Collections.emptyList(), LogFileIndex.readLines(file, UTF_8, false, 2000, 5));
+    }
+
+    @Test
+    public void testIndexable() {
+        assertEquals(true, LogFileIndex.isIndexable(UTF_8));
+        assertEquals(true, LogFileIndex.isIndexable(StandardCharsets.ISO_8859_1));
+        assertEquals(false, LogFileIndex.isIndexable(StandardCharsets.UTF_16));
+    }
+
+    @Test
+    public void testSearch() throws Exception {
+        final String content = "2022-03-01 10:00:00,000 INFO  [org.test] (main) started\n" +
+                "2022-03-01 10:00:01,500 ERROR [org.test] (main) failed\n" +
+                "java.lang.IllegalStateException: failed\n" +
+                "\tat org.test.Test.run(Test.java:10)\n" +
+                "2022-03-01 10:00:02,000 DEBUG [org.test] (main) debug failed\n" +
+                "2022-03-01 10:00:03,000 WARN  [org.test] (main) slow\r\n" +
+                "2022-03-01 10:00:04,000 INFO  [org.test] (main) stopped";
+        Files.write(file, content.getBytes(UTF_8));
+
+        assertEquals(content.replace("\r\n", "\n") + "\n", search(null, null, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals("2022-03-01 10:00:01,500 ERROR [org.test] (main) failed\n" +
+                        "java.lang.IllegalStateException: failed\n" +
+                        "\tat org.test.Test.run(Test.java:10)\n" +
+                        "2022-03-01 10:00:03,000 WARN  [org.test] (main) slow\n",
+                search(null, "WARN", Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals("2022-03-01 10:00:01,500 ERROR [org.test] (main) failed\n" +
+                        "java.lang.IllegalStateException: failed\n" +
+                        "2022-03-01 10:00:02,000 DEBUG [org.test] (main) debug failed\n",
+                search(Pattern.compile("failed$"), null, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals("2022-03-01 10:00:01,500 ERROR [org.test] (main) failed\n" +
+                        "java.lang.IllegalStateException: failed\n",
+                search(Pattern.compile("failed"), "ERROR", Long.MIN_VALUE, Long.MAX_VALUE));
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS");
+        assertEquals("2022-03-01 10:00:02,000 DEBUG [org.test] (main) debug failed\n" +
+                        "2022-03-01 10:00:03,000 WARN  [org.test] (main) slow\n",
+                search(null, null, format.parse("2022-03-01 10:00:01,501").getTime(), format.parse("2022-03-01 10:00:03,000").getTime()));
+        assertEquals("", search(Pattern.compile("missing"), null, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testSearchLevels() {
+        assertEquals(org.jboss.logmanager.Level.WARNING, LogFileSearch.getLevel("warning"));
+        assertEquals(org.jboss.logmanager.Level.WARN, LogFileSearch.getLevel("WARN"));
+        // Records cannot be matched against these, so they must be rejected rather than ignored
+        assertEquals(null, LogFileSearch.getLevel("OFF"));
+        assertEquals(null, LogFileSearch.getLevel("CUSTOM"));
+    }
+
+    @Test
+    public void testSearchLargeFile() throws Exception {
+        // Larger than the read buffer so lines span buffer boundaries
+        final int count = LogFileIndex.INTERVAL * 20;
+        writeLines(0, count, "\r\n");
+        final String result = search(Pattern.compile("7$"), null, Long.MIN_VALUE, Long.MAX_VALUE);
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 7; i < count; i += 10) {
+            expected.append("line ").append(i).append('\n');
+        }
+        assertEquals(expected.toString(), result);
+    }
+
+    private String search(final Pattern pattern, final String level, final long from, final long to) throws IOException {
+        try (InputStream in = new LogFileSearch(file, UTF_8, pattern, level == null ? null : LogFileSearch.getLevel(level), from, to)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // Read in small chunks to cross line boundaries
+            final byte[] buffer = new byte[7];
+            int len;
+            while ((len = in.read(buffer)) > 0) {
+                out.write(buffer, 0, len);
+            }
+            return out.toString(UTF_8.name());
+        }
+    }
+
+    private void writeLines(final int first, final int count, final String terminator) throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = first; i < first + count; i++) {
+            content.append("line ").append(i).append(terminator);
+        }
+        Files.write(file, content.toString().getBytes(UTF_8), StandardOpenOption.APPEND);
+    }
+
+    private static void assertLines(final int first, final int count, final List<String> lines) {
+        final List<String> expected = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            expected.add("line " + i);
+        }
+        assertEquals(expected, lines);
+    }
+}
@@ -644,7 +644,7 @@ public class LoggingOperationsSubsystemTestCase extends AbstractLoggingSubsystem
         ModelNode result = executeOperation(kernelServices, op);
         ModelNode resource = SubsystemOperations.readResult(result);
         validateResourceAttributes(resource, Arrays.asList("enabled", "level", "filter-spec", "queue-length",
-                "overflow-action", "subhandlers", "name", "filter"));
+                "overflow-action", "ring-buffer", "wait-strategy", "subhandlers", "name", "filter"));
         op = SubsystemOperations.createReadResourceOperation(consoleHandlerAddress);
         result = executeOperation(kernelServices, op);
         resource = SubsystemOperations.readResult(result);
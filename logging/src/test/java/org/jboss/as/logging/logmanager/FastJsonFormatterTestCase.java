@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.formatters.JsonFormatter;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link FastJsonFormatter} writes the same JSON as the log manager's {@link JsonFormatter}.
+ */
+public class FastJsonFormatterTestCase {
+
+    @After
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testDefaults() {
+        compare(new JsonFormatter(), new FastJsonFormatter(), createRecord("Test message"));
+    }
+
+    @Test
+    public void testEscaping() {
+        MDC.put("quoted\"key", "tab\tand\\backslash");
+        MDC.put("control", "\u0001\u001f");
+        compare(new JsonFormatter(), new FastJsonFormatter(), createRecord("line one\nline \"two\"\r\né€😀"));
+    }
+
+    @Test
+    public void testMetaDataAndKeyOverrides() {
+        final String keyOverrides = "message=msg,level=severity,mdc=context";
+        final JsonFormatter expected = new JsonFormatter(keyOverrides);
+        final FastJsonFormatter formatter = new FastJsonFormatter(keyOverrides);
+        for (StructuredFormatter f : new StructuredFormatter[] {expected, formatter}) {
+            f.setMetaData("service=test,region=eu\\,west");
+            f.setPrintDetails(true);
+        }
+        MDC.put("user", "admin");
+        compare(expected, formatter, createRecord("first"));
+        // The meta-data is cached, make sure it is replaced
+        expected.setMetaData("service=other");
+        formatter.setMetaData("service=other");
+        compare(expected, formatter, createRecord("second"));
+    }
+
+    @Test
+    public void testExceptions() {
+        final IllegalStateException cause = new IllegalStateException("cause");
+        final RuntimeException thrown = new RuntimeException("failure \"quoted\"", cause);
+        thrown.addSuppressed(new IllegalArgumentException("suppressed"));
+        for (StructuredFormatter.ExceptionOutputType type : StructuredFormatter.ExceptionOutputType.values()) {
+            final JsonFormatter expected = new JsonFormatter();
+            final FastJsonFormatter formatter = new FastJsonFormatter();
+            expected.setExceptionOutputType(type);
+            formatter.setExceptionOutputType(type);
+            final ExtLogRecord record = createRecord("Exception");
+            record.setThrown(thrown);
+            compare(expected, formatter, record);
+        }
+    }
+
+    @Test
+    public void testPrettyPrint() {
+        final JsonFormatter expected = new JsonFormatter();
+        final FastJsonFormatter formatter = new FastJsonFormatter();
+        expected.setPrettyPrint(true);
+        formatter.setPrettyPrint(true);
+        expected.setMetaData("a=b");
+        formatter.setMetaData("a=b");
+        MDC.put("key", "value");
+        final ExtLogRecord record = createRecord("Pretty");
+        final String formatted = formatter.format(record);
+        Assert.assertTrue(formatted, formatted.contains("\n    \"message\": \"Pretty\""));
+        Assert.assertEquals(parse(expected.format(record)), parse(formatted));
+    }
+
+    @Test
+    public void testEncode() {
+        final FastJsonFormatter formatter = new FastJsonFormatter();
+        final ExtLogRecord record = createRecord("encoded é€😀");
+        final String formatted = formatter.format(record);
+
+        ByteBuffer buffer = formatter.encode(record);
+        Assert.assertEquals(formatted, StandardCharsets.UTF_8.decode(buffer).toString());
+
+        formatter.setLengthPrefixed(true);
+        buffer = formatter.encode(record);
+        final int length = buffer.getInt();
+        Assert.assertEquals(buffer.remaining(), length);
+        // The record delimiter is replaced by the length
+        Assert.assertEquals(formatted.substring(0, formatted.length() - 1), StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    private static void compare(final JsonFormatter expected, final FastJsonFormatter formatter, final ExtLogRecord record) {
+        final String formatted = formatter.format(record);
+        Assert.assertTrue(formatted, formatted.endsWith("\n"));
+        Assert.assertEquals(parse(expected.format(record)), parse(formatted));
+    }
+
+    private static JsonObject parse(final String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    private static ExtLogRecord createRecord(final String message) {
+        final ExtLogRecord record = new ExtLogRecord(Level.INFO, message, FastJsonFormatterTestCase.class.getName());
+        record.setLoggerName(FastJsonFormatterTestCase.class.getName());
+        record.setSourceClassName(FastJsonFormatterTestCase.class.getName());
+        record.setSourceMethodName("createRecord");
+        record.setSourceLineNumber(42);
+        return record;
+    }
+}
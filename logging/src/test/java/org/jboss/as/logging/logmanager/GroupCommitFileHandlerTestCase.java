@@ -0,0 +1,318 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link GroupCommitFileHandler}.
+ */
+public class GroupCommitFileHandlerTestCase {
+
+    private Path dir;
+
+    @Before
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("group-commit");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        // Long enough that only the flush commits the records
+        handler.setCommitInterval(60_000L);
+        try {
+            for (int i = 0; i < 10; i++) {
+                handler.publish(createRecord("message " + i));
+            }
+            handler.flush();
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            Assert.assertEquals(10, lines.size());
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals("message " + i, lines.get(i));
+            }
+            Assert.assertEquals(10L, handler.getRecordsWritten());
+            Assert.assertEquals(Files.size(file), handler.getBytesWritten());
+            Assert.assertEquals(1L, handler.getCommits());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testCommitInterval() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        handler.setCommitInterval(1L);
+        try {
+            handler.publish(createRecord("message"));
+            final long end = System.currentTimeMillis() + 10_000L;
+            while (handler.getRecordsWritten() == 0L && System.currentTimeMillis() < end) {
+                Thread.sleep(1L);
+            }
+            Assert.assertEquals(Collections.singletonList("message"), Files.readAllLines(file, StandardCharsets.UTF_8));
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testAutoFlush() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        handler.setCommitInterval(60_000L);
+        handler.setAutoFlush(true);
+        try {
+            handler.publish(createRecord("first"));
+            Assert.assertEquals(Collections.singletonList("first"), Files.readAllLines(file, StandardCharsets.UTF_8));
+            handler.publish(createRecord("second"));
+            Assert.assertEquals(List.of("first", "second"), Files.readAllLines(file, StandardCharsets.UTF_8));
+            Assert.assertEquals(2L, handler.getCommits());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testLargeRecords() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        // Records larger than both buffers are split across commits
+        handler.setBufferSize(16);
+        handler.setCommitSize(8);
+        final StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            message.append("éx");
+        }
+        try {
+            for (int i = 0; i < 5; i++) {
+                handler.publish(createRecord(message.toString()));
+            }
+        } finally {
+            handler.close();
+        }
+        Assert.assertEquals(Collections.nCopies(5, message.toString()), Files.readAllLines(file, StandardCharsets.UTF_8));
+        Assert.assertEquals(5L, handler.getRecordsWritten());
+    }
+
+    @Test
+    public void testConcurrentPublish() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        handler.setBufferSize(1024);
+        handler.setCommitSize(512);
+        final int threadCount = 8;
+        final int perThread = 2_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int id = t;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    handler.publish(createRecord(id + "-" + i));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.close();
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(threadCount * perThread, lines.size());
+        Assert.assertEquals(threadCount * perThread, new HashSet<>(lines).size());
+        Assert.assertEquals(threadCount * perThread, handler.getRecordsWritten());
+        Assert.assertTrue(handler.getCommits() < threadCount * perThread);
+    }
+
+    @Test
+    public void testRotate() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        handler.setRotateSize(100L);
+        handler.setMaxBackupIndex(3);
+        handler.setCommitSize(1);
+        try {
+            for (int i = 0; i < 100; i++) {
+                handler.publish(createRecord("rotated message " + i));
+                handler.flush();
+            }
+        } finally {
+            handler.close();
+        }
+        Assert.assertTrue(handler.getRotations() > 3L);
+        final Set<String> names = new HashSet<>();
+        try (Stream<Path> paths = Files.list(dir)) {
+            paths.forEach(path -> names.add(path.getFileName().toString()));
+        }
+        Assert.assertEquals(Set.of("server.log", "server.log.1", "server.log.2", "server.log.3"), names);
+        // The file is rotated before a commit would take it past the rotate size
+        for (String name : names) {
+            final long size = Files.size(dir.resolve(name));
+            Assert.assertTrue(name + " has " + size + " bytes", size > 0L && size <= 100L);
+        }
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals("rotated message 99", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    public void testRotateOnBootFileChange() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final Path other = dir.resolve("other.log");
+        Files.write(file, "previous\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(other, "other previous\n".getBytes(StandardCharsets.UTF_8));
+        final GroupCommitFileHandler handler = createHandler(file, true);
+        handler.setMaxBackupIndex(3);
+        handler.setRotateOnBoot(true);
+        try {
+            handler.publish(createRecord("first"));
+            handler.flush();
+            // Every file the handler is pointed at is rotated, including one it already wrote to
+            handler.setFile(other.toFile());
+            handler.publish(createRecord("second"));
+            handler.flush();
+            handler.setFile(file.toFile());
+            handler.publish(createRecord("third"));
+        } finally {
+            handler.close();
+        }
+        Assert.assertEquals(Collections.singletonList("third"), Files.readAllLines(file, StandardCharsets.UTF_8));
+        Assert.assertEquals(Collections.singletonList("first"), Files.readAllLines(dir.resolve("server.log.1"), StandardCharsets.UTF_8));
+        Assert.assertEquals(Collections.singletonList("previous"), Files.readAllLines(dir.resolve("server.log.2"), StandardCharsets.UTF_8));
+        Assert.assertEquals(Collections.singletonList("second"), Files.readAllLines(other, StandardCharsets.UTF_8));
+        Assert.assertEquals(Collections.singletonList("other previous"), Files.readAllLines(dir.resolve("other.log.1"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCommitterContext() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        final ClassLoader deploymentLoader = new ClassLoader(getClass().getClassLoader()) {
+        };
+        final Thread thread = new Thread(() -> handler.publish(createRecord("message")));
+        thread.setContextClassLoader(deploymentLoader);
+        try {
+            // The committer is started by the first publishing thread but must not keep its class loader
+            thread.start();
+            thread.join();
+            handler.flush();
+            Thread committer = null;
+            for (Thread candidate : Thread.getAllStackTraces().keySet()) {
+                if ("Log file group commit".equals(candidate.getName())) {
+                    committer = candidate;
+                }
+            }
+            Assert.assertNotNull(committer);
+            Assert.assertNull(committer.getContextClassLoader());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testRotateOnBootCompressed() throws Exception {
+        final Path file = dir.resolve("server.log");
+        Files.write(file, "previous\n".getBytes(StandardCharsets.UTF_8));
+        final GroupCommitFileHandler handler = createHandler(file, true);
+        handler.setSuffix(".gz");
+        handler.setRotateOnBoot(true);
+        try {
+            handler.publish(createRecord("current"));
+        } finally {
+            handler.close();
+        }
+        Assert.assertEquals(Collections.singletonList("current"), Files.readAllLines(file, StandardCharsets.UTF_8));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(dir.resolve("server.log.1.gz")))) {
+            Assert.assertEquals("previous\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(1L, handler.getRotations());
+    }
+
+    @Test
+    public void testFastJsonFormatter() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final GroupCommitFileHandler handler = createHandler(file);
+        handler.setFormatter(new FastJsonFormatter());
+        try {
+            handler.publish(createRecord("json message"));
+        } finally {
+            handler.close();
+        }
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(1, lines.size());
+        Assert.assertTrue(lines.get(0), lines.get(0).contains("\"message\":\"json message\""));
+    }
+
+    private static GroupCommitFileHandler createHandler(final Path file) throws IOException {
+        return createHandler(file, false);
+    }
+
+    private static GroupCommitFileHandler createHandler(final Path file, final boolean append) throws IOException {
+        final GroupCommitFileHandler handler = new GroupCommitFileHandler(file.toString(), append);
+        handler.setEncoding("UTF-8");
+        handler.setFormatter(new PatternFormatter("%s%n"));
+        handler.setAutoFlush(false);
+        return handler;
+    }
+
+    private static ExtLogRecord createRecord(final String message) {
+        return new ExtLogRecord(Level.INFO, message, GroupCommitFileHandlerTestCase.class.getName());
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler.WaitStrategy;
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link RingBufferAsyncHandler}.
+ */
+public class RingBufferAsyncHandlerTestCase {
+
+    @Test
+    public void testQueueLength() {
+        Assert.assertEquals(2, new RingBufferAsyncHandler(1).getQueueLength());
+        Assert.assertEquals(8, new RingBufferAsyncHandler(5).getQueueLength());
+        Assert.assertEquals(512, new RingBufferAsyncHandler(512).getQueueLength());
+    }
+
+    @Test
+    public void testPark() throws Exception {
+        testConcurrentPublish(WaitStrategy.PARK);
+    }
+
+    @Test
+    public void testYield() throws Exception {
+        testConcurrentPublish(WaitStrategy.YIELD);
+    }
+
+    @Test
+    public void testSpin() throws Exception {
+        testConcurrentPublish(WaitStrategy.SPIN);
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectingHandler collector = new CollectingHandler(release);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(collector);
+        try {
+            final int total = 100;
+            for (int i = 0; i < total; i++) {
+                handler.publish(createRecord(Integer.toString(i)));
+            }
+            // The drain thread holds at most one batch while blocked, everything else overflowed the ring
+            Assert.assertTrue(handler.getDroppedCount() > 0L);
+            Assert.assertTrue(handler.getQueueDepth() <= handler.getQueueLength());
+            release.countDown();
+            handler.close();
+            Assert.assertEquals(total, collector.getMessages().size() + handler.getDroppedCount());
+            Assert.assertEquals(collector.getMessages().size(), handler.getDrainedCount());
+            Assert.assertEquals(0, handler.getQueueDepth());
+        } finally {
+            release.countDown();
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testDrainLatency() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectingHandler collector = new CollectingHandler(release);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16);
+        handler.addHandler(collector);
+        try {
+            handler.publish(createRecord("first"));
+            // Wait for the drain thread to block on the first record, then queue a record behind it
+            Assert.assertTrue(collector.awaitPublish());
+            handler.publish(createRecord("second"));
+            Assert.assertEquals(1, handler.getQueueDepth());
+            TimeUnit.MILLISECONDS.sleep(20L);
+            release.countDown();
+            handler.close();
+            Assert.assertEquals(List.of("first", "second"), collector.getMessages());
+            Assert.assertEquals(0L, handler.getDroppedCount());
+            Assert.assertTrue(handler.getMaxDrainLatency() >= TimeUnit.MILLISECONDS.toNanos(20L));
+            Assert.assertTrue(handler.getAverageDrainLatency() > 0L);
+            Assert.assertTrue(handler.getAverageDrainLatency() <= handler.getMaxDrainLatency());
+        } finally {
+            release.countDown();
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testSubHandlerError() throws Exception {
+        final CollectingHandler collector = new CollectingHandler(null);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(final String msg, final Exception ex, final int code) {
+            }
+        });
+        // Every record makes the first sub-handler throw an error, the drain thread must keep draining regardless
+        handler.addHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                throw new AssertionError(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        handler.addHandler(collector);
+        final int total = 100;
+        try {
+            for (int i = 0; i < total; i++) {
+                handler.publish(createRecord(Integer.toString(i)));
+            }
+        } finally {
+            handler.close();
+        }
+        Assert.assertEquals(total, collector.getMessages().size());
+        Assert.assertEquals(0L, handler.getDroppedCount());
+    }
+
+    @Test
+    public void testPublishDuringClose() throws Exception {
+        final CollectingHandler collector = new CollectingHandler(null);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(64);
+        handler.addHandler(collector);
+        final int producers = 4;
+        final CountDownLatch started = new CountDownLatch(producers);
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 20000; i++) {
+                    handler.publish(createRecord(Integer.toString(i)));
+                }
+            });
+            threads[p].start();
+        }
+        Assert.assertTrue(started.await(5L, TimeUnit.SECONDS));
+        handler.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Records queued while the handler was closing must not be left in the ring
+        Assert.assertEquals(0, handler.getQueueDepth());
+        Assert.assertEquals(collector.getMessages().size(), handler.getDrainedCount());
+    }
+
+    private static void testConcurrentPublish(final WaitStrategy waitStrategy) throws Exception {
+        final int producers = 4;
+        final int records = 5000;
+        final CollectingHandler collector = new CollectingHandler(null);
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(64);
+        handler.setWaitStrategy(waitStrategy);
+        handler.addHandler(collector);
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final String prefix = p + ":";
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < records; i++) {
+                    handler.publish(createRecord(prefix + i));
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.close();
+
+        final List<String> messages = collector.getMessages();
+        Assert.assertEquals(producers * records, messages.size());
+        Assert.assertEquals(0L, handler.getDroppedCount());
+        Assert.assertEquals(producers * records, handler.getDrainedCount());
+        // Records from a single producer must be written in the order they were published
+        final int[] next = new int[producers];
+        for (String message : messages) {
+            final int separator = message.indexOf(':');
+            final int producer = Integer.parseInt(message.substring(0, separator));
+            Assert.assertEquals(next[producer]++, Integer.parseInt(message.substring(separator + 1)));
+        }
+    }
+
+    private static ExtLogRecord createRecord(final String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerTestCase.class.getName());
+    }
+
+    private static class CollectingHandler extends ExtHandler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch published = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        CollectingHandler(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            messages.add(record.getMessage());
+            published.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean awaitPublish() throws InterruptedException {
+            return published.await(5L, TimeUnit.SECONDS);
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
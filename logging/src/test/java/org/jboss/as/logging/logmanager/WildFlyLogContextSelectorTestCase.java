@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import org.jboss.logmanager.LogContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the log context lookup of the {@link WildFlyLogContextSelectorImpl}.
+ */
+public class WildFlyLogContextSelectorTestCase {
+
+    @Test
+    public void testCachedLookup() {
+        final LogContext defaultLogContext = LogContext.create();
+        final WildFlyLogContextSelectorImpl selector = new WildFlyLogContextSelectorImpl(defaultLogContext);
+        // Nothing registered, the call stack is not searched
+        Assert.assertSame(defaultLogContext, selector.getLogContext());
+        Assert.assertEquals(0L, selector.getSelectionCount());
+
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final LogContext logContext = LogContext.create();
+        selector.registerLogContext(classLoader, logContext);
+        Assert.assertSame(logContext, selector.getLogContext());
+        final long misses = selector.getCacheMissCount();
+        Assert.assertTrue(misses > 0L);
+
+        // The class loaders on the call stack are now cached
+        Assert.assertSame(logContext, selector.getLogContext());
+        Assert.assertEquals(2L, selector.getSelectionCount());
+        Assert.assertEquals(misses, selector.getCacheMissCount());
+        Assert.assertTrue(selector.getCacheHitCount() > 0L);
+
+        // Unregistering, as on undeploy, invalidates the cache
+        Assert.assertTrue(selector.unregisterLogContext(classLoader, logContext));
+        Assert.assertSame(defaultLogContext, selector.getLogContext());
+        final LogContext other = LogContext.create();
+        selector.registerLogContext(classLoader, other);
+        Assert.assertSame(other, selector.getLogContext());
+        Assert.assertTrue(selector.unregisterLogContext(classLoader, other));
+    }
+
+    @Test
+    public void testParentClassLoader() {
+        final LogContext defaultLogContext = LogContext.create();
+        final WildFlyLogContextSelectorImpl selector = new WildFlyLogContextSelectorImpl(defaultLogContext);
+        final ClassLoader parent = getClass().getClassLoader().getParent();
+        Assert.assertNotNull(parent);
+        final LogContext logContext = LogContext.create();
+        selector.registerLogContext(parent, logContext);
+        try {
+            Assert.assertSame(logContext, selector.getLogContext());
+            // Log API class loaders are skipped along with their parents
+            Assert.assertTrue(selector.addLogApiClassLoader(parent));
+            Assert.assertSame(defaultLogContext, selector.getLogContext());
+            Assert.assertTrue(selector.removeLogApiClassLoader(parent));
+            Assert.assertSame(logContext, selector.getLogContext());
+        } finally {
+            selector.unregisterLogContext(parent, logContext);
+        }
+    }
+}
@@ -56,13 +56,13 @@ class ClassLoadingMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeH
         if (PlatformMBeanConstants.OBJECT_NAME.getName().equals(name)) {
             context.getResult().set(ManagementFactory.CLASS_LOADING_MXBEAN_NAME);
         } else if (PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT.equals(name)) {
-            context.getResult().set(ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+            context.getResult().set(PlatformMXBeans.CLASS_LOADING.getTotalLoadedClassCount());
         } else if (PlatformMBeanConstants.LOADED_CLASS_COUNT.equals(name)) {
-            context.getResult().set(ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+            context.getResult().set(PlatformMXBeans.CLASS_LOADING.getLoadedClassCount());
         } else if (PlatformMBeanConstants.UNLOADED_CLASS_COUNT.equals(name)) {
-            context.getResult().set(ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount());
+            context.getResult().set(PlatformMXBeans.CLASS_LOADING.getUnloadedClassCount());
         } else if (PlatformMBeanConstants.VERBOSE.equals(name)) {
-            context.getResult().set(ManagementFactory.getClassLoadingMXBean().isVerbose());
+            context.getResult().set(PlatformMXBeans.CLASS_LOADING.isVerbose());
         } else if (CLASSLOADING_METRICS.contains(name)
                 || CLASSLOADING_READ_WRITE_ATTRIBUTES.contains(name)) {
             // Bug
@@ -79,7 +79,7 @@ class ClassLoadingMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeH
         final String name = operation.require(ModelDescriptionConstants.NAME).asString();
         if (PlatformMBeanConstants.VERBOSE.equals(name)) {
             context.getServiceRegistry(true); //to trigger auth
-            ManagementFactory.getClassLoadingMXBean().setVerbose(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
+            PlatformMXBeans.CLASS_LOADING.setVerbose(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
         } else if (CLASSLOADING_READ_WRITE_ATTRIBUTES.contains(name)) {
             // Bug
             throw PlatformMBeanLogger.ROOT_LOGGER.badWriteAttributeImpl(name);
@@ -70,11 +70,11 @@ class CompilationMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHa
         if (PlatformMBeanConstants.OBJECT_NAME.getName().equals(attributeName)) {
             store.set(ManagementFactory.COMPILATION_MXBEAN_NAME);
         } else if (ModelDescriptionConstants.NAME.equals(attributeName)) {
-            store.set(ManagementFactory.getCompilationMXBean().getName());
+            store.set(PlatformMXBeans.COMPILATION.getName());
         } else if (PlatformMBeanConstants.COMPILATION_TIME_MONITORING_SUPPORTED.equals(attributeName)) {
-            store.set(ManagementFactory.getCompilationMXBean().isCompilationTimeMonitoringSupported());
+            store.set(PlatformMXBeans.COMPILATION.isCompilationTimeMonitoringSupported());
         } else if (PlatformMBeanConstants.TOTAL_COMPILATION_TIME.equals(attributeName)) {
-            store.set(ManagementFactory.getCompilationMXBean().getTotalCompilationTime());
+            store.set(PlatformMXBeans.COMPILATION.getTotalCompilationTime());
         } else {
             if (COMPILATION_READ_ATTRIBUTES.contains(attributeName)|| COMPILATION_METRICS.contains(attributeName)) {
                 // Bug
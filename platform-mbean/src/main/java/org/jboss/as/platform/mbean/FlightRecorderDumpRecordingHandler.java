@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.logging.PlatformMBeanLogger.ROOT_LOGGER;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Dumps the data of a running or stopped flight recording to a temporary file and attaches the file to the
+ * response as a stream. The file is deleted once the stream is closed. A recording contains the system properties
+ * and environment variables of the JVM, so the operation is constrained like the attributes exposing them.
+ */
+class FlightRecorderDumpRecordingHandler implements OperationStepHandler {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.DUMP_RECORDING, PlatformMBeanUtil.getResolver(PlatformMBeanConstants.FLIGHT_RECORDER))
+            .setParameters(FlightRecorderResourceDefinition.RECORDING_NAME)
+            .setReplyType(ModelType.STRING)
+            .setRuntimeOnly()
+            .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.JVM, SensitiveTargetAccessConstraintDefinition.SYSTEM_PROPERTY)
+            .setReadOnly()
+            .build();
+
+    static final FlightRecorderDumpRecordingHandler INSTANCE = new FlightRecorderDumpRecordingHandler();
+
+    private FlightRecorderDumpRecordingHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String name = FlightRecorderResourceDefinition.RECORDING_NAME.resolveModelAttribute(context, operation).asString();
+        final Recording recording = FlightRecorderResourceDefinition.findRecording(name);
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw ROOT_LOGGER.unknownRecording(name);
+        }
+        if (recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.DELAYED) {
+            throw ROOT_LOGGER.recordingNotStarted(name);
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile("recording-", ".jfr");
+            recording.dump(file);
+            final String uuid = context.attachResultStream("application/octet-stream", new DeleteOnCloseInputStream(file));
+            context.getResult().set(uuid);
+        } catch (IOException | SecurityException | IllegalStateException e) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // the dump failure is the one to report
+                }
+            }
+            throw ROOT_LOGGER.cannotDumpRecording(name, e.toString());
+        }
+    }
+
+    /**
+     * Reads the dumped recording and deletes it when closed.
+     */
+    private static final class DeleteOnCloseInputStream extends FilterInputStream {
+
+        private final Path file;
+
+        private DeleteOnCloseInputStream(final Path file) throws IOException {
+            super(Files.newInputStream(file));
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.logging.PlatformMBeanLogger.ROOT_LOGGER;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PropertiesAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Definition of the {@code core-service=flight-recorder} resource, used to start, stop and dump JDK Flight Recorder
+ * recordings of the process.
+ */
+class FlightRecorderResourceDefinition extends SimpleResourceDefinition {
+
+    static final SimpleAttributeDefinition AVAILABLE = SimpleAttributeDefinitionBuilder.create(PlatformMBeanConstants.AVAILABLE, ModelType.BOOLEAN, false)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    static final PropertiesAttributeDefinition RECORDINGS = new PropertiesAttributeDefinition.Builder(PlatformMBeanConstants.RECORDINGS, true)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    static final SimpleAttributeDefinition RECORDING_NAME = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.NAME, ModelType.STRING, false)
+            .setValidator(new StringLengthValidator(1))
+            .build();
+
+    static final FlightRecorderResourceDefinition INSTANCE = new FlightRecorderResourceDefinition();
+
+    private FlightRecorderResourceDefinition() {
+        super(new Parameters(PlatformMBeanConstants.FLIGHT_RECORDER_PATH,
+                PlatformMBeanUtil.getResolver(PlatformMBeanConstants.FLIGHT_RECORDER)).setRuntime());
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerReadOnlyAttribute(AVAILABLE, ReadAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadOnlyAttribute(RECORDINGS, ReadAttributeHandler.INSTANCE);
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        resourceRegistration.registerOperationHandler(FlightRecorderStartRecordingHandler.DEFINITION, FlightRecorderStartRecordingHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(FlightRecorderStopRecordingHandler.DEFINITION, FlightRecorderStopRecordingHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(FlightRecorderDumpRecordingHandler.DEFINITION, FlightRecorderDumpRecordingHandler.INSTANCE);
+    }
+
+    /**
+     * Gets the flight recorder of the JVM.
+     *
+     * @return the flight recorder
+     * @throws OperationFailedException if the flight recorder is not available or cannot be accessed
+     */
+    static FlightRecorder getFlightRecorder() throws OperationFailedException {
+        if (!FlightRecorder.isAvailable()) {
+            throw ROOT_LOGGER.flightRecorderNotAvailable();
+        }
+        try {
+            return FlightRecorder.getFlightRecorder();
+        } catch (SecurityException | IllegalStateException e) {
+            throw new OperationFailedException(e.toString());
+        }
+    }
+
+    /**
+     * Finds the last recording with the given name, whatever its state.
+     *
+     * @param name the name of the recording
+     * @return the recording, or {@code null} if there is no recording with that name
+     * @throws OperationFailedException if the flight recorder is not available or cannot be accessed
+     */
+    static Recording findRecording(final String name) throws OperationFailedException {
+        Recording found = null;
+        for (Recording recording : getFlightRecorder().getRecordings()) {
+            if (name.equals(recording.getName())) {
+                found = recording;
+            }
+        }
+        return found;
+    }
+
+    private static class ReadAttributeHandler implements OperationStepHandler {
+
+        private static final ReadAttributeHandler INSTANCE = new ReadAttributeHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ModelNode result = context.getResult();
+            if (PlatformMBeanConstants.AVAILABLE.equals(name)) {
+                result.set(FlightRecorder.isAvailable());
+            } else if (PlatformMBeanConstants.RECORDINGS.equals(name)) {
+                if (FlightRecorder.isAvailable()) {
+                    result.setEmptyObject();
+                    for (Recording recording : getFlightRecorder().getRecordings()) {
+                        result.get(recording.getName()).set(recording.getState().name());
+                    }
+                }
+            } else {
+                throw ROOT_LOGGER.unknownAttribute(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.logging.PlatformMBeanLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Starts a flight recording using one of the settings profiles of the JDK, such as {@code default} or
+ * {@code profile}. A stopped recording with the same name is closed and replaced.
+ */
+class FlightRecorderStartRecordingHandler implements OperationStepHandler {
+
+    static final SimpleAttributeDefinition SETTINGS = SimpleAttributeDefinitionBuilder.create(PlatformMBeanConstants.SETTINGS, ModelType.STRING, true)
+            .setDefaultValue(new ModelNode("default"))
+            .setValidator(new StringAllowedValuesValidator(getConfigurationNames()))
+            .build();
+
+    static final SimpleAttributeDefinition MAX_AGE = SimpleAttributeDefinitionBuilder.create(PlatformMBeanConstants.MAX_AGE, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition MAX_SIZE = SimpleAttributeDefinitionBuilder.create(PlatformMBeanConstants.MAX_SIZE, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new LongRangeValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition DURATION = SimpleAttributeDefinitionBuilder.create(PlatformMBeanConstants.DURATION, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(1, true))
+            .build();
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.START_RECORDING, PlatformMBeanUtil.getResolver(PlatformMBeanConstants.FLIGHT_RECORDER))
+            .setParameters(FlightRecorderResourceDefinition.RECORDING_NAME, SETTINGS, MAX_AGE, MAX_SIZE, DURATION)
+            .setReplyType(ModelType.LONG)
+            .setRuntimeOnly()
+            .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.JVM, SensitiveTargetAccessConstraintDefinition.SYSTEM_PROPERTY)
+            .build();
+
+    static final FlightRecorderStartRecordingHandler INSTANCE = new FlightRecorderStartRecordingHandler();
+
+    private FlightRecorderStartRecordingHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String name = FlightRecorderResourceDefinition.RECORDING_NAME.resolveModelAttribute(context, operation).asString();
+        final String settings = SETTINGS.resolveModelAttribute(context, operation).asString();
+        final ModelNode maxAge = MAX_AGE.resolveModelAttribute(context, operation);
+        final ModelNode maxSize = MAX_SIZE.resolveModelAttribute(context, operation);
+        final ModelNode duration = DURATION.resolveModelAttribute(context, operation);
+
+        final Recording existing = FlightRecorderResourceDefinition.findRecording(name);
+        if (existing != null && (existing.getState() == RecordingState.RUNNING || existing.getState() == RecordingState.DELAYED)) {
+            throw ROOT_LOGGER.recordingAlreadyRunning(name);
+        }
+        final Recording recording;
+        try {
+            recording = new Recording(getConfiguration(settings));
+            recording.setName(name);
+            recording.setToDisk(true);
+            if (maxAge.isDefined()) {
+                recording.setMaxAge(Duration.ofSeconds(maxAge.asLong()));
+            }
+            if (maxSize.isDefined()) {
+                recording.setMaxSize(maxSize.asLong());
+            }
+            if (duration.isDefined()) {
+                recording.setDuration(Duration.ofSeconds(duration.asLong()));
+            }
+            recording.start();
+        } catch (SecurityException | IllegalStateException e) {
+            throw new OperationFailedException(e.toString());
+        }
+        if (existing != null) {
+            existing.close();
+        }
+        context.getResult().set(recording.getId());
+        context.completeStep(new OperationContext.RollbackHandler() {
+            @Override
+            public void handleRollback(OperationContext context, ModelNode operation) {
+                recording.close();
+            }
+        });
+    }
+
+    private static String[] getConfigurationNames() {
+        return Configuration.getConfigurations().stream().map(Configuration::getName).toArray(String[]::new);
+    }
+
+    private static Configuration getConfiguration(final String settings) throws OperationFailedException {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw ROOT_LOGGER.invalidRecordingSettings(settings, e.getLocalizedMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.logging.PlatformMBeanLogger.ROOT_LOGGER;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Stops a running flight recording. The stopped recording is kept, so that it can still be dumped, until a new
+ * recording with the same name is started.
+ */
+class FlightRecorderStopRecordingHandler implements OperationStepHandler {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.STOP_RECORDING, PlatformMBeanUtil.getResolver(PlatformMBeanConstants.FLIGHT_RECORDER))
+            .setParameters(FlightRecorderResourceDefinition.RECORDING_NAME)
+            .setRuntimeOnly()
+            .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.JVM, SensitiveTargetAccessConstraintDefinition.SYSTEM_PROPERTY)
+            .build();
+
+    static final FlightRecorderStopRecordingHandler INSTANCE = new FlightRecorderStopRecordingHandler();
+
+    private FlightRecorderStopRecordingHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String name = FlightRecorderResourceDefinition.RECORDING_NAME.resolveModelAttribute(context, operation).asString();
+        final Recording recording = FlightRecorderResourceDefinition.findRecording(name);
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw ROOT_LOGGER.unknownRecording(name);
+        }
+        if (recording.getState() == RecordingState.NEW) {
+            throw ROOT_LOGGER.recordingNotStarted(name);
+        }
+        if (recording.getState() != RecordingState.STOPPED) {
+            try {
+                recording.stop();
+            } catch (SecurityException | IllegalStateException e) {
+                throw new OperationFailedException(e.toString());
+            }
+        }
+    }
+}
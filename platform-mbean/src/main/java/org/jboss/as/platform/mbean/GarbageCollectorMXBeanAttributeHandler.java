@@ -54,13 +54,7 @@ class GarbageCollectorMXBeanAttributeHandler extends AbstractPlatformMBeanAttrib
         final String gcName = PathAddress.pathAddress(operation.require(ModelDescriptionConstants.OP_ADDR)).getLastElement().getValue();
         final String name = operation.require(ModelDescriptionConstants.NAME).asString();
 
-        GarbageCollectorMXBean gcMBean = null;
-
-        for (GarbageCollectorMXBean mbean : ManagementFactory.getGarbageCollectorMXBeans()) {
-            if (gcName.equals(escapeMBeanName(mbean.getName()))) {
-                gcMBean = mbean;
-            }
-        }
+        GarbageCollectorMXBean gcMBean = PlatformMXBeans.getGarbageCollector(gcName);
 
         if (gcMBean == null) {
             throw PlatformMBeanLogger.ROOT_LOGGER.unknownGarbageCollector(gcName);
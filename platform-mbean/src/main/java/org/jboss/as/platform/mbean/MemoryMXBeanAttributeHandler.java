@@ -53,15 +53,15 @@ class MemoryMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandler
         if (PlatformMBeanConstants.OBJECT_NAME.getName().equals(name)) {
             context.getResult().set(ManagementFactory.MEMORY_MXBEAN_NAME);
         } else if (PlatformMBeanConstants.OBJECT_PENDING_FINALIZATION_COUNT.equals(name)) {
-            context.getResult().set(ManagementFactory.getMemoryMXBean().getObjectPendingFinalizationCount());
+            context.getResult().set(PlatformMXBeans.MEMORY.getObjectPendingFinalizationCount());
         } else if (PlatformMBeanConstants.HEAP_MEMORY_USAGE.equals(name)) {
-            final ModelNode mu = PlatformMBeanUtil.getDetypedMemoryUsage(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage());
+            final ModelNode mu = PlatformMBeanUtil.getDetypedMemoryUsage(PlatformMXBeans.MEMORY.getHeapMemoryUsage());
             context.getResult().set(mu);
         } else if (PlatformMBeanConstants.NON_HEAP_MEMORY_USAGE.equals(name)) {
-            final ModelNode mu = PlatformMBeanUtil.getDetypedMemoryUsage(ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage());
+            final ModelNode mu = PlatformMBeanUtil.getDetypedMemoryUsage(PlatformMXBeans.MEMORY.getNonHeapMemoryUsage());
             context.getResult().set(mu);
         } else if (PlatformMBeanConstants.VERBOSE.equals(name)) {
-            context.getResult().set(ManagementFactory.getMemoryMXBean().isVerbose());
+            context.getResult().set(PlatformMXBeans.MEMORY.isVerbose());
         } else if (MemoryResourceDefinition.MEMORY_METRICS.contains(name)
                 || MemoryResourceDefinition.MEMORY_READ_WRITE_ATTRIBUTES.contains(name)) {
             // Bug
@@ -79,7 +79,7 @@ class MemoryMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandler
         final String name = operation.require(ModelDescriptionConstants.NAME).asString();
         if (PlatformMBeanConstants.VERBOSE.equals(name)) {
             context.getServiceRegistry(true); //to trigger auth
-            ManagementFactory.getMemoryMXBean().setVerbose(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
+            PlatformMXBeans.MEMORY.setVerbose(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
         } else if (MemoryResourceDefinition.MEMORY_READ_WRITE_ATTRIBUTES.contains(name)) {
             // Bug
             throw PlatformMBeanLogger.ROOT_LOGGER.badWriteAttributeImpl(name);
@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -57,7 +56,7 @@ public class MemoryMXBeanGCHandler implements OperationStepHandler {
                 // Modifies state, so communicate that
                 context.getServiceRegistry(true);
 
-                ManagementFactory.getMemoryMXBean().gc();
+                PlatformMXBeans.MEMORY.gc();
                 context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
             }
         }, OperationContext.Stage.RUNTIME);
@@ -53,13 +53,7 @@ class MemoryManagerMXBeanAttributeHandler extends AbstractPlatformMBeanAttribute
         final String mmName = PathAddress.pathAddress(operation.require(ModelDescriptionConstants.OP_ADDR)).getLastElement().getValue();
         final String name = operation.require(ModelDescriptionConstants.NAME).asString();
 
-        MemoryManagerMXBean memoryManagerMXBean = null;
-
-        for (MemoryManagerMXBean mbean : ManagementFactory.getMemoryManagerMXBeans()) {
-            if (mmName.equals(escapeMBeanName(mbean.getName()))) {
-                memoryManagerMXBean = mbean;
-            }
-        }
+        MemoryManagerMXBean memoryManagerMXBean = PlatformMXBeans.getMemoryManager(mmName);
 
         if (memoryManagerMXBean == null) {
             throw PlatformMBeanLogger.ROOT_LOGGER.unknownMemoryManager(mmName);
@@ -158,13 +158,7 @@ class MemoryPoolMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHan
 
     static MemoryPoolMXBean getMemoryPoolMXBean(String memPoolName) throws OperationFailedException {
 
-        MemoryPoolMXBean memoryPoolMXBean = null;
-
-        for (MemoryPoolMXBean mbean : ManagementFactory.getMemoryPoolMXBeans()) {
-            if (memPoolName.equals(escapeMBeanName(mbean.getName()))) {
-                memoryPoolMXBean = mbean;
-            }
-        }
+        MemoryPoolMXBean memoryPoolMXBean = PlatformMXBeans.getMemoryPool(memPoolName);
 
         if (memoryPoolMXBean == null) {
             throw PlatformMBeanLogger.ROOT_LOGGER.unknownMemoryPool(memPoolName);
@@ -22,9 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import static org.jboss.as.platform.mbean.PlatformMBeanUtil.escapeMBeanName;
-
-import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryPoolMXBean;
 
 import org.jboss.as.controller.OperationContext;
@@ -67,13 +64,7 @@ public class MemoryPoolMXBeanResetPeakUsageHandler implements OperationStepHandl
 
     private MemoryPoolMXBean getMemoryPoolMXBean(ModelNode operation) throws OperationFailedException {
         final String memPoolName = PathAddress.pathAddress(operation.require(ModelDescriptionConstants.OP_ADDR)).getLastElement().getValue();
-        MemoryPoolMXBean memoryPoolMXBean = null;
-
-        for (MemoryPoolMXBean mbean : ManagementFactory.getMemoryPoolMXBeans()) {
-            if (memPoolName.equals(escapeMBeanName(mbean.getName()))) {
-                memoryPoolMXBean = mbean;
-            }
-        }
+        MemoryPoolMXBean memoryPoolMXBean = PlatformMXBeans.getMemoryPool(memPoolName);
 
         if (memoryPoolMXBean == null) {
             throw PlatformMBeanLogger.ROOT_LOGGER.unknownMemoryPool(memPoolName);
@@ -75,15 +75,15 @@ class OperatingSystemMXBeanAttributeHandler extends AbstractPlatformMBeanAttribu
         if (PlatformMBeanConstants.OBJECT_NAME.getName().equals(name)) {
             store.set(ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME);
         } else if (ModelDescriptionConstants.NAME.equals(name)) {
-            store.set(ManagementFactory.getOperatingSystemMXBean().getName());
+            store.set(PlatformMXBeans.OPERATING_SYSTEM.getName());
         } else if (PlatformMBeanConstants.ARCH.equals(name)) {
-            store.set(ManagementFactory.getOperatingSystemMXBean().getArch());
+            store.set(PlatformMXBeans.OPERATING_SYSTEM.getArch());
         } else if (PlatformMBeanConstants.VERSION.equals(name)) {
-            store.set(ManagementFactory.getOperatingSystemMXBean().getVersion());
+            store.set(PlatformMXBeans.OPERATING_SYSTEM.getVersion());
         } else if (PlatformMBeanConstants.AVAILABLE_PROCESSORS.equals(name)) {
-            store.set(ManagementFactory.getOperatingSystemMXBean().getAvailableProcessors());
+            store.set(PlatformMXBeans.OPERATING_SYSTEM.getAvailableProcessors());
         } else if (PlatformMBeanConstants.SYSTEM_LOAD_AVERAGE.equals(name)) {
-            store.set(ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage());
+            store.set(PlatformMXBeans.OPERATING_SYSTEM.getSystemLoadAverage());
         } else if (OperatingSystemResourceDefinition.OPERATING_SYSTEM_READ_ATTRIBUTES.contains(name)
                 || OperatingSystemResourceDefinition.OPERATING_SYSTEM_METRICS.contains(name)) {
             // Bug
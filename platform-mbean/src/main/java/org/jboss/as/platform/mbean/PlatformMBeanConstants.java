@@ -194,12 +194,26 @@ public class PlatformMBeanConstants {
     public static final String GET_THREAD_CPU_TIME = "get-thread-cpu-time";
     public static final String GET_THREAD_USER_TIME = "get-thread-user-time";
     public static final String DUMP_ALL_THREADS = "dump-all-threads";
+    public static final String DUMP_ALL_THREADS_AS_TEXT = "dump-all-threads-as-text";
+    public static final String READ_METRICS = "read-metrics";
     public static final String ID = "id";
     public static final String IDS = "ids";
     public static final String MAX_DEPTH = "max-depth";
     public static final String LOCKED_MONITORS = "locked-monitors";
     public static final String LOCKED_SYNCHRONIZERS = "locked-synchronizers";
 
+    // Flight recorder
+    public static final String FLIGHT_RECORDER = "flight-recorder";
+    public static final String AVAILABLE = "available";
+    public static final String RECORDINGS = "recordings";
+    public static final String START_RECORDING = "start-recording";
+    public static final String STOP_RECORDING = "stop-recording";
+    public static final String DUMP_RECORDING = "dump-recording";
+    public static final String SETTINGS = "settings";
+    public static final String MAX_AGE = "max-age";
+    public static final String MAX_SIZE = "max-size";
+    public static final String DURATION = "duration";
+
     public static final String FILE_NAME = "file-name";
     public static final String LINE_NUMBER = "line-number";
     public static final String CLASS_NAME = "class-name";
@@ -263,6 +277,8 @@ public class PlatformMBeanConstants {
     public static final PathElement BUFFER_POOL_PATH = PathElement.pathElement(ModelDescriptionConstants.TYPE, BUFFER_POOL);
     public static final PathElement LOGGING_PATH = PathElement.pathElement(ModelDescriptionConstants.TYPE, LOGGING);
 
+    public static final PathElement FLIGHT_RECORDER_PATH = PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE, FLIGHT_RECORDER);
+
 
     static {
         final List<String> JDK6 = ManagementFactory.getCompilationMXBean() == null ? JDK_NOCOMPILATION_TYPES : JDK6_BASE_TYPES;
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import java.lang.management.GarbageCollectorMXBean;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Reads the memory, garbage collection, threading and class loading counters of the JVM in a single operation,
+ * rather than one {@code read-attribute} (or one {@code read-resource}) per platform MBean resource.
+ */
+class PlatformMBeanReadMetricsHandler implements OperationStepHandler {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.READ_METRICS, PlatformMBeanUtil.getResolver("platform-mbeans"))
+            .setReplyType(ModelType.OBJECT)
+            .setRuntimeOnly()
+            .setReadOnly()
+            .build();
+
+    static final PlatformMBeanReadMetricsHandler INSTANCE = new PlatformMBeanReadMetricsHandler();
+
+    private PlatformMBeanReadMetricsHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelNode result = context.getResult();
+
+        final ModelNode memory = result.get(PlatformMBeanConstants.MEMORY);
+        memory.get(PlatformMBeanConstants.HEAP_MEMORY_USAGE).set(PlatformMBeanUtil.getDetypedMemoryUsage(PlatformMXBeans.MEMORY.getHeapMemoryUsage()));
+        memory.get(PlatformMBeanConstants.NON_HEAP_MEMORY_USAGE).set(PlatformMBeanUtil.getDetypedMemoryUsage(PlatformMXBeans.MEMORY.getNonHeapMemoryUsage()));
+        memory.get(PlatformMBeanConstants.OBJECT_PENDING_FINALIZATION_COUNT).set(PlatformMXBeans.MEMORY.getObjectPendingFinalizationCount());
+
+        final ModelNode gcs = result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).setEmptyObject();
+        for (GarbageCollectorMXBean gc : PlatformMXBeans.getGarbageCollectors()) {
+            final ModelNode node = gcs.get(PlatformMBeanUtil.escapeMBeanName(gc.getName()));
+            node.get(PlatformMBeanConstants.COLLECTION_COUNT).set(gc.getCollectionCount());
+            node.get(PlatformMBeanConstants.COLLECTION_TIME).set(gc.getCollectionTime());
+        }
+
+        final ModelNode threading = result.get(PlatformMBeanConstants.THREADING);
+        threading.get(PlatformMBeanConstants.THREAD_COUNT).set(PlatformMXBeans.THREAD.getThreadCount());
+        threading.get(PlatformMBeanConstants.PEAK_THREAD_COUNT).set(PlatformMXBeans.THREAD.getPeakThreadCount());
+        threading.get(PlatformMBeanConstants.DAEMON_THREAD_COUNT).set(PlatformMXBeans.THREAD.getDaemonThreadCount());
+        threading.get(PlatformMBeanConstants.TOTAL_STARTED_THREAD_COUNT).set(PlatformMXBeans.THREAD.getTotalStartedThreadCount());
+
+        final ModelNode classLoading = result.get(PlatformMBeanConstants.CLASS_LOADING);
+        classLoading.get(PlatformMBeanConstants.LOADED_CLASS_COUNT).set(PlatformMXBeans.CLASS_LOADING.getLoadedClassCount());
+        classLoading.get(PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).set(PlatformMXBeans.CLASS_LOADING.getTotalLoadedClassCount());
+        classLoading.get(PlatformMBeanConstants.UNLOADED_CLASS_COUNT).set(PlatformMXBeans.CLASS_LOADING.getUnloadedClassCount());
+    }
+}
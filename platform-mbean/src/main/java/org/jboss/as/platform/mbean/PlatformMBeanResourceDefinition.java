@@ -1,7 +1,5 @@
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
-
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 
@@ -16,11 +14,17 @@ public class PlatformMBeanResourceDefinition extends SimpleResourceDefinition {
                 PlatformMBeanUtil.getResolver("platform-mbeans")).setRuntime());
     }
 
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        resourceRegistration.registerOperationHandler(PlatformMBeanReadMetricsHandler.DEFINITION, PlatformMBeanReadMetricsHandler.INSTANCE);
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         super.registerChildren(resourceRegistration);
         resourceRegistration.registerSubModel(ClassLoadingResourceDefinition.INSTANCE);
-        if (ManagementFactory.getCompilationMXBean() != null) {
+        if (PlatformMXBeans.COMPILATION != null) {
             resourceRegistration.registerSubModel(CompilationResourceDefinition.INSTANCE);
         }
         resourceRegistration.registerSubModel(GarbageCollectorRootResourceDefinition.INSTANCE);
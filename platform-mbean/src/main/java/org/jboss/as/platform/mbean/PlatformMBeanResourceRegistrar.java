@@ -34,6 +34,7 @@ public class PlatformMBeanResourceRegistrar {
 
     public static void registerPlatformMBeanResources(final ManagementResourceRegistration parent) {
         parent.registerSubModel(PlatformMBeanResourceDefinition.INSTANCE);
+        parent.registerSubModel(FlightRecorderResourceDefinition.INSTANCE);
 
     }
 
@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.PlatformMBeanUtil.escapeMBeanName;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryManagerMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cached handles to the platform MXBeans, so that reading an attribute does not have to look them up
+ * through {@link ManagementFactory} (and iterate over the returned lists to find a bean by name) every time.
+ *
+ * The JVM may add or remove memory pools, memory managers and garbage collectors while it runs, so the beans
+ * of those types are indexed by their escaped name and the index is rebuilt when a name is not found.
+ */
+final class PlatformMXBeans {
+
+    static final ThreadMXBean THREAD = ManagementFactory.getThreadMXBean();
+    static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    static final ClassLoadingMXBean CLASS_LOADING = ManagementFactory.getClassLoadingMXBean();
+    static final RuntimeMXBean RUNTIME = ManagementFactory.getRuntimeMXBean();
+    static final OperatingSystemMXBean OPERATING_SYSTEM = ManagementFactory.getOperatingSystemMXBean();
+    /** May be {@code null} if the JVM has no compilation system */
+    static final CompilationMXBean COMPILATION = ManagementFactory.getCompilationMXBean();
+
+    private static final Index<GarbageCollectorMXBean> GARBAGE_COLLECTORS = new Index<>(ManagementFactory::getGarbageCollectorMXBeans, GarbageCollectorMXBean::getName);
+    private static final Index<MemoryManagerMXBean> MEMORY_MANAGERS = new Index<>(ManagementFactory::getMemoryManagerMXBeans, MemoryManagerMXBean::getName);
+    private static final Index<MemoryPoolMXBean> MEMORY_POOLS = new Index<>(ManagementFactory::getMemoryPoolMXBeans, MemoryPoolMXBean::getName);
+
+    private PlatformMXBeans() {
+    }
+
+    /**
+     * @return the garbage collectors of the JVM
+     */
+    static Iterable<GarbageCollectorMXBean> getGarbageCollectors() {
+        return GARBAGE_COLLECTORS.get().values();
+    }
+
+    /**
+     * @param escapedName the escaped name of the garbage collector
+     * @return the garbage collector or {@code null} if there is none with that name
+     */
+    static GarbageCollectorMXBean getGarbageCollector(final String escapedName) {
+        return GARBAGE_COLLECTORS.get(escapedName);
+    }
+
+    /**
+     * @param escapedName the escaped name of the memory manager
+     * @return the memory manager or {@code null} if there is none with that name
+     */
+    static MemoryManagerMXBean getMemoryManager(final String escapedName) {
+        return MEMORY_MANAGERS.get(escapedName);
+    }
+
+    /**
+     * @param escapedName the escaped name of the memory pool
+     * @return the memory pool or {@code null} if there is none with that name
+     */
+    static MemoryPoolMXBean getMemoryPool(final String escapedName) {
+        return MEMORY_POOLS.get(escapedName);
+    }
+
+    private static final class Index<T> {
+
+        private final Supplier<List<T>> source;
+        private final Function<T, String> name;
+        private volatile Map<String, T> beans;
+
+        private Index(final Supplier<List<T>> source, final Function<T, String> name) {
+            this.source = source;
+            this.name = name;
+            this.beans = build();
+        }
+
+        Map<String, T> get() {
+            return beans;
+        }
+
+        T get(final String escapedName) {
+            T bean = beans.get(escapedName);
+            if (bean == null) {
+                // the JVM may have added a bean since the index was built
+                final Map<String, T> rebuilt = build();
+                beans = rebuilt;
+                bean = rebuilt.get(escapedName);
+            }
+            return bean;
+        }
+
+        private Map<String, T> build() {
+            final Map<String, T> map = new LinkedHashMap<>();
+            for (T bean : source.get()) {
+                map.put(escapeMBeanName(name.apply(bean)), bean);
+            }
+            return Collections.unmodifiableMap(map);
+        }
+    }
+}
@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -54,7 +53,7 @@ public class RootPlatformMBeanResource extends AbstractPlatformMBeanResource {
 
         if (PlatformMBeanConstants.CLASS_LOADING.equals(name)) {
             return new LeafPlatformMBeanResource(PlatformMBeanConstants.CLASS_LOADING_PATH);
-        } else if (PlatformMBeanConstants.COMPILATION.equals(name) && ManagementFactory.getCompilationMXBean() != null) {
+        } else if (PlatformMBeanConstants.COMPILATION.equals(name) && PlatformMXBeans.COMPILATION != null) {
             return new LeafPlatformMBeanResource(PlatformMBeanConstants.COMPILATION_PATH);
         } else if (PlatformMBeanConstants.GARBAGE_COLLECTOR.equals(name)) {
             return new GarbageCollectorMXBeanResource();
@@ -83,7 +83,7 @@ class RuntimeMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandle
         } else if (ModelDescriptionConstants.NAME.equals(name)) {
            String runtimeName;
            try {
-              runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+              runtimeName = PlatformMXBeans.RUNTIME.getName();
            } catch (ArrayIndexOutOfBoundsException e) {
               // Workaround for OSX issue
               String localAddr;
@@ -96,39 +96,39 @@ class RuntimeMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandle
            }
            store.set(runtimeName);
         } else if (PlatformMBeanConstants.VM_NAME.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getVmName());
+            store.set(PlatformMXBeans.RUNTIME.getVmName());
         } else if (PlatformMBeanConstants.VM_VENDOR.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getVmVendor());
+            store.set(PlatformMXBeans.RUNTIME.getVmVendor());
         } else if (PlatformMBeanConstants.VM_VERSION.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getVmVersion());
+            store.set(PlatformMXBeans.RUNTIME.getVmVersion());
         } else if (PlatformMBeanConstants.SPEC_NAME.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getSpecName());
+            store.set(PlatformMXBeans.RUNTIME.getSpecName());
         } else if (PlatformMBeanConstants.SPEC_VENDOR.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getSpecVendor());
+            store.set(PlatformMXBeans.RUNTIME.getSpecVendor());
         } else if (PlatformMBeanConstants.SPEC_VERSION.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getSpecVersion());
+            store.set(PlatformMXBeans.RUNTIME.getSpecVersion());
         } else if (PlatformMBeanConstants.MANAGEMENT_SPEC_VERSION.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getManagementSpecVersion());
+            store.set(PlatformMXBeans.RUNTIME.getManagementSpecVersion());
         } else if (PlatformMBeanConstants.CLASS_PATH.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getClassPath());
+            store.set(PlatformMXBeans.RUNTIME.getClassPath());
         } else if (PlatformMBeanConstants.LIBRARY_PATH.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getLibraryPath());
+            store.set(PlatformMXBeans.RUNTIME.getLibraryPath());
         } else if (PlatformMBeanConstants.BOOT_CLASS_PATH_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().isBootClassPathSupported());
+            store.set(PlatformMXBeans.RUNTIME.isBootClassPathSupported());
         } else if (PlatformMBeanConstants.BOOT_CLASS_PATH.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getBootClassPath());
+            store.set(PlatformMXBeans.RUNTIME.getBootClassPath());
         } else if (PlatformMBeanConstants.INPUT_ARGUMENTS.equals(name)) {
             store.setEmptyList();
-            for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            for (String arg : PlatformMXBeans.RUNTIME.getInputArguments()) {
                 store.add(arg);
             }
         } else if (PlatformMBeanConstants.UPTIME.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getUptime());
+            store.set(PlatformMXBeans.RUNTIME.getUptime());
         } else if (PlatformMBeanConstants.START_TIME.equals(name)) {
-            store.set(ManagementFactory.getRuntimeMXBean().getStartTime());
+            store.set(PlatformMXBeans.RUNTIME.getStartTime());
         } else if (PlatformMBeanConstants.SYSTEM_PROPERTIES.equals(name)) {
             store.setEmptyObject();
-            final TreeMap<String, String> sorted = new TreeMap<>(ManagementFactory.getRuntimeMXBean().getSystemProperties());
+            final TreeMap<String, String> sorted = new TreeMap<>(PlatformMXBeans.RUNTIME.getSystemProperties());
             for (Map.Entry<String, String> prop : sorted.entrySet()) {
                 final ModelNode propNode = store.get(prop.getKey());
                 if (prop.getValue() != null) {
@@ -78,11 +78,11 @@ class ThreadMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandler
             if (PlatformMBeanConstants.THREAD_CONTENTION_MONITORING_ENABLED.equals(name)) {
                 enabledValidator.validate(operation);
                 context.getServiceRegistry(true); //to trigger auth
-                ManagementFactory.getThreadMXBean().setThreadContentionMonitoringEnabled(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
+                PlatformMXBeans.THREAD.setThreadContentionMonitoringEnabled(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
             } else if (PlatformMBeanConstants.THREAD_CPU_TIME_ENABLED.equals(name)) {
                 enabledValidator.validate(operation);
                 context.getServiceRegistry(true); //to trigger auth
-                ManagementFactory.getThreadMXBean().setThreadCpuTimeEnabled(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
+                PlatformMXBeans.THREAD.setThreadCpuTimeEnabled(operation.require(ModelDescriptionConstants.VALUE).asBoolean());
             } else if (ThreadResourceDefinition.THREADING_READ_WRITE_ATTRIBUTES.contains(name)) {
                 // Bug
                 throw PlatformMBeanLogger.ROOT_LOGGER.badWriteAttributeImpl(name);
@@ -103,36 +103,36 @@ class ThreadMXBeanAttributeHandler extends AbstractPlatformMBeanAttributeHandler
         if (PlatformMBeanConstants.OBJECT_NAME.getName().equals(name)) {
             store.set(ManagementFactory.THREAD_MXBEAN_NAME);
         } else if (PlatformMBeanConstants.THREAD_COUNT.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getThreadCount());
+            store.set(PlatformMXBeans.THREAD.getThreadCount());
         } else if (PlatformMBeanConstants.PEAK_THREAD_COUNT.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            store.set(PlatformMXBeans.THREAD.getPeakThreadCount());
         } else if (PlatformMBeanConstants.TOTAL_STARTED_THREAD_COUNT.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getTotalStartedThreadCount());
+            store.set(PlatformMXBeans.THREAD.getTotalStartedThreadCount());
         } else if (PlatformMBeanConstants.DAEMON_THREAD_COUNT.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getDaemonThreadCount());
+            store.set(PlatformMXBeans.THREAD.getDaemonThreadCount());
         } else if (PlatformMBeanConstants.ALL_THREAD_IDS.equals(name)) {
             store.setEmptyList();
-            for (Long id : ManagementFactory.getThreadMXBean().getAllThreadIds()) {
+            for (Long id : PlatformMXBeans.THREAD.getAllThreadIds()) {
                 store.add(id);
             }
         } else if (PlatformMBeanConstants.THREAD_CONTENTION_MONITORING_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isThreadContentionMonitoringSupported());
+            store.set(PlatformMXBeans.THREAD.isThreadContentionMonitoringSupported());
         } else if (PlatformMBeanConstants.THREAD_CONTENTION_MONITORING_ENABLED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isThreadContentionMonitoringEnabled());
+            store.set(PlatformMXBeans.THREAD.isThreadContentionMonitoringEnabled());
         } else if (PlatformMBeanConstants.CURRENT_THREAD_CPU_TIME.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime());
+            store.set(PlatformMXBeans.THREAD.getCurrentThreadCpuTime());
         } else if (PlatformMBeanConstants.CURRENT_THREAD_USER_TIME.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().getCurrentThreadUserTime());
+            store.set(PlatformMXBeans.THREAD.getCurrentThreadUserTime());
         } else if (PlatformMBeanConstants.THREAD_CPU_TIME_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isThreadCpuTimeSupported());
+            store.set(PlatformMXBeans.THREAD.isThreadCpuTimeSupported());
         } else if (PlatformMBeanConstants.CURRENT_THREAD_CPU_TIME_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isCurrentThreadCpuTimeSupported());
+            store.set(PlatformMXBeans.THREAD.isCurrentThreadCpuTimeSupported());
         } else if (PlatformMBeanConstants.THREAD_CPU_TIME_ENABLED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isThreadCpuTimeEnabled());
+            store.set(PlatformMXBeans.THREAD.isThreadCpuTimeEnabled());
         } else if (PlatformMBeanConstants.OBJECT_MONITOR_USAGE_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isObjectMonitorUsageSupported());
+            store.set(PlatformMXBeans.THREAD.isObjectMonitorUsageSupported());
         } else if (PlatformMBeanConstants.SYNCHRONIZER_USAGE_SUPPORTED.equals(name)) {
-            store.set(ManagementFactory.getThreadMXBean().isSynchronizerUsageSupported());
+            store.set(PlatformMXBeans.THREAD.isSynchronizerUsageSupported());
         } else if (ThreadResourceDefinition.THREADING_READ_ATTRIBUTES.contains(name)
                 || ThreadResourceDefinition.THREADING_READ_WRITE_ATTRIBUTES.contains(name)
                 || ThreadResourceDefinition.THREADING_METRICS.contains(name)) {
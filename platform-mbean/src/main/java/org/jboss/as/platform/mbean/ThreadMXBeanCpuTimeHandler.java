@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -63,7 +62,7 @@ public class ThreadMXBeanCpuTimeHandler implements OperationStepHandler {
 
         try {
             long id = operation.require(PlatformMBeanConstants.ID).asLong();
-            context.getResult().set(ManagementFactory.getThreadMXBean().getThreadCpuTime(id));
+            context.getResult().set(PlatformMXBeans.THREAD.getThreadCpuTime(id));
         } catch (UnsupportedOperationException e) {
             throw new OperationFailedException(e.toString());
         }
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.platform.mbean;
+
+import java.io.InputStream;
+import java.lang.management.LockInfo;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Executes the {@link java.lang.management.ThreadMXBean#dumpAllThreads(boolean, boolean)} method and attaches
+ * the thread dump to the response as a text stream. The text of each thread is only produced when the stream
+ * is read, the dump is never converted to a list of {@code ModelNode}s.
+ */
+public class ThreadMXBeanDumpAllThreadsAsTextHandler implements OperationStepHandler {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.DUMP_ALL_THREADS_AS_TEXT, PlatformMBeanUtil.getResolver(PlatformMBeanConstants.THREADING))
+            .setParameters(CommonAttributes.LOCKED_MONITORS_FLAG, CommonAttributes.LOCKED_SYNCHRONIZERS_FLAG)
+            .setReplyType(ModelType.STRING)
+            .setRuntimeOnly()
+            .setReadOnly()
+            .build();
+
+    public static final ThreadMXBeanDumpAllThreadsAsTextHandler INSTANCE = new ThreadMXBeanDumpAllThreadsAsTextHandler();
+
+    private ThreadMXBeanDumpAllThreadsAsTextHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final boolean lockedMonitors = CommonAttributes.LOCKED_MONITORS_FLAG.resolveModelAttribute(context, operation).asBoolean();
+        final boolean lockedSynchronizers = CommonAttributes.LOCKED_SYNCHRONIZERS_FLAG.resolveModelAttribute(context, operation).asBoolean();
+        try {
+            final ThreadInfo[] infos = PlatformMXBeans.THREAD.dumpAllThreads(lockedMonitors, lockedSynchronizers);
+            final String uuid = context.attachResultStream("text/plain", new ThreadDumpInputStream(infos));
+            context.getResult().set(uuid);
+        } catch (SecurityException | UnsupportedOperationException e) {
+            throw new OperationFailedException(e.toString());
+        }
+    }
+
+    /**
+     * Formats the thread infos one at a time, as the stream is read.
+     */
+    static final class ThreadDumpInputStream extends InputStream {
+
+        private static final byte[] EMPTY = new byte[0];
+
+        private final ThreadInfo[] infos;
+        private int next;
+        private byte[] buffer = EMPTY;
+        private int position;
+
+        ThreadDumpInputStream(final ThreadInfo[] infos) {
+            this.infos = infos == null ? new ThreadInfo[0] : infos;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - position;
+        }
+
+        private boolean fill() {
+            while (position >= buffer.length) {
+                if (next >= infos.length) {
+                    return false;
+                }
+                final ThreadInfo info = infos[next++];
+                if (info != null) {
+                    buffer = format(info).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+            }
+            return true;
+        }
+
+        static String format(final ThreadInfo info) {
+            final StringBuilder sb = new StringBuilder(1024);
+            sb.append('"').append(info.getThreadName()).append("\" #").append(info.getThreadId());
+            if (info.isDaemon()) {
+                sb.append(" daemon");
+            }
+            sb.append(" prio=").append(info.getPriority()).append('\n');
+            sb.append("   java.lang.Thread.State: ").append(info.getThreadState());
+            if (info.getLockName() != null) {
+                sb.append(" on ").append(info.getLockName());
+            }
+            if (info.getLockOwnerName() != null) {
+                sb.append(" owned by \"").append(info.getLockOwnerName()).append("\" #").append(info.getLockOwnerId());
+            }
+            sb.append('\n');
+
+            final StackTraceElement[] stackTrace = info.getStackTrace();
+            final MonitorInfo[] monitors = info.getLockedMonitors();
+            for (int i = 0; i < stackTrace.length; i++) {
+                sb.append("\tat ").append(stackTrace[i]).append('\n');
+                if (i == 0 && info.getLockInfo() != null) {
+                    sb.append(info.getThreadState() == Thread.State.BLOCKED ? "\t- waiting to lock " : "\t- waiting on ");
+                    appendLock(sb, info.getLockInfo());
+                }
+                for (MonitorInfo monitor : monitors) {
+                    if (monitor.getLockedStackDepth() == i) {
+                        sb.append("\t- locked ");
+                        appendLock(sb, monitor);
+                    }
+                }
+            }
+
+            final LockInfo[] synchronizers = info.getLockedSynchronizers();
+            if (synchronizers.length > 0) {
+                sb.append("\n   Locked ownable synchronizers:\n");
+                for (LockInfo synchronizer : synchronizers) {
+                    sb.append("\t- ");
+                    appendLock(sb, synchronizer);
+                }
+            }
+            sb.append('\n');
+            return sb.toString();
+        }
+
+        private static void appendLock(final StringBuilder sb, final LockInfo lock) {
+            sb.append("<0x").append(Integer.toHexString(lock.getIdentityHashCode())).append("> (a ").append(lock.getClassName()).append(")\n");
+        }
+    }
+}
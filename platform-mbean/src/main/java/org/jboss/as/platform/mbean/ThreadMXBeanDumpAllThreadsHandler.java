@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 
@@ -67,7 +66,7 @@ public class ThreadMXBeanDumpAllThreadsHandler implements OperationStepHandler {
 
         lockedValidator.validate(operation);
 
-        ThreadMXBean mbean = ManagementFactory.getThreadMXBean();
+        ThreadMXBean mbean = PlatformMXBeans.THREAD;
         try {
             ThreadInfo[] infos = mbean.dumpAllThreads(
                     operation.require(PlatformMBeanConstants.LOCKED_MONITORS).asBoolean(),
@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -57,7 +56,7 @@ public class ThreadMXBeanFindMonitorDeadlockedThreadsHandler implements Operatio
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
         try {
-            long[] ids = ManagementFactory.getThreadMXBean().findMonitorDeadlockedThreads();
+            long[] ids = PlatformMXBeans.THREAD.findMonitorDeadlockedThreads();
             final ModelNode result = context.getResult();
             if (ids != null) {
                 result.setEmptyList();
@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -52,7 +51,7 @@ public class ThreadMXBeanResetPeakThreadCountHandler implements OperationStepHan
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
         try {
-            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            PlatformMXBeans.THREAD.resetPeakThreadCount();
         } catch (SecurityException e) {
             throw new OperationFailedException(e.toString());
         }
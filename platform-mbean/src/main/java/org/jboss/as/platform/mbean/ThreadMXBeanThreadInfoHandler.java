@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 
@@ -66,7 +65,7 @@ public class ThreadMXBeanThreadInfoHandler implements OperationStepHandler {
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
         validator.validate(operation);
-        ThreadMXBean mbean = ManagementFactory.getThreadMXBean();
+        ThreadMXBean mbean = PlatformMXBeans.THREAD;
         try {
             long id = operation.require(PlatformMBeanConstants.ID).asLong();
             ThreadInfo info;
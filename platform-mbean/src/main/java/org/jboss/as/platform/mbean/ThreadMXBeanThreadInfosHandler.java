@@ -22,7 +22,6 @@
 
 package org.jboss.as.platform.mbean;
 
-import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 import java.util.List;
@@ -74,7 +73,7 @@ public class ThreadMXBeanThreadInfosHandler implements OperationStepHandler {
 
         try {
             final long[] ids = getIds(operation);
-            ThreadMXBean mbean = ManagementFactory.getThreadMXBean();
+            ThreadMXBean mbean = PlatformMXBeans.THREAD;
             ThreadInfo[] infos;
             if (operation.hasDefined(PlatformMBeanConstants.LOCKED_MONITORS)) {
                 lockedValidator.validate(operation);
@@ -206,6 +206,7 @@ class ThreadResourceDefinition extends SimpleResourceDefinition {
         threads.registerOperationHandler(ThreadMXBeanCpuTimeHandler.DEFINITION, ThreadMXBeanCpuTimeHandler.INSTANCE);
         threads.registerOperationHandler(ThreadMXBeanUserTimeHandler.DEFINITION, ThreadMXBeanUserTimeHandler.INSTANCE);
         threads.registerOperationHandler(ThreadMXBeanDumpAllThreadsHandler.DEFINITION, ThreadMXBeanDumpAllThreadsHandler.INSTANCE);
+        threads.registerOperationHandler(ThreadMXBeanDumpAllThreadsAsTextHandler.DEFINITION, ThreadMXBeanDumpAllThreadsAsTextHandler.INSTANCE);
     }
 }
 
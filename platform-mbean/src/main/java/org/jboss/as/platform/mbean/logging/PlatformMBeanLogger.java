@@ -75,4 +75,22 @@ public interface PlatformMBeanLogger extends BasicLogger {
 
     @Message(id = 10, value = "No MemoryPoolMXBean with name %s currently exists")
     OperationFailedException unknownMemoryPool(String mmName);
+
+    @Message(id = 11, value = "The flight recorder is not available in this Java virtual machine")
+    OperationFailedException flightRecorderNotAvailable();
+
+    @Message(id = 12, value = "No flight recording with name %s currently exists")
+    OperationFailedException unknownRecording(String name);
+
+    @Message(id = 13, value = "A flight recording with name %s is already running")
+    OperationFailedException recordingAlreadyRunning(String name);
+
+    @Message(id = 14, value = "Cannot load the flight recorder settings %s: %s")
+    OperationFailedException invalidRecordingSettings(String settings, String reason);
+
+    @Message(id = 15, value = "The flight recording with name %s has not been started")
+    OperationFailedException recordingNotStarted(String name);
+
+    @Message(id = 16, value = "Cannot dump the flight recording with name %s: %s")
+    OperationFailedException cannotDumpRecording(String name, String reason);
 }
@@ -46,20 +46,29 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryPoolMXBean;
 import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import jdk.jfr.FlightRecorder;
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.dmr.ModelNode;
@@ -71,6 +80,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.junit.AfterClass;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -344,6 +354,98 @@ public class PlatformMBeanResourceUnitTestCase {
 //        Assert.assertEquals("test.platform.logging", result.asString());
 //    }
 
+    @Test
+    public void testReadMetrics() throws IOException {
+        ModelNode result = executeOp(getOperation(PlatformMBeanConstants.READ_METRICS, null, null), false);
+
+        Assert.assertTrue(result.get(PlatformMBeanConstants.MEMORY, PlatformMBeanConstants.HEAP_MEMORY_USAGE, PlatformMBeanConstants.USED).asLong() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.MEMORY, PlatformMBeanConstants.NON_HEAP_MEMORY_USAGE).isDefined());
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ModelNode gcNode = result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR, PlatformMBeanUtil.escapeMBeanName(gc.getName()));
+            Assert.assertEquals(ModelType.LONG, gcNode.get(PlatformMBeanConstants.COLLECTION_COUNT).getType());
+            Assert.assertEquals(ModelType.LONG, gcNode.get(PlatformMBeanConstants.COLLECTION_TIME).getType());
+        }
+        Assert.assertTrue(result.get(PlatformMBeanConstants.THREADING, PlatformMBeanConstants.THREAD_COUNT).asInt() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.LOADED_CLASS_COUNT).asInt() > 0);
+    }
+
+    @Test
+    public void testDumpAllThreadsAsText() throws IOException {
+        ModelNode op = getOperation(PlatformMBeanConstants.DUMP_ALL_THREADS_AS_TEXT, "threading", null);
+        op.get(PlatformMBeanConstants.LOCKED_MONITORS).set(true);
+        try (OperationResponse response = client.executeOperation(Operation.Factory.create(op), OperationMessageHandler.DISCARD)) {
+            ModelNode responseNode = response.getResponseNode();
+            Assert.assertEquals(responseNode.toString(), SUCCESS, responseNode.get(OUTCOME).asString());
+            OperationResponse.StreamEntry entry = response.getInputStream(responseNode.get(RESULT).asString());
+            Assert.assertNotNull(entry);
+            Assert.assertEquals("text/plain", entry.getMimeType());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (InputStream in = entry.getStream()) {
+                byte[] buffer = new byte[256];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            String dump = new String(out.toByteArray(), StandardCharsets.UTF_8);
+            Thread current = Thread.currentThread();
+            Assert.assertTrue(dump, dump.contains("\"" + current.getName() + "\" #" + current.getId()));
+            Assert.assertTrue(dump, dump.contains("java.lang.Thread.State: "));
+        }
+    }
+
+    @Test
+    public void testFlightRecorder() throws IOException {
+        Assume.assumeTrue(FlightRecorder.isAvailable());
+
+        ModelNode op = Util.getEmptyOperation(PlatformMBeanConstants.START_RECORDING, getFlightRecorderAddress());
+        op.get(NAME).set("test");
+        op.get(PlatformMBeanConstants.SETTINGS).set("profile");
+        Assert.assertTrue(executeOp(op, false).isDefined());
+        // a running recording cannot be started twice
+        executeOp(op, true);
+
+        // only the settings profiles of the JDK can be used
+        op = Util.getEmptyOperation(PlatformMBeanConstants.START_RECORDING, getFlightRecorderAddress());
+        op.get(NAME).set("file");
+        op.get(PlatformMBeanConstants.SETTINGS).set("/tmp/settings.jfc");
+        executeOp(op, true);
+
+        op = Util.getReadAttributeOperation(PathAddress.pathAddress(getFlightRecorderAddress()), PlatformMBeanConstants.RECORDINGS);
+        Assert.assertEquals("RUNNING", executeOp(op, false).get("test").asString());
+
+        op = Util.getEmptyOperation(PlatformMBeanConstants.DUMP_RECORDING, getFlightRecorderAddress());
+        op.get(NAME).set("test");
+        try (OperationResponse response = client.executeOperation(Operation.Factory.create(op), OperationMessageHandler.DISCARD)) {
+            ModelNode responseNode = response.getResponseNode();
+            Assert.assertEquals(responseNode.toString(), SUCCESS, responseNode.get(OUTCOME).asString());
+            OperationResponse.StreamEntry entry = response.getInputStream(responseNode.get(RESULT).asString());
+            Assert.assertNotNull(entry);
+            Assert.assertEquals("application/octet-stream", entry.getMimeType());
+            try (InputStream in = entry.getStream()) {
+                byte[] magic = new byte[4];
+                int read = 0;
+                while (read < magic.length) {
+                    int count = in.read(magic, read, magic.length - read);
+                    Assert.assertTrue(count > 0);
+                    read += count;
+                }
+                Assert.assertEquals("FLR\0", new String(magic, StandardCharsets.US_ASCII));
+            }
+        }
+
+        op = Util.getEmptyOperation(PlatformMBeanConstants.STOP_RECORDING, getFlightRecorderAddress());
+        op.get(NAME).set("test");
+        executeOp(op, false);
+
+        op = Util.getReadAttributeOperation(PathAddress.pathAddress(getFlightRecorderAddress()), PlatformMBeanConstants.RECORDINGS);
+        Assert.assertEquals("STOPPED", executeOp(op, false).get("test").asString());
+
+        op = Util.getEmptyOperation(PlatformMBeanConstants.STOP_RECORDING, getFlightRecorderAddress());
+        op.get(NAME).set("unknown");
+        executeOp(op, true);
+    }
+
     @Test
     public void testRuntimeMXBean() throws IOException {
         DescribedResource describedResource = basicResourceTest("runtime", null);
@@ -651,6 +753,12 @@ public class PlatformMBeanResourceUnitTestCase {
         return result;
     }
 
+    private static ModelNode getFlightRecorderAddress() {
+        final ModelNode result = new ModelNode();
+        result.add(CORE_SERVICE, PlatformMBeanConstants.FLIGHT_RECORDER);
+        return result;
+    }
+
     private static class DescribedResource {
         final ModelNode description;
         final ModelNode resource;
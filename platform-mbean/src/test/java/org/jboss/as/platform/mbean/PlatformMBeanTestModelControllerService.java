@@ -43,6 +43,7 @@ import org.jboss.as.controller.operations.global.GlobalNotifications;
 import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
 import org.jboss.as.controller.persistence.NullConfigurationPersister;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.PlaceholderResource;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -77,6 +78,7 @@ public class PlatformMBeanTestModelControllerService extends AbstractControllerS
         // Platform mbeans
         PlatformMBeanResourceRegistrar.registerPlatformMBeanResources(rootRegistration);
         managementModel.getRootResource().registerChild(PlatformMBeanConstants.ROOT_PATH, new RootPlatformMBeanResource());
+        managementModel.getRootResource().registerChild(PlatformMBeanConstants.FLIGHT_RECORDER_PATH, PlaceholderResource.INSTANCE);
     }
 
     @Override
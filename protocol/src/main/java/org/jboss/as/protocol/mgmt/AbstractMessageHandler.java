@@ -88,6 +88,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
     private final Condition condition = lock.newCondition();
     private final ExecutorService executorService;
     private final AtomicInteger requestID = new AtomicInteger();
+    private final ManagementChannelStatistics statistics = new ManagementChannelStatistics();
 
     private final Map<Integer, ActiveRequest<?, ?>> requests = new ConcurrentHashMap<Integer, ActiveRequest<?, ?>>(16, 0.75f, Runtime.getRuntime().availableProcessors());
 
@@ -189,6 +190,15 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
         return executorService;
     }
 
+    /**
+     * Get the message and byte counters for the channel(s) handled by this handler.
+     *
+     * @return the statistics
+     */
+    public ManagementChannelStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Get the request handler.
      *
@@ -266,7 +276,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
         final ManagementRequestHeader header = new ManagementRequestHeader(ManagementProtocol.VERSION, requestId, support.getOperationId(), request.getOperationType());
         final ActiveOperation.ResultHandler<T> resultHandler = support.getResultHandler();
         try {
-            request.sendRequest(resultHandler, new ManagementRequestContextImpl<T, A>(support, channel, header, getExecutor()));
+            request.sendRequest(resultHandler, new ManagementRequestContextImpl<T, A>(support, channel, header, getExecutor(), statistics));
         } catch (Exception e) {
             resultHandler.failed(e);
             requests.remove(requestId);
@@ -319,7 +329,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
         final ActiveOperation.ResultHandler<T> resultHandler = support.getResultHandler();
         try {
             handler.handleRequest(message, resultHandler,
-                    new ManagementRequestContextImpl<T, A>(support, channel, header, getExecutor()));
+                    new ManagementRequestContextImpl<T, A>(support, channel, header, getExecutor(), statistics));
         } catch (Exception e) {
             resultHandler.failed(e);
             safeWriteErrorResponse(channel, header, e);
@@ -18,10 +18,13 @@
  */
 package org.jboss.as.protocol.mgmt;
 
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 
 /**
  *
@@ -29,16 +32,44 @@ import java.io.OutputStream;
  */
 class FlushableDataOutputImpl implements FlushableDataOutput, Closeable {
 
+    /**
+     * Size of the buffer used to coalesce the many small writes (header fields, DMR tokens) of a message into
+     * larger writes on the underlying remoting message stream. Small messages are thereby written as a single frame.
+     */
+    static final int WRITE_BUFFER_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+            Integer.getInteger("jboss.as.management.protocol.write-buffer-size", 8192));
+
     private final DataOutputStream delegate;
+    private final ManagementChannelStatistics statistics;
+    private boolean closed;
 
     public FlushableDataOutputImpl(DataOutputStream delegate) {
+        this(delegate, null);
+    }
+
+    FlushableDataOutputImpl(DataOutputStream delegate, ManagementChannelStatistics statistics) {
         this.delegate = delegate;
+        this.statistics = statistics;
     }
 
     static FlushableDataOutput create(OutputStream output) {
         return new FlushableDataOutputImpl(new DataOutputStream(output));
     }
 
+    /**
+     * Create a data output which coalesces writes before passing them to the given stream. All data of the
+     * message must be written through the returned output, as the buffered content only reaches the underlying
+     * stream on {@link #flush()} or {@link #close()}.
+     *
+     * @param output the underlying message stream
+     * @param statistics the statistics to update once the message is closed, may be {@code null}
+     * @return the data output
+     */
+    static FlushableDataOutput createBuffered(OutputStream output, ManagementChannelStatistics statistics) {
+        final OutputStream os = WRITE_BUFFER_SIZE > 0 ? new BufferedOutputStream(output, WRITE_BUFFER_SIZE) : output;
+        return new FlushableDataOutputImpl(new DataOutputStream(os), statistics);
+    }
+
     @Override
     public void write(int b) throws IOException {
         delegate.write(b);
@@ -121,5 +152,11 @@ class FlushableDataOutputImpl implements FlushableDataOutput, Closeable {
     @Override
     public void close() throws IOException {
         delegate.close();
+        if (!closed) {
+            closed = true;
+            if (statistics != null) {
+                statistics.messageSent(delegate.size());
+            }
+        }
     }
 }
\ No newline at end of file
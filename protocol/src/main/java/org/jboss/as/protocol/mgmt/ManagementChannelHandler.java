@@ -34,6 +34,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.LongConsumer;
 
 /**
  * Generic management channel handler allowing to assemble multiple {@code ManagementRequestHandlerFactory} per channel.
@@ -75,6 +76,25 @@ public final class ManagementChannelHandler extends AbstractMessageHandler imple
         return receiver.getLastMessageTime();
     }
 
+    /**
+     * Add a listener notified of the time, in ms, each message is received on the channel.
+     *
+     * @param listener the listener, which must not block
+     * @see ManagementChannelReceiver#addMessageListener(LongConsumer)
+     */
+    public void addMessageReceivedListener(final LongConsumer listener) {
+        receiver.addMessageListener(listener);
+    }
+
+    /**
+     * Remove a listener added with {@link #addMessageReceivedListener(LongConsumer)}.
+     *
+     * @param listener the listener
+     */
+    public void removeMessageReceivedListener(final LongConsumer listener) {
+        receiver.removeMessageListener(listener);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Channel getChannel() throws IOException {
@@ -24,8 +24,13 @@ package org.jboss.as.protocol.mgmt;
 
 import java.io.DataInput;
 import java.io.DataInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
 
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.as.protocol.logging.ProtocolLogger;
@@ -53,18 +58,26 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
     }
 
     private final ManagementMessageHandler handler;
+    private final ManagementChannelStatistics statistics;
+    private final List<LongConsumer> messageListeners = new CopyOnWriteArrayList<>();
     private volatile long lastMessageTime;
 
     private ManagementChannelReceiver(final ManagementMessageHandler handler) {
         this.handler = handler;
+        this.statistics = handler instanceof AbstractMessageHandler ? ((AbstractMessageHandler) handler).getStatistics() : null;
     }
 
     @Override
     public void handleMessage(final Channel channel, final MessageInputStream message) {
         try {
             ProtocolLogger.ROOT_LOGGER.tracef("%s handling incoming data", this);
-            lastMessageTime = System.currentTimeMillis();
-            final DataInput input = new DataInputStream(message);
+            final long now = System.currentTimeMillis();
+            lastMessageTime = now;
+            for (LongConsumer listener : messageListeners) {
+                listener.accept(now);
+            }
+            final CountingInputStream counting = new CountingInputStream(message);
+            final DataInput input = new DataInputStream(counting);
             final ManagementProtocolHeader header = ManagementProtocolHeader.parse(input);
             final byte type = header.getType();
             try {
@@ -87,12 +100,15 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
             } finally {
                 try {
                     //noinspection StatementWithEmptyBody
-                    while (message.read() != -1) {
+                    while (counting.read() != -1) {
                         // drain the message to workaround a potential remoting buffer leak
                     }
                 } catch (IOException ignore) {
                     //
                 }
+                if (statistics != null) {
+                    statistics.messageReceived(counting.count);
+                }
             }
             message.close();
         } catch(IOException e) {
@@ -113,6 +129,25 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
         return lastMessageTime;
     }
 
+    /**
+     * Add a listener notified of the time, in ms, each message is received. The listener is called by the thread
+     * receiving the message, before the message is handled, so it must not block.
+     *
+     * @param listener the listener
+     */
+    public void addMessageListener(final LongConsumer listener) {
+        messageListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener added with {@link #addMessageListener(LongConsumer)}.
+     *
+     * @param listener the listener
+     */
+    public void removeMessageListener(final LongConsumer listener) {
+        messageListeners.remove(listener);
+    }
+
     @Override
     public void handleError(final Channel channel, final IOException error) {
         ProtocolLogger.ROOT_LOGGER.tracef(error, "%s error handling incoming data", this);
@@ -162,4 +197,41 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
         header.write(output);
     }
 
+    /**
+     * Counts the bytes read from a message, without any buffering of its own.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = in.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.as.protocol.mgmt;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message and byte counters for a single management channel handler.
+ */
+public final class ManagementChannelStatistics {
+
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder inlineCompletions = new LongAdder();
+    private final LongAdder asyncDispatches = new LongAdder();
+
+    ManagementChannelStatistics() {
+    }
+
+    void messageSent(final long bytes) {
+        messagesSent.increment();
+        bytesSent.add(bytes);
+    }
+
+    void messageReceived(final long bytes) {
+        messagesReceived.increment();
+        bytesReceived.add(bytes);
+    }
+
+    void inlineCompletion() {
+        inlineCompletions.increment();
+    }
+
+    void asyncDispatch() {
+        asyncDispatches.increment();
+    }
+
+    /**
+     * Get the number of messages written to the channel.
+     *
+     * @return the number of messages sent
+     */
+    public long getMessagesSent() {
+        return messagesSent.sum();
+    }
+
+    /**
+     * Get the number of bytes written to the channel, including the protocol headers.
+     *
+     * @return the number of bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * Get the number of messages read from the channel.
+     *
+     * @return the number of messages received
+     */
+    public long getMessagesReceived() {
+        return messagesReceived.sum();
+    }
+
+    /**
+     * Get the number of bytes read from the channel, including the protocol headers.
+     *
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Get the number of tasks which were completed on the calling thread by
+     * {@link ManagementRequestContext#executeInline(ManagementRequestContext.AsyncTask)}.
+     *
+     * @return the number of inline completions
+     */
+    public long getInlineCompletions() {
+        return inlineCompletions.sum();
+    }
+
+    /**
+     * Get the number of tasks which were handed off to an executor.
+     *
+     * @return the number of async dispatches
+     */
+    public long getAsyncDispatches() {
+        return asyncDispatches.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{messagesSent=" + getMessagesSent() + ", bytesSent=" + getBytesSent()
+                + ", messagesReceived=" + getMessagesReceived() + ", bytesReceived=" + getBytesReceived()
+                + ", inlineCompletions=" + getInlineCompletions() + ", asyncDispatches=" + getAsyncDispatches() + '}';
+    }
+}
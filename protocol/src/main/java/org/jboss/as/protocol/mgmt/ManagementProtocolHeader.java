@@ -73,6 +73,17 @@ public abstract class ManagementProtocolHeader {
         return version;
     }
 
+    /**
+     * Whether the protocol version of this header allows model payloads to use the compact encoding. For a response
+     * header the version is the lower of the versions supported by both sides, so this determines whether the
+     * peers agreed on the compact encoding; for a request header it only tells that the sender understands it.
+     *
+     * @return {@code true} if the compact encoding can be used, {@code false} otherwise
+     */
+    public boolean isCompactEncodingSupported() {
+        return version >= ManagementProtocol.VERSION_COMPACT_ENCODING;
+    }
+
     /**
      * The type
      *
@@ -144,6 +144,25 @@ public interface ManagementRequestContext<A> {
      */
     boolean executeAsync(final AsyncTask<A> task, boolean cancellable, Executor executor);
 
+    /**
+     * Execute a task on the calling thread, typically the remoting thread which is handling an incoming message.
+     * This avoids the executor hand-off for tasks that only complete the result of a small response and
+     * neither block nor perform further IO. Tasks which may block must use one of the {@code executeAsync} variants.
+     * <p>
+     * If the task throws an exception during execution, the
+     * {@link ActiveOperation.ResultHandler#failed(Throwable) failed method} of the
+     * {@code ResultHander} associated with the request will be invoked, and if it returns {@code true} a failure
+     * message will be sent to the remote client.
+     * </p>
+     *
+     * @param task the task
+     *
+     * @return {@code true} if the task was executed
+     */
+    default boolean executeInline(final AsyncTask<A> task) {
+        return executeAsync(task, false);
+    }
+
     /**
      * Initiates writing a new message to the remote side, using the given header.
      *
@@ -33,12 +33,15 @@ class ManagementRequestContextImpl<T, A> implements ManagementRequestContext<A>
     private final Channel channel;
     private final ManagementProtocolHeader header;
     private final Executor executor;
+    private final ManagementChannelStatistics statistics;
 
-    ManagementRequestContextImpl(ActiveOperation<T, A> support, Channel channel, ManagementProtocolHeader header, Executor executor) {
+    ManagementRequestContextImpl(ActiveOperation<T, A> support, Channel channel, ManagementProtocolHeader header, Executor executor,
+                                 ManagementChannelStatistics statistics) {
         this.support = support;
         this.channel = channel;
         this.header = header;
         this.executor = executor;
+        this.statistics = statistics;
     }
 
     @Override
@@ -108,6 +111,9 @@ class ManagementRequestContextImpl<T, A> implements ManagementRequestContext<A>
     public boolean executeAsync(final AsyncTask<A> task, boolean cancellable, final Executor executor) {
         try {
             executor.execute(createAsyncTaskRunner(task, cancellable));
+            if (statistics != null) {
+                statistics.asyncDispatch();
+            }
             return true;
         } catch (RejectedExecutionException e) {
             if(support.getResultHandler().failed(e)) {
@@ -117,10 +123,28 @@ class ManagementRequestContextImpl<T, A> implements ManagementRequestContext<A>
         return false;
     }
 
+    @Override
+    public boolean executeInline(final AsyncTask<A> task) {
+        try {
+            task.execute(this);
+        } catch (Throwable t) {
+            if (support.getResultHandler().failed(t)) {
+                AbstractMessageHandler.safeWriteErrorResponse(channel, header, t);
+            }
+            ProtocolLogger.ROOT_LOGGER.debugf(t, " failed to process inline request for %s on channel %s", task, channel);
+        }
+        if (statistics != null) {
+            statistics.inlineCompletion();
+        }
+        return true;
+    }
+
     @Override
     public FlushableDataOutput writeMessage(final ManagementProtocolHeader header) throws IOException {
         final MessageOutputStream os = channel.writeMessage();
-        return AbstractMessageHandler.writeHeader(header, os);
+        final FlushableDataOutput output = FlushableDataOutputImpl.createBuffered(os, statistics);
+        header.write(output);
+        return output;
     }
 
     private abstract static class AsyncTaskRunner implements Runnable, Cancellable {
@@ -70,6 +70,20 @@ public class RemoteChannelManagementTestCase {
         Assert.assertEquals(Integer.valueOf(1200), client.executeForResult(request));
     }
 
+    @Test
+    public void testChannelStatistics() throws Exception {
+        final SimpleClient client = SimpleClient.create(channels);
+
+        SimpleHandlers.Request request = new SimpleHandlers.Request(SimpleHandlers.SIMPLE_REQUEST, 600);
+        Assert.assertEquals(Integer.valueOf(1200), client.executeForResult(request));
+
+        final ManagementChannelStatistics statistics = client.getStatistics();
+        Assert.assertEquals(1, statistics.getMessagesSent());
+        Assert.assertTrue(statistics.getBytesSent() > 0);
+        Assert.assertEquals(1, statistics.getMessagesReceived());
+        Assert.assertTrue(statistics.getBytesReceived() > 0);
+    }
+
     @Test
     public void testTwoSimpleRequests() throws Exception {
         final SimpleClient client = SimpleClient.create(channels);
@@ -126,6 +126,7 @@ public class ControlPoint {
      */
     public RunResult beginRequest() throws Exception {
         if (paused) {
+            ControlPointRequestEvent.commit(this, RunResult.REJECTED, false);
             return RunResult.REJECTED;
         }
         if(trackIndividualControlPoints) {
@@ -135,6 +136,7 @@ public class ControlPoint {
         if (runResult == RunResult.REJECTED) {
             decreaseRequestCount();
         }
+        ControlPointRequestEvent.commit(this, runResult, false);
         return runResult;
     }
 
@@ -153,7 +155,9 @@ public class ControlPoint {
         if(trackIndividualControlPoints) {
             activeRequestCountUpdater.incrementAndGet(this);
         }
-        return controller.beginRequest(true);
+        RunResult runResult = controller.beginRequest(true);
+        ControlPointRequestEvent.commit(this, runResult, true);
+        return runResult;
     }
 
     /**
@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.wildfly.extension.requestcontroller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event recording the admission of a request through a {@link ControlPoint}.
+ */
+@Name("org.wildfly.request.ControlPointRequest")
+@Label("Control Point Request")
+@Category({"WildFly", "Request Controller"})
+@Description("A request entering the server through a control point")
+@StackTrace(false)
+final class ControlPointRequestEvent extends jdk.jfr.Event {
+
+    @Label("Deployment")
+    String deployment;
+
+    @Label("Entry Point")
+    String entryPoint;
+
+    @Label("Result")
+    String result;
+
+    @Label("Forced")
+    boolean forced;
+
+    /**
+     * Commits an event for the given request if the event is enabled.
+     *
+     * @param controlPoint the control point the request went through
+     * @param result the result of the admission
+     * @param forced whether the request was forced through a paused control point
+     */
+    static void commit(final ControlPoint controlPoint, final RunResult result, final boolean forced) {
+        final ControlPointRequestEvent event = new ControlPointRequestEvent();
+        if (event.shouldCommit()) {
+            event.deployment = controlPoint.getDeployment();
+            event.entryPoint = controlPoint.getEntryPoint();
+            event.result = result.name();
+            event.forced = forced;
+            event.commit();
+        }
+    }
+}
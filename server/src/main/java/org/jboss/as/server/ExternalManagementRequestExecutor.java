@@ -27,6 +27,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.controller.management.ManagementRequestExecution;
+import org.jboss.as.controller.remote.ManagementRequestExecutors;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
@@ -57,7 +59,7 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
      * @deprecated may be removed at any time
      */
     @Deprecated
-    public static final ServiceName SERVICE_NAME = Services.JBOSS_AS.append("external-mgmt-executor");
+    public static final ServiceName SERVICE_NAME = ManagementRequestExecutors.HTTP_EXECUTOR_SERVICE_NAME;
 
     // The Executor settings.
     // We limit concurrent requests to a small number to avoid overloading a server.
@@ -110,20 +112,23 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
             }
         });
 
-        int poolSize = getPoolSize();
-        if (EnhancedQueueExecutor.DISABLE_HINT) {
-            final BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>(WORK_QUEUE_SIZE);
-            executorService = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
-                    workQueue, threadFactory);
-        } else {
-            executorService = new EnhancedQueueExecutor.Builder()
-                .setCorePoolSize(poolSize)
-                .setMaximumPoolSize(poolSize)
-                .setKeepAliveTime(60L, TimeUnit.SECONDS)
-                .setMaximumQueueSize(WORK_QUEUE_SIZE)
-                .setThreadFactory(threadFactory)
-                .build();
-        }
+        executorService = ManagementRequestExecutors.create(ManagementRequestExecutors.Interface.HTTP, "External Management Request Threads -- ",
+                ManagementRequestExecution.THREAD_POOL, () -> {
+            int poolSize = getPoolSize();
+            if (EnhancedQueueExecutor.DISABLE_HINT) {
+                final BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>(WORK_QUEUE_SIZE);
+                return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                        workQueue, threadFactory);
+            } else {
+                return new EnhancedQueueExecutor.Builder()
+                    .setCorePoolSize(poolSize)
+                    .setMaximumPoolSize(poolSize)
+                    .setKeepAliveTime(60L, TimeUnit.SECONDS)
+                    .setMaximumQueueSize(WORK_QUEUE_SIZE)
+                    .setThreadFactory(threadFactory)
+                    .build();
+            }
+        });
     }
 
     @Override
@@ -494,6 +494,7 @@ public final class ServerService extends AbstractControllerService {
 
         // Platform MBeans
         rootResource.registerChild(PlatformMBeanConstants.ROOT_PATH, new RootPlatformMBeanResource());
+        rootResource.registerChild(PlatformMBeanConstants.FLIGHT_RECORDER_PATH, PlaceholderResource.INSTANCE);
 
         final RuntimeCapabilityRegistry capabilityRegistry = managementModel.getCapabilityRegistry();
         capabilityRegistry.registerCapability(
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.server.deployment;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event covering the deployment of a deployment unit, from the installation of its services
+ * until the deploying operation completes or is rolled back.
+ */
+@Name("org.wildfly.server.Deployment")
+@Label("Deployment")
+@Category({"WildFly", "Deployment"})
+@Description("The deployment of a deployment unit")
+@StackTrace(false)
+final class DeploymentEvent extends jdk.jfr.Event {
+
+    @Label("Deployment")
+    String deployment;
+
+    @Label("Management Name")
+    String managementName;
+
+    @Label("Booting")
+    boolean booting;
+
+    @Label("Rolled Back")
+    boolean rolledBack;
+
+    /**
+     * Ends the event and commits it if the event is enabled and its duration passed the configured threshold.
+     *
+     * @param deploymentUnitName the runtime name of the deployment
+     * @param managementName the management name of the deployment
+     * @param booting whether the deployment happened during the boot of the server
+     * @param rolledBack whether the deployment was rolled back
+     */
+    void commit(final String deploymentUnitName, final String managementName, final boolean booting, final boolean rolledBack) {
+        end();
+        if (shouldCommit()) {
+            this.deployment = deploymentUnitName;
+            this.managementName = managementName;
+            this.booting = booting;
+            this.rolledBack = rolledBack;
+            commit();
+        }
+    }
+}
@@ -160,11 +160,14 @@ public class DeploymentHandlerUtil {
                             }
                         });
                     } else {
+                        final DeploymentEvent event = new DeploymentEvent();
+                        event.begin();
                         doDeploy(context, deploymentUnitName, managementName, deployment, registration, mutableRegistration, contents);
 
                         context.completeStep(new OperationContext.ResultHandler() {
                             @Override
                             public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
+                                event.commit(deploymentUnitName, managementName, context.isBooting(), resultAction == OperationContext.ResultAction.ROLLBACK);
                                 if(resultAction == OperationContext.ResultAction.ROLLBACK) {
                                     if (context.hasFailureDescription()) {
                                         ServerLogger.ROOT_LOGGER.deploymentRolledBack(deploymentUnitName, getFormattedFailureDescription(context));
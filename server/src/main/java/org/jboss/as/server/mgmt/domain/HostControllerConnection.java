@@ -131,6 +131,7 @@ class HostControllerConnection extends FutureManagementChannel {
             // HC is the same version, so it will support sending the subject
             channelHandler.getAttachments().attach(TransactionalProtocolClient.SEND_IDENTITY, Boolean.TRUE);
             channelHandler.getAttachments().attach(TransactionalProtocolClient.SEND_IN_VM, Boolean.TRUE);
+            channelHandler.getAttachments().attach(TransactionalProtocolClient.COMPACT_ENCODING, Boolean.TRUE);
             channelHandler.addHandlerFactory(new TransactionalProtocolOperationHandler(controller, channelHandler, responseAttachmentSupport));
             ok = true;
         } finally {
@@ -309,7 +310,8 @@ class HostControllerConnection extends FutureManagementChannel {
         @Override
         public void handleRequest(final DataInput input, final ActiveOperation.ResultHandler<Boolean> resultHandler, final ManagementRequestContext<Void> context) throws IOException {
             final byte param = input.readByte();
-            context.executeAsync(new ManagementRequestContext.AsyncTask<Void>() {
+            // Completing the result does not block, so there's no need to hand off to the executor
+            context.executeInline(new ManagementRequestContext.AsyncTask<Void>() {
                 @Override
                 public void execute(ManagementRequestContext<Void> voidManagementRequestContext) throws Exception {
                     if(param == DomainServerProtocol.PARAM_OK) {
@@ -320,7 +322,7 @@ class HostControllerConnection extends FutureManagementChannel {
                         resultHandler.done(Boolean.FALSE);
                     }
                 }
-            }, false);
+            });
         }
 
     }
@@ -48,6 +48,7 @@ import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.management.BaseHttpInterfaceAddStepHandler;
 import org.jboss.as.controller.management.HttpInterfaceCommonPolicy;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.remote.ManagementRequestExecutors;
 import org.jboss.as.domain.http.server.ConsoleAvailability;
 import org.jboss.as.domain.http.server.ConsoleMode;
 import org.jboss.as.domain.http.server.ManagementHttpRequestProcessor;
@@ -154,7 +155,13 @@ public class HttpManagementAddHandler extends BaseHttpInterfaceAddStepHandler {
         final Supplier<ConsoleAvailability> caSupplier = builder.requiresCapability("org.wildfly.management.console-availability", ConsoleAvailability.class);
         final Supplier<ManagementHttpRequestProcessor> rpSupplier = builder.requires(requestProcessorName);
         final Supplier<XnioWorker> xwSupplier = builder.requires(ManagementWorkerService.SERVICE_NAME);
-        final Supplier<Executor> eSupplier = builder.requires(ExternalManagementRequestExecutor.SERVICE_NAME);
+        final Supplier<Executor> eSupplier;
+        if (commonPolicy.getRequestExecution().isVirtualThreads()) {
+            ManagementRequestExecutors.installHttpVirtualThreadExecutor(serviceTarget, commonPolicy.getRequestExecution());
+            eSupplier = builder.requires(ManagementRequestExecutors.HTTP_VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME);
+        } else {
+            eSupplier = builder.requires(ExternalManagementRequestExecutor.SERVICE_NAME);
+        }
         final Supplier<HttpAuthenticationFactory> hafSupplier = httpAuthenticationFactory != null ? builder.requiresCapability(HTTP_AUTHENTICATION_FACTORY_CAPABILITY, HttpAuthenticationFactory.class, httpAuthenticationFactory) : null;
         final Supplier<SSLContext> scSupplier = sslContext != null ? builder.requiresCapability(SSL_CONTEXT_CAPABILITY, SSLContext.class, sslContext) : null;
         final UndertowHttpManagementService undertowService = new UndertowHttpManagementService(hmConsumer, lrSupplier, mcSupplier, sbSupplier, ssbSupplier, sbmSupplier,
@@ -176,7 +183,7 @@ public class HttpManagementAddHandler extends BaseHttpInterfaceAddStepHandler {
         if(commonPolicy.isHttpUpgradeEnabled()) {
             final String hostName = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.NODE_NAME, null);
 
-            NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostName, context.getServiceRegistry(false));
+            NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostName, context.getServiceRegistry(false), commonPolicy.getRequestExecution());
             final String httpConnectorName;
             if (socketBindingName != null || (secureSocketBindingName == null)) {
                 httpConnectorName = ManagementRemotingServices.HTTP_CONNECTOR;
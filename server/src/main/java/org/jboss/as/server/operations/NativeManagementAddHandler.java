@@ -84,7 +84,7 @@ public class NativeManagementAddHandler extends BaseNativeInterfaceAddStepHandle
         final String hostName = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.NODE_NAME, null);
 
         NativeManagementServices.installManagementWorkerService(serviceTarget, context.getServiceRegistry(false));
-        NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostName, context.getServiceRegistry(false));
+        NativeManagementServices.installRemotingServicesIfNotInstalled(serviceTarget, hostName, context.getServiceRegistry(false), commonPolicy.getRequestExecution());
 
         final String bindingName = SOCKET_BINDING.resolveModelAttribute(context, model).asString();
         ServiceName socketBindingServiceName = context.getCapabilityServiceName(SOCKET_BINDING_CAPABILITY_NAME, bindingName, SocketBinding.class);
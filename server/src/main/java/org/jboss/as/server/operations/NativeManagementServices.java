@@ -2,6 +2,7 @@ package org.jboss.as.server.operations;
 
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.controller.remote.AbstractModelControllerOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerClientOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerOperationHandlerFactory;
@@ -40,7 +41,8 @@ class NativeManagementServices {
 
     static synchronized void installRemotingServicesIfNotInstalled(final ServiceTarget serviceTarget,
                                                                    final String hostName,
-                                                                   final ServiceRegistry serviceContainer) {
+                                                                   final ServiceRegistry serviceContainer,
+                                                                   final ManagementRequestExecution requestExecution) {
 
         if (serviceContainer.getService(ManagementRemotingServices.MANAGEMENT_ENDPOINT) == null) {
 
@@ -58,7 +60,7 @@ class NativeManagementServices {
                                 final Supplier<ModelController> modelControllerSupplier,
                                 final Supplier<ExecutorService> executorSupplier,
                                 final Supplier<ScheduledExecutorService> scheduledExecutorSupplier) {
-                            return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier);
+                            return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier, requestExecution);
                         }
                     },
                     Services.JBOSS_SERVER_CONTROLLER,
@@ -36,6 +36,7 @@ import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.management.ManagementInterfaceAddStepHandler;
+import org.jboss.as.controller.management.ManagementRequestExecution;
 import org.jboss.as.controller.remote.AbstractModelControllerOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerClientOperationHandlerFactoryService;
 import org.jboss.as.controller.remote.ModelControllerOperationHandlerFactory;
@@ -75,6 +76,7 @@ public class NativeRemotingManagementAddHandler extends ManagementInterfaceAddSt
     public void performRuntime(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
         final ServiceTarget serviceTarget = context.getServiceTarget();
         final ServiceName endpointName = RemotingServices.SUBSYSTEM_ENDPOINT;
+        final ManagementRequestExecution requestExecution = ManagementRequestExecution.resolve(context, context.getCurrentAddress().getParent());
         ManagementChannelRegistryService.addService(serviceTarget, endpointName);
         ManagementRemotingServices.installManagementChannelServices(serviceTarget,
                 endpointName,
@@ -85,7 +87,7 @@ public class NativeRemotingManagementAddHandler extends ManagementInterfaceAddSt
                             final Supplier<ModelController> modelControllerSupplier,
                             final Supplier<ExecutorService> executorSupplier,
                             final Supplier<ScheduledExecutorService> scheduledExecutorSupplier) {
-                        return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier);
+                        return new ModelControllerClientOperationHandlerFactoryService(serviceConsumer, modelControllerSupplier, executorSupplier, scheduledExecutorSupplier, requestExecution);
                     }
                 },
                 Services.JBOSS_SERVER_CONTROLLER,
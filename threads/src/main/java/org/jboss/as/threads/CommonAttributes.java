@@ -41,7 +41,9 @@ public interface CommonAttributes {
     String NAME = "name";
     String GROUP_NAME = "group-name";
     String KEEPALIVE_TIME = "keepalive-time";
+    String MAX_CONCURRENCY = "max-concurrency";
     String MAX_THREADS = "max-threads";
+    String PINNED_COUNT = "pinned-count";
     String PRIORITY = "priority";
     String PROPERTIES = "properties";
     String PROPERTY = "property";
@@ -59,4 +61,5 @@ public interface CommonAttributes {
     String ENHANCED_QUEUE_THREAD_POOL = "enhanced-queue-thread-pool";
     String UNIT = "unit";
     String VALUE = "value";
+    String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
 }
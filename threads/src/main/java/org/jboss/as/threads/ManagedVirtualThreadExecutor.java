@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.threads.EventListener;
+import org.jboss.threads.SimpleShutdownListenable;
+
+class ManagedVirtualThreadExecutor extends ManagedExecutorService {
+    private final VirtualThreadExecutor executor;
+    private final String threadNamePrefix;
+    private final LongAdder pinnedCount;
+    private final SimpleShutdownListenable shutdownListenable = new SimpleShutdownListenable();
+
+    /**
+     * @param executor the executor to manage
+     * @param threadNamePrefix the name prefix of the executor's virtual threads whose pinning is monitored
+     * @param pinnedCount the counter of pinning events
+     */
+    ManagedVirtualThreadExecutor(VirtualThreadExecutor executor, String threadNamePrefix, LongAdder pinnedCount) {
+        super(executor);
+        this.executor = executor;
+        this.threadNamePrefix = threadNamePrefix;
+        this.pinnedCount = pinnedCount;
+    }
+
+    @Override
+    void internalShutdown() {
+        VirtualThreadPinningMonitor.unregister(threadNamePrefix);
+        executor.shutdown();
+        shutdownListenable.shutdown();
+    }
+
+    int getMaxConcurrency() {
+        return executor.getMaxConcurrency();
+    }
+
+    // Package protected for subsys write-attribute handlers
+    void setMaxConcurrency(int maxConcurrency) {
+        executor.setMaxConcurrency(maxConcurrency);
+    }
+
+    int getRejectedCount() {
+        return executor.getRejectedCount();
+    }
+
+    long getTaskCount() {
+        return executor.getTaskCount();
+    }
+
+    int getLargestThreadCount() {
+        return executor.getLargestThreadCount();
+    }
+
+    int getCurrentThreadCount() {
+        return executor.getCurrentThreadCount();
+    }
+
+    long getCompletedTaskCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    <A> void addShutdownListener(final EventListener<A> shutdownListener, final A attachment) {
+        shutdownListenable.addShutdownListener(shutdownListener, attachment);
+    }
+}
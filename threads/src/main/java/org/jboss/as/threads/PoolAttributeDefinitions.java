@@ -77,6 +77,11 @@ public interface PoolAttributeDefinitions {
             .setAllowExpression(true)
             .build();
 
+    SimpleAttributeDefinition MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENCY, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .build();
+
     // Metrics
     AttributeDefinition CURRENT_THREAD_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.CURRENT_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
@@ -99,4 +104,7 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition PINNED_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.PINNED_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
 }
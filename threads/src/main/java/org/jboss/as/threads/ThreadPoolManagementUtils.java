@@ -185,6 +185,18 @@ class ThreadPoolManagementUtils {
         return params;
     }
 
+    static VirtualThreadExecutorParameters parseVirtualThreadExecutorParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
+        params.address = operation.require(OP_ADDR);
+        params.name = PathAddress.pathAddress(params.address).getLastElement().getValue();
+
+        ModelNode tfNode = PoolAttributeDefinitions.THREAD_FACTORY.resolveModelAttribute(context, model);
+        params.threadFactory = tfNode.isDefined() ? tfNode.asString() : null;
+        ModelNode maxConcurrency = PoolAttributeDefinitions.MAX_CONCURRENCY.resolveModelAttribute(context, model);
+        params.maxConcurrency = maxConcurrency.isDefined() ? maxConcurrency.asInt() : 0;
+        return params;
+    }
+
     static BaseThreadPoolParameters parseScheduledThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
         ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
         return parseBaseThreadPoolOperationParameters(context, operation, model, params);
@@ -272,7 +284,18 @@ class ThreadPoolManagementUtils {
         int getCoreThreads();
     }
 
-    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters, EnhancedQueueThreadPoolParameters {
+    interface VirtualThreadExecutorParameters {
+        ModelNode getAddress();
+
+        String getName();
+
+        String getThreadFactory();
+
+        int getMaxConcurrency();
+    }
+
+    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters,
+            EnhancedQueueThreadPoolParameters, VirtualThreadExecutorParameters {
         ModelNode address;
         String name;
         String threadFactory;
@@ -282,6 +305,7 @@ class ThreadPoolManagementUtils {
         boolean allowCoreTimeout;
         int coreThreads;
         int queueLength;
+        int maxConcurrency;
 
         @Override
         public ModelNode getAddress() {
@@ -327,6 +351,11 @@ class ThreadPoolManagementUtils {
         public int getQueueLength() {
             return queueLength;
         }
+
+        @Override
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
     }
 
 }
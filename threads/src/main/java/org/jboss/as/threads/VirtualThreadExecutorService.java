@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.as.controller.VirtualThreads;
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+
+/**
+ * Service providing a {@link ManagedVirtualThreadExecutor}. The executor is only added if the JVM supports virtual
+ * threads, so the injected thread factory is not used to create the task threads.
+ */
+class VirtualThreadExecutorService implements Service<ManagedVirtualThreadExecutor> {
+    private static final AtomicInteger EXECUTOR_SEQUENCE = new AtomicInteger();
+
+    private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
+
+    private ManagedVirtualThreadExecutor executor;
+
+    private final String name;
+    private int maxConcurrency;
+
+    VirtualThreadExecutorService(String name, int maxConcurrency) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public synchronized void start(final StartContext context) {
+        final LongAdder pinnedCount = new LongAdder();
+        // the sequence number keeps executors of the same name apart when attributing pinning events
+        final String threadNamePrefix = name + "-vt" + EXECUTOR_SEQUENCE.incrementAndGet() + "-";
+        final ThreadFactory threadFactory = VirtualThreads.newThreadFactory(threadNamePrefix);
+        VirtualThreadPinningMonitor.register(threadNamePrefix, pinnedCount);
+        executor = new ManagedVirtualThreadExecutor(new VirtualThreadExecutor(threadFactory, maxConcurrency),
+                threadNamePrefix, pinnedCount);
+    }
+
+    public void stop(final StopContext context) {
+        final ManagedVirtualThreadExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.executor = null;
+        }
+        context.asynchronous();
+        executor.internalShutdown();
+        executor.addShutdownListener(StopContextEventListener.getInstance(), context);
+    }
+
+    public synchronized ManagedVirtualThreadExecutor getValue() throws IllegalStateException {
+        final ManagedVirtualThreadExecutor value = this.executor;
+        if (value == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorUninitialized();
+        }
+        return value;
+    }
+
+    Injector<ThreadFactory> getThreadFactoryInjector() {
+        return threadFactoryValue;
+    }
+
+    synchronized void setMaxConcurrency(final int maxConcurrency) {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor != null) {
+            executor.setMaxConcurrency(maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    int getActiveCount() {
+        return getValue().getActiveCount();
+    }
+
+    long getCompletedTaskCount() {
+        return getValue().getCompletedTaskCount();
+    }
+
+    int getCurrentThreadCount() {
+        return getValue().getCurrentThreadCount();
+    }
+
+    int getLargestThreadCount() {
+        return getValue().getLargestThreadCount();
+    }
+
+    int getRejectedCount() {
+        return getValue().getRejectedCount();
+    }
+
+    long getTaskCount() {
+        return getValue().getTaskCount();
+    }
+
+    int getQueueSize() {
+        return getValue().getQueueSize();
+    }
+
+    long getPinnedCount() {
+        return getValue().getPinnedCount();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.as.threads;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+
+/**
+ * Counts {@code jdk.VirtualThreadPinned} flight recorder events per {@link VirtualThreadExecutor}, attributing
+ * each event to the executor whose thread name prefix matches the pinned virtual thread. A single event stream
+ * is shared by all registered executors and is closed once the last one is unregistered.
+ * <p>
+ * Event streaming was added after the oldest JVM this module is compiled for, so, like
+ * {@link org.jboss.as.controller.VirtualThreads}, the {@code jdk.jfr.consumer.RecordingStream} API is looked up
+ * reflectively. Nothing is counted if it is not available.
+ */
+final class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private static final MethodHandle NEW_STREAM;
+    private static final MethodHandle ENABLE;
+    private static final MethodHandle WITH_THRESHOLD;
+    private static final MethodHandle WITHOUT_STACK_TRACE;
+    private static final MethodHandle ON_EVENT;
+    private static final MethodHandle START_ASYNC;
+    private static final MethodHandle CLOSE;
+
+    static {
+        MethodHandle newStream = null;
+        MethodHandle enable = null;
+        MethodHandle withThreshold = null;
+        MethodHandle withoutStackTrace = null;
+        MethodHandle onEvent = null;
+        MethodHandle startAsync = null;
+        MethodHandle close = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            final Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            newStream = lookup.findConstructor(streamClass, MethodType.methodType(void.class));
+            enable = lookup.findVirtual(streamClass, "enable", MethodType.methodType(settingsClass, String.class));
+            withThreshold = lookup.findVirtual(settingsClass, "withThreshold", MethodType.methodType(settingsClass, Duration.class));
+            withoutStackTrace = lookup.findVirtual(settingsClass, "withoutStackTrace", MethodType.methodType(settingsClass));
+            onEvent = lookup.findVirtual(streamClass, "onEvent", MethodType.methodType(void.class, String.class, Consumer.class));
+            startAsync = lookup.findVirtual(streamClass, "startAsync", MethodType.methodType(void.class));
+            close = lookup.findVirtual(streamClass, "close", MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            newStream = null;
+        }
+        NEW_STREAM = newStream;
+        ENABLE = enable;
+        WITH_THRESHOLD = withThreshold;
+        WITHOUT_STACK_TRACE = withoutStackTrace;
+        ON_EVENT = onEvent;
+        START_ASYNC = startAsync;
+        CLOSE = close;
+    }
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static Object stream;
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    /**
+     * Starts counting pinning events of the virtual threads whose name starts with the given prefix.
+     *
+     * @param threadNamePrefix the prefix of the thread names, up to but excluding the sequence number
+     * @param counter the counter to increment for each event
+     */
+    static synchronized void register(final String threadNamePrefix, final LongAdder counter) {
+        COUNTERS.put(threadNamePrefix, counter);
+        if (stream == null && NEW_STREAM != null) {
+            Object stream = null;
+            try {
+                stream = NEW_STREAM.invoke();
+                WITHOUT_STACK_TRACE.invoke(WITH_THRESHOLD.invoke(ENABLE.invoke(stream, PINNED_EVENT), PINNED_THRESHOLD));
+                ON_EVENT.invoke(stream, PINNED_EVENT, (Consumer<RecordedEvent>) VirtualThreadPinningMonitor::pinned);
+                START_ASYNC.invoke(stream);
+                VirtualThreadPinningMonitor.stream = stream;
+            } catch (Throwable t) {
+                ThreadsLogger.ROOT_LOGGER.virtualThreadPinningNotMonitored(t);
+                close(stream);
+            }
+        }
+    }
+
+    static synchronized void unregister(final String threadNamePrefix) {
+        COUNTERS.remove(threadNamePrefix);
+        if (COUNTERS.isEmpty() && stream != null) {
+            close(stream);
+            stream = null;
+        }
+    }
+
+    private static void close(final Object stream) {
+        if (stream != null) {
+            try {
+                CLOSE.invoke(stream);
+            } catch (Throwable ignored) {
+                // the stream is discarded either way
+            }
+        }
+    }
+
+    private static void pinned(final RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        final String name = thread == null ? null : thread.getJavaName();
+        if (name != null) {
+            final LongAdder counter = COUNTERS.get(name.substring(0, name.lastIndexOf('-') + 1));
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+    }
+}